@@ -211,7 +211,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final SignatureMap signatureMap) {
         final var otherSignatures = signaturePreparer.prepareSignatures(
                 state, PbjConverter.asBytes(txBodyBytes), signatureMap, context.getRequiredNonPayerKeys());
-        cryptography.verifyAsync(new ArrayList<>(otherSignatures.values()));
+        cryptography.verifyBatchAsync(new ArrayList<>(otherSignatures.values()));
         return otherSignatures;
     }
 
@@ -22,8 +22,12 @@ import com.hedera.node.app.service.mono.sigs.order.SigReqsManager;
 import com.hedera.node.app.service.mono.txns.prefetch.PrefetchProcessor;
 import com.hedera.node.app.service.mono.txns.span.ExpandHandleSpan;
 import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.system.events.Event;
 import com.swirlds.common.system.transaction.Transaction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
@@ -50,11 +54,29 @@ public class EventExpansion {
         this.prefetchProcessor = prefetchProcessor;
     }
 
+    /**
+     * Expands the signatures of every transaction in the event, and submits all of them for verification as a single
+     * list, so that the verification of a large event can be spread over all verifier threads.
+     *
+     * @param event the event to expand
+     * @param provider the state to expand signatures against
+     */
     public void expandAllSigs(final Event event, final StateChildrenProvider provider) {
-        event.forEachTransaction(txn -> expandSingle(txn, provider));
+        final List<TransactionSignature> sigs = new ArrayList<>();
+        event.forEachTransaction(txn -> sigs.addAll(expand(txn, provider)));
+        if (!sigs.isEmpty()) {
+            engine.verifyBatchAsync(sigs);
+        }
     }
 
     public void expandSingle(final Transaction txn, final StateChildrenProvider provider) {
+        final var sigs = expand(txn, provider);
+        if (!sigs.isEmpty()) {
+            engine.verifyBatchAsync(sigs);
+        }
+    }
+
+    private List<TransactionSignature> expand(final Transaction txn, final StateChildrenProvider provider) {
         try {
             final var accessor = expandHandleSpan.track(txn);
             // Submit the transaction for any pre-handle processing that can be
@@ -63,11 +85,12 @@ public class EventExpansion {
             // synchronous signature expansion
             prefetchProcessor.submit(accessor);
             sigReqsManager.expandSigs(provider, accessor);
-            engine.verifyAsync(accessor.getCryptoSigs());
+            return accessor.getCryptoSigs();
         } catch (final InvalidProtocolBufferException e) {
             log.warn("Event contained a non-GRPC transaction", e);
         } catch (final Exception race) {
             log.warn("Unable to expand signatures, will be verified synchronously in" + " handleTransaction", race);
         }
+        return Collections.emptyList();
     }
 }
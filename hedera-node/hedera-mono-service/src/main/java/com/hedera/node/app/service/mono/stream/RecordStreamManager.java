@@ -23,6 +23,7 @@ import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperti
 import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
 import com.hedera.node.app.service.mono.state.logic.StandardProcessLogic;
 import com.hedera.node.app.service.mono.stats.MiscRunningAvgs;
+import com.swirlds.common.config.singleton.ConfigurationHolder;
 import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.crypto.ImmutableHash;
@@ -31,6 +32,7 @@ import com.swirlds.common.stream.MultiStream;
 import com.swirlds.common.stream.QueueThreadObjectStream;
 import com.swirlds.common.stream.QueueThreadObjectStreamConfiguration;
 import com.swirlds.common.stream.RunningHashCalculatorForStream;
+import com.swirlds.common.stream.config.StreamConfig;
 import com.swirlds.common.system.Platform;
 import java.io.File;
 import java.io.IOException;
@@ -130,7 +132,11 @@ public class RecordStreamManager {
         final RunningHashCalculatorForStream<RecordStreamObject> runningHashCalculator =
                 new RunningHashCalculatorForStream<>();
 
-        hashCalculator = new HashCalculatorForStream<>(runningHashCalculator);
+        hashCalculator = HashCalculatorForStream.create(
+                getStaticThreadManager(),
+                "recordStream",
+                runningHashCalculator,
+                ConfigurationHolder.getConfigData(StreamConfig.class));
         hashQueueThread = new QueueThreadObjectStreamConfiguration<RecordStreamObject>(getStaticThreadManager())
                 .setNodeId(platform.getSelfId().getId())
                 .setCapacity(nodeLocalProperties.recordStreamQueueCapacity())
@@ -24,6 +24,7 @@ import com.swirlds.common.crypto.AbstractSerializableHashable;
 import com.swirlds.common.crypto.RunningHash;
 import com.swirlds.common.crypto.RunningHashable;
 import com.swirlds.common.crypto.SerializableHashable;
+import com.swirlds.common.io.SerializableWithKnownLength;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.stream.StreamAligned;
@@ -42,7 +43,7 @@ import org.apache.commons.lang3.builder.ToStringStyle;
  * sidecar records. Is used for record streaming
  */
 public class RecordStreamObject extends AbstractSerializableHashable
-        implements Timestamped, RunningHashable, SerializableHashable, StreamAligned {
+        implements Timestamped, RunningHashable, SerializableHashable, SerializableWithKnownLength, StreamAligned {
     private static final long CLASS_ID = 0xe370929ba5429d8bL;
     static final int CLASS_VERSION = 1;
 
@@ -113,8 +114,17 @@ public class RecordStreamObject extends AbstractSerializableHashable
     @Override
     public void serialize(SerializableDataOutputStream out) throws IOException {
         ensureNonNullGrpcRecord();
-        out.writeByteArray(transactionRecord.toByteArray());
-        out.writeByteArray(transaction.toByteArray());
+        // Same format as writeByteArray(), but without copying each message into an intermediate array
+        out.writeInt(transactionRecord.getSerializedSize());
+        transactionRecord.writeTo(out);
+        out.writeInt(transaction.getSerializedSize());
+        transaction.writeTo(out);
+    }
+
+    @Override
+    public int getSerializedLength() {
+        ensureNonNullGrpcRecord();
+        return Integer.BYTES + transactionRecord.getSerializedSize() + Integer.BYTES + transaction.getSerializedSize();
     }
 
     @Override
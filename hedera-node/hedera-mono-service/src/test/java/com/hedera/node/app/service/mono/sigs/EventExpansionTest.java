@@ -22,6 +22,7 @@ import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -36,9 +37,11 @@ import com.hedera.test.extensions.LogCaptureExtension;
 import com.hedera.test.extensions.LoggingSubject;
 import com.hedera.test.extensions.LoggingTarget;
 import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.system.events.Event;
 import com.swirlds.common.system.transaction.Transaction;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -61,6 +64,9 @@ class EventExpansionTest {
     @Mock
     private Cryptography engine;
 
+    @Mock
+    private TransactionSignature sig;
+
     @Mock
     private SigReqsManager sigReqsManager;
 
@@ -86,12 +92,35 @@ class EventExpansionTest {
         final var n = 3;
         givenNTransactions(n);
         given(expandHandleSpan.track(any())).willReturn(txnAccessor);
+        given(txnAccessor.getCryptoSigs()).willReturn(List.of(sig));
 
         subject.expandAllSigs(event, sourceState);
 
         verify(prefetchProcessor, times(n)).submit(txnAccessor);
         verify(sigReqsManager, times(n)).expandSigs(sourceState, txnAccessor);
-        verify(engine, times(n)).verifyAsync(Collections.emptyList());
+        verify(engine).verifyBatchAsync(List.of(sig, sig, sig));
+    }
+
+    @Test
+    void doesNotSubmitEmptySigList() throws InvalidProtocolBufferException {
+        givenNTransactions(2);
+        given(expandHandleSpan.track(any())).willReturn(txnAccessor);
+        given(txnAccessor.getCryptoSigs()).willReturn(Collections.emptyList());
+
+        subject.expandAllSigs(event, sourceState);
+
+        verify(engine, never()).verifyBatchAsync(any());
+    }
+
+    @Test
+    void expandsAndSubmitsSigsForSingleTransaction() throws InvalidProtocolBufferException {
+        given(expandHandleSpan.track(any())).willReturn(txnAccessor);
+        given(txnAccessor.getCryptoSigs()).willReturn(List.of(sig));
+
+        subject.expandSingle(null, sourceState);
+
+        verify(sigReqsManager).expandSigs(sourceState, txnAccessor);
+        verify(engine).verifyBatchAsync(List.of(sig));
     }
 
     @Test
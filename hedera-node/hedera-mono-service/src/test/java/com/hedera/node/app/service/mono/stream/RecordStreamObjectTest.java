@@ -16,6 +16,7 @@
 
 package com.hedera.node.app.service.mono.stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -159,6 +160,23 @@ class RecordStreamObjectTest {
         }
     }
 
+    @Test
+    void serializedLengthAndFormatMatch() throws IOException {
+        final var byteArrayOutputStream = new ByteArrayOutputStream();
+        final var out = new SerializableDataOutputStream(byteArrayOutputStream);
+        realObject.serialize(out);
+        out.flush();
+
+        final var expectedOutputStream = new ByteArrayOutputStream();
+        final var expectedOut = new SerializableDataOutputStream(expectedOutputStream);
+        expectedOut.writeByteArray(realObject.getTransactionRecord().toByteArray());
+        expectedOut.writeByteArray(realObject.getTransaction().toByteArray());
+        expectedOut.flush();
+
+        assertArrayEquals(expectedOutputStream.toByteArray(), byteArrayOutputStream.toByteArray());
+        assertEquals(byteArrayOutputStream.size(), realObject.getSerializedLength());
+    }
+
     private static RecordStreamObject getRecordStreamObject() {
         final var consensusTimestamp = Instant.now();
         final var accountID = AccountID.newBuilder().setAccountNum(3);
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.benchmark;
+
+import com.swirlds.common.bloom.BlockedBloomFilter;
+import com.swirlds.common.bloom.BloomFilter;
+import com.swirlds.common.bloom.hasher.LongBloomHasher;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the classic bloom filter with the blocked bloom filter used by reconnect key sets. A filter sized at
+ * {@code bitsPerElement} bits for each of {@code numRecords} elements is filled, then queried with as many elements
+ * that were added and as many that were not.
+ */
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class BloomFilterBench extends BaseBench {
+
+    @Param({"classic", "blocked", "blockedOffHeap"})
+    public String filterType;
+
+    @Param({"10"})
+    public int hashCount;
+
+    @Param({"16"})
+    public int bitsPerElement;
+
+    private Consumer<Long> add;
+    private Predicate<Long> contains;
+
+    String benchmarkName() {
+        return "BloomFilterBench";
+    }
+
+    private void createFilter() {
+        final long filterSize = (long) numRecords * bitsPerElement;
+        switch (filterType) {
+            case "classic" -> {
+                final BloomFilter<Long> filter = new BloomFilter<>(hashCount, new LongBloomHasher(), filterSize);
+                add = filter::add;
+                contains = filter::contains;
+            }
+            case "blocked", "blockedOffHeap" -> {
+                final BlockedBloomFilter<Long> filter = new BlockedBloomFilter<>(
+                        hashCount, new LongBloomHasher(), filterSize, "blockedOffHeap".equals(filterType));
+                add = filter::add;
+                contains = filter::contains;
+            }
+            default -> throw new IllegalArgumentException("Unknown filter type " + filterType);
+        }
+    }
+
+    private void fill() {
+        for (long i = 0; i < numRecords; i++) {
+            add.accept(i);
+        }
+    }
+
+    @Benchmark
+    public void add() throws Exception {
+        beforeTest("add");
+        createFilter();
+
+        final long start = System.currentTimeMillis();
+        fill();
+        System.out.println(filterType + ": added " + numRecords + " elements in "
+                + (System.currentTimeMillis() - start) + " ms");
+
+        afterTest();
+    }
+
+    @Benchmark
+    public void contains() throws Exception {
+        beforeTest("contains");
+        createFilter();
+        fill();
+
+        final long start = System.currentTimeMillis();
+        long falsePositives = 0;
+        for (long i = 0; i < numRecords; i++) {
+            if (!contains.test(i)) {
+                throw new IllegalStateException("Element " + i + " is missing from the filter");
+            }
+            if (contains.test(numRecords + i)) {
+                falsePositives++;
+            }
+        }
+        System.out.println(filterType + ": checked " + (2L * numRecords) + " elements in "
+                + (System.currentTimeMillis() - start) + " ms, false positive rate "
+                + ((double) falsePositives / numRecords));
+
+        afterTest();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.benchmark;
+
+import static com.swirlds.common.crypto.SignatureType.ECDSA_SECP256K1;
+
+import com.swirlds.common.crypto.engine.EcdsaSecp256k1Verifier;
+import com.swirlds.common.crypto.engine.Secp256k1VerificationEngine;
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.ASN1Sequence;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares ECDSA(secp256k1) verification through the JCA, which decodes the public key and DER encodes the signature
+ * on every call, with {@link Secp256k1VerificationEngine}, which does neither and caches decoded keys. Signatures are
+ * spread over {@code numKeys} keys, so a small number of keys models a few hot accounts. Each of {@code numThreads}
+ * threads verifies {@code numRecords} signatures.
+ */
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class EcdsaVerifyBench extends BaseBench {
+
+    private static final int SIGNATURE_COUNT = 1024;
+    private static final int MESSAGE_SIZE = 32;
+
+    @Param({"16", "1024"})
+    public int numKeys;
+
+    private final List<byte[]> messages = new ArrayList<>();
+    private final List<byte[]> signatures = new ArrayList<>();
+    private final List<byte[]> publicKeys = new ArrayList<>();
+
+    /**
+     * Verifies the signature with the given index, a new instance is created for each thread.
+     */
+    @FunctionalInterface
+    private interface IndexVerifier {
+        boolean verify(int index) throws GeneralSecurityException;
+    }
+
+    @FunctionalInterface
+    private interface IndexVerifierFactory {
+        IndexVerifier create() throws GeneralSecurityException;
+    }
+
+    String benchmarkName() {
+        return "EcdsaVerifyBench";
+    }
+
+    @Setup
+    public void generateSignatures() throws GeneralSecurityException {
+        Security.addProvider(new BouncyCastleProvider());
+        final KeyPairGenerator generator =
+                KeyPairGenerator.getInstance(ECDSA_SECP256K1.keyAlgorithm(), ECDSA_SECP256K1.provider());
+        generator.initialize(new ECGenParameterSpec(ECDSA_SECP256K1.ellipticalCurve()), new SecureRandom());
+        final List<KeyPair> keyPairs = new ArrayList<>(numKeys);
+        for (int i = 0; i < numKeys; i++) {
+            keyPairs.add(generator.generateKeyPair());
+        }
+
+        final SecureRandom random = new SecureRandom();
+        final Signature signer = Signature.getInstance(ECDSA_SECP256K1.signingAlgorithm(), ECDSA_SECP256K1.provider());
+        for (int i = 0; i < SIGNATURE_COUNT; i++) {
+            final KeyPair keyPair = keyPairs.get(i % numKeys);
+            final byte[] message = new byte[MESSAGE_SIZE];
+            random.nextBytes(message);
+            signer.initSign(keyPair.getPrivate());
+            signer.update(message);
+            messages.add(message);
+            signatures.add(rawSignature(signer.sign()));
+            publicKeys.add(rawPublicKey((ECPublicKey) keyPair.getPublic()));
+        }
+    }
+
+    @Benchmark
+    public void verifyJca() throws Exception {
+        beforeTest("verifyJca");
+
+        final AlgorithmParameters parameters = AlgorithmParameters.getInstance(ECDSA_SECP256K1.keyAlgorithm());
+        parameters.init(new ECGenParameterSpec(ECDSA_SECP256K1.ellipticalCurve()));
+        final ECParameterSpec curve = parameters.getParameterSpec(ECParameterSpec.class);
+
+        verifyAll("verifyJca", () -> {
+            final KeyFactory keyFactory = KeyFactory.getInstance(ECDSA_SECP256K1.keyAlgorithm());
+            final Signature verifier =
+                    Signature.getInstance(ECDSA_SECP256K1.signingAlgorithm(), ECDSA_SECP256K1.provider());
+            return index -> {
+                final byte[] key = publicKeys.get(index);
+                final ECPoint point = new ECPoint(
+                        new BigInteger(1, Arrays.copyOfRange(key, 0, EcdsaSecp256k1Verifier.EC_COORD_SIZE)),
+                        new BigInteger(1, Arrays.copyOfRange(key, EcdsaSecp256k1Verifier.EC_COORD_SIZE, key.length)));
+                verifier.initVerify(keyFactory.generatePublic(new ECPublicKeySpec(point, curve)));
+                verifier.update(messages.get(index));
+                return verifier.verify(EcdsaSecp256k1Verifier.asn1DerEncode(signatures.get(index)));
+            };
+        });
+
+        afterTest();
+    }
+
+    @Benchmark
+    public void verifyEngine() throws Exception {
+        beforeTest("verifyEngine");
+
+        final Secp256k1VerificationEngine engine = new Secp256k1VerificationEngine();
+        verifyAll("verifyEngine", () -> {
+            final EcdsaSecp256k1Verifier verifier = new EcdsaSecp256k1Verifier(engine);
+            return index -> verifier.verify(signatures.get(index), messages.get(index), publicKeys.get(index));
+        });
+        System.out.println("Key cache hits: " + engine.getKeyCacheHits() + ", misses: " + engine.getKeyCacheMisses());
+
+        afterTest();
+    }
+
+    private void verifyAll(final String name, final IndexVerifierFactory factory) throws InterruptedException {
+        final AtomicLong failures = new AtomicLong();
+        final List<Thread> threads = new ArrayList<>(numThreads);
+        final long start = System.currentTimeMillis();
+        for (int t = 0; t < numThreads; t++) {
+            final int offset = t;
+            final Thread thread = new Thread(() -> {
+                try {
+                    final IndexVerifier verifier = factory.create();
+                    for (int i = 0; i < numRecords; i++) {
+                        if (!verifier.verify((offset + i) % SIGNATURE_COUNT)) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                } catch (final GeneralSecurityException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        final long total = (long) numThreads * numRecords;
+        System.out.println(name + ": verified " + total + " signatures with " + numThreads + " threads in "
+                + (System.currentTimeMillis() - start) + " ms");
+        if (failures.get() != 0) {
+            throw new IllegalStateException(failures.get() + " signatures failed to verify");
+        }
+    }
+
+    private static byte[] rawSignature(final byte[] derSignature) {
+        final ASN1Sequence sequence = ASN1Sequence.getInstance(derSignature);
+        final byte[] raw = new byte[2 * EcdsaSecp256k1Verifier.EC_COORD_SIZE];
+        toUnsignedBigEndian(((ASN1Integer) sequence.getObjectAt(0)).getValue(), raw, 0);
+        toUnsignedBigEndian(
+                ((ASN1Integer) sequence.getObjectAt(1)).getValue(), raw, EcdsaSecp256k1Verifier.EC_COORD_SIZE);
+        return raw;
+    }
+
+    private static byte[] rawPublicKey(final ECPublicKey publicKey) {
+        final byte[] raw = new byte[2 * EcdsaSecp256k1Verifier.EC_COORD_SIZE];
+        toUnsignedBigEndian(publicKey.getW().getAffineX(), raw, 0);
+        toUnsignedBigEndian(publicKey.getW().getAffineY(), raw, EcdsaSecp256k1Verifier.EC_COORD_SIZE);
+        return raw;
+    }
+
+    private static void toUnsignedBigEndian(final BigInteger value, final byte[] destination, final int offset) {
+        final byte[] bytes = value.toByteArray();
+        final int size = EcdsaSecp256k1Verifier.EC_COORD_SIZE;
+        final int length = Math.min(bytes.length, size);
+        System.arraycopy(bytes, bytes.length - length, destination, offset + size - length, length);
+    }
+}
@@ -17,6 +17,8 @@
 package com.swirlds.benchmark;
 
 import com.swirlds.fchashmap.FCHashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.IntStream;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -36,6 +38,16 @@ import org.openjdk.jmh.annotations.Warmup;
 @Measurement(iterations = 5)
 public class FCHashMapBench extends BaseBench {
 
+    /**
+     * The number of old copies kept alive by {@link #updateRetainingCopies()}.
+     */
+    private static final int RETAINED_COPIES = 8;
+
+    /**
+     * The number of keys updated by {@link #updateHotKeys()}.
+     */
+    private static final int HOT_KEY_COUNT = 1024;
+
     String benchmarkName() {
         return "FCHashMapBench";
     }
@@ -98,6 +110,110 @@ public class FCHashMapBench extends BaseBench {
         afterTest(finalMap::release);
     }
 
+    /**
+     * Same as {@link #update()}, but older copies are kept alive for a while and released out of order, the way
+     * signed states hold on to old copies of the state. This stresses purging of mutations that are still visible to
+     * older copies.
+     */
+    @Benchmark
+    public void updateRetainingCopies() throws Exception {
+        beforeTest("updateRetainingCopies");
+
+        final long[] map = new long[verify ? maxKey : 0];
+        FCHashMap<BenchmarkKey, BenchmarkValue> fcHashMap = new FCHashMap<>();
+        final List<FCHashMap<BenchmarkKey, BenchmarkValue>> retainedCopies = new ArrayList<>();
+
+        // Update values
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < numFiles; i++) {
+            for (int j = 0; j < numRecords; ++j) {
+                long id = Utils.randomLong(maxKey);
+                BenchmarkKey key = new BenchmarkKey(id);
+                var modifiableValue = fcHashMap.getForModify(key);
+                long val = nextValue();
+                if (modifiableValue != null) {
+                    if ((val & 0xff) == 0) {
+                        fcHashMap.remove(key);
+                        if (verify) map[(int) id] = 0L;
+                    } else {
+                        modifiableValue.value().update((l) -> l + val);
+                        if (verify) map[(int) id] += val;
+                    }
+                } else {
+                    fcHashMap.put(key, new BenchmarkValue(val));
+                    if (verify) map[(int) id] = val;
+                }
+            }
+
+            var newCopy = fcHashMap.copy();
+            retainedCopies.add(fcHashMap);
+            fcHashMap = newCopy;
+            while (retainedCopies.size() > RETAINED_COPIES) {
+                retainedCopies.remove((int) Utils.randomLong(retainedCopies.size())).release();
+            }
+        }
+        retainedCopies.forEach(FCHashMap::release);
+        System.out.println("Updated " + numFiles + " copies in " + (System.currentTimeMillis() - start) + " ms");
+
+        final var finalMap = fcHashMap;
+        // Verify content
+        if (verify) {
+            start = System.currentTimeMillis();
+            int count = 0;
+            for (int id = 0; id < map.length; ++id) {
+                BenchmarkValue dataItem = finalMap.get(new BenchmarkKey(id));
+                if (dataItem == null) {
+                    if (map[id] != 0L) {
+                        throw new RuntimeException("Missing value");
+                    }
+                } else if (!dataItem.equals(new BenchmarkValue(map[id]))) {
+                    throw new RuntimeException("Bad value");
+                } else {
+                    count += 1;
+                }
+            }
+            System.out.println("Verified " + count + " keys in " + (System.currentTimeMillis() - start) + " ms");
+        }
+
+        afterTest(finalMap::release);
+    }
+
+    /**
+     * Update values of a small set of hot keys many times within each copy, from several threads at once.
+     */
+    @Benchmark
+    public void updateHotKeys() throws Exception {
+        beforeTest("updateHotKeys");
+
+        final int hotKeys = Math.min(maxKey, HOT_KEY_COUNT);
+        FCHashMap<BenchmarkKey, BenchmarkValue> fcHashMap = new FCHashMap<>();
+        for (int id = 0; id < hotKeys; id++) {
+            fcHashMap.put(new BenchmarkKey(id), new BenchmarkValue(nextValue()));
+        }
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < numFiles; i++) {
+            final var currentMap = fcHashMap;
+            IntStream.range(0, numThreads).parallel().forEach(thread -> {
+                for (int j = 0; j < numRecords; ++j) {
+                    BenchmarkKey key = new BenchmarkKey(Utils.randomLong(hotKeys));
+                    var modifiableValue = currentMap.getForModify(key);
+                    if (modifiableValue != null) {
+                        currentMap.put(key, modifiableValue.value());
+                    }
+                }
+            });
+
+            var newCopy = fcHashMap.copy();
+            fcHashMap.release();
+            fcHashMap = newCopy;
+        }
+        System.out.println("Updated " + ((long) numRecords * numThreads * numFiles) + " hot keys from " + numThreads
+                + " threads in " + (System.currentTimeMillis() - start) + " ms");
+
+        afterTest(fcHashMap::release);
+    }
+
     @Benchmark
     public void create() throws Exception {
         beforeTest("create");
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.benchmark;
+
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.metrics.platform.DefaultMetricsFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures contention on speedometers and running averages that are updated by many threads at once, comparing the
+ * synchronized implementations with the striped ones. Each of {@code numThreads} threads updates a single shared
+ * metric {@code numRecords} times, while the metric is read periodically as the snapshot service would.
+ */
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class MetricUpdateBench extends BaseBench {
+
+    /**
+     * Every thread reads the metric once per this many updates.
+     */
+    private static final int READ_INTERVAL = 100_000;
+
+    @Param({"false", "true"})
+    public boolean striped;
+
+    String benchmarkName() {
+        return "MetricUpdateBench";
+    }
+
+    @Benchmark
+    public void speedometer() throws Exception {
+        beforeTest("speedometer");
+
+        final SpeedometerMetric metric = new DefaultMetricsFactory(striped)
+                .createSpeedometerMetric(new SpeedometerMetric.Config("benchmark", "speedometer"));
+        updateConcurrently("speedometer", i -> {
+            metric.cycle();
+            if (i % READ_INTERVAL == 0) {
+                metric.get();
+            }
+        });
+
+        afterTest();
+    }
+
+    @Benchmark
+    public void runningAverage() throws Exception {
+        beforeTest("runningAverage");
+
+        final RunningAverageMetric metric = new DefaultMetricsFactory(striped)
+                .createRunningAverageMetric(new RunningAverageMetric.Config("benchmark", "runningAverage"));
+        updateConcurrently("runningAverage", i -> {
+            metric.update(i & 0xFF);
+            if (i % READ_INTERVAL == 0) {
+                metric.get();
+            }
+        });
+
+        afterTest();
+    }
+
+    private void updateConcurrently(final String name, final IntConsumer update) throws InterruptedException {
+        final long start = System.currentTimeMillis();
+        final List<Thread> threads = new ArrayList<>(numThreads);
+        for (int t = 0; t < numThreads; t++) {
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < numRecords; i++) {
+                    update.accept(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        System.out.println(name + (striped ? " (striped)" : "") + ": " + ((long) numThreads * numRecords)
+                + " updates with " + numThreads + " threads in " + (System.currentTimeMillis() - start) + " ms");
+    }
+}
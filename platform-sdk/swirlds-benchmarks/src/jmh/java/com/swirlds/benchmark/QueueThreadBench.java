@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.benchmark;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.swirlds.common.threading.framework.QueueThread;
+import com.swirlds.common.threading.framework.config.QueueThreadConfiguration;
+import com.swirlds.common.threading.framework.config.QueueType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the hand off throughput of queue threads built with the different {@link QueueType}s. Each of
+ * {@code numThreads} producers inserts {@code numRecords} items, and a single queue thread handles them all.
+ */
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class QueueThreadBench extends BaseBench {
+
+    @Param({"BLOCKING", "LOCK_FREE", "LOCK_FREE_SPINNING"})
+    public QueueType queueType;
+
+    @Param({"1024"})
+    public int capacity;
+
+    String benchmarkName() {
+        return "QueueThreadBench";
+    }
+
+    @Benchmark
+    public void handOff() throws Exception {
+        beforeTest("handOff");
+
+        final long total = (long) numThreads * numRecords;
+        // Only touched by the queue thread
+        final long[] handled = new long[1];
+        final CountDownLatch done = new CountDownLatch(1);
+        final QueueThread<Long> queueThread = new QueueThreadConfiguration<Long>(getStaticThreadManager())
+                .setComponent("benchmark")
+                .setThreadName("queue-thread-bench")
+                .setCapacity(capacity)
+                .setQueueType(queueType)
+                .setHandler(item -> {
+                    if (++handled[0] == total) {
+                        done.countDown();
+                    }
+                })
+                .build(true);
+
+        final long start = System.currentTimeMillis();
+        final List<Thread> producers = new ArrayList<>(numThreads);
+        for (int i = 0; i < numThreads; i++) {
+            final Thread producer = new Thread(() -> {
+                try {
+                    for (long j = 0; j < numRecords; j++) {
+                        queueThread.put(j);
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+        done.await();
+        System.out.println("Handled " + total + " items with " + numThreads + " producers in "
+                + (System.currentTimeMillis() - start) + " ms");
+
+        afterTest(queueThread::stop);
+    }
+}
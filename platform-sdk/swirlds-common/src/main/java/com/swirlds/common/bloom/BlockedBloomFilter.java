@@ -0,0 +1,305 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.bloom;
+
+import static com.swirlds.common.utility.NonCryptographicHashing.hash64;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A bloom filter that keeps all bits of an element within a single 64-byte block, i.e. a single CPU cache line.
+ * A classic {@link BloomFilter} spreads the bits of an element over the whole filter, so every probe of a large filter
+ * is likely to be a cache miss. This filter touches exactly one block per operation, at the cost of a slightly higher
+ * false positive rate for the same size and number of hashes.
+ * </p>
+ *
+ * <p>
+ * Only a single 64-bit hash is computed for each element. Its upper bits select the block, and a mix of the hash is
+ * split into 9-bit probes that select the bits within the block.
+ * </p>
+ *
+ * <p>
+ * The filter can be stored on the heap or in direct (off-heap) memory. Off-heap memory is released when the filter
+ * is garbage collected.
+ * </p>
+ *
+ * <p>
+ * This data structure is not thread safe. External synchronization required if used in a multi-threaded environment.
+ * Concurrent calls to {@link #contains(Object)} are safe as long as no element is added at the same time.
+ * </p>
+ *
+ * @param <T>
+ * 		the type of the element contained by the bloom filter
+ */
+public class BlockedBloomFilter<T> {
+
+    /**
+     * The size of a block in bytes, chosen to match the size of a cache line.
+     */
+    public static final int BLOCK_SIZE_IN_BYTES = 64;
+
+    /**
+     * The number of bits in a block.
+     */
+    public static final int BITS_PER_BLOCK = BLOCK_SIZE_IN_BYTES * Byte.SIZE;
+
+    private static final int LONGS_PER_BLOCK = BLOCK_SIZE_IN_BYTES / Long.BYTES;
+
+    /**
+     * The number of bits of a hash that are needed to select a bit within a block.
+     */
+    private static final int BITS_PER_PROBE = Integer.numberOfTrailingZeros(BITS_PER_BLOCK);
+
+    private static final int PROBE_MASK = BITS_PER_BLOCK - 1;
+
+    /**
+     * The number of probes that can be taken from a single 64-bit hash.
+     */
+    private static final int PROBES_PER_HASH = Long.SIZE / BITS_PER_PROBE;
+
+    /**
+     * The number of longs in a chunk of memory. A chunk holds 1 GiB and is a multiple of the block size, so a block
+     * never spans two chunks.
+     */
+    private static final int LONGS_PER_CHUNK_SHIFT = 27;
+
+    private static final int LONGS_PER_CHUNK = 1 << LONGS_PER_CHUNK_SHIFT;
+
+    /**
+     * The maximum number of blocks. Limited so that the block index can be computed without a division.
+     */
+    public static final long MAX_BLOCK_COUNT = Integer.MAX_VALUE;
+
+    private final int hashCount;
+    private final BloomHasher<T> hashProvider;
+    private final long blockCount;
+
+    /**
+     * The bits of the filter if stored on the heap, otherwise null.
+     */
+    private final long[][] heapChunks;
+
+    /**
+     * The bits of the filter if stored off-heap, otherwise null.
+     */
+    private final LongBuffer[] offHeapChunks;
+
+    /**
+     * Create a new blocked bloom filter.
+     *
+     * @param hashCount
+     * 		the number of bits set per element
+     * @param hashProvider
+     * 		an object that performs hashing, only a single hash is requested per element
+     * @param filterSizeInBits
+     * 		the total size of the bloom filter, in bits, rounded up to a multiple of the block size
+     * @param offHeap
+     * 		if true, the filter is stored in direct memory instead of on the heap
+     */
+    public BlockedBloomFilter(
+            final int hashCount,
+            final BloomHasher<T> hashProvider,
+            final long filterSizeInBits,
+            final boolean offHeap) {
+
+        if (hashCount <= 0) {
+            throw new IllegalArgumentException("hash count must be greater than 0");
+        }
+
+        if (filterSizeInBits <= 0) {
+            throw new IllegalArgumentException("filter size must be greater than 0");
+        }
+
+        this.hashCount = hashCount;
+        this.hashProvider = Objects.requireNonNull(hashProvider, "null hash provider not supported");
+        this.blockCount = (filterSizeInBits + BITS_PER_BLOCK - 1) / BITS_PER_BLOCK;
+        if (blockCount > MAX_BLOCK_COUNT) {
+            throw new IllegalArgumentException("filter size must not exceed " + MAX_BLOCK_COUNT * BITS_PER_BLOCK);
+        }
+
+        final long longCount = blockCount * LONGS_PER_BLOCK;
+        final int chunkCount = (int) ((longCount + LONGS_PER_CHUNK - 1) >>> LONGS_PER_CHUNK_SHIFT);
+        if (offHeap) {
+            heapChunks = null;
+            offHeapChunks = new LongBuffer[chunkCount];
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                offHeapChunks[chunk] = ByteBuffer.allocateDirect(chunkSize(longCount, chunk) * Long.BYTES)
+                        .order(ByteOrder.nativeOrder())
+                        .asLongBuffer();
+            }
+        } else {
+            offHeapChunks = null;
+            heapChunks = new long[chunkCount][];
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                heapChunks[chunk] = new long[chunkSize(longCount, chunk)];
+            }
+        }
+    }
+
+    private static int chunkSize(final long longCount, final int chunk) {
+        return (int) Math.min(LONGS_PER_CHUNK, longCount - ((long) chunk << LONGS_PER_CHUNK_SHIFT));
+    }
+
+    /**
+     * Get the size of the filter in bits.
+     *
+     * @return the size of the filter in bits, a multiple of {@link #BITS_PER_BLOCK}
+     */
+    public long getFilterSizeInBits() {
+        return blockCount * BITS_PER_BLOCK;
+    }
+
+    /**
+     * Check whether the filter is stored in direct memory.
+     *
+     * @return true if the filter is stored off-heap
+     */
+    public boolean isOffHeap() {
+        return offHeapChunks != null;
+    }
+
+    /**
+     * <p>
+     * Hash an element.
+     * </p>
+     *
+     * <p>
+     * This method is thread safe.
+     * </p>
+     *
+     * @param element
+     * 		the element to be hashed
+     * @return the hash of the element
+     * @throws NullPointerException
+     * 		if the hasher does not support null values but a null element is provided
+     */
+    public long hash(final T element) {
+        final long[] hashes = new long[1];
+        hashProvider.hash(element, Long.MAX_VALUE, hashes);
+        return hashes[0];
+    }
+
+    /**
+     * Add an element to the bloom filter.
+     *
+     * @param element
+     * 		the element to add
+     * @throws NullPointerException
+     * 		if the hasher does not support null values but a null element is provided
+     */
+    public void add(final T element) {
+        addHash(hash(element));
+    }
+
+    /**
+     * Add an element using its precomputed hash. This method is useful for when an element's hash is already known.
+     *
+     * @param hash
+     * 		the hash of the element, as returned by {@link #hash(Object)}
+     */
+    public void addHash(final long hash) {
+        final long base = blockBase(hash);
+        long probes = hash64(hash);
+        for (int i = 0; i < hashCount; i++) {
+            if (i > 0 && i % PROBES_PER_HASH == 0) {
+                probes = hash64(probes);
+            }
+            final int bit = (int) (probes >>> ((i % PROBES_PER_HASH) * BITS_PER_PROBE)) & PROBE_MASK;
+            final long index = base + (bit >>> 6);
+            setLong(index, getLong(index) | (1L << bit));
+        }
+    }
+
+    /**
+     * Check if an element is in the filter, and then add it to the filter.
+     *
+     * @param element
+     * 		the element to check and then add
+     * @return true if the element may have been in the filter before it was added
+     */
+    public boolean checkAndAdd(final T element) {
+        final long hash = hash(element);
+        final boolean isContained = containsHash(hash);
+        addHash(hash);
+        return isContained;
+    }
+
+    /**
+     * Check if an element is contained by the bloom filter. May return false positives.
+     *
+     * @param element
+     * 		the element in question
+     * @return if false, then the element is guaranteed not to be contained within the bloom filter. If true, then
+     * 		the element may or may not be contained by the bloom filter.
+     * @throws NullPointerException
+     * 		if the hasher does not support null values but a null element is provided
+     */
+    public boolean contains(final T element) {
+        return containsHash(hash(element));
+    }
+
+    /**
+     * Check if an element is contained by the bloom filter using its precomputed hash.
+     *
+     * @param hash
+     * 		the hash of the element, as returned by {@link #hash(Object)}
+     * @return if false, then the element is guaranteed not to be contained within the bloom filter. If true, then
+     * 		the element may or may not be contained by the bloom filter.
+     */
+    public boolean containsHash(final long hash) {
+        final long base = blockBase(hash);
+        long probes = hash64(hash);
+        for (int i = 0; i < hashCount; i++) {
+            if (i > 0 && i % PROBES_PER_HASH == 0) {
+                probes = hash64(probes);
+            }
+            final int bit = (int) (probes >>> ((i % PROBES_PER_HASH) * BITS_PER_PROBE)) & PROBE_MASK;
+            if ((getLong(base + (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the index of the first long of the block that a hash maps to. The upper 32 bits of the hash are scaled to
+     * the number of blocks, which avoids a division.
+     */
+    private long blockBase(final long hash) {
+        return (((hash >>> 31) & 0xFFFF_FFFFL) * blockCount >>> 32) * LONGS_PER_BLOCK;
+    }
+
+    private long getLong(final long index) {
+        final int chunk = (int) (index >>> LONGS_PER_CHUNK_SHIFT);
+        final int offset = (int) (index & (LONGS_PER_CHUNK - 1));
+        return heapChunks != null ? heapChunks[chunk][offset] : offHeapChunks[chunk].get(offset);
+    }
+
+    private void setLong(final long index, final long value) {
+        final int chunk = (int) (index >>> LONGS_PER_CHUNK_SHIFT);
+        final int offset = (int) (index & (LONGS_PER_CHUNK - 1));
+        if (heapChunks != null) {
+            heapChunks[chunk][offset] = value;
+        } else {
+            offHeapChunks[chunk].put(offset, value);
+        }
+    }
+}
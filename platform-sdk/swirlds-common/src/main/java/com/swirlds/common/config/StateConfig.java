@@ -18,6 +18,7 @@ package com.swirlds.common.config;
 
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
 import java.nio.file.Path;
 
 /**
@@ -85,6 +86,18 @@ import java.nio.file.Path;
  *                                              useful for debugging state leaks. This debug code is relatively
  *                                              expensive (it takes and stores stack traces when operations are
  *                                              performed on signed state objects).
+ * @param partitionedStateFile                  If true, then the top level subtrees of the application state are
+ *                                              serialized to separate files in parallel when a state is written to
+ *                                              disk, and are deserialized in parallel when the state is loaded. If
+ *                                              false, the entire state is written to a single file. States written in
+ *                                              either format can always be loaded.
+ * @param stateFileThreadCount                  The number of threads used to write and read the subtrees of a
+ *                                              partitioned state file.
+ * @param stateWriteBytesPerSecond              The maximum rate, in bytes per second, at which a signed state is
+ *                                              written to disk. The limit is shared by all files of a state, including
+ *                                              the partitions of a partitioned state file. Limiting this rate leaves
+ *                                              disk bandwidth for other writers such as the preconsensus event stream.
+ *                                              If 0 then the rate is not limited.
  */
 @ConfigData("state")
 public record StateConfig(
@@ -107,7 +120,10 @@ public record StateConfig(
         @ConfigProperty(defaultValue = "1000") int maxAgeOfFutureStateSignatures,
         @ConfigProperty(defaultValue = "26") int roundsToKeepForSigning,
         @ConfigProperty(defaultValue = "0") int roundsToKeepAfterSigning,
-        @ConfigProperty(defaultValue = "false") boolean signedStateSentinelEnabled) {
+        @ConfigProperty(defaultValue = "false") boolean signedStateSentinelEnabled,
+        @ConfigProperty(defaultValue = "false") boolean partitionedStateFile,
+        @Min(1) @ConfigProperty(defaultValue = "4") int stateFileThreadCount,
+        @Min(0) @ConfigProperty(defaultValue = "0") long stateWriteBytesPerSecond) {
 
     /**
      * Get the main class name that should be used for signed states.
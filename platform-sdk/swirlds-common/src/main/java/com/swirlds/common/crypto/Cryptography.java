@@ -226,6 +226,50 @@ public interface Cryptography {
      */
     void verifyAsync(final List<TransactionSignature> signatures);
 
+    /**
+     * Verifies a large list of signatures for authenticity, such as all the signatures of an event or of a round.
+     * Unlike {@link #verifyAsync(List)}, which verifies the whole list on a single thread, the list is split into
+     * batches that are verified concurrently. Each signature is still verified individually, so the result of each
+     * verification will be returned by the {@link TransactionSignature#getSignatureStatus()} method once the future
+     * (available via {@link TransactionSignature#getFuture()}) has been completed.
+     *
+     * Note: This implementation is non-blocking and returns almost immediately. The list must not be modified until
+     * every signature has been verified.
+     *
+     * @param signatures
+     * 		a list of signatures to be verified
+     */
+    default void verifyBatchAsync(final List<TransactionSignature> signatures) {
+        verifyAsync(signatures);
+    }
+
+    /**
+     * Get the number of lists that have been passed to {@link #verifyBatchAsync(List)}.
+     *
+     * @return the number of lists, or 0 if this implementation does not count them
+     */
+    default long getVerifiedBatchListCount() {
+        return 0;
+    }
+
+    /**
+     * Get the number of batches into which the lists passed to {@link #verifyBatchAsync(List)} have been split.
+     *
+     * @return the number of batches, or 0 if this implementation does not count them
+     */
+    default long getVerifiedBatchCount() {
+        return 0;
+    }
+
+    /**
+     * Get the number of signatures that have been passed to {@link #verifyBatchAsync(List)}.
+     *
+     * @return the number of signatures, or 0 if this implementation does not count them
+     */
+    default long getVerifiedBatchSignatureCount() {
+        return 0;
+    }
+
     /**
      * Verifies the given digital signature for authenticity. Convenience method that defaults to {@link
      * SignatureType#ED25519} signatures.
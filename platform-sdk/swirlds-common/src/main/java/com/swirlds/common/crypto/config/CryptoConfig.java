@@ -40,6 +40,13 @@ import com.swirlds.config.api.ConfigProperty;
  * @param keystorePassword
  * 		the password used to protect the PKCS12 key stores containing the nodes RSA keys. The password used to protect
  * 		the PKCS12 key stores containing the node RSA public/private key pairs.
+ * @param forkJoinMerkleHashing
+ * 		if true then merkle trees are hashed by recursively splitting subtrees between the threads of a work stealing
+ * 		pool, otherwise each hashing thread iterates over the entire tree.
+ * @param cpuVerifierMinBatchSize
+ * 		the smallest number of signatures that {@code Cryptography.verifyBatchAsync()} hands to a single verifier
+ * 		thread. Larger lists are split into batches of at least this size that are verified
+ * 		concurrently.
  */
 @ConfigData("crypto")
 public record CryptoConfig(
@@ -48,7 +55,9 @@ public record CryptoConfig(
         @ConfigProperty(defaultValue = "100") int cpuVerifierQueueSize,
         @ConfigProperty(defaultValue = "100") int cpuDigestQueueSize,
         @ConfigProperty(defaultValue = "true") boolean forceCpu,
-        @ConfigProperty(defaultValue = "password") String keystorePassword) {
+        @ConfigProperty(defaultValue = "password") String keystorePassword,
+        @ConfigProperty(defaultValue = "false") boolean forkJoinMerkleHashing,
+        @ConfigProperty(defaultValue = "64") int cpuVerifierMinBatchSize) {
 
     /**
      * Calculates the number of threads needed to achieve the CPU core ratio given by {@link
@@ -43,6 +43,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 
 public class CryptoEngine implements Cryptography {
@@ -123,6 +124,21 @@ public class CryptoEngine implements Cryptography {
      */
     private Map<DigestType, Hash> nullHashes;
 
+    /**
+     * the number of lists passed to {@link #verifyBatchAsync(List)}
+     */
+    private final LongAdder verifiedBatchLists = new LongAdder();
+
+    /**
+     * the number of batches into which the lists passed to {@link #verifyBatchAsync(List)} were split
+     */
+    private final LongAdder verifiedBatches = new LongAdder();
+
+    /**
+     * the number of signatures passed to {@link #verifyBatchAsync(List)}
+     */
+    private final LongAdder verifiedBatchSignatures = new LongAdder();
+
     /**
      * Responsible for creating and managing all threads and threading resources used by this utility.
      */
@@ -464,6 +480,56 @@ public class CryptoEngine implements Cryptography {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The list is split into at most one batch per verifier thread, but no batch is smaller than
+     * {@link CryptoConfig#cpuVerifierMinBatchSize()} signatures. The batches are views of the given list.
+     */
+    @Override
+    public void verifyBatchAsync(final List<TransactionSignature> signatures) {
+        final int size = signatures.size();
+        final int threadCount = config.computeCpuVerifierThreadCount();
+        final int minBatchSize = Math.max(1, config.cpuVerifierMinBatchSize());
+        final int batchSize = Math.max(minBatchSize, (size + threadCount - 1) / threadCount);
+
+        verifiedBatchLists.increment();
+        verifiedBatchSignatures.add(size);
+
+        try {
+            for (int from = 0; from < size; from += batchSize) {
+                verificationQueue.put(signatures.subList(from, Math.min(size, from + batchSize)));
+                verifiedBatches.increment();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVerifiedBatchListCount() {
+        return verifiedBatchLists.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVerifiedBatchCount() {
+        return verifiedBatches.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVerifiedBatchSignatureCount() {
+        return verifiedBatchSignatures.sum();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -23,8 +23,8 @@ import com.swirlds.common.crypto.CryptographyException;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.logging.LogMarker;
-import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,6 +37,11 @@ public class EcdsaSecp256k1VerificationProvider
 
     private static final Logger logger = LogManager.getLogger(EcdsaSecp256k1VerificationProvider.class);
 
+    /**
+     * Shared by the verifiers of all threads, so that a public key decoded on one thread is reused by the others.
+     */
+    private final Secp256k1VerificationEngine engine = new Secp256k1VerificationEngine();
+
     /**
      * Default Constructor.
      */
@@ -76,7 +81,7 @@ public class EcdsaSecp256k1VerificationProvider
     @Override
     protected EcdsaSecp256k1Verifier handleAlgorithmRequired(final SignatureType algorithmType)
             throws NoSuchAlgorithmException {
-        return new EcdsaSecp256k1Verifier();
+        return new EcdsaSecp256k1Verifier(engine);
     }
 
     /**
@@ -106,23 +111,32 @@ public class EcdsaSecp256k1VerificationProvider
             final EcdsaSecp256k1Verifier algorithm, final SignatureType algorithmType, final TransactionSignature sig) {
         final byte[] payload = sig.getContentsDirect();
         final byte[] expandedPublicKey = sig.getExpandedPublicKey();
+        final byte[] publicKeySource =
+                (expandedPublicKey != null && expandedPublicKey.length > 0) ? expandedPublicKey : payload;
+
+        final boolean isValid = algorithm.verify(
+                payload,
+                sig.getSignatureOffset(),
+                sig.getSignatureLength(),
+                payload,
+                sig.getMessageOffset(),
+                sig.getMessageLength(),
+                publicKeySource,
+                sig.getPublicKeyOffset(),
+                sig.getPublicKeyLength());
 
-        final ByteBuffer buffer = ByteBuffer.wrap(payload);
-        final ByteBuffer pkBuffer = (expandedPublicKey != null && expandedPublicKey.length > 0)
-                ? ByteBuffer.wrap(expandedPublicKey)
-                : buffer;
-
-        final byte[] signature = new byte[sig.getSignatureLength()];
-        final byte[] publicKey = new byte[sig.getPublicKeyLength()];
-        final byte[] message = new byte[sig.getMessageLength()];
-
-        buffer.position(sig.getMessageOffset())
-                .get(message)
-                .position(sig.getSignatureOffset())
-                .get(signature);
-        pkBuffer.position(sig.getPublicKeyOffset()).get(publicKey);
+        if (!isValid && logger.isDebugEnabled()) {
+            logFailure(
+                    algorithmType,
+                    Arrays.copyOfRange(
+                            publicKeySource,
+                            sig.getPublicKeyOffset(),
+                            sig.getPublicKeyOffset() + sig.getPublicKeyLength()),
+                    Arrays.copyOfRange(
+                            payload, sig.getSignatureOffset(), sig.getSignatureOffset() + sig.getSignatureLength()));
+        }
 
-        return verified(algorithm, algorithmType, message, signature, publicKey);
+        return isValid;
     }
 
     private boolean verified(
@@ -134,15 +148,19 @@ public class EcdsaSecp256k1VerificationProvider
         final boolean isValid = algorithm.verify(signature, message, publicKey);
 
         if (!isValid && logger.isDebugEnabled()) {
-            logger.debug(
-                    TESTING_EXCEPTIONS.getMarker(),
-                    "Adv Crypto Subsystem: Signature Verification Failure for signature type {}"
-                            + " [ publicKey = {}, signature = {} ]",
-                    algorithmType,
-                    hex(publicKey),
-                    hex(signature));
+            logFailure(algorithmType, publicKey, signature);
         }
 
         return isValid;
     }
+
+    private static void logFailure(final SignatureType algorithmType, final byte[] publicKey, final byte[] signature) {
+        logger.debug(
+                TESTING_EXCEPTIONS.getMarker(),
+                "Adv Crypto Subsystem: Signature Verification Failure for signature type {}"
+                        + " [ publicKey = {}, signature = {} ]",
+                algorithmType,
+                hex(publicKey),
+                hex(signature));
+    }
 }
@@ -16,27 +16,10 @@
 
 package com.swirlds.common.crypto.engine;
 
-import static com.swirlds.common.crypto.SignatureType.ECDSA_SECP256K1;
+import static com.swirlds.base.ArgumentUtils.throwArgNull;
 import static com.swirlds.common.utility.CommonUtils.hex;
 import static com.swirlds.logging.LogMarker.TESTING_EXCEPTIONS;
 
-import com.swirlds.common.crypto.CryptographyException;
-import com.swirlds.logging.LogMarker;
-import java.math.BigInteger;
-import java.security.AlgorithmParameters;
-import java.security.InvalidKeyException;
-import java.security.KeyFactory;
-import java.security.NoSuchAlgorithmException;
-import java.security.NoSuchProviderException;
-import java.security.Signature;
-import java.security.SignatureException;
-import java.security.interfaces.ECPublicKey;
-import java.security.spec.ECGenParameterSpec;
-import java.security.spec.ECParameterSpec;
-import java.security.spec.ECPoint;
-import java.security.spec.ECPublicKeySpec;
-import java.security.spec.InvalidKeySpecException;
-import java.security.spec.InvalidParameterSpecException;
 import java.util.Arrays;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -56,20 +39,24 @@ public class EcdsaSecp256k1Verifier {
     private static final int FOUR = 4;
     private static final int FIVE = 5;
     private static final int SIX = 6;
-    private final KeyFactory ecKeyFactory;
-    private final ECParameterSpec secp256k1Params;
-    private final Signature algorithm;
+    private final Secp256k1VerificationEngine engine;
 
+    /**
+     * Create a verifier with its own verification engine.
+     */
     public EcdsaSecp256k1Verifier() {
-        try {
-            ecKeyFactory = KeyFactory.getInstance(ECDSA_SECP256K1.keyAlgorithm());
-            final AlgorithmParameters params = AlgorithmParameters.getInstance(ECDSA_SECP256K1.keyAlgorithm());
-            params.init(new ECGenParameterSpec(ECDSA_SECP256K1.ellipticalCurve()));
-            secp256k1Params = params.getParameterSpec(ECParameterSpec.class);
-            algorithm = Signature.getInstance(ECDSA_SECP256K1.signingAlgorithm(), ECDSA_SECP256K1.provider());
-        } catch (InvalidParameterSpecException | NoSuchAlgorithmException | NoSuchProviderException fatal) {
-            throw new CryptographyException(fatal, LogMarker.ERROR);
-        }
+        this(new Secp256k1VerificationEngine());
+    }
+
+    /**
+     * Create a verifier that uses an existing verification engine, so that decoded public keys are shared with every
+     * other verifier using the same engine.
+     *
+     * @param engine
+     * 		the engine that performs the verification
+     */
+    public EcdsaSecp256k1Verifier(final Secp256k1VerificationEngine engine) {
+        this.engine = throwArgNull(engine, "engine");
     }
 
     /**
@@ -152,27 +139,54 @@ public class EcdsaSecp256k1Verifier {
      * @return true if the signature is valid
      */
     public boolean verify(final byte[] rawSig, final byte[] msg, final byte[] pubKey) {
-        try {
-            algorithm.initVerify(asCryptographic(pubKey));
-            algorithm.update(msg);
-            final byte[] asn1DerSig = asn1DerEncode(rawSig);
-            return algorithm.verify(asn1DerSig);
-        } catch (InvalidKeySpecException | SignatureException | InvalidKeyException e) {
+        return verify(rawSig, 0, rawSig.length, msg, 0, msg.length, pubKey, 0, pubKey.length);
+    }
+
+    /**
+     * Verifies a ECDSA(secp256k1) signature of a message is valid for a given public key, where the signature, message
+     * and public key are regions of larger arrays. The encodings are the same as for
+     * {@link #verify(byte[], byte[], byte[])}. Nothing is copied.
+     *
+     * @param sig
+     * 		holds the (r, s) signature to be verified
+     * @param sigOffset
+     * 		the offset of the signature
+     * @param sigLength
+     * 		the length of the signature
+     * @param msg
+     * 		holds the original message that was signed
+     * @param msgOffset
+     * 		the offset of the message
+     * @param msgLength
+     * 		the length of the message
+     * @param pubKey
+     * 		holds the public key to use to verify the signature
+     * @param pubKeyOffset
+     * 		the offset of the public key
+     * @param pubKeyLength
+     * 		the length of the public key
+     * @return true if the signature is valid
+     */
+    public boolean verify(
+            final byte[] sig,
+            final int sigOffset,
+            final int sigLength,
+            final byte[] msg,
+            final int msgOffset,
+            final int msgLength,
+            final byte[] pubKey,
+            final int pubKeyOffset,
+            final int pubKeyLength) {
+        if (sigLength != Secp256k1VerificationEngine.SIGNATURE_SIZE
+                || pubKeyLength != Secp256k1VerificationEngine.PUBLIC_KEY_SIZE) {
             logger.debug(
                     TESTING_EXCEPTIONS.getMarker(),
-                    () -> "Failure while verifying signature [ publicKey = %s, rawSig = %s ]"
-                            .formatted(hex(pubKey), hex(rawSig)),
-                    e);
+                    () -> "Malformed signature or public key [ publicKey = %s, rawSig = %s ]"
+                            .formatted(
+                                    hex(Arrays.copyOfRange(pubKey, pubKeyOffset, pubKeyOffset + pubKeyLength)),
+                                    hex(Arrays.copyOfRange(sig, sigOffset, sigOffset + sigLength))));
             return false;
         }
-    }
-
-    private ECPublicKey asCryptographic(final byte[] pubKey) throws InvalidKeySpecException {
-        final BigInteger xCoord = new BigInteger(1, Arrays.copyOfRange(pubKey, 0, EC_COORD_SIZE));
-        final BigInteger yCoord = new BigInteger(1, Arrays.copyOfRange(pubKey, EC_COORD_SIZE, pubKey.length));
-
-        final ECPoint curvePoint = new ECPoint(xCoord, yCoord);
-        final ECPublicKeySpec ecPublicKeySpec = new ECPublicKeySpec(curvePoint, secp256k1Params);
-        return (ECPublicKey) ecKeyFactory.generatePublic(ecPublicKeySpec);
+        return engine.verify(sig, sigOffset, msg, msgOffset, msgLength, pubKey, pubKeyOffset);
     }
 }
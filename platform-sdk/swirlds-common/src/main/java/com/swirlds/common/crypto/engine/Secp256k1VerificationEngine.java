@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.crypto.engine;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.bouncycastle.math.ec.ECCurve;
+import org.bouncycastle.math.ec.ECPoint;
+
+/**
+ * <p>
+ * Verifies ECDSA(secp256k1) signatures directly on the curve, without going through the JCA. Signatures are read as
+ * raw {@code (r, s)} pairs, so there is no DER encoding, and public keys are decoded into curve points once and then
+ * kept in a cache. Bouncy Castle stores the window tables it computes for a point on the point itself, so a cached key
+ * also keeps the precomputation that makes verification with that key faster the second time around.
+ * </p>
+ *
+ * <p>
+ * The key cache is direct mapped: each key has exactly one slot, chosen by its x coordinate, and a new key simply
+ * replaces whatever occupied its slot. Lookups neither lock nor allocate. Instances of this class are thread safe and
+ * are meant to be shared by every verification thread.
+ * </p>
+ */
+public final class Secp256k1VerificationEngine {
+
+    /**
+     * The size in bytes of a raw public key, the concatenation of the x and y coordinates.
+     */
+    public static final int PUBLIC_KEY_SIZE = 2 * EcdsaSecp256k1Verifier.EC_COORD_SIZE;
+
+    /**
+     * The size in bytes of a raw signature, the concatenation of r and s.
+     */
+    public static final int SIGNATURE_SIZE = 2 * EcdsaSecp256k1Verifier.EC_COORD_SIZE;
+
+    /**
+     * The default number of slots in the key cache.
+     */
+    public static final int DEFAULT_KEY_CACHE_SIZE = 4096;
+
+    private static final X9ECParameters CURVE_PARAMETERS = CustomNamedCurves.getByName("secp256k1");
+    private static final ECCurve CURVE = CURVE_PARAMETERS.getCurve();
+    private static final ECPoint G = CURVE_PARAMETERS.getG();
+    private static final BigInteger N = CURVE_PARAMETERS.getN();
+
+    /**
+     * A decoded public key.
+     *
+     * @param encoded the raw public key
+     * @param point   the point on the curve, null if the key is not a valid point
+     */
+    private record CachedKey(byte[] encoded, ECPoint point) {}
+
+    private final AtomicReferenceArray<CachedKey> keyCache;
+    private final int keyCacheMask;
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    /**
+     * Create an engine with the default key cache size.
+     */
+    public Secp256k1VerificationEngine() {
+        this(DEFAULT_KEY_CACHE_SIZE);
+    }
+
+    /**
+     * Create an engine.
+     *
+     * @param keyCacheSize the number of public keys that may be cached, rounded up to a power of two
+     */
+    public Secp256k1VerificationEngine(final int keyCacheSize) {
+        if (keyCacheSize <= 0) {
+            throw new IllegalArgumentException("key cache size must be positive");
+        }
+        final int size = Integer.highestOneBit(keyCacheSize - 1) << 1;
+        this.keyCache = new AtomicReferenceArray<>(Math.max(1, size));
+        this.keyCacheMask = keyCache.length() - 1;
+    }
+
+    /**
+     * Verify a signature. The message is treated as a digest, as with the {@code NONEwithECDSA} algorithm: if it is
+     * longer than the curve order it is truncated to its leftmost bits.
+     *
+     * @param signature       holds the raw 64 byte {@code (r, s)} signature
+     * @param signatureOffset the offset of the signature
+     * @param message         holds the message that was signed
+     * @param messageOffset   the offset of the message
+     * @param messageLength   the length of the message
+     * @param publicKey       holds the raw 64 byte {@code (x, y)} public key
+     * @param publicKeyOffset the offset of the public key
+     * @return true if the signature is valid
+     */
+    public boolean verify(
+            final byte[] signature,
+            final int signatureOffset,
+            final byte[] message,
+            final int messageOffset,
+            final int messageLength,
+            final byte[] publicKey,
+            final int publicKeyOffset) {
+
+        final ECPoint q = getPublicKeyPoint(publicKey, publicKeyOffset);
+        if (q == null) {
+            return false;
+        }
+
+        final BigInteger r = new BigInteger(1, signature, signatureOffset, EcdsaSecp256k1Verifier.EC_COORD_SIZE);
+        final BigInteger s = new BigInteger(
+                1,
+                signature,
+                signatureOffset + EcdsaSecp256k1Verifier.EC_COORD_SIZE,
+                EcdsaSecp256k1Verifier.EC_COORD_SIZE);
+        if (r.signum() <= 0 || r.compareTo(N) >= 0 || s.signum() <= 0 || s.compareTo(N) >= 0) {
+            return false;
+        }
+
+        final BigInteger e = calculateE(message, messageOffset, messageLength);
+        final BigInteger w = s.modInverse(N);
+        final BigInteger u1 = e.multiply(w).mod(N);
+        final BigInteger u2 = r.multiply(w).mod(N);
+
+        final ECPoint point = ECAlgorithms.sumOfTwoMultiplies(G, u1, q, u2).normalize();
+        if (point.isInfinity()) {
+            return false;
+        }
+        return point.getAffineXCoord().toBigInteger().mod(N).equals(r);
+    }
+
+    /**
+     * Convert a message to an integer, keeping only as many leftmost bits as the curve order has.
+     */
+    private static BigInteger calculateE(final byte[] message, final int offset, final int length) {
+        final int messageBitLength = length * Byte.SIZE;
+        BigInteger e = length == 0 ? BigInteger.ZERO : new BigInteger(1, message, offset, length);
+        if (N.bitLength() < messageBitLength) {
+            e = e.shiftRight(messageBitLength - N.bitLength());
+        }
+        return e;
+    }
+
+    /**
+     * Get the curve point of a public key, from the cache if possible.
+     *
+     * @return the point, or null if the key is not a point on the curve
+     */
+    private ECPoint getPublicKeyPoint(final byte[] publicKey, final int offset) {
+        final int index = slotOf(publicKey, offset);
+        final CachedKey cached = keyCache.get(index);
+        if (cached != null
+                && Arrays.equals(cached.encoded, 0, PUBLIC_KEY_SIZE, publicKey, offset, offset + PUBLIC_KEY_SIZE)) {
+            cacheHits.increment();
+            return cached.point;
+        }
+
+        cacheMisses.increment();
+        final byte[] encoded = Arrays.copyOfRange(publicKey, offset, offset + PUBLIC_KEY_SIZE);
+        final ECPoint point = decode(encoded);
+        keyCache.set(index, new CachedKey(encoded, point));
+        return point;
+    }
+
+    /**
+     * Choose the cache slot of a key. Coordinates of public keys are uniformly distributed, so a few bytes of the x
+     * coordinate make a good hash.
+     */
+    private int slotOf(final byte[] publicKey, final int offset) {
+        final int hash = (publicKey[offset] & 0xff) << 24
+                | (publicKey[offset + 1] & 0xff) << 16
+                | (publicKey[offset + 2] & 0xff) << 8
+                | (publicKey[offset + 3] & 0xff);
+        return hash & keyCacheMask;
+    }
+
+    private static ECPoint decode(final byte[] encoded) {
+        try {
+            final BigInteger x = new BigInteger(1, encoded, 0, EcdsaSecp256k1Verifier.EC_COORD_SIZE);
+            final BigInteger y = new BigInteger(
+                    1, encoded, EcdsaSecp256k1Verifier.EC_COORD_SIZE, EcdsaSecp256k1Verifier.EC_COORD_SIZE);
+            final ECPoint point = CURVE.validatePoint(x, y);
+            return point.isInfinity() ? null : point;
+        } catch (final IllegalArgumentException e) {
+            // not a point on the curve
+            return null;
+        }
+    }
+
+    /**
+     * Get the number of verifications that found their public key in the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getKeyCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Get the number of verifications that had to decode their public key.
+     *
+     * @return the number of cache misses
+     */
+    public long getKeyCacheMisses() {
+        return cacheMisses.sum();
+    }
+}
@@ -19,9 +19,8 @@ package com.swirlds.common.crypto.engine;
 import com.swirlds.common.crypto.CryptographyException;
 import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
-import com.swirlds.common.crypto.HashingOutputStream;
 import com.swirlds.common.io.SelfSerializable;
-import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.io.buffer.SerializationBuffer;
 import com.swirlds.logging.LogMarker;
 import java.io.IOException;
 import java.security.MessageDigest;
@@ -29,17 +28,17 @@ import java.security.NoSuchAlgorithmException;
 
 /**
  * A {@link CachingOperationProvider} capable of computing hashes for {@link SelfSerializable} objects by hashing the
- * serialized bytes of the object.
+ * serialized bytes of the object. The bytes are fed to the digest in chunks as they are serialized, without ever
+ * holding the entire serialized object in memory.
  */
 public class SerializationDigestProvider
-        extends CachingOperationProvider<SelfSerializable, Void, Hash, HashingOutputStream, DigestType> {
+        extends CachingOperationProvider<SelfSerializable, Void, Hash, MessageDigest, DigestType> {
     /**
      * {@inheritDoc}
      */
     @Override
-    protected HashingOutputStream handleAlgorithmRequired(final DigestType algorithmType)
-            throws NoSuchAlgorithmException {
-        return new HashingOutputStream(MessageDigest.getInstance(algorithmType.algorithmName()));
+    protected MessageDigest handleAlgorithmRequired(final DigestType algorithmType) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance(algorithmType.algorithmName());
     }
 
     /**
@@ -47,16 +46,15 @@ public class SerializationDigestProvider
      */
     @Override
     protected Hash handleItem(
-            final HashingOutputStream algorithm,
+            final MessageDigest algorithm,
             final DigestType algorithmType,
             final SelfSerializable item,
             final Void optionalData) {
-        algorithm.resetDigest(); // probably not needed, just to be safe
-        try (SerializableDataOutputStream out = new SerializableDataOutputStream(algorithm)) {
-            out.writeSerializable(item, true);
-            out.flush();
+        algorithm.reset(); // probably not needed, just to be safe
+        try (final SerializationBuffer buffer = SerializationBuffer.acquire(algorithm)) {
+            buffer.getDataStream().writeSerializable(item, true);
 
-            return new Hash(algorithm.getDigest(), algorithmType);
+            return new Hash(buffer.digest(), algorithmType);
         } catch (IOException ex) {
             throw new CryptographyException(ex, LogMarker.EXCEPTION);
         }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.io.buffer;
+
+import static com.swirlds.base.ArgumentUtils.throwArgNull;
+
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+
+/**
+ * <p>
+ * A reusable sink that feeds serialized bytes to a {@link MessageDigest}. Each thread owns one buffer that is handed
+ * out by {@link #acquire(MessageDigest)}, so hashing the serialized form of an object does not allocate a stream and
+ * an array every time. The buffer is returned to its thread by {@link #close()}, which makes it convenient to use in
+ * a try-with-resources block. If the thread's buffer is already in use, for example because an object being
+ * serialized hashes another object with a buffer of its own, then a new unpooled buffer is handed out instead.
+ * </p>
+ *
+ * <p>
+ * A buffer never holds more than {@link #CHUNK_SIZE} bytes. Whenever it fills up its contents are fed to the digest,
+ * so the serialized form of an object is hashed incrementally without ever being materialized as a whole. Writes to a
+ * {@link SerializableDataOutputStream} are mostly a few bytes long, and collecting them into chunks avoids calling
+ * the digest once per byte.
+ * </p>
+ *
+ * <p>
+ * This class is not thread safe, a buffer must only be used by the thread that acquired it.
+ * </p>
+ */
+public final class SerializationBuffer extends OutputStream {
+
+    /**
+     * The number of bytes collected before they are fed to the digest.
+     */
+    public static final int CHUNK_SIZE = 8 * 1024;
+
+    private static final ThreadLocal<SerializationBuffer> THREAD_BUFFER =
+            ThreadLocal.withInitial(() -> new SerializationBuffer(true));
+
+    private final boolean pooled;
+    private final SerializableDataOutputStream dataStream;
+    private final byte[] buffer = new byte[CHUNK_SIZE];
+
+    private int count;
+    private MessageDigest digest;
+    private boolean inUse;
+
+    private SerializationBuffer(final boolean pooled) {
+        this.pooled = pooled;
+        this.dataStream = new SerializableDataOutputStream(this);
+    }
+
+    /**
+     * Get a buffer that feeds serialized bytes to a digest. The buffer must be closed when it is no longer needed.
+     *
+     * @param digest the digest to feed, its state is not reset
+     * @return an empty buffer
+     */
+    public static @NonNull SerializationBuffer acquire(@NonNull final MessageDigest digest) {
+        throwArgNull(digest, "digest");
+        final SerializationBuffer threadBuffer = THREAD_BUFFER.get();
+        final SerializationBuffer buffer = threadBuffer.inUse ? new SerializationBuffer(false) : threadBuffer;
+        buffer.inUse = true;
+        buffer.digest = digest;
+        return buffer;
+    }
+
+    /**
+     * Get a stream that writes to this buffer. The same stream is returned every time, it must not be closed.
+     *
+     * @return a stream that writes to this buffer
+     */
+    public @NonNull SerializableDataOutputStream getDataStream() {
+        return dataStream;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final int b) {
+        if (count == buffer.length) {
+            drainToDigest();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(@NonNull final byte[] bytes, final int offset, final int length) {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (length > buffer.length - count) {
+            drainToDigest();
+            if (length >= buffer.length) {
+                // too large to be worth collecting, feed it to the digest directly
+                digest.update(bytes, offset, length);
+                return;
+            }
+        }
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+
+    private void drainToDigest() {
+        digest.update(buffer, 0, count);
+        count = 0;
+    }
+
+    /**
+     * Feed any remaining bytes to the digest and complete the digest computation. The digest is reset afterwards, and
+     * this buffer may be used to compute another digest.
+     *
+     * @return the digest of all bytes written since the buffer was acquired or the last digest was computed
+     */
+    public @NonNull byte[] digest() {
+        drainToDigest();
+        return digest.digest();
+    }
+
+    /**
+     * Return this buffer to its thread. The buffer and any stream obtained from it must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        count = 0;
+        digest = null;
+        if (pooled) {
+            inUse = false;
+        }
+    }
+}
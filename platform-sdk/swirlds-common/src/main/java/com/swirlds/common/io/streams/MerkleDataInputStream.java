@@ -203,6 +203,41 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
     public <T extends MerkleNode> T readMerkleTree(final Path directory, final int maxNumberOfNodes)
             throws IOException {
 
+        final Map<Long /* class ID */, Integer /* version */> deserializedVersions = new HashMap<>();
+        final MerkleNode rawRoot =
+                readMerkleTreeWithoutInitialization(directory, maxNumberOfNodes, deserializedVersions);
+
+        final MerkleNode migratedRoot = initializeAndMigrateTreeAfterDeserialization(rawRoot, deserializedVersions);
+
+        if (migratedRoot == null) {
+            return null;
+        }
+        return migratedRoot.cast();
+    }
+
+    /**
+     * Read a merkle tree from a stream without initializing or migrating it. Used when a tree is assembled from
+     * several streams, in which case the caller is responsible for calling
+     * {@link com.swirlds.common.merkle.copy.MerkleInitialize#initializeAndMigrateTreeAfterDeserialization(MerkleNode,
+     * Map) initializeAndMigrateTreeAfterDeserialization()} on the assembled tree. Only one tree may be read from each
+     * stream.
+     *
+     * @param directory
+     * 		the directory from which data is being read
+     * @param maxNumberOfNodes
+     * 		maximum number of nodes to read
+     * @param deserializedVersions
+     * 		the version of each class deserialized is added to this map
+     * @return the root of the tree read from the stream, or null if the root is null
+     * @throws IOException
+     * 		thrown if any IO problems occur
+     */
+    public MerkleNode readMerkleTreeWithoutInitialization(
+            final Path directory,
+            final int maxNumberOfNodes,
+            final Map<Long /* class ID */, Integer /* version */> deserializedVersions)
+            throws IOException {
+
         validateDirectory(directory);
 
         final int merkleVersion = readInt();
@@ -218,8 +253,6 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
             return null;
         }
 
-        final Map<Long /* class ID */, Integer /* version */> deserializedVersions = new HashMap<>();
-
         int nodeCount = 0;
         while (!internalNodes.isEmpty() || root == null) {
             nodeCount++;
@@ -229,11 +262,6 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
             readNextNode(directory, deserializedVersions);
         }
 
-        final MerkleNode migratedRoot = initializeAndMigrateTreeAfterDeserialization(root, deserializedVersions);
-
-        if (migratedRoot == null) {
-            return null;
-        }
-        return migratedRoot.cast();
+        return root;
     }
 }
@@ -150,6 +150,26 @@ public class MerkleDataOutputStream extends SerializableDataOutputStream {
      * 		thrown if any IO problems occur
      */
     public void writeMerkleTree(final Path directory, final MerkleNode root) throws IOException {
+        writeMerkleTree(directory, root, node -> false);
+    }
+
+    /**
+     * Writes a merkle tree to a stream, leaving out some subtrees. Each subtree that is left out is written as if its
+     * root was null. The subtrees that are left out can be written separately (e.g. to other streams in parallel) and
+     * reattached to the tree after deserialization.
+     *
+     * @param directory
+     * 		a directory where additional data will be written
+     * @param root
+     * 		the root of the tree
+     * @param detached
+     * 		returns true for the roots of subtrees that should not be written to this stream. The root of the tree
+     * 		is always written.
+     * @throws IOException
+     * 		thrown if any IO problems occur
+     */
+    public void writeMerkleTree(final Path directory, final MerkleNode root, final Predicate<MerkleNode> detached)
+            throws IOException {
         writeInt(MerkleSerializationProtocol.CURRENT);
         writeBoolean(root == null);
 
@@ -161,10 +181,10 @@ public class MerkleDataOutputStream extends SerializableDataOutputStream {
 
         root.treeIterator()
                 .setOrder(BREADTH_FIRST)
-                .setDescendantFilter(DESCENDANT_FILTER)
+                .setDescendantFilter(node -> DESCENDANT_FILTER.test(node) && (node == root || !detached.test(node)))
                 .ignoreNull(false)
                 .forEachRemainingWithIO((final MerkleNode node) -> {
-                    if (node == null) {
+                    if (node == null || (node != root && detached.test(node))) {
                         writeNull();
                     } else if (node.isLeaf()) {
                         writeLeaf(directory, node.asLeaf());
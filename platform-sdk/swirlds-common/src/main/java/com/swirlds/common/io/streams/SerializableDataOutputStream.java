@@ -249,6 +249,26 @@ public class SerializableDataOutputStream extends AugmentedDataOutputStream {
         return totalByteLength;
     }
 
+    /**
+     * Get the number of bytes written by {@link #writeSerializable(SelfSerializable, boolean)} for an object whose
+     * length is known ahead of time.
+     *
+     * @param serializable
+     * 		the object to write, can be null
+     * @param writeClassId
+     * 		set to true if the classID should be written. This can be false if the class is known when
+     * 		de-serializing
+     * @return the number of bytes written for the object, including its class ID and version
+     */
+    public static int getSerializedLength(
+            final SerializableWithKnownLength serializable, final boolean writeClassId) {
+        if (serializable == null) {
+            // a null object is written as a null class ID, or as a null version if the class ID is omitted
+            return writeClassId ? CLASS_ID_BYTES : VERSION_BYTES;
+        }
+        return getInstanceSerializedLength(serializable, true, writeClassId);
+    }
+
     /**
      * Get the serialized byte length of {@link SerializableWithKnownLength} object
      *
@@ -21,6 +21,8 @@ import static com.swirlds.logging.LogMarker.EXCEPTION;
 import static com.swirlds.logging.LogMarker.STATE_TO_DISK;
 import static java.nio.file.Files.exists;
 
+import com.swirlds.common.io.extendable.ExtendableOutputStream;
+import com.swirlds.common.io.extendable.OutputStreamExtension;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
@@ -267,11 +269,28 @@ public final class FileUtils {
      */
     public static void writeAndFlush(final Path file, final IOConsumer<MerkleDataOutputStream> writeMethod)
             throws IOException {
+        writeAndFlush(file, null, writeMethod);
+    }
+
+    /**
+     * Write to a new file, and make sure it's flushed to disk before returning. Bytes pass through the given extension
+     * after they leave the write buffer, so the extension sees buffer sized writes rather than individual fields.
+     *
+     * @param file        the file to be written to, should not exist prior to this method being called
+     * @param extension   an extension that observes (and may delay) the bytes written to the file, ignored if null
+     * @param writeMethod the method that writes
+     */
+    public static void writeAndFlush(
+            final Path file,
+            final OutputStreamExtension extension,
+            final IOConsumer<MerkleDataOutputStream> writeMethod)
+            throws IOException {
 
         throwIfFileExists(file);
 
         try (final FileOutputStream fileOut = new FileOutputStream(file.toFile());
-                final BufferedOutputStream bufOut = new BufferedOutputStream(fileOut);
+                final BufferedOutputStream bufOut = new BufferedOutputStream(
+                        extension == null ? fileOut : new ExtendableOutputStream(fileOut, extension));
                 final MerkleDataOutputStream out = new MerkleDataOutputStream(bufOut)) {
 
             writeMethod.accept(out);
@@ -170,4 +170,15 @@ public interface MerkleCryptography {
     default Future<Hash> digestTreeAsync(final MerkleNode root) {
         return digestTreeAsync(root, DEFAULT_DIGEST_TYPE);
     }
+
+    /**
+     * Get the total number of nodes hashed by {@link #digestTreeSync(MerkleNode, DigestType)} and
+     * {@link #digestTreeAsync(MerkleNode, DigestType)}. Comparing the values before and after hashing a tree gives
+     * the number of nodes in the tree that needed to be hashed, provided no other tree was hashed at the same time.
+     *
+     * @return the number of nodes hashed, or 0 if not tracked by this implementation
+     */
+    default long getHashedNodeCount() {
+        return 0;
+    }
 }
@@ -27,7 +27,9 @@ import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleLeaf;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.crypto.MerkleCryptography;
+import com.swirlds.common.merkle.hash.ForkJoinMerkleHashBuilder;
 import com.swirlds.common.merkle.hash.MerkleHashBuilder;
+import com.swirlds.common.merkle.hash.MerkleTreeHasher;
 import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.logging.LogMarker;
 import java.security.NoSuchAlgorithmException;
@@ -45,7 +47,7 @@ public class MerkleCryptoEngine implements MerkleCryptography {
     /**
      * The merkle provider used to compute digests for merkle trees.
      */
-    private final MerkleHashBuilder merkleHashBuilder;
+    private final MerkleTreeHasher merkleHashBuilder;
 
     private final Cryptography basicCryptoEngine;
 
@@ -63,8 +65,13 @@ public class MerkleCryptoEngine implements MerkleCryptography {
             final ThreadManager threadManager, final Cryptography cryptography, final CryptoConfig settings) {
         basicCryptoEngine = cryptography;
         this.merkleInternalDigestProvider = new MerkleInternalDigestProvider();
-        this.merkleHashBuilder =
-                new MerkleHashBuilder(threadManager, this, cryptography, settings.computeCpuDigestThreadCount());
+        if (settings.forkJoinMerkleHashing()) {
+            this.merkleHashBuilder =
+                    new ForkJoinMerkleHashBuilder(this, cryptography, settings.computeCpuDigestThreadCount());
+        } else {
+            this.merkleHashBuilder =
+                    new MerkleHashBuilder(threadManager, this, cryptography, settings.computeCpuDigestThreadCount());
+        }
     }
 
     /**
@@ -83,6 +90,14 @@ public class MerkleCryptoEngine implements MerkleCryptography {
         return merkleHashBuilder.digestTreeAsync(root);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getHashedNodeCount() {
+        return merkleHashBuilder.getHashedNodeCount();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.hash;
+
+import static com.swirlds.common.crypto.engine.CryptoEngine.THREAD_COMPONENT_NAME;
+import static com.swirlds.common.merkle.utility.MerkleConstants.MERKLE_DIGEST_TYPE;
+import static com.swirlds.logging.LogMarker.EXCEPTION;
+
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.crypto.MerkleCryptography;
+import com.swirlds.common.threading.futures.StandardFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * Hashes a merkle tree using a work stealing {@link ForkJoinPool}. The tree is split by recursively dividing the
+ * children of each internal node between tasks, and each internal node is hashed once all of its children have been
+ * hashed.
+ * </p>
+ *
+ * <p>
+ * Subtrees with a cached hash are skipped without being visited, so the cost of hashing a tree is proportional to the
+ * number of nodes that have changed rather than to the size of the tree. The amount of work done by each task adapts to
+ * the load on the pool: a range of children is only split while the worker has few tasks queued that other workers
+ * could steal, otherwise the range is hashed in a single batch.
+ * </p>
+ */
+public class ForkJoinMerkleHashBuilder implements MerkleTreeHasher {
+    private static final Logger logger = LogManager.getLogger(ForkJoinMerkleHashBuilder.class);
+
+    /**
+     * A range of children is split while the current worker has at most this many queued tasks that have not been
+     * stolen by other workers.
+     */
+    private static final int SURPLUS_TASK_THRESHOLD = 2;
+
+    private final ForkJoinPool pool;
+
+    private final MerkleCryptography merkleCryptography;
+
+    private final Cryptography cryptography;
+
+    private final LongAdder hashedNodeCount = new LongAdder();
+
+    /**
+     * Construct an object which calculates the hash of a merkle tree.
+     *
+     * @param merkleCryptography
+     * 		used to hash individual nodes
+     * @param cryptography
+     * 		the {@link Cryptography} implementation to use
+     * @param cpuThreadCount
+     * 		the number of threads to be used for computing hash
+     */
+    public ForkJoinMerkleHashBuilder(
+            final MerkleCryptography merkleCryptography, final Cryptography cryptography, final int cpuThreadCount) {
+        this.merkleCryptography = merkleCryptography;
+        this.cryptography = cryptography;
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = forkJoinPool -> {
+            final ForkJoinWorkerThread thread =
+                    ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setDaemon(true);
+            thread.setName("<" + THREAD_COMPONENT_NAME + ": merkle hash #" + threadNumber.getAndIncrement() + ">");
+            return thread;
+        };
+
+        this.pool = new ForkJoinPool(
+                cpuThreadCount,
+                threadFactory,
+                (t, ex) -> logger.error(
+                        EXCEPTION.getMarker(), "Uncaught exception in ForkJoinMerkleHashBuilder thread pool", ex),
+                false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Hash digestTreeSync(final MerkleNode root) {
+        if (root == null) {
+            return cryptography.getNullHash(MERKLE_DIGEST_TYPE);
+        }
+        hashNode(root);
+        return root.getHash();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Hash> digestTreeAsync(final MerkleNode root) {
+        if (root == null) {
+            return new StandardFuture<>(cryptography.getNullHash(MERKLE_DIGEST_TYPE));
+        } else if (root.getHash() != null) {
+            return new StandardFuture<>(root.getHash());
+        } else {
+            return pool.submit(() -> {
+                hashNode(root);
+                return root.getHash();
+            });
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getHashedNodeCount() {
+        return hashedNodeCount.sum();
+    }
+
+    /**
+     * Hash a node and any descendants that do not yet have a hash. If called from a thread in the pool then the work
+     * may be shared with other threads in the pool, otherwise all work is done on the calling thread.
+     *
+     * @param node
+     * 		the node to hash, may be null
+     */
+    private void hashNode(final MerkleNode node) {
+        // Self hashing nodes compute their hash when asked. For all other nodes a cached hash means that
+        // the entire subtree is clean and does not need to be visited.
+        if (node == null || node.getHash() != null) {
+            return;
+        }
+
+        if (node.isLeaf()) {
+            digestIfUnhashed(node);
+            return;
+        }
+
+        final MerkleInternal internal = node.asInternal();
+        final SubtreeTask task = new SubtreeTask(internal, 0, internal.getNumberOfChildren());
+        if (ForkJoinTask.getPool() == pool) {
+            task.compute();
+        } else {
+            task.hashRange();
+        }
+        digestIfUnhashed(internal);
+    }
+
+    /**
+     * Hash a node whose children have all been hashed. Another thread may be hashing the same tree, so the node is
+     * locked and the hash is checked again before it is computed.
+     */
+    private void digestIfUnhashed(final MerkleNode node) {
+        synchronized (node) {
+            if (node.getHash() != null) {
+                return;
+            }
+            if (node.isLeaf()) {
+                merkleCryptography.digestSync(node.asLeaf(), MERKLE_DIGEST_TYPE);
+            } else {
+                merkleCryptography.digestSync(node.asInternal(), MERKLE_DIGEST_TYPE);
+            }
+            hashedNodeCount.increment();
+        }
+    }
+
+    /**
+     * Hashes a range of the children of an internal node.
+     */
+    private final class SubtreeTask extends RecursiveAction {
+
+        private final MerkleInternal parent;
+        private final int from;
+        private final int to;
+
+        /**
+         * @param parent
+         * 		the node whose children are hashed
+         * @param from
+         * 		the index of the first child to hash, inclusive
+         * @param to
+         * 		the index of the last child to hash, exclusive
+         */
+        SubtreeTask(final MerkleInternal parent, final int from, final int to) {
+            this.parent = parent;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute() {
+            if (to - from > 1 && getSurplusQueuedTaskCount() <= SURPLUS_TASK_THRESHOLD) {
+                final int middle = (from + to) >>> 1;
+                final SubtreeTask right = new SubtreeTask(parent, middle, to);
+                right.fork();
+                new SubtreeTask(parent, from, middle).compute();
+                right.join();
+            } else {
+                hashRange();
+            }
+        }
+
+        /**
+         * Hash every child in the range on the current thread. Descendants of the children may still be split if
+         * the pool becomes idle.
+         */
+        void hashRange() {
+            for (int index = from; index < to; index++) {
+                hashNode(parent.getChild(index));
+            }
+        }
+    }
+}
@@ -35,13 +35,14 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * This class is responsible for hashing a merkle tree.
  */
-public class MerkleHashBuilder {
+public class MerkleHashBuilder implements MerkleTreeHasher {
     private static final Logger logger = LogManager.getLogger(MerkleHashBuilder.class);
 
     private final Executor threadPool;
@@ -52,6 +53,8 @@ public class MerkleHashBuilder {
 
     private final Cryptography cryptography;
 
+    private final LongAdder hashedNodeCount = new LongAdder();
+
     /**
      * Construct an object which calculates the hash of a merkle tree.
      *
@@ -117,6 +120,7 @@ public class MerkleHashBuilder {
      * 		the root of the tree to hash
      * @return The hash of the tree.
      */
+    @Override
     public Hash digestTreeSync(MerkleNode root) {
         if (root == null) {
             return cryptography.getNullHash(MERKLE_DIGEST_TYPE);
@@ -136,6 +140,7 @@ public class MerkleHashBuilder {
      * 		the root of the tree to hash
      * @return a Future which encapsulates the hash of the merkle tree
      */
+    @Override
     public Future<Hash> digestTreeAsync(MerkleNode root) {
         if (root == null) {
             return new StandardFuture<>(cryptography.getNullHash(MERKLE_DIGEST_TYPE));
@@ -151,6 +156,14 @@ public class MerkleHashBuilder {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getHashedNodeCount() {
+        return hashedNodeCount.sum();
+    }
+
     /**
      * Create a thread that will attempt to hash the tree starting at the root.
      *
@@ -212,6 +225,7 @@ public class MerkleHashBuilder {
                 } else {
                     merkleCryptography.digestSync(node.asInternal(), MERKLE_DIGEST_TYPE);
                 }
+                hashedNodeCount.increment();
             }
         }
     }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.hash;
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleNode;
+import java.util.concurrent.Future;
+
+/**
+ * Computes the hashes of the nodes in a merkle tree. Nodes that already have a hash are assumed to be up to date,
+ * along with everything beneath them.
+ */
+public interface MerkleTreeHasher {
+
+    /**
+     * Compute the hash of the merkle tree synchronously on the caller's thread.
+     *
+     * @param root
+     * 		the root of the tree to hash
+     * @return The hash of the tree.
+     */
+    Hash digestTreeSync(MerkleNode root);
+
+    /**
+     * Compute the hash of the merkle tree on multiple worker threads.
+     *
+     * @param root
+     * 		the root of the tree to hash
+     * @return a Future which encapsulates the hash of the merkle tree
+     */
+    Future<Hash> digestTreeAsync(MerkleNode root);
+
+    /**
+     * Get the total number of nodes hashed by this object since it was created. Nodes that already had a hash, and
+     * the subtrees beneath them, are not counted.
+     *
+     * @return the number of nodes hashed
+     */
+    long getHashedNodeCount();
+}
@@ -16,6 +16,7 @@
 
 package com.swirlds.common.merkle.synchronization;
 
+import static com.swirlds.common.utility.Units.NANOSECONDS_TO_MILLISECONDS;
 import static com.swirlds.logging.LogMarker.RECONNECT;
 
 import com.swirlds.common.io.streams.MerkleDataInputStream;
@@ -141,6 +142,7 @@ public class TeachingSynchronizer {
                 "sending tree rooted at {} with route {}",
                 root == null ? null : root.getClass().getName(),
                 root == null ? "[]" : root.getRoute());
+        final long start = System.currentTimeMillis();
 
         // A future improvement might be to reuse threads between subtrees.
         final StandardWorkGroup workGroup = new StandardWorkGroup(threadManager, WORK_GROUP_NAME, breakConnection);
@@ -162,7 +164,16 @@ public class TeachingSynchronizer {
             throw new MerkleSynchronizationException("Synchronization failed with exceptions");
         }
 
-        logger.info(RECONNECT.getMarker(), "finished sending tree");
+        final long responseTimeNanos = view.getLearnerResponseTimeNanos();
+        if (responseTimeNanos > 0) {
+            logger.info(
+                    RECONNECT.getMarker(),
+                    "finished sending tree in {} ms, learner response time was approximately {} ms",
+                    System.currentTimeMillis() - start,
+                    responseTimeNanos * NANOSECONDS_TO_MILLISECONDS);
+        } else {
+            logger.info(RECONNECT.getMarker(), "finished sending tree in {} ms", System.currentTimeMillis() - start);
+        }
     }
 
     /**
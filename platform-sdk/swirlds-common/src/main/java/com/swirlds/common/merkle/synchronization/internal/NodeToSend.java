@@ -16,11 +16,10 @@
 
 package com.swirlds.common.merkle.synchronization.internal;
 
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
 
 import com.swirlds.common.merkle.MerkleNode;
-import com.swirlds.common.merkle.synchronization.settings.ReconnectSettingsFactory;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
@@ -49,10 +48,16 @@ public class NodeToSend {
     private volatile boolean responseStatus;
 
     /**
-     * If it comes time to send this node, but a response has not yet been heard from the learner, make sure that this
-     * amount of time has passed (since the query was sent) before sending the node.
+     * Used for {@link #queryTimeNanos} until the query for this node has been written to the learner.
      */
-    private final long unconditionalSendTimeMilliseconds;
+    private static final long QUERY_NOT_SENT = Long.MIN_VALUE;
+
+    /**
+     * The time when the query for this node was written to the learner, from {@link System#nanoTime()}. If it comes
+     * time to send this node, but a response has not yet been heard from the learner, the teacher waits until a period
+     * of time has passed since the query was sent before sending the node.
+     */
+    private volatile long queryTimeNanos = QUERY_NOT_SENT;
 
     /**
      * Wrappers around the children of this node. This list is only populated once the children have had a lesson
@@ -75,9 +80,6 @@ public class NodeToSend {
         } else {
             children = null;
         }
-
-        unconditionalSendTimeMilliseconds =
-                System.currentTimeMillis() + ReconnectSettingsFactory.get().getMaxAckDelayMilliseconds();
     }
 
     /**
@@ -98,6 +100,20 @@ public class NodeToSend {
         child.responseStatus = responseStatus;
     }
 
+    /**
+     * Record that the queries for the children of this node have just been written to the learner. Queries are
+     * written when the lesson for this node is serialized, which may be some time after the children were registered.
+     */
+    public synchronized void registerChildQueriesSent() {
+        if (children == null) {
+            return;
+        }
+        final long now = System.nanoTime();
+        for (final NodeToSend child : children) {
+            child.queryTimeNanos = now;
+        }
+    }
+
     private synchronized void addChildrenToQueue(final Queue<NodeToSend> queue) {
         queue.addAll(children);
     }
@@ -118,7 +134,20 @@ public class NodeToSend {
         if (learnerHasNode) {
             cancelTransmission();
         }
-        responseReceived = true;
+        synchronized (this) {
+            responseReceived = true;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Get the time elapsed since the query for this node was sent.
+     *
+     * @return the elapsed time in nanoseconds, or 0 if the query has not yet been sent
+     */
+    public long getTimeSinceQuery() {
+        final long sent = queryTimeNanos;
+        return sent == QUERY_NOT_SENT ? 0 : System.nanoTime() - sent;
     }
 
     /**
@@ -132,27 +161,37 @@ public class NodeToSend {
 
     /**
      * Wait for a resonse from the learner. Will return immediately if a response has already been received or
-     * if an ancestor has received a positive response. May sleep a short period if neither are true.
+     * if an ancestor has received a positive response. If neither are true, waits until one of them becomes true or
+     * until the given amount of time has passed since the query was sent, whichever happens first.
      * There is no guarantee that a response will have been received when this method returns.
+     *
+     * @param ackDelayNanos
+     * 		the maximum amount of time to wait, measured from when the query was sent, or from now if the query is
+     * 		still waiting to be written
      */
-    public void waitForResponse() {
-        if (responseReceived || responseStatus) {
-            return;
-        }
-
-        final long currentTime = System.currentTimeMillis();
-        if (currentTime > unconditionalSendTimeMilliseconds) {
-            return;
-        }
-
-        final long sleepTime = unconditionalSendTimeMilliseconds - currentTime;
+    public synchronized void waitForResponse(final long ackDelayNanos) {
+        final long sent = queryTimeNanos;
+        final long unconditionalSendTimeNanos = (sent == QUERY_NOT_SENT ? System.nanoTime() : sent) + ackDelayNanos;
         try {
-            MILLISECONDS.sleep(sleepTime);
+            while (!responseReceived && !responseStatus) {
+                final long remainingNanos = unconditionalSendTimeNanos - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return;
+                }
+                NANOSECONDS.timedWait(this, remainingNanos);
+            }
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
         }
     }
 
+    /**
+     * Wake up any thread waiting for a response for this node.
+     */
+    private synchronized void wakeWaitingThreads() {
+        notifyAll();
+    }
+
     /**
      * Cancel the transmission of this node and all of its descendants.
      */
@@ -166,6 +205,7 @@ public class NodeToSend {
                 continue;
             }
             next.responseStatus = true;
+            next.wakeWaitingThreads();
             if (node != null && next.node != null && !next.node.isLeaf()) {
                 next.addChildrenToQueue(queue);
             }
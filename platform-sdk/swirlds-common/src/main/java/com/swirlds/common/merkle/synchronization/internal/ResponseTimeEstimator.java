@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization.internal;
+
+import static com.swirlds.common.utility.Units.MILLISECONDS_TO_NANOSECONDS;
+
+/**
+ * <p>
+ * Estimates how long the teacher should wait for the learner to respond to a query before sending a node that the
+ * learner may already have. The estimate is derived from the measured time between sending a query and receiving the
+ * response, smoothed in the same way that TCP smooths its round trip time.
+ * </p>
+ *
+ * <p>
+ * Waiting for a response is only worthwhile if the response is likely to arrive within the maximum permitted delay.
+ * If the measured response time is longer than that, waiting only stalls the teacher, so no wait is suggested and
+ * nodes are sent without waiting for their responses.
+ * </p>
+ *
+ * <p>
+ * Response times may be recorded by a single thread while the delay is read by any thread.
+ * </p>
+ */
+public class ResponseTimeEstimator {
+
+    /**
+     * The weight given to each new sample when updating the smoothed response time.
+     */
+    private static final double RESPONSE_TIME_GAIN = 1.0 / 8;
+
+    /**
+     * The weight given to each new sample when updating the smoothed response time variation.
+     */
+    private static final double VARIATION_GAIN = 1.0 / 4;
+
+    /**
+     * The number of multiples of the response time variation added to the smoothed response time when computing the
+     * delay, so that most responses arrive within the delay.
+     */
+    private static final int VARIATION_MULTIPLIER = 4;
+
+    private final long maxAckDelayNanos;
+
+    private double smoothedResponseTime;
+    private double responseTimeVariation;
+    private long sampleCount;
+
+    private volatile long ackDelayNanos;
+    private volatile long smoothedResponseTimeNanos;
+
+    /**
+     * Create a new estimator.
+     *
+     * @param maxAckDelayMilliseconds
+     * 		the maximum amount of time to wait for a response, this is also the delay used until the first response has
+     * 		been measured
+     */
+    public ResponseTimeEstimator(final int maxAckDelayMilliseconds) {
+        this.maxAckDelayNanos = (long) maxAckDelayMilliseconds * MILLISECONDS_TO_NANOSECONDS;
+        this.ackDelayNanos = maxAckDelayNanos;
+    }
+
+    /**
+     * Record the time between sending a query and receiving its response.
+     *
+     * @param responseTimeNanos
+     * 		the measured response time, in nanoseconds
+     */
+    public void recordResponseTime(final long responseTimeNanos) {
+        final double sample = Math.max(0, responseTimeNanos);
+        if (sampleCount == 0) {
+            smoothedResponseTime = sample;
+            responseTimeVariation = sample / 2;
+        } else {
+            responseTimeVariation += VARIATION_GAIN * (Math.abs(smoothedResponseTime - sample) - responseTimeVariation);
+            smoothedResponseTime += RESPONSE_TIME_GAIN * (sample - smoothedResponseTime);
+        }
+        sampleCount++;
+        smoothedResponseTimeNanos = (long) smoothedResponseTime;
+
+        final long expectedDelay = (long) (smoothedResponseTime + VARIATION_MULTIPLIER * responseTimeVariation);
+        ackDelayNanos = expectedDelay <= maxAckDelayNanos ? expectedDelay : 0;
+    }
+
+    /**
+     * Get the amount of time, measured from when a query is sent, to wait for its response before sending the node
+     * anyway.
+     *
+     * @return the delay in nanoseconds
+     */
+    public long getAckDelayNanos() {
+        return ackDelayNanos;
+    }
+
+    /**
+     * Get the smoothed response time.
+     *
+     * @return the smoothed response time in nanoseconds, or 0 if no responses have been recorded
+     */
+    public long getSmoothedResponseTimeNanos() {
+        return smoothedResponseTimeNanos;
+    }
+}
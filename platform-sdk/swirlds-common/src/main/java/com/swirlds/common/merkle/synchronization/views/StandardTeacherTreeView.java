@@ -22,6 +22,8 @@ import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.synchronization.internal.NodeToSend;
+import com.swirlds.common.merkle.synchronization.internal.ResponseTimeEstimator;
+import com.swirlds.common.merkle.synchronization.settings.ReconnectSettingsFactory;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -41,6 +43,11 @@ public class StandardTeacherTreeView implements TeacherTreeView<NodeToSend> {
 
     private final NodeToSend root;
 
+    /**
+     * Decides how long to wait for the learner's response to a query before sending a node anyway.
+     */
+    private final ResponseTimeEstimator responseTimeEstimator;
+
     /**
      * Create a view for a standard merkle tree.
      *
@@ -52,6 +59,15 @@ public class StandardTeacherTreeView implements TeacherTreeView<NodeToSend> {
 
         nodesToHandle = new LinkedList<>();
         expectedResponses = new LinkedBlockingDeque<>();
+        responseTimeEstimator = new ResponseTimeEstimator(ReconnectSettingsFactory.get().getMaxAckDelayMilliseconds());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLearnerResponseTimeNanos() {
+        return responseTimeEstimator.getSmoothedResponseTimeNanos();
     }
 
     /**
@@ -122,6 +138,7 @@ public class StandardTeacherTreeView implements TeacherTreeView<NodeToSend> {
      */
     @Override
     public void registerResponseForNode(final NodeToSend node, final boolean learnerHasNode) {
+        responseTimeEstimator.recordResponseTime(node.getTimeSinceQuery());
         node.registerResponse(learnerHasNode);
     }
 
@@ -130,7 +147,7 @@ public class StandardTeacherTreeView implements TeacherTreeView<NodeToSend> {
      */
     @Override
     public boolean hasLearnerConfirmedFor(final NodeToSend node) {
-        node.waitForResponse();
+        node.waitForResponse(responseTimeEstimator.getAckDelayNanos());
         return node.getResponseStatus();
     }
 
@@ -206,6 +223,9 @@ public class StandardTeacherTreeView implements TeacherTreeView<NodeToSend> {
 
         final MerkleInternal internal = node.asInternal();
 
+        // The hashes are the queries for the children, and are requested as the lesson is written to the learner
+        parent.registerChildQueriesSent();
+
         final int childCount = internal.getNumberOfChildren();
         final List<Hash> hashes = new ArrayList<>(childCount);
 
@@ -87,6 +87,16 @@ public interface TeacherTreeView<T>
      */
     boolean isCustomReconnectRoot(T node);
 
+    /**
+     * Get the smoothed time the learner has taken to respond to queries about nodes in this view, measured from when
+     * each query was written. Used only for logging.
+     *
+     * @return the learner's response time in nanoseconds, or 0 if this view does not measure it
+     */
+    default long getLearnerResponseTimeNanos() {
+        return 0;
+    }
+
     /**
      * It is possible to create a teacher view that is not immediately ready for use, and later becomes ready for use
      * after miscellaneous background operations complete. This method blocks until that background work is completed,
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics;
+
+import static com.swirlds.common.metrics.Metric.ValueType.VALUE;
+import static com.swirlds.common.utility.CommonUtils.throwArgNull;
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * A {@code HistogramMetric} records the distribution of a non-negative value, typically a latency. Unlike a
+ * {@link RunningAverageMetric}, it can report percentiles (e.g. p99 or p999), which reveal the outliers an average
+ * hides.
+ * <p>
+ * Values are counted in buckets with a relative width of about 3%. The metric is cumulative, i.e. all values recorded
+ * since the metric was created or last {@link #reset() reset} are part of its {@link HistogramSnapshot}.
+ */
+public interface HistogramMetric extends Metric {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default MetricType getMetricType() {
+        return MetricType.HISTOGRAM;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default DataType getDataType() {
+        return DataType.INT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default EnumSet<ValueType> getValueTypes() {
+        return EnumSet.of(VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default HistogramSnapshot get(final ValueType valueType) {
+        throwArgNull(valueType, "valueType");
+        if (valueType == VALUE) {
+            return getSnapshot();
+        }
+        throw new IllegalArgumentException("Unsupported ValueType: " + valueType);
+    }
+
+    /**
+     * Returns the upper bounds of the buckets, that are reported to monitoring systems which cannot handle the full
+     * resolution of the histogram.
+     * The number of values at or below each of these boundaries is counted exactly.
+     *
+     * @return the bucket boundaries in ascending order
+     */
+    long[] getBucketBoundaries();
+
+    /**
+     * Returns an immutable copy of the values recorded so far.
+     *
+     * @return the current {@link HistogramSnapshot}
+     */
+    HistogramSnapshot getSnapshot();
+
+    /**
+     * Record a value.
+     *
+     * @param value
+     * 		the value that should be recorded
+     * @throws IllegalArgumentException
+     * 		if {@code value < 0}
+     */
+    void update(final long value);
+
+    /**
+     * Configuration of a {@link HistogramMetric}
+     */
+    final class Config extends MetricConfig<HistogramMetric, HistogramMetric.Config> {
+
+        private static final long[] DEFAULT_BUCKET_BOUNDARIES = createDefaultBucketBoundaries();
+
+        private final long[] bucketBoundaries;
+
+        /**
+         * Constructor of {@code HistogramMetric.Config}
+         *
+         * The {@code bucketBoundaries} are by default set to the powers of 4 from {@code 1} to {@code 4^20}.
+         *
+         * @param category
+         * 		the kind of metric (metrics are grouped or filtered by this)
+         * @param name
+         * 		a short name for the metric
+         * @throws IllegalArgumentException
+         * 		if one of the parameters is {@code null} or consists only of whitespaces
+         */
+        public Config(final String category, final String name) {
+            super(category, name, "%d");
+            this.bucketBoundaries = DEFAULT_BUCKET_BOUNDARIES;
+        }
+
+        private Config(
+                final String category,
+                final String name,
+                final String description,
+                final String unit,
+                final long[] bucketBoundaries) {
+
+            super(category, name, description, unit, "%d");
+            this.bucketBoundaries = bucketBoundaries;
+        }
+
+        private static long[] createDefaultBucketBoundaries() {
+            final long[] boundaries = new long[21];
+            for (int i = 0; i < boundaries.length; i++) {
+                boundaries[i] = 1L << (2 * i);
+            }
+            return boundaries;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public HistogramMetric.Config withDescription(final String description) {
+            return new HistogramMetric.Config(getCategory(), getName(), description, getUnit(), bucketBoundaries);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public HistogramMetric.Config withUnit(final String unit) {
+            return new HistogramMetric.Config(getCategory(), getName(), getDescription(), unit, bucketBoundaries);
+        }
+
+        /**
+         * Getter of the {@code bucketBoundaries}.
+         *
+         * @return a copy of the {@code bucketBoundaries}
+         */
+        public long[] getBucketBoundaries() {
+            return bucketBoundaries.clone();
+        }
+
+        /**
+         * Fluent-style setter of the {@code bucketBoundaries}. These are the upper bounds of the buckets that are
+         * reported to monitoring systems which cannot handle the full resolution of the histogram. They do not
+         * affect the precision of the percentiles.
+         *
+         * @param bucketBoundaries
+         * 		the {@code bucketBoundaries}
+         * @return a new configuration-object with updated {@code bucketBoundaries}
+         * @throws IllegalArgumentException
+         * 		if {@code bucketBoundaries} is {@code null}, contains negative values, or is not strictly ascending
+         */
+        public HistogramMetric.Config withBucketBoundaries(final long... bucketBoundaries) {
+            throwArgNull(bucketBoundaries, "bucketBoundaries");
+            for (int i = 0; i < bucketBoundaries.length; i++) {
+                if (bucketBoundaries[i] < 0 || (i > 0 && bucketBoundaries[i] <= bucketBoundaries[i - 1])) {
+                    throw new IllegalArgumentException(
+                            "bucketBoundaries must be non-negative and strictly ascending: "
+                                    + Arrays.toString(bucketBoundaries));
+                }
+            }
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), bucketBoundaries.clone());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Class<HistogramMetric> getResultClass() {
+            return HistogramMetric.class;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        HistogramMetric create(final MetricsFactory factory) {
+            return factory.createHistogramMetric(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                    .appendSuper(super.toString())
+                    .append("bucketBoundaries", Arrays.toString(bucketBoundaries))
+                    .toString();
+        }
+    }
+}
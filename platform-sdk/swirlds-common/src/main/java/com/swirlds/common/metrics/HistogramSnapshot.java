@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics;
+
+import static com.swirlds.common.utility.CommonUtils.throwArgNull;
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+import java.util.Arrays;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * An immutable copy of the values recorded by a {@link HistogramMetric}.
+ * <p>
+ * Values are kept in buckets, each of which covers a range of values. Percentiles are therefore only accurate to the
+ * resolution of the buckets, while the count, sum, minimum, and maximum are exact.
+ */
+public final class HistogramSnapshot {
+
+    private static final HistogramSnapshot EMPTY = new HistogramSnapshot(0, 0, 0, new long[0], new long[0]);
+
+    private final long count;
+    private final long sum;
+    private final long min;
+    private final long max;
+    private final long[] upperBounds;
+    private final long[] counts;
+
+    /**
+     * Constructor of {@code HistogramSnapshot}
+     *
+     * @param sum
+     * 		the sum of all recorded values
+     * @param min
+     * 		the smallest recorded value, ignored if no value was recorded
+     * @param max
+     * 		the largest recorded value, ignored if no value was recorded
+     * @param upperBounds
+     * 		the largest value that falls into each bucket, in ascending order
+     * @param counts
+     * 		the number of values recorded in each bucket
+     * @throws IllegalArgumentException
+     * 		if one of the arrays is {@code null} or if they differ in length
+     */
+    public HistogramSnapshot(
+            final long sum, final long min, final long max, final long[] upperBounds, final long[] counts) {
+        throwArgNull(upperBounds, "upperBounds");
+        throwArgNull(counts, "counts");
+        if (upperBounds.length != counts.length) {
+            throw new IllegalArgumentException("upperBounds and counts must have the same length");
+        }
+        this.upperBounds = upperBounds.clone();
+        this.counts = counts.clone();
+        this.count = Arrays.stream(counts).sum();
+        this.sum = sum;
+        this.min = count == 0 ? 0 : min;
+        this.max = count == 0 ? 0 : max;
+    }
+
+    /**
+     * Returns a {@code HistogramSnapshot} without any values.
+     *
+     * @return the empty snapshot
+     */
+    public static HistogramSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of all recorded values.
+     *
+     * @return the sum of the values
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the smallest recorded value.
+     *
+     * @return the minimum or {@code 0}, if no value was recorded
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the maximum or {@code 0}, if no value was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the arithmetic mean of all recorded values.
+     *
+     * @return the mean or {@code 0.0}, if no value was recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the value below which the given percentage of the recorded values fall. The result is the largest
+     * value of the bucket that contains the percentile, but never larger than {@link #getMax()}.
+     *
+     * @param percentile
+     * 		the percentile, e.g. {@code 99.9}
+     * @return the value at the percentile or {@code 0}, if no value was recorded
+     * @throws IllegalArgumentException
+     * 		if {@code percentile} is not between {@code 0.0} and {@code 100.0}
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("percentile must be between 0.0 and 100.0, but was " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, upperBounds[i]));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the number of recorded values that are less than or equal to the given value. A bucket is only
+     * counted, if all of its values are less than or equal to the given value.
+     *
+     * @param value
+     * 		the upper bound
+     * @return the number of values that fall into buckets at or below the upper bound
+     */
+    public long getCountAtOrBelow(final long value) {
+        long result = 0;
+        for (int i = 0; i < counts.length && upperBounds[i] <= value; i++) {
+            result += counts[i];
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .append("count", count)
+                .append("sum", sum)
+                .append("min", min)
+                .append("max", max)
+                .toString();
+    }
+}
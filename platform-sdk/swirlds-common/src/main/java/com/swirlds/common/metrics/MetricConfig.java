@@ -41,6 +41,7 @@ public abstract sealed class MetricConfig<T extends Metric, C extends MetricConf
                 DoubleGauge.Config,
                 DurationGauge.Config,
                 FunctionGauge.Config,
+                HistogramMetric.Config,
                 IntegerAccumulator.Config,
                 IntegerGauge.Config,
                 IntegerPairAccumulator.Config,
@@ -42,6 +42,11 @@ import java.time.Duration;
  *         The frequency, in milliseconds, at which values are written to the statistics CSV file.
  * @param metricsDocFileName
  *         the file name to be used for Metrics document generation
+ * @param stripedDistributionMetrics
+ *         If {@code true}, speedometers and running averages collect updates without locking, in per-thread cells
+ *         that are merged whenever the metric is read or a snapshot is taken. Use this if these metrics are updated
+ *         by many threads at once. The minimum and maximum of a running average are then only sampled when pending
+ *         updates are merged.
  */
 @ConfigData
 public record MetricsConfig(
@@ -51,7 +56,8 @@ public record MetricsConfig(
         @ConfigProperty(defaultValue = "") String csvFileName,
         @ConfigProperty(defaultValue = "false") boolean csvAppend,
         @Min(0) @ConfigProperty(defaultValue = "3000") int csvWriteFrequency,
-        @ConfigProperty(defaultValue = "metricsDoc.tsv") String metricsDocFileName) {
+        @ConfigProperty(defaultValue = "metricsDoc.tsv") String metricsDocFileName,
+        @ConfigProperty(defaultValue = "false") boolean stripedDistributionMetrics) {
 
     /**
      * Returns the metrics update interval time as a {@link Duration}.
@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform;
+
+import static com.swirlds.common.metrics.Metric.ValueType.VALUE;
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.HistogramSnapshot;
+import com.swirlds.common.metrics.platform.Snapshot.SnapshotEntry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Platform-implementation of {@link HistogramMetric}
+ * <p>
+ * The buckets follow the layout of an HDR histogram: values below {@code 2^SUB_BUCKET_BITS} have a bucket each,
+ * every larger power of two is split into {@code 2^SUB_BUCKET_BITS} buckets of equal width. This bounds the relative
+ * error of a percentile by {@code 2^-SUB_BUCKET_BITS} over the whole range of {@code long}, with a fixed number of
+ * buckets. In addition, every HDR bucket that contains one of the configured bucket boundaries is split in two, so
+ * that each boundary is the upper bound of a bucket and the number of values at or below a boundary is exact.
+ * Recording a value is lock-free and does not allocate.
+ */
+public class DefaultHistogramMetric extends DefaultMetric implements HistogramMetric {
+
+    /**
+     * The number of significant bits that are kept when assigning a value to a bucket.
+     */
+    static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of buckets that are required to cover all non-negative {@code long} values.
+     */
+    static final int BUCKET_COUNT = bucketIndex(Long.MAX_VALUE) + 1;
+
+    private final long[] bucketBoundaries;
+    private final AtomicLongArray counts;
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    public DefaultHistogramMetric(final HistogramMetric.Config config) {
+        super(config);
+        this.bucketBoundaries = config.getBucketBoundaries();
+        this.counts = new AtomicLongArray(BUCKET_COUNT + bucketBoundaries.length);
+    }
+
+    /**
+     * Returns the index of the bucket a value falls into.
+     *
+     * @param value
+     * 		the non-negative value
+     * @return the index of the bucket
+     */
+    static int bucketIndex(final long value) {
+        final int shift = Math.max(0, (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the largest value that falls into a bucket.
+     *
+     * @param index
+     * 		the index of the bucket
+     * @return the largest value of the bucket
+     */
+    static long bucketUpperBound(final int index) {
+        final int shift = Math.max(0, (index >>> SUB_BUCKET_BITS) - 1);
+        final long lowerBound = (long) (index - (shift << SUB_BUCKET_BITS)) << shift;
+        return lowerBound + ((1L << shift) - 1);
+    }
+
+    /**
+     * Returns the index of the counter a value is recorded in. The HDR bucket index is shifted by the number of
+     * configured boundaries below the value. Both grow with the value, so the values of an HDR bucket that lie on
+     * different sides of a boundary are counted separately.
+     *
+     * @param value
+     * 		the non-negative value
+     * @return the index of the counter
+     */
+    private int counterIndex(final long value) {
+        final int position = Arrays.binarySearch(bucketBoundaries, value);
+        final int boundariesBelow = position >= 0 ? position : -position - 1;
+        return bucketIndex(value) + boundariesBelow;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<SnapshotEntry> takeSnapshot() {
+        return List.of(new SnapshotEntry(VALUE, getSnapshot()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] getBucketBoundaries() {
+        return bucketBoundaries.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramSnapshot getSnapshot() {
+        final long[] upperBounds = new long[counts.length()];
+        final long[] bucketCounts = new long[counts.length()];
+        int used = 0;
+        // walk the HDR buckets and the boundaries together, in the same order as counterIndex() assigns them
+        int bucket = 0;
+        int boundary = 0;
+        while (bucket < BUCKET_COUNT) {
+            final long bucketUpperBound = bucketUpperBound(bucket);
+            final boolean boundaryInBucket =
+                    boundary < bucketBoundaries.length && bucketBoundaries[boundary] <= bucketUpperBound;
+            final long upperBound = boundaryInBucket ? bucketBoundaries[boundary] : bucketUpperBound;
+            final long count = counts.get(bucket + boundary);
+            if (count != 0) {
+                upperBounds[used] = upperBound;
+                bucketCounts[used] = count;
+                used++;
+            }
+            if (upperBound == bucketUpperBound) {
+                bucket++;
+            }
+            if (boundaryInBucket) {
+                boundary++;
+            }
+        }
+        return new HistogramSnapshot(
+                sum.sum(),
+                min.get(),
+                max.get(),
+                Arrays.copyOf(upperBounds, used),
+                Arrays.copyOf(bucketCounts, used));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("A HistogramMetric can only record non-negative values: " + value);
+        }
+        // the bucket is updated last, so a snapshot that counts the value also sees it in min and max
+        min.accumulate(value);
+        max.accumulate(value);
+        sum.add(value);
+        counts.incrementAndGet(counterIndex(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Values that are recorded while the metric is reset may be partially lost.
+     */
+    @Override
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        sum.reset();
+        min.reset();
+        max.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .appendSuper(super.toString())
+                .append("value", getSnapshot())
+                .toString();
+    }
+}
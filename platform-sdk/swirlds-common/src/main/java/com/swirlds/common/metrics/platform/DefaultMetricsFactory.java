@@ -21,6 +21,7 @@ import com.swirlds.common.metrics.DoubleAccumulator;
 import com.swirlds.common.metrics.DoubleGauge;
 import com.swirlds.common.metrics.DurationGauge;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.IntegerAccumulator;
 import com.swirlds.common.metrics.IntegerGauge;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
@@ -37,6 +38,26 @@ import com.swirlds.common.metrics.StatEntry;
  */
 public class DefaultMetricsFactory implements MetricsFactory {
 
+    private final boolean stripedDistributionMetrics;
+
+    /**
+     * Constructor of {@code DefaultMetricsFactory} that creates the default implementations of all metrics.
+     */
+    public DefaultMetricsFactory() {
+        this(false);
+    }
+
+    /**
+     * Constructor of {@code DefaultMetricsFactory}.
+     *
+     * @param stripedDistributionMetrics
+     * 		if {@code true}, speedometers and running averages are created as {@link StripedSpeedometerMetric} and
+     * 		{@link StripedRunningAverageMetric}
+     */
+    public DefaultMetricsFactory(final boolean stripedDistributionMetrics) {
+        this.stripedDistributionMetrics = stripedDistributionMetrics;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -74,6 +95,14 @@ public class DefaultMetricsFactory implements MetricsFactory {
         return new DefaultFunctionGauge<>(config);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramMetric createHistogramMetric(final HistogramMetric.Config config) {
+        return new DefaultHistogramMetric(config);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -119,6 +148,9 @@ public class DefaultMetricsFactory implements MetricsFactory {
      */
     @Override
     public RunningAverageMetric createRunningAverageMetric(final RunningAverageMetric.Config config) {
+        if (stripedDistributionMetrics) {
+            return new StripedRunningAverageMetric(config);
+        }
         return new DefaultRunningAverageMetric(config);
     }
 
@@ -127,6 +159,9 @@ public class DefaultMetricsFactory implements MetricsFactory {
      */
     @Override
     public SpeedometerMetric createSpeedometerMetric(final SpeedometerMetric.Config config) {
+        if (stripedDistributionMetrics) {
+            return new StripedSpeedometerMetric(config);
+        }
         return new DefaultSpeedometerMetric(config);
     }
 
@@ -49,7 +49,7 @@ public class DefaultMetricsProvider implements MetricsProvider, Lifecycle {
 
     private static final Logger logger = LogManager.getLogger(DefaultMetricsProvider.class);
 
-    private final MetricsFactory factory = new DefaultMetricsFactory();
+    private final MetricsFactory factory;
     private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
             getStaticThreadManager().createThreadFactory("platform-core", "MetricsThread"));
 
@@ -69,6 +69,7 @@ public class DefaultMetricsProvider implements MetricsProvider, Lifecycle {
         CommonUtils.throwArgNull(configuration, "configuration");
 
         metricsConfig = configuration.getConfigData(MetricsConfig.class);
+        factory = new DefaultMetricsFactory(metricsConfig.stripedDistributionMetrics());
         final PrometheusConfig prometheusConfig = configuration.getConfigData(PrometheusConfig.class);
 
         globalMetrics = new DefaultMetrics(null, metricKeyRegistry, executor, factory, metricsConfig);
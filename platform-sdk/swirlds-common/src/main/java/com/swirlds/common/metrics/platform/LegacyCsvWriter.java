@@ -27,6 +27,8 @@ import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
 
 import com.swirlds.common.internal.SettingsCommon;
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.HistogramSnapshot;
 import com.swirlds.common.metrics.Metric;
 import com.swirlds.common.metrics.Metric.ValueType;
 import com.swirlds.common.metrics.Metrics;
@@ -48,6 +50,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
@@ -74,12 +77,20 @@ import org.apache.logging.log4j.Logger;
  *     <dt>verboseStatistics</dt>
  *     <dd>If {@code true}, also secondary values (e.g. minimum and maximum) are written to the CSV-file</dd>
  * </dl>
+ * <p>
+ * A {@link HistogramMetric} is always summarized by its median, the 99th and 99.9th percentile, and its maximum.
  */
 public class LegacyCsvWriter {
 
     private static final Logger logger = LogManager.getLogger(LegacyCsvWriter.class);
     // category contains this substring should not be expanded even Settings.verboseStatistics is true
     private static final String EXCLUDE_CATEGORY = "info";
+    // name-suffixes and values of the columns that are written for a histogram
+    private static final List<Pair<String, ToLongFunction<HistogramSnapshot>>> HISTOGRAM_COLUMNS = List.of(
+            Pair.of("P50", snapshot -> snapshot.getValueAtPercentile(50.0)),
+            Pair.of("P99", snapshot -> snapshot.getValueAtPercentile(99.0)),
+            Pair.of("P999", snapshot -> snapshot.getValueAtPercentile(99.9)),
+            Pair.of("Max", HistogramSnapshot::getMax));
 
     private final NodeId selfId;
     // path and filename of the .csv file to write to
@@ -147,7 +158,11 @@ public class LegacyCsvWriter {
         int index = 0;
         for (final Metric metric : filteredMetrics) {
             indexLookup.put(Pair.of(metric.getCategory(), metric.getName()), index++);
-            cellCount.add(showAllEntries(metric) ? metric.getValueTypes().size() : 1);
+            if (metric instanceof HistogramMetric) {
+                cellCount.add(HISTOGRAM_COLUMNS.size());
+            } else {
+                cellCount.add(showAllEntries(metric) ? metric.getValueTypes().size() : 1);
+            }
         }
 
         try {
@@ -195,8 +210,14 @@ public class LegacyCsvWriter {
         final List<String> categories = new ArrayList<>();
         final List<String> names = new ArrayList<>();
         for (final Metric metric : metrics) {
-            // Check, if we also want to write secondary values (e.g. minimum and maximum)
-            if (showAllEntries(metric)) {
+            if (metric instanceof HistogramMetric) {
+                // Histograms are summarized by a fixed set of columns
+                for (final Pair<String, ToLongFunction<HistogramSnapshot>> column : HISTOGRAM_COLUMNS) {
+                    categories.add(metric.getCategory());
+                    names.add(metric.getName() + column.getLeft());
+                }
+            } else if (showAllEntries(metric)) {
+                // Secondary values (e.g. minimum and maximum) are written as well
                 // Add category and name for all supported value-types
                 addAllSupportedTypes(categories, names, metric);
             } else {
@@ -273,7 +294,13 @@ public class LegacyCsvWriter {
     }
 
     private void addSnapshotData(final ContentBuilder builder, final Snapshot snapshot) {
-        if (showAllEntries(snapshot.metric())) {
+        if (snapshot.metric() instanceof HistogramMetric) {
+            // add the summary of the histogram
+            final HistogramSnapshot histogram = (HistogramSnapshot) snapshot.getValue();
+            for (final Pair<String, ToLongFunction<HistogramSnapshot>> column : HISTOGRAM_COLUMNS) {
+                builder.addCell(format(snapshot.metric(), column.getRight().applyAsLong(histogram)));
+            }
+        } else if (showAllEntries(snapshot.metric())) {
             // add all supported value-types
             snapshot.entries().forEach(entry -> builder.addCell(format(snapshot.metric(), entry.value())));
         } else {
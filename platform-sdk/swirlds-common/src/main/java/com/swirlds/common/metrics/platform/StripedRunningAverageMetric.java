@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform;
+
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.statistics.StatsBuffered;
+import com.swirlds.common.statistics.StatsRunningAverage;
+import com.swirlds.common.time.OSTime;
+import com.swirlds.common.time.Time;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Platform-implementation of {@link RunningAverageMetric} for metrics that are updated by many threads at once.
+ * <p>
+ * Values are added to one of several stripes, chosen by the updating thread, so that threads updating at the same
+ * time rarely contend for the same lock. Each stripe keeps the sum and the count of its values together, so a merge
+ * always sees both or neither of them for every value. The pending values are merged into the running average
+ * whenever it is read, which happens at least once per snapshot taken by the {@link SnapshotService}. All values
+ * merged together are weighted as if they had been recorded at the time of the merge. The minimum and maximum of the
+ * running average are only sampled once per merge, so they can be narrower than those of a
+ * {@link DefaultRunningAverageMetric} that sees the same values.
+ */
+public class StripedRunningAverageMetric extends AbstractDistributionMetric implements RunningAverageMetric {
+
+    /**
+     * The number of stripes, always a power of two.
+     */
+    private static final int STRIPE_COUNT =
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+
+    @SuppressWarnings("removal")
+    private final StatsRunningAverage runningAverage;
+
+    /**
+     * The values that have not yet been merged into the running average.
+     */
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    public StripedRunningAverageMetric(final RunningAverageMetric.Config config) {
+        this(config, OSTime.getInstance());
+    }
+
+    /**
+     * This constructor should only be used for testing.
+     */
+    @SuppressWarnings("removal")
+    public StripedRunningAverageMetric(final RunningAverageMetric.Config config, final Time time) {
+        super(config, config.getHalfLife());
+        this.runningAverage = new StatsRunningAverage(halfLife, time);
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Merge the pending values into the running average.
+     */
+    @SuppressWarnings("removal")
+    private synchronized void merge() {
+        double sum = 0;
+        long count = 0;
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                sum += stripe.sum;
+                count += stripe.count;
+                stripe.sum = 0;
+                stripe.count = 0;
+            }
+        }
+        if (count > 0) {
+            runningAverage.recordValues(sum, count);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("removal")
+    @Override
+    public StatsBuffered getStatsBuffered() {
+        merge();
+        return runningAverage;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        final Stripe stripe = stripes[(int) Thread.currentThread().getId() & (STRIPE_COUNT - 1)];
+        synchronized (stripe) {
+            stripe.sum += value;
+            stripe.count++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("removal")
+    @Override
+    public double get() {
+        merge();
+        return runningAverage.getWeightedMean();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .appendSuper(super.toString())
+                .append("halfLife", halfLife)
+                .append("value", get())
+                .toString();
+    }
+
+    /**
+     * The sum and count of the values added to one stripe since the last merge. Both fields are guarded by the stripe.
+     */
+    private static final class Stripe {
+        private double sum;
+        private long count;
+    }
+}
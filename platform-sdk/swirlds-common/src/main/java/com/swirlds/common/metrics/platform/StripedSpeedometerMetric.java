@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform;
+
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.statistics.StatsBuffered;
+import com.swirlds.common.statistics.StatsSpeedometer;
+import com.swirlds.common.time.OSTime;
+import com.swirlds.common.time.Time;
+import java.util.concurrent.atomic.DoubleAdder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Platform-implementation of {@link SpeedometerMetric} for metrics that are updated by many threads at once.
+ * <p>
+ * Updates are added to a {@link DoubleAdder}, which spreads contended updates over per-thread cells instead of
+ * synchronizing on a single speedometer. The pending cycles are merged into the speedometer whenever the value is
+ * read, which happens at least once per snapshot taken by the {@link SnapshotService}. The merged cycles are treated
+ * as if they had happened at a constant rate since the previous merge, so a constant rate is measured exactly no matter
+ * how often the metric is read. The min, max and standard deviation describe the values seen at each merge.
+ */
+public class StripedSpeedometerMetric extends AbstractDistributionMetric implements SpeedometerMetric {
+
+    private static final double LN_2 = Math.log(2);
+
+    private final Time time;
+
+    @SuppressWarnings("removal")
+    private final StatsSpeedometer speedometer;
+
+    /**
+     * The time at which the speedometer was started or last reset. Guarded by this.
+     */
+    private long startTime;
+
+    /**
+     * The time at which pending cycles were last merged. Guarded by this.
+     */
+    private long lastMergeTime;
+
+    /**
+     * Cycles that have not yet been merged into the speedometer.
+     */
+    private final DoubleAdder pendingCycles = new DoubleAdder();
+
+    public StripedSpeedometerMetric(final SpeedometerMetric.Config config) {
+        this(config, OSTime.getInstance());
+    }
+
+    /**
+     * This constructor should only be used for testing.
+     */
+    @SuppressWarnings("removal")
+    public StripedSpeedometerMetric(final SpeedometerMetric.Config config, final Time time) {
+        super(config, config.getHalfLife());
+        this.time = time;
+        this.speedometer = new StatsSpeedometer(halfLife, time);
+        this.startTime = time.nanoTime();
+        this.lastMergeTime = startTime;
+    }
+
+    /**
+     * Merge the pending cycles into the speedometer.
+     * <p>
+     * Once past its startup period, the speedometer weights cycles as if they all happened at the time of the update.
+     * Passing it the cycles of a whole interval at once would overestimate the rate right after each merge, so the
+     * cycles are scaled to the weight they would have had if they had been spread evenly over the interval.
+     */
+    @SuppressWarnings("removal")
+    private synchronized void merge() {
+        final long now = time.nanoTime();
+        final double cycles = pendingCycles.sumThenReset();
+        if (cycles != 0) {
+            final double effectiveHalfLife = Math.max(0.01, halfLife);
+            final double sinceStart = (now - startTime) / 1.0e9;
+            final double interval = (now - lastMergeTime) / 1.0e9;
+            double weightedCycles = cycles;
+            if (interval >= 1e-9 && 1.0 / sinceStart <= LN_2 / effectiveHalfLife) {
+                weightedCycles = cycles
+                        * (1 - Math.pow(0.5, interval / effectiveHalfLife))
+                        * effectiveHalfLife
+                        / (interval * LN_2);
+            }
+            speedometer.update(weightedCycles);
+        }
+        lastMergeTime = now;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("removal")
+    @Override
+    public StatsBuffered getStatsBuffered() {
+        merge();
+        return speedometer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void reset() {
+        pendingCycles.reset();
+        super.reset();
+        startTime = time.nanoTime();
+        lastMergeTime = startTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double value) {
+        pendingCycles.add(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cycle() {
+        update(1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("removal")
+    @Override
+    public double get() {
+        merge();
+        return speedometer.getCyclesPerSecond();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .appendSuper(super.toString())
+                .append("halfLife", halfLife)
+                .append("value", get())
+                .toString();
+    }
+}
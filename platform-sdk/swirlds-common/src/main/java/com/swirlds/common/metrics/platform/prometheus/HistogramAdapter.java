@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform.prometheus;
+
+import static com.swirlds.common.metrics.platform.prometheus.NameConverter.fix;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.GLOBAL;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.PLATFORM;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.NODE_LABEL;
+import static com.swirlds.common.utility.CommonUtils.throwArgNull;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.HistogramSnapshot;
+import com.swirlds.common.metrics.platform.Snapshot;
+import com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType;
+import com.swirlds.common.system.NodeId;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adapter that synchronizes a {@link HistogramMetric} with the corresponding Prometheus {@link Collector}.
+ * <p>
+ * The values are reported as a Prometheus histogram with the cumulative buckets defined by
+ * {@link HistogramMetric#getBucketBoundaries()}, i.e. percentiles can be calculated on the server with
+ * {@code histogram_quantile()}.
+ */
+public class HistogramAdapter extends AbstractMetricAdapter {
+
+    private static final String LE_LABEL = "le";
+
+    private final HistogramCollector collector;
+
+    /**
+     * Constructor of {@code HistogramAdapter}.
+     *
+     * @param registry
+     * 		The {@link CollectorRegistry} with which the Prometheus {@link Collector} should be registered
+     * @param metric
+     * 		The {@link HistogramMetric} which value should be reported to Prometheus
+     * @param adapterType
+     * 		Scope of the {@link HistogramMetric}, either {@link AdapterType#GLOBAL} or {@link AdapterType#PLATFORM}
+     * @throws IllegalArgumentException if one of the parameters is {@code null}
+     */
+    public HistogramAdapter(
+            final CollectorRegistry registry, final HistogramMetric metric, final AdapterType adapterType) {
+        super(adapterType);
+        throwArgNull(registry, "registry");
+        throwArgNull(metric, "metric");
+        this.collector = new HistogramCollector(metric, adapterType).register(registry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final Snapshot snapshot, final NodeId nodeId) {
+        throwArgNull(snapshot, "snapshot");
+        final HistogramSnapshot value = (HistogramSnapshot) snapshot.getValue();
+        if (adapterType == GLOBAL) {
+            collector.values.put(List.of(), value);
+        } else {
+            throwArgNull(nodeId, "nodeId");
+            collector.values.put(List.of(Long.toString(nodeId.getId())), value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unregister(final CollectorRegistry registry) {
+        registry.unregister(collector);
+    }
+
+    /**
+     * A Prometheus {@link Collector} that reports the latest {@link HistogramSnapshot} of each label combination.
+     * The Prometheus client library offers no histogram that can be set from precomputed bucket counts.
+     */
+    private static final class HistogramCollector extends Collector implements Collector.Describable {
+
+        private final String fullName;
+        private final String unit;
+        private final String help;
+        private final long[] bucketBoundaries;
+        private final List<String> labelNames;
+        private final List<String> bucketLabelNames;
+        private final Map<List<String>, HistogramSnapshot> values = new ConcurrentHashMap<>();
+
+        private HistogramCollector(final HistogramMetric metric, final AdapterType adapterType) {
+            final String name = fix(metric.getCategory()) + '_' + fix(metric.getName());
+            this.unit = metric.getUnit();
+            this.fullName = unit.isEmpty() || name.endsWith("_" + unit) ? name : name + "_" + unit;
+            checkMetricName(fullName);
+            this.help = metric.getDescription();
+            this.bucketBoundaries = metric.getBucketBoundaries();
+            this.labelNames = adapterType == PLATFORM ? List.of(NODE_LABEL) : List.of();
+            final List<String> names = new ArrayList<>(labelNames);
+            names.add(LE_LABEL);
+            this.bucketLabelNames = List.copyOf(names);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<MetricFamilySamples> collect() {
+            final List<MetricFamilySamples.Sample> samples = new ArrayList<>();
+            for (final Map.Entry<List<String>, HistogramSnapshot> entry : values.entrySet()) {
+                addSamples(samples, entry.getKey(), entry.getValue());
+            }
+            return List.of(new MetricFamilySamples(fullName, unit, Type.HISTOGRAM, help, samples));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<MetricFamilySamples> describe() {
+            return List.of(new MetricFamilySamples(fullName, unit, Type.HISTOGRAM, help, List.of()));
+        }
+
+        private void addSamples(
+                final List<MetricFamilySamples.Sample> samples,
+                final List<String> labelValues,
+                final HistogramSnapshot snapshot) {
+            for (final long boundary : bucketBoundaries) {
+                final String le = doubleToGoString(boundary);
+                samples.add(bucketSample(labelValues, le, snapshot.getCountAtOrBelow(boundary)));
+            }
+            final long count = snapshot.getCount();
+            samples.add(bucketSample(labelValues, "+Inf", count));
+            samples.add(new MetricFamilySamples.Sample(fullName + "_count", labelNames, labelValues, count));
+            samples.add(new MetricFamilySamples.Sample(fullName + "_sum", labelNames, labelValues, snapshot.getSum()));
+        }
+
+        private MetricFamilySamples.Sample bucketSample(
+                final List<String> labelValues, final String le, final long count) {
+            final List<String> bucketLabelValues = new ArrayList<>(labelValues);
+            bucketLabelValues.add(le);
+            return new MetricFamilySamples.Sample(fullName + "_bucket", bucketLabelNames, bucketLabelValues, count);
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.sequence.map;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>
+ * A lock free implementation of {@link SequenceMap} that keeps the entries for each sequence number in a ring buffer.
+ * The slot for a sequence number is found by indexing directly with its distance from the first sequence number in the
+ * window, so no per sequence number collections need to be looked up or maintained.
+ * </p>
+ *
+ * <p>
+ * Entries with the same sequence number are kept in an intrusive doubly linked list. This allows a key to be removed
+ * in constant time, and allows all keys with a sequence number to be visited without hashing. Shifting the window
+ * only visits the slots that leave the window and only if the map is not empty; the slots are recycled by moving the
+ * head of the ring buffer rather than by relabelling them.
+ * </p>
+ *
+ * <p>
+ * Like {@link StandardSequenceMap}, this class is not thread safe.
+ * </p>
+ *
+ * @param <K>
+ * 		the type of the key
+ * @param <V>
+ * 		the type of the value
+ */
+public class RingBufferSequenceMap<K, V> implements SequenceMap<K, V> {
+
+    /**
+     * An entry in the map, linked to the other entries with the same sequence number.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private V value;
+        private long sequenceNumber;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        private Node(final K key, final V value, final long sequenceNumber) {
+            this.key = key;
+            this.value = value;
+            this.sequenceNumber = sequenceNumber;
+        }
+    }
+
+    /**
+     * The entries in the map.
+     */
+    private final Map<K, Node<K, V>> data = new HashMap<>();
+
+    /**
+     * The first entry for each sequence number in the window, or null if there are no entries for a sequence number.
+     */
+    private final Node<K, V>[] slots;
+
+    private final int sequenceNumberCapacity;
+
+    /**
+     * A method that gets the sequence number associated with a given key.
+     */
+    private final ToLongFunction<K> getSequenceNumberFromKey;
+
+    /**
+     * When this object is cleared, the lowest allowed sequence number is reset to this value.
+     */
+    private final long initialFirstSequenceNumber;
+
+    private long firstSequenceNumberInWindow;
+
+    /**
+     * The index of the slot that holds the first sequence number in the window.
+     */
+    private int head;
+
+    /**
+     * Construct a {@link SequenceMap}.
+     *
+     * @param firstSequenceNumberInWindow
+     * 		the lowest allowed sequence number
+     * @param sequenceNumberCapacity
+     * 		the number of sequence numbers permitted to exist in this data structure. E.g. if
+     * 		the lowest allowed sequence number is 100 and the capacity is 10, then values with
+     * 		a sequence number between 100 and 109 (inclusive) will be allowed, and any value
+     * 		with a sequence number outside that range will be rejected.
+     * @param getSequenceNumberFromKey
+     * 		a method that extracts the sequence number from a key
+     */
+    @SuppressWarnings("unchecked")
+    public RingBufferSequenceMap(
+            final long firstSequenceNumberInWindow,
+            final int sequenceNumberCapacity,
+            final ToLongFunction<K> getSequenceNumberFromKey) {
+
+        if (sequenceNumberCapacity <= 0) {
+            throw new IllegalArgumentException("sequence number capacity must be positive");
+        }
+
+        this.sequenceNumberCapacity = sequenceNumberCapacity;
+        this.slots = (Node<K, V>[]) new Node[sequenceNumberCapacity];
+        this.getSequenceNumberFromKey = getSequenceNumberFromKey;
+        this.initialFirstSequenceNumber = firstSequenceNumberInWindow;
+        this.firstSequenceNumberInWindow = firstSequenceNumberInWindow;
+    }
+
+    /**
+     * Get the index of the slot for a sequence number.
+     *
+     * @param sequenceNumber
+     * 		the sequence number in question
+     * @return the index of the slot, or -1 if the sequence number is outside the window
+     */
+    private int getSlotIndex(final long sequenceNumber) {
+        final long offset = sequenceNumber - firstSequenceNumberInWindow;
+        if (offset < 0 || offset >= sequenceNumberCapacity) {
+            return -1;
+        }
+        final int index = head + (int) offset;
+        return index >= sequenceNumberCapacity ? index - sequenceNumberCapacity : index;
+    }
+
+    /**
+     * Add a node to the front of the list of a slot.
+     */
+    private void link(final int slotIndex, final Node<K, V> node) {
+        final Node<K, V> first = slots[slotIndex];
+        node.previous = null;
+        node.next = first;
+        if (first != null) {
+            first.previous = node;
+        }
+        slots[slotIndex] = node;
+    }
+
+    /**
+     * Remove a node from the list of the slot for its sequence number.
+     */
+    private void unlink(final Node<K, V> node) {
+        if (node.previous == null) {
+            slots[getSlotIndex(node.sequenceNumber)] = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if (node.next != null) {
+            node.next.previous = node.previous;
+        }
+        node.previous = null;
+        node.next = null;
+    }
+
+    /**
+     * Remove all entries in a slot from the map.
+     *
+     * @param slotIndex
+     * 		the slot to empty
+     * @param removedValueHandler
+     * 		passed each key/value pair that is removed, ignored if null
+     */
+    private void drainSlot(final int slotIndex, final BiConsumer<K, V> removedValueHandler) {
+        Node<K, V> node = slots[slotIndex];
+        slots[slotIndex] = null;
+        while (node != null) {
+            final Node<K, V> next = node.next;
+            data.remove(node.key);
+            node.previous = null;
+            node.next = null;
+            if (removedValueHandler != null) {
+                removedValueHandler.accept(node.key, node.value);
+            }
+            node = next;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(final K key) {
+        final Node<K, V> node = data.get(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(final K key) {
+        return data.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+        final Node<K, V> node = data.get(key);
+        if (node != null) {
+            return node.value;
+        }
+
+        final V value = mappingFunction.apply(key);
+        return putIfAbsent(key, value) ? value : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(final K key, final V value) {
+        final long sequenceNumber = getSequenceNumberFromKey.applyAsLong(key);
+        final int slotIndex = getSlotIndex(sequenceNumber);
+        if (slotIndex < 0) {
+            // the key is outside the allowed window
+            return false;
+        }
+        if (data.containsKey(key)) {
+            // don't re-insert if the value is already present
+            return false;
+        }
+
+        final Node<K, V> node = new Node<>(key, value, sequenceNumber);
+        data.put(key, node);
+        link(slotIndex, node);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(final K key, final V value) {
+        final long sequenceNumber = getSequenceNumberFromKey.applyAsLong(key);
+        final int slotIndex = getSlotIndex(sequenceNumber);
+        if (slotIndex < 0) {
+            // the key is outside the allowed window
+            return null;
+        }
+
+        final Node<K, V> existing = data.get(key);
+        if (existing == null) {
+            final Node<K, V> node = new Node<>(key, value, sequenceNumber);
+            data.put(key, node);
+            link(slotIndex, node);
+            return null;
+        }
+
+        final V previousValue = existing.value;
+        existing.value = value;
+        if (existing.sequenceNumber != sequenceNumber) {
+            unlink(existing);
+            existing.sequenceNumber = sequenceNumber;
+            link(slotIndex, existing);
+        }
+        return previousValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(final K key) {
+        final Node<K, V> node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        unlink(node);
+        return node.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeValuesWithSequenceNumber(final long sequenceNumber, final BiConsumer<K, V> removedValueHandler) {
+        final int slotIndex = getSlotIndex(sequenceNumber);
+        if (slotIndex >= 0) {
+            drainSlot(slotIndex, removedValueHandler);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<K> getKeysWithSequenceNumber(final long sequenceNumber) {
+        final List<K> list = new ArrayList<>();
+        final int slotIndex = getSlotIndex(sequenceNumber);
+        if (slotIndex >= 0) {
+            for (Node<K, V> node = slots[slotIndex]; node != null; node = node.next) {
+                list.add(node.key);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Map.Entry<K, V>> getEntriesWithSequenceNumber(final long sequenceNumber) {
+        final List<Map.Entry<K, V>> list = new ArrayList<>();
+        final int slotIndex = getSlotIndex(sequenceNumber);
+        if (slotIndex >= 0) {
+            for (Node<K, V> node = slots[slotIndex]; node != null; node = node.next) {
+                list.add(new AbstractMap.SimpleEntry<>(node.key, node.value));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shiftWindow(final long firstSequenceNumberInWindow, final BiConsumer<K, V> removedValueHandler) {
+        final long previousFirstSequenceNumber = this.firstSequenceNumberInWindow;
+        if (firstSequenceNumberInWindow < previousFirstSequenceNumber) {
+            throw new IllegalStateException(
+                    "Window can only be shifted towards larger value. " + "Current lowest sequence number = "
+                            + previousFirstSequenceNumber + ", requested lowest sequence number = "
+                            + firstSequenceNumberInWindow);
+        }
+
+        final long shiftSize = firstSequenceNumberInWindow - previousFirstSequenceNumber;
+        if (!data.isEmpty()) {
+            final int slotsToDrain = (int) Math.min(shiftSize, sequenceNumberCapacity);
+            for (int offset = 0; offset < slotsToDrain; offset++) {
+                final int index = head + offset;
+                final int slotIndex = index >= sequenceNumberCapacity ? index - sequenceNumberCapacity : index;
+                drainSlot(slotIndex, removedValueHandler);
+            }
+        }
+
+        head = (int) ((head + shiftSize % sequenceNumberCapacity) % sequenceNumberCapacity);
+        this.firstSequenceNumberInWindow = firstSequenceNumberInWindow;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSize() {
+        return data.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getFirstSequenceNumberInWindow() {
+        return firstSequenceNumberInWindow;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSequenceNumberCapacity() {
+        return sequenceNumberCapacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        data.clear();
+        Arrays.fill(slots, null);
+        head = 0;
+        firstSequenceNumberInWindow = initialFirstSequenceNumber;
+    }
+}
@@ -182,6 +182,41 @@ public class StatsRunningAverage implements StatsBuffered {
         }
     }
 
+    /**
+     * Incorporate a number of values that were all recorded at about the same time into the running average. The
+     * resulting mean is the same as if {@link #recordValue(double)} had been called once for each of the values.
+     * <p>
+     * The history, however, only records the mean after the whole batch has been incorporated. The intermediate means
+     * that individual calls would have recorded are never observed, so the minimum and maximum of the history can be
+     * narrower than they would have been had the values been recorded one at a time.
+     *
+     * @param sum
+     * 		the sum of the values
+     * @param count
+     * 		the number of values, nothing is recorded if this is not positive
+     */
+    public void recordValues(final double sum, final long count) {
+        if (count <= 0 || Double.isNaN(sum)) {
+            return;
+        }
+        try {
+            final double average = sum / count;
+            if (firstRecord || average == mean) {
+                // if the same value is always given since the beginning, then avoid roundoff errors
+                firstRecord = false;
+                values.update(sum);
+                times.update(count);
+                mean = average;
+            } else {
+                mean = values.update(sum) / times.update(count);
+            }
+            allHistory.recordValue(mean);
+            recentHistory.recordValue(mean);
+        } catch (Exception e) {
+            logger.error(LogMarker.EXCEPTION.getMarker(), "Exception while updating statistics!", e);
+        }
+    }
+
     /**
      * Get the average of recent calls to recordValue(). This is an exponentially-weighted average of recent
      * calls, with the weighting by time, not by number of calls to recordValue().
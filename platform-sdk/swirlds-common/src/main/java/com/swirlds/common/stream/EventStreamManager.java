@@ -19,11 +19,13 @@ package com.swirlds.common.stream;
 import static com.swirlds.common.utility.Units.SECONDS_TO_MILLISECONDS;
 import static com.swirlds.logging.LogMarker.EVENT_STREAM;
 
+import com.swirlds.common.config.singleton.ConfigurationHolder;
 import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.crypto.ImmutableHash;
 import com.swirlds.common.crypto.RunningHashable;
 import com.swirlds.common.crypto.SerializableHashable;
+import com.swirlds.common.stream.config.StreamConfig;
 import com.swirlds.common.stream.internal.TimestampStreamFileWriter;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.common.threading.manager.ThreadManager;
@@ -109,6 +111,8 @@ public class EventStreamManager<T extends StreamAligned & Timestamped & RunningH
             final Predicate<T> isLastEventInFreezeCheck)
             throws NoSuchAlgorithmException, IOException {
 
+        final StreamConfig streamConfig = ConfigurationHolder.getConfigData(StreamConfig.class);
+
         if (enableEventStreaming) {
             // the directory to which event stream files are written
             final String eventStreamDir = eventsLogDir + "/events_" + nodeName;
@@ -122,7 +126,9 @@ public class EventStreamManager<T extends StreamAligned & Timestamped & RunningH
                      * startWriteAtCompleteWindow should be set to be true; when event streaming is started after
                      * restart, it should be set to be false */
                     false,
-                    EventStreamType.getInstance());
+                    EventStreamType.getInstance(),
+                    threadManager,
+                    streamConfig.asyncFileWrites() ? streamConfig.fileWriteBufferSize() : 0);
 
             writeQueueThread = new QueueThreadObjectStreamConfiguration<T>(threadManager)
                     .setNodeId(selfId.getId())
@@ -135,7 +141,8 @@ public class EventStreamManager<T extends StreamAligned & Timestamped & RunningH
 
         // receives consensus events from hashCalculator, calculates and set runningHash for this event
         final RunningHashCalculatorForStream<T> runningHashCalculator = new RunningHashCalculatorForStream<>();
-        hashCalculator = new HashCalculatorForStream<>(runningHashCalculator);
+        hashCalculator =
+                HashCalculatorForStream.create(threadManager, "event-stream", runningHashCalculator, streamConfig);
         hashQueueThread = new QueueThreadObjectStreamConfiguration<T>(threadManager)
                 .setNodeId(selfId.getId())
                 .setComponent("event-stream")
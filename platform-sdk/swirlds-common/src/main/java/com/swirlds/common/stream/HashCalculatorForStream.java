@@ -22,8 +22,10 @@ import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.CryptographyHolder;
 import com.swirlds.common.crypto.RunningHashable;
 import com.swirlds.common.crypto.SerializableHashable;
+import com.swirlds.common.stream.config.StreamConfig;
 import com.swirlds.common.stream.internal.AbstractLinkedObjectStream;
 import com.swirlds.common.stream.internal.LinkedObjectStream;
+import com.swirlds.common.threading.manager.ThreadManager;
 import java.util.Objects;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -61,6 +63,39 @@ public class HashCalculatorForStream<T extends RunningHashable & SerializableHas
         this.cryptography = Objects.requireNonNull(cryptography);
     }
 
+    /**
+     * Create the hash calculator described by the stream settings: a {@link ParallelHashCalculatorForStream} if more
+     * than one hashing thread is configured, otherwise a calculator that hashes on the calling thread.
+     *
+     * @param threadManager
+     * 		responsible for creating hashing threads
+     * @param component
+     * 		the component name used for hashing threads
+     * @param nextStream
+     * 		receives the hashed objects in order
+     * @param streamConfig
+     * 		the stream settings
+     * @param <T>
+     * 		type of the objects
+     * @return a new hash calculator
+     */
+    public static <T extends RunningHashable & SerializableHashable> HashCalculatorForStream<T> create(
+            final ThreadManager threadManager,
+            final String component,
+            final LinkedObjectStream<T> nextStream,
+            final StreamConfig streamConfig) {
+        if (streamConfig.hashThreads() > 1) {
+            return new ParallelHashCalculatorForStream<>(
+                    threadManager,
+                    component,
+                    nextStream,
+                    CryptographyHolder.get(),
+                    streamConfig.hashThreads(),
+                    streamConfig.hashWindow());
+        }
+        return new HashCalculatorForStream<>(nextStream);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.stream;
+
+import static com.swirlds.logging.LogMarker.EXCEPTION;
+import static com.swirlds.logging.LogMarker.OBJECT_STREAM;
+
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.crypto.RunningHashable;
+import com.swirlds.common.crypto.SerializableHashable;
+import com.swirlds.common.stream.internal.LinkedObjectStream;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.common.threading.manager.ThreadManager;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * A {@link HashCalculatorForStream} that computes the hashes of objects on a pool of threads. The hash of one object
+ * does not depend on any other object, so objects are hashed concurrently. The next stream, which is normally a
+ * {@link RunningHashCalculatorForStream}, must still see the objects in the order they were added, so hashed objects
+ * wait in a reorder buffer until every earlier object has been hashed as well.
+ * </p>
+ *
+ * <p>
+ * Whichever thread completes the object at the head of the buffer passes it, and any objects behind it that are
+ * already hashed, to the next stream. Only one thread does this at a time, so the next stream is never called
+ * concurrently. {@link #addObject(RunningHashable)} blocks when the buffer is full.
+ * </p>
+ *
+ * @param <T>
+ * 		type of the objects
+ */
+public class ParallelHashCalculatorForStream<T extends RunningHashable & SerializableHashable>
+        extends HashCalculatorForStream<T> {
+
+    private static final Logger logger = LogManager.getLogger(ParallelHashCalculatorForStream.class);
+
+    private final Cryptography cryptography;
+    private final ExecutorService executor;
+
+    /**
+     * Objects waiting to be passed to the next stream, indexed by sequence number modulo the capacity. A slot is
+     * filled once its object has been hashed.
+     */
+    private final AtomicReferenceArray<T> buffer;
+
+    private final int capacity;
+
+    /**
+     * One permit for each object that may be added before the oldest object has been passed on.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Set while a thread is passing objects to the next stream.
+     */
+    private final AtomicBoolean forwarding = new AtomicBoolean();
+
+    /**
+     * The slot of the next object to be added. Only used by the thread calling {@link #addObject(RunningHashable)}.
+     */
+    private int addSlot;
+
+    /**
+     * The slot of the next object to be passed to the next stream. Only modified while {@link #forwarding} is set.
+     */
+    private volatile int forwardSlot;
+
+    /**
+     * Create a new hash calculator.
+     *
+     * @param threadManager
+     * 		responsible for creating the hashing threads
+     * @param component
+     * 		the component name used for the hashing threads
+     * @param nextStream
+     * 		receives the hashed objects in order
+     * @param cryptography
+     * 		used for hashing
+     * @param threadCount
+     * 		the number of hashing threads
+     * @param capacity
+     * 		the maximum number of objects that have been added but not yet passed to the next stream
+     */
+    public ParallelHashCalculatorForStream(
+            final ThreadManager threadManager,
+            final String component,
+            final LinkedObjectStream<T> nextStream,
+            final Cryptography cryptography,
+            final int threadCount,
+            final int capacity) {
+        super(nextStream, cryptography);
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("thread count must be positive");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.cryptography = cryptography;
+        this.capacity = capacity;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.permits = new Semaphore(capacity);
+        this.executor = Executors.newFixedThreadPool(
+                threadCount,
+                new ThreadConfiguration(threadManager)
+                        .setDaemon(true)
+                        .setComponent(component)
+                        .setThreadName("stream-hasher")
+                        .buildFactory());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addObject(final T t) {
+        Objects.requireNonNull(t);
+        // permits are returned by the hashing threads, so waiting can not deadlock
+        permits.acquireUninterruptibly();
+
+        final int slot = addSlot;
+        addSlot = (addSlot + 1) % capacity;
+
+        if (t.getHash() != null) {
+            hashed(slot, t);
+        } else {
+            executor.execute(() -> {
+                try {
+                    cryptography.digestSync(t);
+                } catch (final RuntimeException e) {
+                    logger.error(EXCEPTION.getMarker(), "unable to hash stream object", e);
+                } finally {
+                    hashed(slot, t);
+                }
+            });
+        }
+    }
+
+    /**
+     * Place a hashed object in its slot, then pass on every object that is ready.
+     */
+    private void hashed(final int slot, final T t) {
+        buffer.set(slot, t);
+        forwardReadyObjects();
+    }
+
+    /**
+     * Pass the objects at the head of the buffer to the next stream until reaching one that is not yet hashed. If
+     * another thread is already doing so, that thread will pick up any object made ready by this thread.
+     */
+    private void forwardReadyObjects() {
+        while (forwarding.compareAndSet(false, true)) {
+            try {
+                T next;
+                while ((next = buffer.get(forwardSlot)) != null) {
+                    buffer.set(forwardSlot, null);
+                    forwardSlot = (forwardSlot + 1) % capacity;
+                    forward(next);
+                    permits.release();
+                }
+            } finally {
+                forwarding.set(false);
+            }
+            // An object may have become ready after this thread looked but before it cleared the flag
+            if (buffer.get(forwardSlot) == null) {
+                return;
+            }
+        }
+    }
+
+    private void forward(final T t) {
+        try {
+            super.addObject(t);
+        } catch (final RuntimeException e) {
+            logger.error(EXCEPTION.getMarker(), "unable to pass stream object to the next stream", e);
+        }
+    }
+
+    /**
+     * Wait until every object that has been added has been passed to the next stream.
+     */
+    private void awaitForwarded() {
+        permits.acquireUninterruptibly(capacity);
+        permits.release(capacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setRunningHash(final Hash hash) {
+        awaitForwarded();
+        super.setRunningHash(hash);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        awaitForwarded();
+        super.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        awaitForwarded();
+        executor.shutdown();
+        super.close();
+        logger.info(OBJECT_STREAM.getMarker(), "ParallelHashCalculatorForStream is closed");
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.stream.config;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+
+/**
+ * Settings for the event and record streams.
+ *
+ * @param hashThreads
+ * 		the number of threads that compute the hashes of stream objects. If greater than one, objects are hashed
+ * 		concurrently and only the running hash is computed in order; if one, each object is hashed on the stream's
+ * 		hash queue thread.
+ * @param hashWindow
+ * 		the maximum number of stream objects that may be hashed, or waiting for earlier objects to be hashed, at any
+ * 		time. Only used when {@code hashThreads} is greater than one.
+ * @param asyncFileWrites
+ * 		if true, event stream files are written with asynchronous I/O, and each file is closed and signed on a
+ * 		background thread while the next file is being written. If false, files are written, closed and signed on
+ * 		the stream's write queue thread.
+ * @param fileWriteBufferSize
+ * 		the size in bytes of each buffer used to write stream files asynchronously. Only used when
+ * 		{@code asyncFileWrites} is true.
+ */
+@ConfigData("stream")
+public record StreamConfig(
+        @ConfigProperty(defaultValue = "1") int hashThreads,
+        @ConfigProperty(defaultValue = "1024") int hashWindow,
+        @ConfigProperty(defaultValue = "false") boolean asyncFileWrites,
+        @ConfigProperty(defaultValue = "1048576") int fileWriteBufferSize) {}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.stream.internal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * An output stream that copies bytes into large write buffers borrowed from a pool, and writes each buffer to a file
+ * with asynchronous channel I/O once it is full. The thread writing to this stream only waits for the disk if every
+ * buffer in the pool is still being written.
+ * </p>
+ *
+ * <p>
+ * {@link #flush()} does not write anything to the file. Bytes reach the file when a buffer fills up, or when the
+ * stream is closed. Closing waits for every write to finish and then forces the file to the storage device, so it may
+ * be called from a different thread than the one that wrote the bytes.
+ * </p>
+ */
+final class AsyncStreamFileOutputStream extends OutputStream {
+
+    private final AsynchronousFileChannel channel;
+    private final BlockingQueue<ByteBuffer> bufferPool;
+
+    /**
+     * Tracks the writes that have not yet completed. The stream itself is registered as a party until it is closed.
+     */
+    private final Phaser pendingWrites = new Phaser(1);
+
+    /**
+     * The first error reported by a write, if any.
+     */
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * The buffer currently being filled, or null if a buffer has not yet been borrowed.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The position in the file of the first byte in the current buffer.
+     */
+    private long position;
+
+    private boolean closed;
+
+    /**
+     * Create a new file, replacing any file at the same path, and open a stream that writes to it.
+     *
+     * @param path
+     * 		the file to write
+     * @param bufferPool
+     * 		the write buffers shared with other streams, buffers are returned to the pool once they are written
+     * @throws IOException
+     * 		if the file can not be opened
+     */
+    AsyncStreamFileOutputStream(final Path path, final BlockingQueue<ByteBuffer> bufferPool) throws IOException {
+        this.bufferPool = Objects.requireNonNull(bufferPool);
+        this.channel = AsynchronousFileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final int b) throws IOException {
+        ensureSpace();
+        buffer.put((byte) b);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int written = 0;
+        while (written < length) {
+            ensureSpace();
+            final int count = Math.min(buffer.remaining(), length - written);
+            buffer.put(bytes, offset + written, count);
+            written += count;
+        }
+    }
+
+    /**
+     * Does not write anything to the file, only reports an earlier failure.
+     */
+    @Override
+    public void flush() throws IOException {
+        throwIfFailed();
+    }
+
+    /**
+     * Write any buffered bytes, wait for every write to finish, and force the file to the storage device.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (buffer != null) {
+                if (buffer.position() > 0) {
+                    submitBuffer();
+                } else {
+                    bufferPool.add(buffer);
+                }
+                buffer = null;
+            }
+            pendingWrites.awaitAdvance(pendingWrites.arriveAndDeregister());
+            throwIfFailed();
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Make sure that the current buffer has room for at least one byte.
+     */
+    private void ensureSpace() throws IOException {
+        if (closed) {
+            throw new IOException("stream is closed");
+        }
+        throwIfFailed();
+        if (buffer != null && buffer.hasRemaining()) {
+            return;
+        }
+        if (buffer != null) {
+            submitBuffer();
+        }
+        try {
+            buffer = bufferPool.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for a write buffer");
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Start writing the current buffer to the file. Ownership of the buffer passes to the write.
+     */
+    private void submitBuffer() {
+        final ByteBuffer toWrite = buffer;
+        buffer = null;
+        toWrite.flip();
+        final long writePosition = position;
+        position += toWrite.remaining();
+
+        pendingWrites.register();
+        final CompletionHandler<Integer, ByteBuffer> handler = new CompletionHandler<>() {
+            private long nextPosition = writePosition;
+
+            @Override
+            public void completed(final Integer count, final ByteBuffer written) {
+                nextPosition += count;
+                if (written.hasRemaining()) {
+                    // partial writes are possible, keep going until the whole buffer is written
+                    writeAt(written, nextPosition, this);
+                } else {
+                    done(written);
+                }
+            }
+
+            @Override
+            public void failed(final Throwable e, final ByteBuffer written) {
+                failure.compareAndSet(null, e);
+                done(written);
+            }
+        };
+        writeAt(toWrite, writePosition, handler);
+    }
+
+    private void writeAt(
+            final ByteBuffer toWrite,
+            final long writePosition,
+            final CompletionHandler<Integer, ByteBuffer> handler) {
+        try {
+            channel.write(toWrite, writePosition, toWrite, handler);
+        } catch (final RuntimeException e) {
+            handler.failed(e, toWrite);
+        }
+    }
+
+    /**
+     * Return a buffer to the pool once its write has finished.
+     */
+    private void done(final ByteBuffer written) {
+        written.clear();
+        bufferPool.add(written);
+        pendingWrites.arriveAndDeregister();
+    }
+
+    private void throwIfFailed() throws IOException {
+        final Throwable e = failure.get();
+        if (e != null) {
+            throw new IOException("unable to write stream file", e);
+        }
+    }
+}
@@ -39,15 +39,24 @@ import com.swirlds.common.stream.Signer;
 import com.swirlds.common.stream.StreamAligned;
 import com.swirlds.common.stream.StreamType;
 import com.swirlds.common.stream.Timestamped;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.common.threading.manager.ThreadManager;
 import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -63,6 +72,14 @@ import org.apache.logging.log4j.Logger;
  * fed the same sequence of objects, then both instances will produce the exact same files.
  * </p>
  *
+ * <p>
+ * By default, files are written, closed and signed on the thread that adds objects. If a write buffer size is
+ * provided then files are instead written asynchronously: objects are serialized into large reusable direct buffers
+ * that are written with asynchronous channel I/O, and each completed file is flushed to disk and signed on a
+ * background thread while objects are already being added to the next file. The files produced are identical in
+ * both modes.
+ * </p>
+ *
  * @param <T>
  * 		the type of the object being streamed
  */
@@ -80,6 +97,11 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
 
     private static final Logger logger = LogManager.getLogger(TimestampStreamFileWriter.class);
     private static final SignatureType SIGNATURE_TYPE = RSA;
+    /**
+     * The number of write buffers used when writing asynchronously. Two buffers let objects be serialized into one
+     * buffer while the other is written, the rest let the next file start while the previous file is being finished.
+     */
+    private static final int WRITE_BUFFER_COUNT = 4;
     /**
      * Describes the type of object being streamed. (e.g. record stream / event stream).
      */
@@ -106,9 +128,25 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
      */
     private final MessageDigest metadataStreamDigest;
     /**
-     * The file stream for the current file.
+     * Write buffers shared by all files, or null if files are written on the calling thread.
+     */
+    private final BlockingQueue<ByteBuffer> writeBuffers;
+    /**
+     * Finishes and signs files that have been closed, or null if files are written on the calling thread.
+     */
+    private final ExecutorService fileFinisher;
+    /**
+     * Completes when the most recently closed file has been finished and signed, if files are written asynchronously.
+     */
+    private Future<?> lastFileFinished;
+    /**
+     * The file stream for the current file, if files are written on the calling thread.
      */
     private FileOutputStream fileStream = null;
+    /**
+     * The file stream for the current file, if files are written asynchronously.
+     */
+    private AsyncStreamFileOutputStream asyncFileStream = null;
     /**
      * Data destined for the output file should be written to this stream.
      */
@@ -162,6 +200,41 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
             final Signer signer,
             final boolean startWriteAtCompleteWindow,
             final StreamType streamType) {
+        this(directory, windowSizeMs, signer, startWriteAtCompleteWindow, streamType, null, 0);
+    }
+
+    /**
+     * Create a new stream.
+     *
+     * @param directory
+     * 		the directory where files will be written
+     * @param windowSizeMs
+     * 		the desired time window for a single file
+     * @param signer
+     * 		an object that can sign things
+     * @param startWriteAtCompleteWindow
+     * 		if true, then only start writing files when it can be guaranteed
+     * 		that partial files will not be written
+     * @param streamType
+     * 		describes the type of object being passed through this stream
+     * @param threadManager
+     * 		responsible for creating the thread that finishes files, only used if files are written asynchronously
+     * @param writeBufferSize
+     * 		the size in bytes of each write buffer if files are written asynchronously, or 0 to write, close and sign
+     * 		files on the calling thread
+     */
+    public TimestampStreamFileWriter(
+            final String directory,
+            final long windowSizeMs,
+            final Signer signer,
+            final boolean startWriteAtCompleteWindow,
+            final StreamType streamType,
+            final ThreadManager threadManager,
+            final int writeBufferSize) {
+
+        if (writeBufferSize < 0) {
+            throw new IllegalArgumentException("write buffer size must not be negative");
+        }
 
         this.directory = directory;
         this.windowSizeMs = windowSizeMs;
@@ -176,6 +249,21 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
             // This is unrecoverable. No need to force the caller to catch this exception.
             throw new RuntimeException(e);
         }
+
+        if (writeBufferSize > 0) {
+            writeBuffers = new ArrayBlockingQueue<>(WRITE_BUFFER_COUNT);
+            for (int i = 0; i < WRITE_BUFFER_COUNT; i++) {
+                writeBuffers.add(ByteBuffer.allocateDirect(writeBufferSize));
+            }
+            fileFinisher = Executors.newSingleThreadExecutor(new ThreadConfiguration(threadManager)
+                    .setDaemon(true)
+                    .setComponent("object-stream")
+                    .setThreadName("file-finisher")
+                    .buildFactory());
+        } else {
+            writeBuffers = null;
+            fileFinisher = null;
+        }
     }
 
     /**
@@ -247,6 +335,12 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
         try {
             if (currentFile.exists() && !currentFile.isDirectory()) {
                 logger.info(OBJECT_STREAM.getMarker(), "Stream file already exists {}", currentFile::getName);
+            } else if (writeBuffers != null) {
+                asyncFileStream = new AsyncStreamFileOutputStream(currentFile.toPath(), writeBuffers);
+                out = new SerializableDataOutputStream(
+                        new BufferedOutputStream(new HashingOutputStream(streamDigest, asyncFileStream)));
+                metadataOut = new SerializableDataOutputStream(new HashingOutputStream(metadataStreamDigest));
+                logger.info(OBJECT_STREAM_FILE.getMarker(), "Stream file created {}", currentFile::getName);
             } else {
                 fileStream = new FileOutputStream(currentFile, false);
                 out = new SerializableDataOutputStream(
@@ -254,8 +348,8 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
                 metadataOut = new SerializableDataOutputStream(new HashingOutputStream(metadataStreamDigest));
                 logger.info(OBJECT_STREAM_FILE.getMarker(), "Stream file created {}", currentFile::getName);
             }
-        } catch (final FileNotFoundException e) {
-            logger.error(EXCEPTION.getMarker(), "startNewFile :: FileNotFound: ", e);
+        } catch (final IOException e) {
+            logger.error(EXCEPTION.getMarker(), "startNewFile :: unable to open stream file: ", e);
         }
     }
 
@@ -302,7 +396,7 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
      * Does nothing if there is no file currently open.
      */
     public void closeCurrentAndSign() {
-        if (fileStream != null) {
+        if (isFileOpen()) {
             try {
                 final Hash finalRunningHash = runningHash.getFutureHash().getAndRethrow();
                 out.writeSerializable(finalRunningHash, true);
@@ -329,6 +423,10 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
                 return;
             }
             final File closedFile = currentFile;
+            if (asyncFileStream != null) {
+                closeAndSignAsync(closedFile);
+                return;
+            }
             // close current file
             closeFile();
 
@@ -336,28 +434,95 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
             final Hash entireHash = new Hash(streamDigest.digest(), SHA_384);
             // get metaData Hash for this stream file
             final Hash metaHash = new Hash(metadataStreamDigest.digest(), SHA_384);
+            sign(closedFile, entireHash, metaHash);
+        }
+    }
+
+    /**
+     * Compute the hashes of the current file, then close and sign it on the file finisher thread. Objects may be
+     * written to the next file while this happens.
+     */
+    private void closeAndSignAsync(final File closedFile) {
+        final AsyncStreamFileOutputStream closedStream = asyncFileStream;
+        try {
+            // moves everything written so far into the file stream's buffers and through the digest
+            out.flush();
+            metadataOut.close();
+        } catch (final IOException e) {
+            logger.error(EXCEPTION.getMarker(), "closeCurrentAndSign :: Got Exception when flushing {}", closedFile, e);
+        }
+        final Hash entireHash = new Hash(streamDigest.digest(), SHA_384);
+        final Hash metaHash = new Hash(metadataStreamDigest.digest(), SHA_384);
+
+        currentFile = null;
+        asyncFileStream = null;
+        out = null;
+        metadataOut = null;
 
-            // generate signature for entire Hash
-            final Signature entireSignature = new Signature(
-                    SIGNATURE_TYPE, signer.sign(entireHash.getValue()).getSignatureBytes());
-            // generate signature for metaData Hash
-            final Signature metaSignature = new Signature(
-                    SIGNATURE_TYPE, signer.sign(metaHash.getValue()).getSignatureBytes());
+        final Runnable finishFile = () -> {
             try {
-                writeSignatureFile(
-                        entireHash,
-                        entireSignature,
-                        metaHash,
-                        metaSignature,
-                        generateSigFilePath(closedFile),
-                        streamType);
+                closedStream.close();
             } catch (final IOException e) {
                 logger.error(
                         EXCEPTION.getMarker(),
-                        "closeCurrentAndSign ::  :: Fail to generate signature file for {}",
+                        "closeCurrentAndSign :: Fail to write {}, it will not be signed",
                         closedFile.getName(),
                         e);
+                return;
             }
+            logger.info(OBJECT_STREAM_FILE.getMarker(), "File {} is closed at {}", closedFile::getName, Instant::now);
+            sign(closedFile, entireHash, metaHash);
+        };
+        try {
+            lastFileFinished = fileFinisher.submit(finishFile);
+        } catch (final RejectedExecutionException e) {
+            // the writer has been closed, finish the file on this thread rather than dropping it
+            finishFile.run();
+        }
+    }
+
+    /**
+     * Wait until every file that has been closed has also been finished and signed. Returns immediately if files are
+     * written on the calling thread.
+     */
+    private void awaitFilesFinished() {
+        if (lastFileFinished == null) {
+            return;
+        }
+        try {
+            lastFileFinished.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error(EXCEPTION.getMarker(), "interrupted while waiting for stream files to be signed", e);
+        } catch (final ExecutionException e) {
+            logger.error(EXCEPTION.getMarker(), "unable to finish stream file", e.getCause());
+        }
+    }
+
+    /**
+     * Sign the hashes of a closed file and write the signature file.
+     */
+    private void sign(final File closedFile, final Hash entireHash, final Hash metaHash) {
+        // generate signature for entire Hash
+        final Signature entireSignature =
+                new Signature(SIGNATURE_TYPE, signer.sign(entireHash.getValue()).getSignatureBytes());
+        // generate signature for metaData Hash
+        final Signature metaSignature =
+                new Signature(SIGNATURE_TYPE, signer.sign(metaHash.getValue()).getSignatureBytes());
+        try {
+            writeSignatureFile(
+                    entireHash,
+                    entireSignature,
+                    metaHash,
+                    metaSignature,
+                    generateSigFilePath(closedFile),
+                    streamType);
+        } catch (final IOException e) {
+            logger.error(
+                    EXCEPTION.getMarker(),
+                    "closeCurrentAndSign ::  :: Fail to generate signature file for {}",
+                    closedFile.getName(),
+                    e);
         }
     }
 
@@ -366,7 +531,21 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
      */
     private void closeFile() {
         final String fileName = currentFile == null ? "null" : currentFile.getName();
-        if (fileStream != null) {
+        if (asyncFileStream != null) {
+            try {
+                out.flush();
+                // waits for the buffered bytes to be written
+                asyncFileStream.close();
+                metadataOut.close();
+            } catch (final IOException e) {
+                logger.warn(EXCEPTION.getMarker(), "Exception in close file", e);
+            }
+            currentFile = null;
+            asyncFileStream = null;
+            out = null;
+            metadataOut = null;
+            logger.info(OBJECT_STREAM_FILE.getMarker(), "File {} is closed at {}", () -> fileName, Instant::now);
+        } else if (fileStream != null) {
             try {
                 out.flush();
                 fileStream.flush();
@@ -479,7 +658,7 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
 
             // if the file already exists, it will not be opened, so we don't write anything to it. begin() would
             // previously throw an NPE before this check was added
-            if (fileStream != null) {
+            if (isFileOpen()) {
                 // write the beginning of new file
                 begin();
             }
@@ -489,7 +668,7 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
         // incomplete
         // window, so we don't serialize this object;
         // so we only serialize the object when stream is not null
-        if (fileStream != null) {
+        if (isFileOpen()) {
             serialize(object);
         }
         // update runningHash
@@ -502,7 +681,7 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
      */
     @Override
     public void clear() {
-        if (fileStream != null) {
+        if (isFileOpen()) {
             final File closedFile = currentFile;
             // close current file
             closeFile();
@@ -527,9 +706,20 @@ public class TimestampStreamFileWriter<T extends StreamAligned & RunningHashable
     @Override
     public void close() {
         closeCurrentAndSign();
+        awaitFilesFinished();
+        if (fileFinisher != null) {
+            fileFinisher.shutdown();
+        }
         logger.info(FREEZE.getMarker(), "TimestampStreamFileWriter finished writing the last object, is stopped");
     }
 
+    /**
+     * Check if a file is currently open for writing.
+     */
+    private boolean isFileOpen() {
+        return fileStream != null || asyncFileStream != null;
+    }
+
     /**
      * Get the value of startWriteAtCompleteWindow.
      *
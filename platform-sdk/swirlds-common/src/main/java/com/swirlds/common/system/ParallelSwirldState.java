@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.system;
+
+import com.swirlds.common.system.events.ConsensusEvent;
+import com.swirlds.common.system.events.Event;
+import com.swirlds.common.system.transaction.ConsensusTransaction;
+import com.swirlds.common.system.transaction.TransactionAccessSet;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Iterator;
+
+/**
+ * <p>
+ * A {@link SwirldState} that is able to handle the transactions of a round one at a time, and that declares which
+ * parts of the state each transaction touches. When parallel handling is enabled, the platform uses the declared
+ * {@link TransactionAccessSet}s to handle non-conflicting transactions of a round concurrently, while transactions
+ * that conflict are always handled in consensus order. If the access sets are accurate the resulting state is
+ * identical to the state produced by handling every transaction sequentially in consensus order.
+ * </p>
+ *
+ * <p>
+ * System transactions are never passed to {@link #handleConsensusTransaction(Round, ConsensusEvent,
+ * ConsensusTransaction, SwirldDualState)}.
+ * </p>
+ */
+public interface ParallelSwirldState extends SwirldState {
+
+    /**
+     * <p>
+     * Get the access set of a transaction. Typically computed in {@link #preHandle(Event)} and attached to the
+     * transaction with {@link ConsensusTransaction#setMetadata(Object)}.
+     * </p>
+     *
+     * <p>
+     * This method is called on the handle thread before any transaction of the round is handled.
+     * </p>
+     *
+     * @param transaction a transaction that has reached consensus
+     * @return the access set of the transaction, or null if it is unknown. A transaction with an unknown access set
+     * is treated as conflicting with every other transaction.
+     */
+    @Nullable
+    TransactionAccessSet getAccessSet(@NonNull ConsensusTransaction transaction);
+
+    /**
+     * Handle a single application transaction. May be called concurrently from multiple threads, but never
+     * concurrently for two transactions whose access sets conflict. Implementations should not throw, an exception is
+     * logged and the transaction is considered to be handled.
+     *
+     * @param round           the round the transaction belongs to
+     * @param event           the event the transaction belongs to
+     * @param transaction     the transaction to handle
+     * @param swirldDualState the dual state for the round. When transactions are handled concurrently, only a
+     *                        transaction with an unknown access set may modify the dual state; every other
+     *                        transaction is given a view that throws {@link UnsupportedOperationException} if
+     *                        modified.
+     */
+    void handleConsensusTransaction(
+            @NonNull Round round,
+            @NonNull ConsensusEvent event,
+            @NonNull ConsensusTransaction transaction,
+            @NonNull SwirldDualState swirldDualState);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The default implementation handles every application transaction of the round sequentially, in consensus order.
+     * This is used whenever the round is not handled in parallel.
+     */
+    @Override
+    default void handleConsensusRound(final Round round, final SwirldDualState swirldDualState) {
+        for (final Iterator<ConsensusEvent> eventIt = round.iterator(); eventIt.hasNext(); ) {
+            final ConsensusEvent event = eventIt.next();
+            for (final Iterator<ConsensusTransaction> transIt = event.consensusTransactionIterator();
+                    transIt.hasNext(); ) {
+                final ConsensusTransaction transaction = transIt.next();
+                if (!transaction.isSystem()) {
+                    handleConsensusTransaction(round, event, transaction, swirldDualState);
+                }
+            }
+        }
+    }
+}
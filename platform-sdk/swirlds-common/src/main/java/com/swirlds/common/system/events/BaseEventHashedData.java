@@ -16,13 +16,13 @@
 
 package com.swirlds.common.system.events;
 
-import static com.swirlds.common.io.streams.SerializableDataOutputStream.getSerializedLength;
 import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
 
 import com.swirlds.common.crypto.AbstractSerializableHashable;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.internal.SettingsCommon;
 import com.swirlds.common.io.OptionalSelfSerializable;
+import com.swirlds.common.io.SerializableWithKnownLength;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.system.transaction.ConsensusTransaction;
@@ -44,7 +44,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
  * {@link BaseEventHashedData} and {@link BaseEventUnhashedData}.
  */
 public class BaseEventHashedData extends AbstractSerializableHashable
-        implements OptionalSelfSerializable<EventSerializationOptions> {
+        implements OptionalSelfSerializable<EventSerializationOptions>, SerializableWithKnownLength {
     public static final int TO_STRING_BYTE_ARRAY_LENGTH = 5;
     private static final long CLASS_ID = 0x21c2620e9b6a2243L;
 
@@ -174,10 +174,10 @@ public class BaseEventHashedData extends AbstractSerializableHashable
         // write serialized length of transaction array first, so during the deserialization proces
         // it is possible to skip transaction array and move on to the next object
         if (option == EventSerializationOptions.OMIT_TRANSACTIONS) {
-            out.writeInt(getSerializedLength(null, true, false));
+            out.writeInt(SerializableDataOutputStream.getSerializedLength(null, true, false));
             out.writeSerializableArray(null, true, false);
         } else {
-            out.writeInt(getSerializedLength(transactions, true, false));
+            out.writeInt(SerializableDataOutputStream.getSerializedLength(transactions, true, false));
             // transactions may include both system transactions and application transactions
             // so writeClassId set to true and allSameClass set to false
             out.writeSerializableArray(transactions, true, false);
@@ -189,6 +189,34 @@ public class BaseEventHashedData extends AbstractSerializableHashable
         serialize(out, EventSerializationOptions.FULL);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSerializedLength() {
+        return getSerializedLength(EventSerializationOptions.FULL);
+    }
+
+    /**
+     * Get the number of bytes written by {@link #serialize(SerializableDataOutputStream, EventSerializationOptions)}
+     * without serializing this object.
+     *
+     * @param option
+     * 		the serialization option
+     * @return the serialized length of this object, in bytes
+     */
+    public int getSerializedLength(final EventSerializationOptions option) {
+        final int transactionsLength = option == EventSerializationOptions.OMIT_TRANSACTIONS
+                ? SerializableDataOutputStream.getSerializedLength(null, true, false)
+                : SerializableDataOutputStream.getSerializedLength(transactions, true, false);
+        return 3 * Long.BYTES
+                + SerializableDataOutputStream.getSerializedLength(selfParentHash, false)
+                + SerializableDataOutputStream.getSerializedLength(otherParentHash, false)
+                + (timeCreated == null ? Long.BYTES : 2 * Long.BYTES)
+                + Integer.BYTES
+                + transactionsLength;
+    }
+
     @Override
     public void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
         deserialize(in, version, SettingsCommon.maxTransactionCountPerEvent);
@@ -16,7 +16,9 @@
 
 package com.swirlds.common.system.events;
 
-import com.swirlds.common.io.SelfSerializable;
+import static com.swirlds.common.io.streams.AugmentedDataOutputStream.getArraySerializedLength;
+
+import com.swirlds.common.io.SerializableWithKnownLength;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.utility.CommonUtils;
@@ -32,7 +34,7 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
  * that is signed, and some data is additional and does not affect that hash. This data is split into 2 classes:
  * {@link BaseEventHashedData} and {@link BaseEventUnhashedData}.
  */
-public class BaseEventUnhashedData implements SelfSerializable {
+public class BaseEventUnhashedData implements SerializableWithKnownLength {
     private static final long CLASS_ID = 0x33cb9d4ae38c9e91L;
     private static final int CLASS_VERSION = 1;
     private static final int MAX_SIG_LENGTH = 384;
@@ -75,6 +77,14 @@ public class BaseEventUnhashedData implements SelfSerializable {
         out.writeByteArray(signature);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSerializedLength() {
+        return 3 * Long.BYTES + getArraySerializedLength(signature);
+    }
+
     @Override
     public void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
         creatorSeq = in.readLong();
@@ -16,9 +16,10 @@
 
 package com.swirlds.common.system.events;
 
+import static com.swirlds.common.io.streams.SerializableStreamConstants.BOOLEAN_BYTES;
 import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
 
-import com.swirlds.common.io.SelfSerializable;
+import com.swirlds.common.io.SerializableWithKnownLength;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import java.io.IOException;
@@ -33,7 +34,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
  * This data is available for an event only after consensus has been determined for it. When an event is initially
  * created, there is no consensus data for it.
  */
-public class ConsensusData implements SelfSerializable {
+public class ConsensusData implements SerializableWithKnownLength {
     private static final long CLASS_ID = 0xddf20b7ce114a711L;
     private static final int CLASS_VERSION_ORIGINAL = 1;
     private static final int CLASS_VERSION_REMOVED_WITNESS_FAMOUS = 2;
@@ -76,6 +77,14 @@ public class ConsensusData implements SelfSerializable {
         out.writeLong(consensusOrder);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSerializedLength() {
+        return 4 * Long.BYTES + 2 * BOOLEAN_BYTES + (consensusTimestamp == null ? Long.BYTES : 2 * Long.BYTES);
+    }
+
     @Override
     public void deserialize(SerializableDataInputStream in, int version) throws IOException {
         generation = in.readLong();
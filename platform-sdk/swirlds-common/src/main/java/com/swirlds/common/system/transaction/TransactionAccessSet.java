@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.system.transaction;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>
+ * Describes the parts of the application state that a transaction may read and write when it is handled. Keys are
+ * application defined objects (for example account IDs) and must implement {@link Object#equals(Object)} and
+ * {@link Object#hashCode()}.
+ * </p>
+ *
+ * <p>
+ * Two transactions conflict if one of them writes a key that the other reads or writes. Transactions that do not
+ * conflict may be handled concurrently and in any order, so the declared sets must be a superset of what the
+ * transaction actually touches. Under-declaring keys leads to non-deterministic state, i.e. an ISS.
+ * </p>
+ *
+ * @param readKeys  the keys that the transaction may read but will not write
+ * @param writeKeys the keys that the transaction may write (and read)
+ */
+public record TransactionAccessSet(@NonNull Set<Object> readKeys, @NonNull Set<Object> writeKeys) {
+
+    /**
+     * Create a new access set.
+     *
+     * @param readKeys  the keys that the transaction may read but will not write
+     * @param writeKeys the keys that the transaction may write (and read)
+     */
+    public TransactionAccessSet {
+        Objects.requireNonNull(readKeys, "readKeys must not be null");
+        Objects.requireNonNull(writeKeys, "writeKeys must not be null");
+    }
+}
@@ -38,6 +38,12 @@ public abstract non-sealed class ConsensusTransactionImpl implements ConsensusTr
      */
     private Instant consensusTimestamp;
 
+    /**
+     * The times at which this transaction reached each stage of the platform pipeline, or null if this transaction
+     * is not traced. NOT serialized and not part of object equality or hash code
+     */
+    private TransactionTrace trace;
+
     /**
      * {@inheritDoc}
      */
@@ -73,4 +79,23 @@ public abstract non-sealed class ConsensusTransactionImpl implements ConsensusTr
     public void setConsensusTimestamp(final Instant consensusTimestamp) {
         this.consensusTimestamp = consensusTimestamp;
     }
+
+    /**
+     * Get the trace of this transaction.
+     *
+     * @return the trace, or null if this transaction is not traced
+     */
+    public TransactionTrace getTrace() {
+        return trace;
+    }
+
+    /**
+     * Start tracing this transaction.
+     *
+     * @param trace
+     * 		the trace of this transaction
+     */
+    public void setTrace(final TransactionTrace trace) {
+        this.trace = trace;
+    }
 }
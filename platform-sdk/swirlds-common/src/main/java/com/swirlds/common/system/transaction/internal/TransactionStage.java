@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.system.transaction.internal;
+
+/**
+ * The stages of the platform pipeline at which a traced transaction is stamped. Each stage records the latency since
+ * the stage it follows.
+ */
+public enum TransactionStage {
+    /**
+     * The transaction was accepted into the transaction pool of the node that created it.
+     */
+    SUBMITTED(null),
+    /**
+     * The transaction was put into a self event.
+     */
+    IN_EVENT(SUBMITTED),
+    /**
+     * The event containing the transaction was handled pre-consensus.
+     */
+    PRE_HANDLED(IN_EVENT),
+    /**
+     * The event containing the transaction reached consensus. Includes the time spent gossiping the event.
+     */
+    CONSENSUS(IN_EVENT),
+    /**
+     * The transaction was handled by the consensus state.
+     */
+    HANDLED(CONSENSUS);
+
+    private final TransactionStage previous;
+
+    TransactionStage(final TransactionStage previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Get the stage that this stage follows.
+     *
+     * @return the previous stage, or null if this is the first stage
+     */
+    public TransactionStage getPrevious() {
+        return previous;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.system.transaction.internal;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Arrays;
+
+/**
+ * The times at which a sampled transaction reached each {@link TransactionStage}. Only sampled transactions carry a
+ * trace, so that transactions that are not sampled cost nothing more than a null check at each stage.
+ */
+public final class TransactionTrace {
+
+    private static final long NOT_REACHED = Long.MIN_VALUE;
+
+    /**
+     * Notified each time a traced transaction reaches a stage.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called when a traced transaction reaches a stage.
+         *
+         * @param trace the trace of the transaction
+         * @param stage the stage that was reached
+         */
+        void stageReached(@NonNull TransactionTrace trace, @NonNull TransactionStage stage);
+    }
+
+    private final long[] stageTimes = new long[TransactionStage.values().length];
+    private final Listener listener;
+
+    /**
+     * Create a trace.
+     *
+     * @param listener notified each time the transaction reaches a stage
+     */
+    public TransactionTrace(@NonNull final Listener listener) {
+        this.listener = listener;
+        Arrays.fill(stageTimes, NOT_REACHED);
+    }
+
+    /**
+     * Record that the transaction has reached a stage. Only the first time a stage is reached is recorded.
+     *
+     * @param stage the stage that was reached
+     */
+    public void stamp(@NonNull final TransactionStage stage) {
+        if (stageTimes[stage.ordinal()] != NOT_REACHED) {
+            return;
+        }
+        stageTimes[stage.ordinal()] = System.nanoTime();
+        listener.stageReached(this, stage);
+    }
+
+    /**
+     * Check if the transaction has reached a stage.
+     *
+     * @param stage the stage to check
+     * @return true if the stage has been reached
+     */
+    public boolean hasReached(@NonNull final TransactionStage stage) {
+        return stageTimes[stage.ordinal()] != NOT_REACHED;
+    }
+
+    /**
+     * Get the time between two stages.
+     *
+     * @param from the earlier stage
+     * @param to   the later stage
+     * @return the nanoseconds between the stages, or -1 if either stage has not been reached
+     */
+    public long getNanosBetween(@NonNull final TransactionStage from, @NonNull final TransactionStage to) {
+        if (!hasReached(from) || !hasReached(to)) {
+            return -1;
+        }
+        return Math.max(0, stageTimes[to.ordinal()] - stageTimes[from.ordinal()]);
+    }
+
+    /**
+     * Stamp a stage on every traced transaction in an array. Transactions without a trace are skipped.
+     *
+     * @param transactions the transactions to stamp, may be null
+     * @param stage        the stage that was reached
+     */
+    public static void stampAll(final ConsensusTransactionImpl[] transactions, @NonNull final TransactionStage stage) {
+        if (transactions == null) {
+            return;
+        }
+        for (final ConsensusTransactionImpl transaction : transactions) {
+            final TransactionTrace trace = transaction.getTrace();
+            if (trace != null) {
+                trace.stamp(stage);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.threading.framework.config;
+
+/**
+ * The type of queue built for a queue thread when a queue is not explicitly provided.
+ */
+public enum QueueType {
+    /**
+     * A {@link java.util.concurrent.LinkedBlockingQueue}. Suitable for any number of producers and consumers, and for
+     * queues with unlimited capacity.
+     */
+    BLOCKING,
+    /**
+     * A bounded lock free queue that supports many producers but only a single consumer. When the queue is empty the
+     * consumer briefly spins, then yields, and eventually parks until a producer wakes it. Requires a bounded capacity,
+     * and can not be used by a queue thread pool.
+     */
+    LOCK_FREE,
+    /**
+     * The same as {@link #LOCK_FREE}, except that the consumer never parks. Minimizes hand off latency at the cost of
+     * keeping a CPU busy while the queue is empty.
+     */
+    LOCK_FREE_SPINNING
+}
@@ -22,6 +22,7 @@ import static com.swirlds.common.utility.CommonUtils.throwArgNull;
 import com.swirlds.common.metrics.Metrics;
 import com.swirlds.common.threading.framework.QueueThread;
 import com.swirlds.common.threading.framework.Stoppable;
+import com.swirlds.common.threading.framework.config.QueueType;
 import com.swirlds.common.threading.interrupt.InterruptableConsumer;
 import com.swirlds.common.threading.interrupt.InterruptableRunnable;
 import com.swirlds.common.threading.manager.ThreadManager;
@@ -51,6 +52,11 @@ public abstract class AbstractQueueThreadConfiguration<C extends AbstractQueueTh
      */
     private int maxBufferSize = DEFAULT_MAX_BUFFER_SIZE;
 
+    /**
+     * The type of queue to build if a queue is not provided.
+     */
+    private QueueType queueType = QueueType.BLOCKING;
+
     /**
      * The method used to handle items from the queue.
      */
@@ -94,6 +100,7 @@ public abstract class AbstractQueueThreadConfiguration<C extends AbstractQueueTh
 
         this.capacity = that.capacity;
         this.maxBufferSize = that.maxBufferSize;
+        this.queueType = that.queueType;
         this.handler = that.handler;
         this.waitForItemRunnable = that.waitForItemRunnable;
         this.queue = that.queue;
@@ -170,6 +177,27 @@ public abstract class AbstractQueueThreadConfiguration<C extends AbstractQueueTh
         return (C) this;
     }
 
+    /**
+     * Get the type of queue that is built if a queue is not provided.
+     */
+    public QueueType getQueueType() {
+        return queueType;
+    }
+
+    /**
+     * Set the type of queue that is built if a queue is not provided. Ignored if a queue is set with
+     * {@link #setQueue(BlockingQueue)}. Lock free queues require a bounded capacity.
+     *
+     * @param queueType the type of queue to build
+     * @return this object
+     */
+    @SuppressWarnings("unchecked")
+    public C setQueueType(final QueueType queueType) {
+        throwIfImmutable();
+        this.queueType = throwArgNull(queueType, "queueType");
+        return (C) this;
+    }
+
     /**
      * Get the handler method that will be called against every item in the queue.
      */
@@ -216,6 +244,12 @@ public abstract class AbstractQueueThreadConfiguration<C extends AbstractQueueTh
      * @return a newly initialized queue
      */
     private BlockingQueue<T> buildDefaultQueue() {
+        if (queueType != QueueType.BLOCKING) {
+            if (capacity <= 0) {
+                throw new IllegalStateException("a lock free queue requires a bounded capacity");
+            }
+            return new MpscBlockingQueue<>(capacity, queueType == QueueType.LOCK_FREE);
+        }
         if (capacity > 0) {
             return new LinkedBlockingQueue<>(capacity);
         } else {
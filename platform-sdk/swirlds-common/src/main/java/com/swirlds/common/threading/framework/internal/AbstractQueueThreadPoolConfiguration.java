@@ -18,6 +18,7 @@ package com.swirlds.common.threading.framework.internal;
 
 import com.swirlds.common.threading.framework.QueueThreadPool;
 import com.swirlds.common.threading.framework.config.QueueThreadPoolConfiguration;
+import com.swirlds.common.threading.framework.config.QueueType;
 import com.swirlds.common.threading.manager.ThreadManager;
 
 /**
@@ -63,8 +64,13 @@ public abstract class AbstractQueueThreadPoolConfiguration<C extends AbstractQue
      * @param start
      * 		if true then automatically start the threads in the pool
      * @return a QueueThreadPool
+     * @throws IllegalStateException if a lock free queue type is configured, since the threads in a pool share a
+     *                               single queue and lock free queues only support a single consumer
      */
     protected QueueThreadPool<T> buildQueueThreadPool(final boolean start) {
+        if (getQueueType() != QueueType.BLOCKING) {
+            throw new IllegalStateException("queue thread pools do not support lock free queues");
+        }
         final QueueThreadPool<T> pool = new QueueThreadPoolImpl<>(this);
 
         if (start) {
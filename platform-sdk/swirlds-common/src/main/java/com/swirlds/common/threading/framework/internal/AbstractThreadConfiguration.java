@@ -26,6 +26,7 @@ import com.swirlds.common.threading.framework.ThreadSeed;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.interrupt.InterruptableRunnable;
 import com.swirlds.common.threading.manager.ThreadManager;
+import com.swirlds.common.threading.utility.VirtualThreads;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
@@ -101,6 +102,11 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
      */
     private int priority = Thread.NORM_PRIORITY;
 
+    /**
+     * If true then new threads are virtual threads.
+     */
+    private boolean virtual;
+
     /**
      * The classloader for new threads.
      */
@@ -146,6 +152,7 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
         this.threadGroup = that.threadGroup;
         this.daemon = that.daemon;
         this.priority = that.priority;
+        this.virtual = that.virtual;
         this.contextClassLoader = that.contextClassLoader;
         this.exceptionHandler = that.exceptionHandler;
         this.runnable = that.runnable;
@@ -211,7 +218,7 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
      */
     protected Thread buildThread(final boolean start) {
         final Runnable runnable = requireNonNull(getRunnable(), "runnable must not be null");
-        final Thread thread = threadManager.createThread(getThreadGroup(), runnable);
+        final Thread thread = createThread(runnable);
         configureThread(thread);
 
         if (start) {
@@ -221,6 +228,20 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
         return thread;
     }
 
+    /**
+     * Create an unconfigured thread, virtual or not as configured.
+     *
+     * @param runnable
+     * 		the runnable that will be executed on the thread
+     * @return a new thread that has not been started
+     */
+    protected Thread createThread(final Runnable runnable) {
+        if (virtual) {
+            return threadManager.createVirtualThread(runnable);
+        }
+        return threadManager.createThread(getThreadGroup(), runnable);
+    }
+
     /**
      * <p>
      * Build a "seed" that can be planted in a thread. When the runnable is executed, it takes over the calling thread
@@ -354,14 +375,14 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
     /**
      * Configure thread properties. This method is able to set all properties for an unstarted thread
      * except for thread group. If the thread has already been started, then this method will also not
-     * configure daemon status.
+     * configure daemon status. Virtual threads are always daemon threads and ignore priority.
      *
      * @param thread
      * 		the thread to configure
      */
     protected void configureThread(final Thread thread) {
         thread.setName(buildThreadName());
-        if (!thread.isAlive()) {
+        if (!thread.isAlive() && !VirtualThreads.isVirtual(thread)) {
             // Daemon status can only be configured before a thread starts.
             thread.setDaemon(isDaemon());
         }
@@ -412,6 +433,29 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
         return (C) this;
     }
 
+    /**
+     * Check if new threads are virtual threads.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Set if new threads are virtual threads. Virtual threads are cheap to create and to block, and are well suited to
+     * threads that spend most of their time waiting on I/O. Virtual threads are always daemon threads, ignore thread
+     * priority, and are not placed in the configured thread group. Falls back to platform threads if the JVM does not
+     * support virtual threads.
+     *
+     * @return this object
+     */
+    @SuppressWarnings("unchecked")
+    public C setVirtual(final boolean virtual) {
+        throwIfImmutable();
+
+        this.virtual = virtual;
+        return (C) this;
+    }
+
     /**
      * Get the priority of new threads.
      */
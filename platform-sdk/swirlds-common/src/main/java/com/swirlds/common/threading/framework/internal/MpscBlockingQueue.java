@@ -0,0 +1,379 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.threading.framework.internal;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * A bounded, lock free blocking queue that supports any number of producer threads but only a single consumer thread.
+ * Elements are stored in a ring buffer. Each slot carries a sequence number that tells producers when the slot is free
+ * and tells the consumer when the slot has been filled, so producers only contend with each other on a single atomic
+ * counter, and the consumer never contends with anybody.
+ * </p>
+ *
+ * <p>
+ * When the queue is empty the consumer spins for a short while, then yields, and then (unless configured to never park)
+ * parks until a producer inserts an element. When the queue is full producers back off by parking for short intervals,
+ * the consumer does not wake them.
+ * </p>
+ *
+ * <p>
+ * Only one thread may remove elements at any given time. This includes {@link #poll()}, {@link #take()},
+ * {@link #drainTo(Collection)} and {@link #clear()}. {@link #size()}, {@link #peek()} and {@link #iterator()} may be
+ * called from any thread but are only approximate while the queue is being modified. Removing arbitrary elements is not
+ * supported.
+ * </p>
+ *
+ * @param <T> the type of the elements in the queue
+ */
+public class MpscBlockingQueue<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+
+    /**
+     * The number of times the consumer spins before it starts to yield.
+     */
+    private static final int SPIN_COUNT = 128;
+
+    /**
+     * The number of times the consumer yields before it parks.
+     */
+    private static final int YIELD_COUNT = 16;
+
+    /**
+     * The maximum time the consumer parks before checking the queue again.
+     */
+    private static final long MAX_CONSUMER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * The time a producer parks while waiting for space in a full queue.
+     */
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final int capacity;
+
+    /**
+     * If false then the consumer never parks while waiting for an element.
+     */
+    private final boolean parkConsumer;
+
+    private final Object[] elements;
+
+    /**
+     * For each slot, the position the slot is waiting for. A slot is free for the producer that claimed position p if
+     * its sequence is p, and it holds the element for position p if its sequence is p + 1.
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * The next position to be claimed by a producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next position to be read by the consumer. Only written by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The consumer thread, if it is parked or about to park, otherwise null.
+     */
+    private volatile Thread parkedConsumer;
+
+    /**
+     * Create a new queue.
+     *
+     * @param capacity     the maximum number of elements in the queue
+     * @param parkConsumer if true then the consumer parks after waiting a while for an element, if false then the
+     *                     consumer never parks
+     */
+    public MpscBlockingQueue(final int capacity, final boolean parkConsumer) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.parkConsumer = parkConsumer;
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int index = 0; index < capacity; index++) {
+            sequences.set(index, index);
+        }
+    }
+
+    private int indexOf(final long position) {
+        return (int) (position % capacity);
+    }
+
+    /**
+     * Check if the element at the head of the queue has been published.
+     */
+    private boolean isHeadAvailable() {
+        final long position = head.get();
+        return sequences.get(indexOf(position)) == position + 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offer(final T element) {
+        Objects.requireNonNull(element, "element must not be null");
+        long position = tail.get();
+        while (true) {
+            final int index = indexOf(position);
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.set(index, position + 1);
+                    final Thread consumer = parkedConsumer;
+                    if (consumer != null) {
+                        LockSupport.unpark(consumer);
+                    }
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The slot still holds an element from the previous lap, the queue is full
+                return false;
+            } else {
+                // Another producer claimed this position
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offer(final T element, final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!offer(element)) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            waitForSpace(Math.min(remaining, PRODUCER_PARK_NANOS));
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(final T element) throws InterruptedException {
+        while (!offer(element)) {
+            waitForSpace(PRODUCER_PARK_NANOS);
+        }
+    }
+
+    private static void waitForSpace(final long nanos) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        LockSupport.parkNanos(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        final long position = head.get();
+        final int index = indexOf(position);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        final T element = (T) elements[index];
+        elements[index] = null;
+        // Hand the slot to the producer that will claim it on the next lap
+        sequences.set(index, position + capacity);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int idleCount = 0;
+        T element;
+        while ((element = poll()) == null) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            waitForElement(idleCount++, remaining);
+        }
+        return element;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T take() throws InterruptedException {
+        int idleCount = 0;
+        T element;
+        while ((element = poll()) == null) {
+            waitForElement(idleCount++, MAX_CONSUMER_PARK_NANOS);
+        }
+        return element;
+    }
+
+    /**
+     * Wait a little while for an element to be inserted.
+     *
+     * @param idleCount      the number of times the consumer has already waited for this element
+     * @param remainingNanos the maximum time to wait
+     */
+    private void waitForElement(final int idleCount, final long remainingNanos) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (idleCount < SPIN_COUNT) {
+            Thread.onSpinWait();
+        } else if (!parkConsumer || idleCount < SPIN_COUNT + YIELD_COUNT) {
+            Thread.yield();
+        } else {
+            parkedConsumer = Thread.currentThread();
+            try {
+                // Check again after announcing the park, a producer that inserted before the announcement won't unpark
+                if (!isHeadAvailable()) {
+                    LockSupport.parkNanos(this, Math.min(remainingNanos, MAX_CONSUMER_PARK_NANOS));
+                }
+            } finally {
+                parkedConsumer = null;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        final long position = head.get();
+        final int index = indexOf(position);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        return (T) elements[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(final Collection<? super T> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(final Collection<? super T> collection, final int maxElements) {
+        Objects.requireNonNull(collection, "collection must not be null");
+        if (collection == this) {
+            throw new IllegalArgumentException("can not drain a queue into itself");
+        }
+        int count = 0;
+        T element;
+        while (count < maxElements && (element = poll()) != null) {
+            collection.add(element);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        final long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(capacity, size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return !isHeadAvailable();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    /**
+     * Not supported, only the element at the head of the queue can be removed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean remove(final Object object) {
+        throw new UnsupportedOperationException("only the head of the queue can be removed");
+    }
+
+    /**
+     * Get an iterator over a snapshot of the elements in the queue. The iterator does not support removal.
+     *
+     * @return an iterator over the elements in the queue
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<T> iterator() {
+        final List<T> snapshot = new ArrayList<>();
+        final long end = tail.get();
+        for (long position = head.get(); position < end; position++) {
+            final int index = indexOf(position);
+            if (sequences.get(index) != position + 1) {
+                // Either already consumed or not yet published
+                continue;
+            }
+            final Object element = elements[index];
+            // Make sure the slot was not recycled while the element was being read
+            if (element != null && sequences.get(index) == position + 1) {
+                snapshot.add((T) element);
+            }
+        }
+        return Collections.unmodifiableList(snapshot).iterator();
+    }
+}
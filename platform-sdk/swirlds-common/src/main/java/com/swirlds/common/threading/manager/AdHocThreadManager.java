@@ -17,6 +17,7 @@
 package com.swirlds.common.threading.manager;
 
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.common.threading.utility.VirtualThreads;
 import com.swirlds.common.utility.LifecyclePhase;
 import java.util.concurrent.ThreadFactory;
 
@@ -63,6 +64,14 @@ public final class AdHocThreadManager implements ThreadManager {
         return new Thread(threadGroup, runnable);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Thread createVirtualThread(final Runnable runnable) {
+        return VirtualThreads.createVirtualThread(runnable);
+    }
+
     /**
      * {@inheritDoc}
      */
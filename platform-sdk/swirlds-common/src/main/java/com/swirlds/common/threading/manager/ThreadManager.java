@@ -37,6 +37,18 @@ public interface ThreadManager extends Lifecycle {
      */
     Thread createThread(ThreadGroup threadGroup, Runnable runnable);
 
+    /**
+     * Create a new virtual thread. Thread is not automatically started. If the JVM does not support virtual threads
+     * then a platform thread is created instead.
+     *
+     * @param runnable
+     * 		the runnable that will be executed on the thread
+     * @return a new Thread
+     * @throws com.swirlds.common.utility.LifecycleException
+     * 		if called before the thread manager has been started
+     */
+    Thread createVirtualThread(Runnable runnable);
+
     /**
      * Create a new thread factory. Thread factory will throw
      * {@link com.swirlds.common.exceptions.MutabilityException MutabilityException} if it is used
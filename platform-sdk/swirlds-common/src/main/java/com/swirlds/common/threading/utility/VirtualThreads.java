@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.threading.utility;
+
+import static com.swirlds.logging.LogMarker.THREADS;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * Utility methods for creating virtual threads. The platform is compiled for a Java release that does not have virtual
+ * threads, so the virtual thread API is looked up when this class is loaded. If the running JVM does not provide
+ * virtual threads (or provides them only as a disabled preview feature) then platform threads are created instead.
+ * </p>
+ *
+ * <p>
+ * Virtual threads are always daemon threads, always have normal priority, and can not be placed in a thread group of
+ * choice. Code that configures threads must tolerate this, see {@link #isVirtual(Thread)}.
+ * </p>
+ */
+public final class VirtualThreads {
+
+    private static final Logger logger = LogManager.getLogger(VirtualThreads.class);
+
+    /**
+     * Creates an unstarted virtual thread, or null if virtual threads are not supported.
+     */
+    private static final MethodHandle UNSTARTED_VIRTUAL_THREAD;
+
+    /**
+     * Calls {@code Thread.isVirtual()}, or null if virtual threads are not supported.
+     */
+    private static final MethodHandle IS_VIRTUAL;
+
+    private static final AtomicLong createdCount = new AtomicLong();
+    private static final AtomicLong aliveCount = new AtomicLong();
+    private static final AtomicBoolean fallbackLogged = new AtomicBoolean();
+
+    static {
+        MethodHandle unstarted = null;
+        MethodHandle isVirtual = null;
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            final MethodHandle ofVirtual =
+                    lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            final MethodHandle builderUnstarted = lookup.findVirtual(
+                    builderClass, "unstarted", MethodType.methodType(Thread.class, Runnable.class));
+            // (Runnable) -> Thread.ofVirtual().unstarted(runnable)
+            unstarted = MethodHandles.collectArguments(
+                    builderUnstarted, 0, ofVirtual.asType(MethodType.methodType(builderClass)));
+            isVirtual = lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+
+            // Fails if virtual threads are a preview feature that has not been enabled
+            final Thread probe = (Thread) unstarted.invokeExact((Runnable) () -> {});
+            if (probe == null) {
+                unstarted = null;
+            }
+        } catch (final Throwable e) {
+            unstarted = null;
+            isVirtual = null;
+        }
+        UNSTARTED_VIRTUAL_THREAD = unstarted;
+        IS_VIRTUAL = unstarted == null ? null : isVirtual;
+    }
+
+    private VirtualThreads() {}
+
+    /**
+     * Check if the running JVM supports virtual threads.
+     *
+     * @return true if virtual threads are supported
+     */
+    public static boolean isSupported() {
+        return UNSTARTED_VIRTUAL_THREAD != null;
+    }
+
+    /**
+     * Create an unstarted virtual thread. If virtual threads are not supported then an unstarted daemon platform thread
+     * is created instead, and a warning is logged the first time this happens.
+     *
+     * @param runnable the runnable that will be executed on the thread
+     * @return a new thread
+     */
+    public static @NonNull Thread createVirtualThread(@NonNull final Runnable runnable) {
+        final Runnable countedRunnable = () -> {
+            aliveCount.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                aliveCount.decrementAndGet();
+            }
+        };
+
+        if (UNSTARTED_VIRTUAL_THREAD == null) {
+            if (fallbackLogged.compareAndSet(false, true)) {
+                logger.warn(
+                        THREADS.getMarker(),
+                        "virtual threads are not supported by this JVM ({}), platform threads will be used instead",
+                        Runtime.version());
+            }
+            final Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        }
+
+        try {
+            final Thread thread = (Thread) UNSTARTED_VIRTUAL_THREAD.invokeExact(countedRunnable);
+            createdCount.incrementAndGet();
+            return thread;
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException("unable to create virtual thread", e);
+        }
+    }
+
+    /**
+     * Check if a thread is a virtual thread.
+     *
+     * @param thread the thread to check
+     * @return true if the thread is a virtual thread
+     */
+    public static boolean isVirtual(@NonNull final Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException("unable to check if thread is virtual", e);
+        }
+    }
+
+    /**
+     * Get the number of virtual threads created by {@link #createVirtualThread(Runnable)} since the JVM started.
+     *
+     * @return the number of virtual threads created
+     */
+    public static long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * Get the number of virtual threads created by {@link #createVirtualThread(Runnable)} that are currently running.
+     *
+     * @return the number of running virtual threads
+     */
+    public static long getAliveCount() {
+        return aliveCount.get();
+    }
+}
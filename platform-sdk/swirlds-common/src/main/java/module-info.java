@@ -18,6 +18,7 @@ module com.swirlds.common {
     exports com.swirlds.common.exceptions;
     exports com.swirlds.common.formatting;
     exports com.swirlds.common.io;
+    exports com.swirlds.common.io.buffer;
     exports com.swirlds.common.io.config;
     exports com.swirlds.common.io.exceptions;
     exports com.swirlds.common.io.extendable;
@@ -56,6 +57,7 @@ module com.swirlds.common {
     exports com.swirlds.common.settings;
     exports com.swirlds.common.statistics;
     exports com.swirlds.common.stream;
+    exports com.swirlds.common.stream.config;
     exports com.swirlds.common.stream.internal;
     exports com.swirlds.common.system;
     exports com.swirlds.common.system.address;
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HistogramMetricConfigTest {
+
+    private static final String DEFAULT_FORMAT = "%d";
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+
+    @Test
+    @DisplayName("Constructor should store values")
+    void testConstructor() {
+        // when
+        final HistogramMetric.Config config = new HistogramMetric.Config(CATEGORY, NAME);
+
+        // then
+        assertThat(config.getCategory()).isEqualTo(CATEGORY);
+        assertThat(config.getName()).isEqualTo(NAME);
+        assertThat(config.getDescription()).isEqualTo(NAME);
+        assertThat(config.getUnit()).isEmpty();
+        assertThat(config.getFormat()).isEqualTo(DEFAULT_FORMAT);
+        assertThat(config.getBucketBoundaries()).hasSize(21).startsWith(1L, 4L, 16L);
+    }
+
+    @Test
+    @DisplayName("Constructor should throw IAE when passing illegal parameters")
+    void testConstructorWithIllegalParameter() {
+        assertThatThrownBy(() -> new HistogramMetric.Config(null, NAME)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HistogramMetric.Config("", NAME)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HistogramMetric.Config(CATEGORY, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HistogramMetric.Config(CATEGORY, "")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testSetters() {
+        // given
+        final HistogramMetric.Config config = new HistogramMetric.Config(CATEGORY, NAME);
+
+        // when
+        final HistogramMetric.Config result = config.withDescription(DESCRIPTION)
+                .withUnit(UNIT)
+                .withBucketBoundaries(10L, 100L, 1000L);
+
+        // then
+        assertThat(config.getDescription()).isEqualTo(NAME);
+        assertThat(config.getUnit()).isEmpty();
+        assertThat(config.getBucketBoundaries()).hasSize(21);
+
+        assertThat(result.getCategory()).isEqualTo(CATEGORY);
+        assertThat(result.getName()).isEqualTo(NAME);
+        assertThat(result.getDescription()).isEqualTo(DESCRIPTION);
+        assertThat(result.getUnit()).isEqualTo(UNIT);
+        assertThat(result.getFormat()).isEqualTo(DEFAULT_FORMAT);
+        assertThat(result.getBucketBoundaries()).containsExactly(10L, 100L, 1000L);
+    }
+
+    @Test
+    void testSettersWithIllegalParameters() {
+        // given
+        final HistogramMetric.Config config = new HistogramMetric.Config(CATEGORY, NAME);
+
+        // then
+        assertThatThrownBy(() -> config.withDescription(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.withUnit(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.withBucketBoundaries((long[]) null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.withBucketBoundaries(-1L, 10L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.withBucketBoundaries(10L, 10L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.withBucketBoundaries(10L, 5L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testToString() {
+        // given
+        final HistogramMetric.Config config = new HistogramMetric.Config(CATEGORY, NAME)
+                .withDescription(DESCRIPTION)
+                .withUnit(UNIT)
+                .withBucketBoundaries(12345L);
+
+        // then
+        assertThat(config.toString()).contains(CATEGORY, NAME, DESCRIPTION, UNIT, "12345");
+    }
+}
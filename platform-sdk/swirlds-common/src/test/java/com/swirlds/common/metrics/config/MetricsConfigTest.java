@@ -38,6 +38,7 @@ class MetricsConfigTest {
     static final String DEFAULT_CSV_APPEND = "false";
     static final String DEFAULT_CSV_WRITE_FREQUENCY = "3000";
     static final String DEFAULT_METRICS_DOC_FILE_NAME = "metricsDoc.tsv";
+    static final String DEFAULT_STRIPED_DISTRIBUTION_METRICS = "false";
 
     @Test
     @DisplayName("Testing default metrics configuration")
@@ -54,6 +55,8 @@ class MetricsConfigTest {
         assertThat(metricsConfig.csvAppend()).isEqualTo(Boolean.valueOf(DEFAULT_CSV_APPEND));
         assertThat(metricsConfig.csvWriteFrequency()).isEqualTo(Integer.valueOf(DEFAULT_CSV_WRITE_FREQUENCY));
         assertThat(metricsConfig.metricsDocFileName()).isEqualTo(DEFAULT_METRICS_DOC_FILE_NAME);
+        assertThat(metricsConfig.stripedDistributionMetrics())
+                .isEqualTo(Boolean.valueOf(DEFAULT_STRIPED_DISTRIBUTION_METRICS));
     }
 
     @Test
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform;
+
+import static com.swirlds.common.metrics.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.HistogramSnapshot;
+import com.swirlds.common.metrics.MetricType;
+import com.swirlds.common.metrics.platform.Snapshot.SnapshotEntry;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class DefaultHistogramMetricTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+
+    @Test
+    void testConstructor() {
+        final HistogramMetric.Config config = new HistogramMetric.Config(CATEGORY, NAME)
+                .withDescription(DESCRIPTION)
+                .withUnit(UNIT)
+                .withBucketBoundaries(10L, 100L);
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(config);
+
+        assertThat(metric.getCategory()).isEqualTo(CATEGORY);
+        assertThat(metric.getName()).isEqualTo(NAME);
+        assertThat(metric.getDescription()).isEqualTo(DESCRIPTION);
+        assertThat(metric.getUnit()).isEqualTo(UNIT);
+        assertThat(metric.getMetricType()).isEqualTo(MetricType.HISTOGRAM);
+        assertThat(metric.getValueTypes()).containsExactly(VALUE);
+        assertThat(metric.getBucketBoundaries()).containsExactly(10L, 100L);
+        assertThat(metric.getSnapshot().getCount()).isZero();
+    }
+
+    @Test
+    void testBucketLayout() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 1_000_000; i++) {
+            final long value = i < 10_000 ? i : random.nextLong() >>> (1 + random.nextInt(63));
+            final int index = DefaultHistogramMetric.bucketIndex(value);
+            assertThat(DefaultHistogramMetric.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(DefaultHistogramMetric.bucketUpperBound(index - 1)).isLessThan(value);
+            }
+        }
+        assertThat(DefaultHistogramMetric.bucketUpperBound(DefaultHistogramMetric.BUCKET_COUNT - 1))
+                .isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void testPercentiles() {
+        // given
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+
+        // when
+        for (long value = 1; value <= 10_000; value++) {
+            metric.update(value);
+        }
+
+        // then
+        final HistogramSnapshot snapshot = metric.getSnapshot();
+        assertThat(snapshot.getCount()).isEqualTo(10_000L);
+        assertThat(snapshot.getSum()).isEqualTo(50_005_000L);
+        assertThat(snapshot.getMin()).isEqualTo(1L);
+        assertThat(snapshot.getMax()).isEqualTo(10_000L);
+        assertThat(snapshot.getMean()).isEqualTo(5000.5);
+        assertRelativeError(snapshot.getValueAtPercentile(50.0), 5_000L);
+        assertRelativeError(snapshot.getValueAtPercentile(99.0), 9_900L);
+        assertRelativeError(snapshot.getValueAtPercentile(99.9), 9_990L);
+        assertThat(snapshot.getValueAtPercentile(100.0)).isEqualTo(10_000L);
+        assertThat(snapshot.getValueAtPercentile(0.0)).isEqualTo(1L);
+        assertThat(snapshot.getCountAtOrBelow(31L)).isEqualTo(31L);
+        assertThat(snapshot.getCountAtOrBelow(Long.MAX_VALUE)).isEqualTo(10_000L);
+        assertThatThrownBy(() -> snapshot.getValueAtPercentile(100.1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testBoundaryInsideBucket() {
+        // given
+        final DefaultHistogramMetric metric =
+                new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME).withBucketBoundaries(100L));
+
+        // when
+        metric.update(100L);
+        metric.update(101L);
+        metric.update(102L);
+
+        // then
+        final HistogramSnapshot snapshot = metric.getSnapshot();
+        assertThat(snapshot.getCountAtOrBelow(100L)).isEqualTo(1L);
+        assertThat(snapshot.getCountAtOrBelow(Long.MAX_VALUE)).isEqualTo(3L);
+        assertThat(snapshot.getValueAtPercentile(100.0)).isEqualTo(102L);
+    }
+
+    private static void assertRelativeError(final long actual, final long expected) {
+        assertThat((double) Math.abs(actual - expected) / expected).isLessThanOrEqualTo(1.0 / 32);
+    }
+
+    @Test
+    void testUpdateWithNegativeValue() {
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        assertThatThrownBy(() -> metric.update(-1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testConcurrentUpdates() throws InterruptedException {
+        // given
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        final int threadCount = 8;
+        final int updatesPerThread = 100_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch done = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            executor.execute(() -> {
+                for (int i = 1; i <= updatesPerThread; i++) {
+                    metric.update(i);
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        final HistogramSnapshot snapshot = metric.getSnapshot();
+        assertThat(snapshot.getCount()).isEqualTo((long) threadCount * updatesPerThread);
+        assertThat(snapshot.getSum()).isEqualTo(threadCount * (updatesPerThread * (updatesPerThread + 1L) / 2));
+        assertThat(snapshot.getMax()).isEqualTo(updatesPerThread);
+    }
+
+    @Test
+    void testSnapshotAndReset() {
+        // given
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        metric.update(3L);
+        metric.update(5L);
+
+        // when
+        final List<SnapshotEntry> entries = metric.takeSnapshot();
+        metric.reset();
+
+        // then
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).valueType()).isEqualTo(VALUE);
+        final HistogramSnapshot snapshot = (HistogramSnapshot) entries.get(0).value();
+        assertThat(snapshot.getCount()).isEqualTo(2L);
+        assertThat(snapshot.getMin()).isEqualTo(3L);
+        assertThat(metric.get(VALUE).getCount()).isZero();
+        assertThat(metric.getSnapshot().getMax()).isZero();
+    }
+}
@@ -26,6 +26,7 @@ import com.swirlds.common.internal.SettingsCommon;
 import com.swirlds.common.metrics.Counter;
 import com.swirlds.common.metrics.DoubleGauge;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.IntegerAccumulator;
 import com.swirlds.common.metrics.IntegerGauge;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
@@ -538,6 +539,36 @@ class LegacyCsvWriterTest {
 				""");
     }
 
+    @Test
+    void testWriteHistogram() throws IOException {
+        // given
+        final LegacyCsvWriter writer = new LegacyCsvWriter(NODE_ID, tempDir, metricsConfig);
+        final Path csvFilePath = writer.getCsvFilePath();
+        final HistogramMetric histogram =
+                metrics.getOrCreate(new HistogramMetric.Config(Metrics.PLATFORM_CATEGORY, "Histogram"));
+        for (long value = 1; value <= 100; value++) {
+            histogram.update(value);
+        }
+        final Snapshot snapshot = Snapshot.of((DefaultMetric) histogram);
+        final SnapshotEvent notification = new SnapshotEvent(NODE_ID, List.of(snapshot));
+
+        // when
+        writer.handleSnapshots(notification);
+
+        // then
+        final String content = Files.readString(csvFilePath);
+        assertThat(content)
+                .matches(
+                        """
+				filename:,.*,
+				Histogram:,Histogram,
+
+				,,platform,platform,platform,platform,
+				,,HistogramP50,HistogramP99,HistogramP999,HistogramMax,
+				,,50,99,100,100,
+				""");
+    }
+
     @Test
     void testChangedEntriesWithSimpleMetrics() throws IOException {
         // given
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform;
+
+import static com.swirlds.common.metrics.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.test.fixtures.FakeTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class StripedRunningAverageMetricTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+
+    private static final double EPSILON = 1e-6;
+
+    @Test
+    void testFactoryCreatesStripedMetric() {
+        final RunningAverageMetric.Config config = new RunningAverageMetric.Config(CATEGORY, NAME);
+
+        assertThat(new DefaultMetricsFactory(true).createRunningAverageMetric(config))
+                .isInstanceOf(StripedRunningAverageMetric.class);
+        assertThat(new DefaultMetricsFactory().createRunningAverageMetric(config))
+                .isInstanceOf(DefaultRunningAverageMetric.class);
+    }
+
+    @Test
+    void testRegularUpdates() {
+        // given
+        final FakeTime time = new FakeTime();
+        final RunningAverageMetric.Config config = new RunningAverageMetric.Config(CATEGORY, NAME);
+        final RunningAverageMetric metric = new StripedRunningAverageMetric(config, time);
+
+        for (int i = 0; i < 1000; i++) {
+            // when
+            time.set(Duration.ofSeconds(i).plusMillis(500));
+            metric.update(Math.PI);
+            metric.update(Math.PI);
+            time.set(Duration.ofSeconds(i + 1));
+
+            // then
+            assertEquals(Math.PI, metric.get(), EPSILON, "Mean should be " + Math.PI);
+        }
+    }
+
+    @Test
+    void testNaNIsIgnored() {
+        // given
+        final FakeTime time = new FakeTime();
+        final RunningAverageMetric.Config config = new RunningAverageMetric.Config(CATEGORY, NAME);
+        final RunningAverageMetric metric = new StripedRunningAverageMetric(config, time);
+
+        // when
+        metric.update(Math.E);
+        metric.update(Double.NaN);
+        time.set(Duration.ofSeconds(1));
+
+        // then
+        assertEquals(Math.E, metric.get(), EPSILON, "NaN should not be recorded");
+    }
+
+    @Test
+    void testConcurrentUpdates() throws InterruptedException {
+        // given
+        final FakeTime time = new FakeTime();
+        final RunningAverageMetric.Config config = new RunningAverageMetric.Config(CATEGORY, NAME);
+        final StripedRunningAverageMetric metric = new StripedRunningAverageMetric(config, time);
+        final int threadCount = 8;
+        final int updatesPerThread = 10_000;
+
+        // when
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final double value = i + 1;
+            final Thread thread = new Thread(() -> {
+                for (int j = 0; j < updatesPerThread; j++) {
+                    metric.update(value);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        time.set(Duration.ofSeconds(1));
+
+        // then
+        final double expected = (threadCount + 1) / 2.0;
+        assertEquals(expected, (double) metric.takeSnapshot().get(0).value(), EPSILON, "Mean of all threads' values");
+        assertEquals(expected, metric.get(VALUE), EPSILON, "Mean of all threads' values");
+    }
+
+    @Test
+    void testConcurrentMergesSeeMatchingSumsAndCounts() throws InterruptedException {
+        // given
+        final FakeTime time = new FakeTime();
+        final RunningAverageMetric.Config config = new RunningAverageMetric.Config(CATEGORY, NAME);
+        final StripedRunningAverageMetric metric = new StripedRunningAverageMetric(config, time);
+        final int threadCount = 8;
+        final int updatesPerThread = 100_000;
+        final AtomicBoolean mismatch = new AtomicBoolean();
+
+        // when
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final Thread thread = new Thread(() -> {
+                for (int j = 0; j < updatesPerThread; j++) {
+                    metric.update(Math.PI);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        final Thread reader = new Thread(() -> {
+            while (threads.stream().anyMatch(Thread::isAlive)) {
+                final double mean = metric.get();
+                if (mean != 0 && Math.abs(mean - Math.PI) > EPSILON) {
+                    mismatch.set(true);
+                }
+            }
+        });
+        reader.start();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        reader.join();
+        time.set(Duration.ofSeconds(1));
+
+        // then
+        assertFalse(mismatch.get(), "Every merge should see the sum and the count of the same values");
+        assertEquals(Math.PI, metric.get(), EPSILON, "Mean of a constant input should be that constant");
+    }
+}
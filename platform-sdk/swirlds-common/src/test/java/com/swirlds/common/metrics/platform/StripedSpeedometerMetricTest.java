@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform;
+
+import static com.swirlds.common.metrics.Metric.ValueType.MAX;
+import static com.swirlds.common.metrics.Metric.ValueType.MIN;
+import static com.swirlds.common.metrics.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.test.fixtures.FakeTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StripedSpeedometerMetricTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+
+    private static final double EPSILON = 1e-6;
+
+    @Test
+    void testFactoryCreatesStripedMetric() {
+        final SpeedometerMetric.Config config = new SpeedometerMetric.Config(CATEGORY, NAME);
+
+        assertThat(new DefaultMetricsFactory(true).createSpeedometerMetric(config))
+                .isInstanceOf(StripedSpeedometerMetric.class);
+        assertThat(new DefaultMetricsFactory().createSpeedometerMetric(config))
+                .isInstanceOf(DefaultSpeedometerMetric.class);
+    }
+
+    @Test
+    void testRegularRateFivePerSecondWithUpdate() {
+        // given
+        final FakeTime time = new FakeTime();
+        final SpeedometerMetric.Config config = new SpeedometerMetric.Config(CATEGORY, NAME);
+        final SpeedometerMetric metric = new StripedSpeedometerMetric(config, time);
+
+        for (int i = 0; i < 1000; i++) {
+            // when
+            time.set(Duration.ofSeconds(i).plusMillis(500));
+            metric.update(5);
+            time.set(Duration.ofSeconds(i + 1));
+            final double rate = metric.get();
+
+            // then
+            assertEquals(5.0, rate, 0.01, "Rate should be 5.0");
+        }
+        assertEquals(5.0, metric.get(MIN), 0.1, "Min. rate should be about 5.0");
+        assertEquals(5.0, metric.get(MAX), 0.1, "Max. rate should be about 5.0");
+    }
+
+    @Test
+    void testConcurrentCycles() throws InterruptedException {
+        // given
+        final FakeTime time = new FakeTime();
+        final SpeedometerMetric.Config config = new SpeedometerMetric.Config(CATEGORY, NAME);
+        final StripedSpeedometerMetric metric = new StripedSpeedometerMetric(config, time);
+        final int threadCount = 8;
+        final int cyclesPerThread = 10_000;
+
+        // when
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final Thread thread = new Thread(() -> {
+                for (int j = 0; j < cyclesPerThread; j++) {
+                    metric.cycle();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        time.set(Duration.ofSeconds(1));
+
+        // then
+        final double expected = threadCount * cyclesPerThread;
+        assertEquals(expected, (double) metric.takeSnapshot().get(0).value(), EPSILON, "No cycle should be lost");
+        assertEquals(expected, metric.get(VALUE), EPSILON, "No cycle should be lost");
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.threading.framework.internal;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import com.swirlds.common.threading.framework.QueueThread;
+import com.swirlds.common.threading.framework.config.QueueThreadConfiguration;
+import com.swirlds.common.threading.framework.config.QueueThreadPoolConfiguration;
+import com.swirlds.common.threading.framework.config.QueueType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Testing MpscBlockingQueue")
+class MpscBlockingQueueTest {
+
+    @Test
+    @DisplayName("Testing capacity")
+    void offerShouldFailWhenFull() throws InterruptedException {
+        final MpscBlockingQueue<Integer> queue = new MpscBlockingQueue<>(3, true);
+
+        assertThat(queue.offer(1)).isTrue();
+        assertThat(queue.offer(2)).isTrue();
+        assertThat(queue.offer(3)).isTrue();
+        assertThat(queue.offer(4)).isFalse();
+        assertThat(queue.offer(4, 1, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(queue).hasSize(3);
+        assertThat(queue.remainingCapacity()).isZero();
+
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.offer(4)).isTrue();
+        assertThat(queue).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Testing order across laps of the ring")
+    void elementsShouldBeRemovedInOrder() throws InterruptedException {
+        final MpscBlockingQueue<Integer> queue = new MpscBlockingQueue<>(4, true);
+
+        for (int i = 0; i < 100; i++) {
+            queue.put(i);
+            assertThat(queue.peek()).isEqualTo(i);
+            assertThat(queue.take()).isEqualTo(i);
+        }
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.poll(1, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Testing drainTo")
+    void drainToShouldRespectMaxElements() {
+        final MpscBlockingQueue<Integer> queue = new MpscBlockingQueue<>(10, true);
+        for (int i = 0; i < 10; i++) {
+            queue.add(i);
+        }
+
+        final List<Integer> buffer = new ArrayList<>();
+        assertThat(queue.drainTo(buffer, 4)).isEqualTo(4);
+        assertThat(buffer).containsExactly(0, 1, 2, 3);
+        assertThat(queue.drainTo(buffer)).isEqualTo(6);
+        assertThat(buffer).hasSize(10);
+        assertThat(queue).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Testing unsupported operations")
+    void invalidOperationsShouldThrow() {
+        final MpscBlockingQueue<Integer> queue = new MpscBlockingQueue<>(2, true);
+        queue.add(1);
+
+        assertThatThrownBy(() -> new MpscBlockingQueue<>(0, true)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> queue.offer(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> queue.remove(1)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> queue.drainTo(queue)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    @DisplayName("Testing many producers")
+    void everyElementShouldBeReceivedOnce(final boolean parkConsumer) throws InterruptedException {
+        final int producerCount = 4;
+        final int elementsPerProducer = 10_000;
+        final BlockingQueue<Long> queue = new MpscBlockingQueue<>(16, parkConsumer);
+
+        final List<Thread> producers = new ArrayList<>();
+        for (int producer = 0; producer < producerCount; producer++) {
+            final long base = (long) producer * elementsPerProducer;
+            final Thread thread = new Thread(() -> {
+                try {
+                    for (int i = 0; i < elementsPerProducer; i++) {
+                        queue.put(base + i);
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+
+        // Elements from any single producer must arrive in the order they were inserted
+        final long[] lastSeen = new long[producerCount];
+        Arrays.fill(lastSeen, -1);
+        final boolean[] seen = new boolean[producerCount * elementsPerProducer];
+        for (int i = 0; i < producerCount * elementsPerProducer; i++) {
+            final long element = queue.take();
+            final int producer = (int) (element / elementsPerProducer);
+            assertThat(element).isGreaterThan(lastSeen[producer]);
+            assertThat(seen[(int) element]).isFalse();
+            lastSeen[producer] = element;
+            seen[(int) element] = true;
+        }
+
+        for (final Thread thread : producers) {
+            thread.join();
+        }
+        assertThat(queue).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Testing queue thread configuration")
+    void configurationShouldBuildLockFreeQueue() throws InterruptedException {
+        final List<Integer> handled = new ArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1000);
+        final QueueThread<Integer> queueThread = new QueueThreadConfiguration<Integer>(getStaticThreadManager())
+                .setThreadName("mpsc-test")
+                .setQueueType(QueueType.LOCK_FREE)
+                .setHandler(element -> {
+                    handled.add(element);
+                    done.countDown();
+                })
+                .build(true);
+
+        for (int i = 0; i < 1000; i++) {
+            queueThread.put(i);
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        queueThread.stop();
+
+        assertThat(handled).hasSize(1000).isSorted();
+
+        assertThatThrownBy(() -> new QueueThreadConfiguration<Integer>(getStaticThreadManager())
+                        .setQueueType(QueueType.LOCK_FREE)
+                        .setUnlimitedCapacity()
+                        .setHandler(handled::add)
+                        .build())
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new QueueThreadPoolConfiguration<Integer>(getStaticThreadManager())
+                        .setQueueType(QueueType.LOCK_FREE)
+                        .setHandler(handled::add)
+                        .build())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -26,10 +26,11 @@ import com.swirlds.common.utility.UnmodifiableIterator;
 import com.swirlds.common.utility.ValueReference;
 import com.swirlds.fchashmap.FCHashMap;
 import com.swirlds.fchashmap.ModifiableValue;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
@@ -54,22 +55,18 @@ public class FCHashMapFamily<K, V> {
     private final Map<K, Mutation<V>> data;
 
     /**
-     * Tracks maps that need to be purged when they are deleted.
+     * Tracks maps that need to be purged when they are deleted, sorted by version. New copies are always appended
+     * to the end, so the list remains sorted without any extra effort. The list is only as long as the number of
+     * undeleted copies, so it is cheap to copy when a map is created or deleted.
      */
-    private final Map<Long, UnPurgedMap<K, V>> mapsNeedingPurging = new ConcurrentHashMap<>();
+    private final List<UnPurgedMap<K, V>> mapsNeedingPurging = new CopyOnWriteArrayList<>();
 
     /**
-     * The youngest map in the family. Only this map is mutable. This forms one end of the
+     * The youngest map in the family. Only this map is mutable. This forms the head of the
      * linked list that is made up of {@link UnPurgedMap} copies.
      */
     private UnPurgedMap<K, V> mutableMap;
 
-    /**
-     * The oldest map in the family that has not yet been deleted. This forms one end of the
-     * linked list that is made up of {@link UnPurgedMap} copies.
-     */
-    private UnPurgedMap<K, V> oldestMap;
-
     /**
      * Prevents concurrent deletion of copies within the family.
      */
@@ -84,8 +81,7 @@ public class FCHashMapFamily<K, V> {
     public FCHashMapFamily(final int capacity) {
         data = new ConcurrentHashMap<>(capacity, LOAD_FACTOR, CONCURRENCY_LEVEL);
         mutableMap = new UnPurgedMap<>(0L);
-        oldestMap = mutableMap;
-        mapsNeedingPurging.put(0L, mutableMap);
+        mapsNeedingPurging.add(mutableMap);
     }
 
     /**
@@ -117,7 +113,7 @@ public class FCHashMapFamily<K, V> {
         final long nextVersion = mutableMap.getVersion() + 1;
 
         final UnPurgedMap<K, V> newMap = new UnPurgedMap<>(nextVersion);
-        mapsNeedingPurging.put(nextVersion, newMap);
+        mapsNeedingPurging.add(newMap);
 
         mutableMap.setNext(newMap);
         newMap.setPrevious(mutableMap);
@@ -206,6 +202,20 @@ public class FCHashMapFamily<K, V> {
 
         final long version = mutableMap.getVersion();
 
+        if (value != null) {
+            // Fast path: if this version already has a value for the key then the value can be replaced in place
+            // without locking the key in the map or allocating anything. A mutation with the current version is
+            // never replaced as the head of its list, and is only removed from the map after it becomes a deletion,
+            // which replaceValueIfPresent() excludes. The size of the map does not change.
+            final Mutation<V> head = data.get(key);
+            if (head != null && head.getVersion() == version) {
+                final V originalValue = head.replaceValueIfPresent(value);
+                if (originalValue != null) {
+                    return originalValue;
+                }
+            }
+        }
+
         final ValueReference<V> originalValueReference = new ValueReference<>();
         final ValueReference<Mutation<V>> mutationToPurge = new ValueReference<>(null);
 
@@ -318,6 +328,18 @@ public class FCHashMapFamily<K, V> {
     public ModifiableValue<V> getForModify(final K key) {
 
         final long version = mutableMap.getVersion();
+
+        // Fast path: if the key was already modified in this version then its value is already safe to modify,
+        // and there is no need to lock the key in the map.
+        final Mutation<V> head = data.get(key);
+        if (head == null) {
+            return null;
+        }
+        if (head.getVersion() == version) {
+            final V value = head.getValue();
+            return value == null ? null : new ModifiableValue<>(value, value);
+        }
+
         final ValueReference<V> original = new ValueReference<>();
         final Mutation<V> mutation = data.compute(key, new GetForModifyHandler<>(version, original));
 
@@ -361,24 +383,36 @@ public class FCHashMapFamily<K, V> {
     }
 
     /**
-     * For each version, deleted and undeleted, between the highest and lowest undeleted version (inclusive), find the
-     * first undeleted greater or equal version.
+     * Find the oldest undeleted map with a version that meets or exceeds the given version.
      *
-     * @return a map of version to first undeleted greater or equal version
+     * @param undeletedMaps
+     * 		all undeleted maps, sorted by version
+     * @param version
+     * 		the version to search for
+     * @return the first undeleted map with a version greater or equal to the given version, or the youngest undeleted
+     * 		map if all undeleted maps are older than the version
      */
-    private Map<Long, Long> buildNextUndeletedVersionMap() {
-        final Map<Long, Long> nextUndeletedVersionMap = new HashMap<>();
-
-        UnPurgedMap<K, V> nextUndeletedMap = mutableMap;
-        for (long version = mutableMap.getVersion(); version >= oldestMap.getVersion(); version--) {
-            final UnPurgedMap<K, V> undeletedMap = mapsNeedingPurging.get(version);
-            if (undeletedMap != null) {
-                nextUndeletedMap = undeletedMap;
+    private static <K, V> UnPurgedMap<K, V> findNextUndeletedMap(
+            final UnPurgedMap<K, V>[] undeletedMaps, final long version) {
+        int low = 0;
+        int high = undeletedMaps.length - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (undeletedMaps[middle].getVersion() < version) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
-            nextUndeletedVersionMap.put(version, nextUndeletedMap.getVersion());
         }
+        return undeletedMaps[low];
+    }
 
-        return nextUndeletedVersionMap;
+    /**
+     * Get a snapshot of the maps that have not yet been deleted, sorted by version.
+     */
+    @SuppressWarnings("unchecked")
+    private UnPurgedMap<K, V>[] getUndeletedMaps() {
+        return mapsNeedingPurging.toArray(new UnPurgedMap[0]);
     }
 
     /**
@@ -386,12 +420,8 @@ public class FCHashMapFamily<K, V> {
      *
      * @param target
      * 		the mutation we are trying to purge (i.e. delete from the linked list of mutations)
-     * @param nextUndeletedVersion
-     * 		this is the version of the first undeleted map that meets or exceeds the target mutation's version
-     * @param mapsNeedingPurging
-     * 		all maps that are currently not purged (i.e. we have not done garbage collection on them yet).
-     * 		This may be because the maps are not yet deleted, or because they have been deleted but we haven't gotten
-     * 		around to purging their data yet.
+     * @param nextUndeletedMap
+     * 		this is the first undeleted map with a version that meets or exceeds the target mutation's version
      * @param currentMapVersion
      * 		the version of the map that is being purged
      * @param <K>
@@ -400,10 +430,7 @@ public class FCHashMapFamily<K, V> {
      * 		the type of the value
      */
     private record PurgeMutationHandler<K, V>(
-            Mutation<V> target,
-            long nextUndeletedVersion,
-            Map<Long, UnPurgedMap<K, V>> mapsNeedingPurging,
-            long currentMapVersion)
+            Mutation<V> target, UnPurgedMap<K, V> nextUndeletedMap, long currentMapVersion)
             implements BiFunction<K, Mutation<V>, Mutation<V>> {
 
         /**
@@ -424,6 +451,7 @@ public class FCHashMapFamily<K, V> {
             final Mutation<V> next = target.getNext();
             requireNonNull(next, "Next should not be null. Mutation being purged is the latest mutation.");
 
+            final long nextUndeletedVersion = nextUndeletedMap.getVersion();
             if (next.getVersion() <= nextUndeletedVersion) {
                 // The next mutation is visible to the next undeleted map, meaning the target
                 // mutation is unreachable and safe to purge.
@@ -436,7 +464,7 @@ public class FCHashMapFamily<K, V> {
             } else {
                 // This mutation is currently visible to an undeleted map.
                 // Retry purging when that map is deleted.
-                if (!mapsNeedingPurging.get(nextUndeletedVersion).schedulePurging(key, target)) {
+                if (!nextUndeletedMap.schedulePurging(key, target)) {
                     // This should be impossible
                     throw new IllegalStateException(("Unable to schedule purging for mutation with map version %d, "
                                     + "this should not be possible, since map version %d is currently "
@@ -461,25 +489,23 @@ public class FCHashMapFamily<K, V> {
      * 		the version of the map that is being purged
      * @param purgingEvent
      * 		describes the mutation to purge
-     * @param nextUndeletedVersionMap
-     * 		a map of hypothetical mutation versions to the first version of an undeleted
-     * 		map that has a version that is greater or equal to the mutation version
+     * @param undeletedMaps
+     * 		all maps that are currently not purged (i.e. we have not done garbage collection on them yet), sorted by
+     * 		version. This may be because the maps are not yet deleted, or because they have been deleted but we
+     * 		haven't gotten around to purging their data yet.
      */
     private void purgeMutation(
             final long currentMapVersion,
             final PurgingEvent<K, V> purgingEvent,
-            final Map<Long, Long> nextUndeletedVersionMap) {
+            final UnPurgedMap<K, V>[] undeletedMaps) {
 
         // This is the mutation we want to purge, if possible.
         final Mutation<V> target = purgingEvent.mutation();
 
-        // This is the first undeleted map version that meets or exceeds the target mutation's version.
-        final long nextUndeletedVersion =
-                nextUndeletedVersionMap.getOrDefault(target.getVersion(), oldestMap.getVersion());
+        // This is the first undeleted map that meets or exceeds the target mutation's version.
+        final UnPurgedMap<K, V> nextUndeletedMap = findNextUndeletedMap(undeletedMaps, target.getVersion());
 
-        data.compute(
-                purgingEvent.key(),
-                new PurgeMutationHandler<>(target, nextUndeletedVersion, mapsNeedingPurging, currentMapVersion));
+        data.compute(purgingEvent.key(), new PurgeMutationHandler<>(target, nextUndeletedMap, currentMapVersion));
     }
 
     /**
@@ -498,13 +524,14 @@ public class FCHashMapFamily<K, V> {
                 return;
             }
 
-            final UnPurgedMap<K, V> mapToDelete = mapsNeedingPurging.remove(mapVersion);
+            final UnPurgedMap<K, V> mapToDelete = findNextUndeletedMap(getUndeletedMaps(), mapVersion);
 
-            if (mapToDelete == null) {
+            if (mapToDelete.getVersion() != mapVersion) {
                 // This should be impossible.
                 throw new IllegalStateException("Map with version " + mapVersion + " does not exist");
             }
 
+            mapsNeedingPurging.remove(mapToDelete);
             mapToDelete.markAsPurged();
 
             // Remove the map from the list of undeleted maps.
@@ -517,13 +544,9 @@ public class FCHashMapFamily<K, V> {
                 next.setPrevious(previous);
             }
 
-            if (mapVersion == oldestMap.getVersion()) {
-                oldestMap = oldestMap.getNext();
-            }
-
-            final Map<Long, Long> nextUndeletedVersionMap = buildNextUndeletedVersionMap();
+            final UnPurgedMap<K, V>[] undeletedMaps = getUndeletedMaps();
             for (final PurgingEvent<K, V> event : mapToDelete) {
-                purgeMutation(mapVersion, event, nextUndeletedVersionMap);
+                purgeMutation(mapVersion, event, undeletedMaps);
             }
         }
     }
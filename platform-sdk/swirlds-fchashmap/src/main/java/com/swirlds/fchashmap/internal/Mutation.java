@@ -82,10 +82,27 @@ public class Mutation<V> {
      * @param value
      * 		the value of the mutation, or null if this mutation should signify a deletion
      */
-    public void setValue(final V value) {
+    public synchronized void setValue(final V value) {
         this.value = value;
     }
 
+    /**
+     * Replace the value held by this mutation, unless this mutation signifies a deletion. Mutually exclusive with
+     * {@link #setValue(Object)}, so a mutation that is observed to hold a value can not be concurrently turned into a
+     * deletion (and removed from the map) while its value is being replaced.
+     *
+     * @param value
+     * 		the new value, must not be null
+     * @return the original value, or null if this mutation signifies a deletion and the value was not replaced
+     */
+    public synchronized V replaceValueIfPresent(final V value) {
+        final V original = this.value;
+        if (original != null) {
+            this.value = value;
+        }
+        return original;
+    }
+
     /**
      * Get the version of the {@link com.swirlds.fchashmap.FCHashMap FCHashMap} when this mutation was created.
      *
@@ -17,8 +17,8 @@
 package com.swirlds.fchashmap.internal;
 
 import com.swirlds.fchashmap.FCHashMap;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -62,7 +62,7 @@ public class UnPurgedMap<K, V> implements Iterable<PurgingEvent<K, V>> {
     /**
      * Keys that require garbage collection work when this copy of the map is purged.
      */
-    private final List<PurgingEvent<K, V>> purgingEvents = new LinkedList<>();
+    private final List<PurgingEvent<K, V>> purgingEvents = new ArrayList<>();
 
     /**
      * True if this map has been purged, or is in the process of being purged.
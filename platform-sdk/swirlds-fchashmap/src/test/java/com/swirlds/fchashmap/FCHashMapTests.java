@@ -29,12 +29,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.swirlds.common.exceptions.MutabilityException;
 import com.swirlds.common.exceptions.ReferenceCountException;
 import com.swirlds.common.test.fcqueue.FCInt;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import org.junit.jupiter.api.Assertions;
@@ -588,4 +590,98 @@ public class FCHashMapTests {
             assertEquals(Integer.toString(i), map.get(i), "unexpected value");
         }
     }
+
+    @Test
+    @DisplayName("Release Retained Copies Out Of Order")
+    void releaseRetainedCopiesOutOfOrder() {
+        final Random random = new Random(42);
+        final int numberOfCopies = 200;
+        final int keyCount = 50;
+
+        FCHashMap<Integer, String> fcHashMap = new FCHashMap<>();
+        final Map<Integer, String> referenceMap = new HashMap<>();
+        final List<MapPair> retainedCopies = new ArrayList<>();
+
+        for (int copyIndex = 0; copyIndex < numberOfCopies; copyIndex++) {
+            for (int i = 0; i < 20; i++) {
+                final int key = random.nextInt(keyCount);
+                if (random.nextInt(4) == 0) {
+                    assertEquals(referenceMap.remove(key), fcHashMap.remove(key), "removed value should match");
+                } else {
+                    final String value = copyIndex + "-" + i;
+                    assertEquals(referenceMap.put(key, value), fcHashMap.put(key, value), "old value should match");
+                }
+            }
+
+            final FCHashMap<Integer, String> copy = fcHashMap.copy();
+            retainedCopies.add(new MapPair(fcHashMap, new HashMap<>(referenceMap)));
+            fcHashMap = copy;
+
+            // Keep a varying window of old copies alive, releasing them in random order
+            while (retainedCopies.size() > 1 + random.nextInt(20)) {
+                retainedCopies.remove(random.nextInt(retainedCopies.size())).fcHashMap.release();
+            }
+            if (copyIndex % 10 == 0) {
+                for (final MapPair pair : retainedCopies) {
+                    assertMapEquality(pair.fcHashMap, pair.hashMap);
+                }
+            }
+        }
+
+        for (final MapPair pair : retainedCopies) {
+            assertMapEquality(pair.fcHashMap, pair.hashMap);
+            pair.fcHashMap.release();
+        }
+        assertMapEquality(fcHashMap, referenceMap);
+        fcHashMap.release();
+    }
+
+    @Test
+    @DisplayName("Concurrent Updates Of The Same Keys")
+    void concurrentUpdatesOfTheSameKeys() throws InterruptedException {
+        final int threadCount = 8;
+        final int keyCount = 16;
+        final int iterations = 10_000;
+
+        final FCHashMap<Integer, Integer> original = new FCHashMap<>();
+        final FCHashMap<Integer, Integer> map = original.copy();
+        for (int key = 0; key < keyCount; key++) {
+            map.put(key, -1);
+        }
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int threadIndex = 0; threadIndex < threadCount; threadIndex++) {
+            final int id = threadIndex;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < iterations; i++) {
+                    final int key = i % keyCount;
+                    map.put(key, id);
+                    if (i % 7 == id % 7) {
+                        map.remove(key);
+                    }
+                    map.getForModify(key);
+                }
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        int presentKeys = 0;
+        for (int key = 0; key < keyCount; key++) {
+            if (map.get(key) != null) {
+                presentKeys++;
+            }
+        }
+        assertEquals(presentKeys, map.size(), "size should match the number of keys present");
+        for (int key = 0; key < keyCount; key++) {
+            assertNull(original.get(key), "older copy should not observe updates");
+        }
+
+        original.release();
+        map.release();
+    }
 }
@@ -36,6 +36,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Queue;
@@ -186,20 +187,32 @@ public class FCQueue<E extends FastCopyable & SerializableHashable> extends Part
     private byte[] computeHash() {
         // Ensure we have tail's running hash
         if (tail.runningHash == null) {
-            Node<E> node = unhashed.get();
-            while (tail.runningHash == null) {
+            // Element hashes are independent of each other and can be computed in parallel,
+            // only combining them into running hashes needs to happen in order
+            final List<Node<E>> pending = new ArrayList<>();
+            Node<E> unhashedNode = unhashed.get();
+            // If another copy in the group has already hashed past our tail then tail's running hash is now set
+            while (tail.runningHash == null && unhashedNode != tail) {
+                if (unhashedNode.next.runningHash == null) {
+                    pending.add(unhashedNode);
+                }
+                unhashedNode = unhashedNode.next;
+            }
+            final byte[][] elementHashes = ParallelElementHasher.hashElements(pending, node -> getHash(node.element));
+
+            for (int index = 0; index < pending.size(); index++) {
+                final Node<E> node = pending.get(index);
                 final Node<E> next = node.next;
                 if (next.runningHash == null) {
-                    final byte[] elementHash = getHash(node.element);
+                    final byte[] elementHash = elementHashes[index];
                     final long[] runningHash = node.runningHash.clone();
                     for (int i = 0; i < runningHash.length; ++i) {
                         runningHash[i] = runningHash[i] * HASH_RADIX + byteArrayToLong(elementHash, i * Long.BYTES);
                     }
                     next.runningHash = runningHash;
                 }
-                node = next;
             }
-            unhashed.set(node); // it's OK to advance unhashed non-deterministically between multiple threads
+            unhashed.set(tail); // it's OK to advance unhashed non-deterministically between multiple threads
         }
 
         // Compute the queue hash as a weighted difference of running hashes of head and tail
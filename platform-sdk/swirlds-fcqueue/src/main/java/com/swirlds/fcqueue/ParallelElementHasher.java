@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fcqueue;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Computes the hashes of a batch of queue elements, in parallel if the batch is large enough. Element hashes are
+ * independent of one another, so only the combination of the hashes into a running hash needs to be done in order.
+ */
+final class ParallelElementHasher {
+
+    /**
+     * Batches smaller than this are hashed on the calling thread.
+     */
+    static final int PARALLEL_THRESHOLD = 64;
+
+    /**
+     * The number of elements claimed by a thread at a time.
+     */
+    private static final int CHUNK_SIZE = 16;
+
+    private static final int THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * How long, in seconds, a pool thread waits for more work before it exits.
+     */
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+    /**
+     * Holds the thread pool shared by all queues. The pool is only created the first time a batch is large enough to
+     * be hashed in parallel, so processes that never hash such a batch never create it.
+     */
+    private static final class ThreadPoolHolder {
+        /**
+         * Threads are started on demand and exit after being idle for {@link #IDLE_THREAD_TIMEOUT_SECONDS}, so the
+         * pool does not hold on to any threads once queues stop hashing large batches.
+         */
+        private static final ExecutorService THREAD_POOL = buildThreadPool();
+
+        private static ExecutorService buildThreadPool() {
+            final ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+                    THREAD_COUNT,
+                    THREAD_COUNT,
+                    IDLE_THREAD_TIMEOUT_SECONDS,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    new ThreadConfiguration(getStaticThreadManager())
+                            .setDaemon(true)
+                            .setComponent("fcqueue")
+                            .setThreadName("element-hasher")
+                            .buildFactory());
+            threadPool.allowCoreThreadTimeOut(true);
+            return threadPool;
+        }
+    }
+
+    private ParallelElementHasher() {}
+
+    /**
+     * Hash a batch of elements.
+     *
+     * @param elements
+     * 		the elements to hash
+     * @param hashFunction
+     * 		computes the hash of a single element, must be safe to call concurrently for different elements
+     * @param <E>
+     * 		the type of the elements
+     * @return the hashes of the elements, in the same order as the elements
+     */
+    static <E> byte[][] hashElements(final List<E> elements, final Function<E, byte[]> hashFunction) {
+        final int count = elements.size();
+        final byte[][] hashes = new byte[count][];
+
+        if (count < PARALLEL_THRESHOLD || THREAD_COUNT == 1) {
+            for (int i = 0; i < count; i++) {
+                hashes[i] = hashFunction.apply(elements.get(i));
+            }
+            return hashes;
+        }
+
+        // The calling thread takes part in the work, so it never waits for a pool thread that has not yet started.
+        final AtomicInteger nextIndex = new AtomicInteger();
+        final Runnable task = () -> {
+            int start;
+            while ((start = nextIndex.getAndAdd(CHUNK_SIZE)) < count) {
+                final int end = Math.min(start + CHUNK_SIZE, count);
+                for (int i = start; i < end; i++) {
+                    hashes[i] = hashFunction.apply(elements.get(i));
+                }
+            }
+        };
+
+        final int helperCount = Math.min(THREAD_COUNT, count / CHUNK_SIZE) - 1;
+        final List<Future<?>> futures = new ArrayList<>(helperCount);
+        for (int i = 0; i < helperCount; i++) {
+            futures.add(ThreadPoolHolder.THREAD_POOL.submit(task));
+        }
+        task.run();
+
+        for (final Future<?> future : futures) {
+            waitFor(future);
+        }
+        return hashes;
+    }
+
+    /**
+     * Wait for a helper to finish, rethrowing anything it threw.
+     */
+    private static void waitFor(final Future<?> future) {
+        try {
+            future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while hashing FCQueue elements", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof final RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof final Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("unable to hash FCQueue element", e.getCause());
+        }
+    }
+}
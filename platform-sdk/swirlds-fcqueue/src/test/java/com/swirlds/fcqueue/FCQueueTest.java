@@ -1122,4 +1122,42 @@ class FCQueueTest {
         }
         assertFalse(iterator.hasNext(), "iterator should be depleted");
     }
+
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.FCQUEUE)
+    @DisplayName("Parallel Element Hashing Test")
+    void parallelElementHashingTest() {
+        final int elementCount = ParallelElementHasher.PARALLEL_THRESHOLD * 20;
+
+        // Hashing after every insertion only ever hashes one element at a time
+        final FCQueue<FCInt> incremental = new FCQueue<>();
+        // Hashing once at the end hashes all elements as a single batch
+        final FCQueue<FCInt> batched = new FCQueue<>();
+
+        for (int index = 0; index < elementCount; index++) {
+            final int value = rnd.nextInt(NEXT_INT_BOUNDS);
+            incremental.add(new FCInt(value));
+            batched.add(new FCInt(value));
+            incremental.getHash();
+        }
+
+        final FCQueue<FCInt> incrementalCopy = incremental.copy();
+        final FCQueue<FCInt> batchedCopy = batched.copy();
+        assertEquals(incremental.getHash(), batched.getHash(), "hashes should match");
+
+        // Remove some elements and add a batch to each copy, then hash again
+        for (int index = 0; index < elementCount / 2; index++) {
+            incrementalCopy.remove();
+            batchedCopy.remove();
+        }
+        for (int index = 0; index < elementCount; index++) {
+            final int value = rnd.nextInt(NEXT_INT_BOUNDS);
+            incrementalCopy.add(new FCInt(value));
+            batchedCopy.add(new FCInt(value));
+            incrementalCopy.getHash();
+        }
+        assertEquals(incrementalCopy.getHash(), batchedCopy.getHash(), "hashes should match");
+        assertNotEquals(incremental.getHash(), incrementalCopy.getHash(), "copies have different contents");
+    }
 }
@@ -478,7 +478,9 @@ public final class MerkleDbDataSource<K extends VirtualKey, V extends VirtualVal
                 settings.getKeySetBloomFilterHashCount(),
                 settings.getKeySetBloomFilterSizeInBytes() * BYTES_TO_BITS,
                 settings.getKeySetHalfDiskHashMapSize(),
-                settings.getKeySetHalfDiskHashMapBuffer());
+                settings.getKeySetHalfDiskHashMapBuffer(),
+                settings.isKeySetBlockedBloomFilterEnabled(),
+                settings.isKeySetBloomFilterOffHeap());
     }
 
     /**
@@ -98,6 +98,13 @@ import java.time.temporal.ChronoUnit;
  * 		largest virtual map in the state are inserted into the bloom filter. This value should be chosen with the memory
  * 		available during a reconnect kept in mind. Only one such bloom filter will be in memory at any specific point in
  * 		time.
+ * @param keySetBlockedBloomFilterEnabled
+ * 		Configuration used during a reconnect. If true, the key set uses a blocked bloom filter that touches a single
+ * 		cache line per element instead of a classic bloom filter. This makes lookups of large key sets considerably
+ * 		faster, at the cost of a slightly higher false positive rate.
+ * @param keySetBloomFilterOffHeap
+ * 		Configuration used during a reconnect. If true, the blocked bloom filter is stored in direct memory rather than
+ * 		on the heap. Only used if {@link #keySetBlockedBloomFilterEnabled()} is true.
  * @param keySetHalfDiskHashMapSize
  * 		Configuration used during a reconnect. A half disk hash map is instanced during a reconnect. This parameter
  * 		configures the size of the half disk hash map. The number of elements that may be inserted into the half disk
@@ -138,6 +145,8 @@ public record MerkleDbConfig(
         @ConfigProperty(defaultValue = "false") boolean reconnectKeyLeakMitigationEnabled,
         @ConfigProperty(defaultValue = "10") int keySetBloomFilterHashCount,
         @ConfigProperty(defaultValue = "2147483648") long keySetBloomFilterSizeInBytes,
+        @ConfigProperty(defaultValue = "false") boolean keySetBlockedBloomFilterEnabled,
+        @ConfigProperty(defaultValue = "false") boolean keySetBloomFilterOffHeap,
         @ConfigProperty(defaultValue = "1000000000") long keySetHalfDiskHashMapSize,
         @ConfigProperty(defaultValue = "1000000") int keySetHalfDiskHashMapBuffer,
         @ConfigProperty(defaultValue = "false") boolean indexRebuildingEnforced,
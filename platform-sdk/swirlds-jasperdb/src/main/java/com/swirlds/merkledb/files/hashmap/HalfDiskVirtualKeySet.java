@@ -18,6 +18,7 @@ package com.swirlds.merkledb.files.hashmap;
 
 import static com.swirlds.merkledb.files.DataFileCommon.deleteDirectoryAndContents;
 
+import com.swirlds.common.bloom.BlockedBloomFilter;
 import com.swirlds.common.bloom.BloomFilter;
 import com.swirlds.common.bloom.hasher.SelfSerializableBloomHasher;
 import com.swirlds.merkledb.serialize.KeySerializer;
@@ -29,6 +30,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * A set-like data structure that uses {@link HalfDiskHashMap} to maintain state on disk. This data structure
@@ -45,7 +48,15 @@ public class HalfDiskVirtualKeySet<K extends VirtualKey> implements VirtualKeySe
     private final Set<K> unflushedData;
     private long unflushedCount = 0;
 
-    private final BloomFilter<K> bloomFilter;
+    /**
+     * Adds a key to the bloom filter.
+     */
+    private final Consumer<K> bloomFilterAdd;
+
+    /**
+     * Checks if a key may be in the bloom filter.
+     */
+    private final Predicate<K> bloomFilterContains;
 
     // FUTURE WORK: this data structure is mildly inefficient for this use case, as we just need a set and not a map
     // that writes keys and values to the disk. If this component ever becomes a bottleneck, consider writing a use case
@@ -58,6 +69,7 @@ public class HalfDiskVirtualKeySet<K extends VirtualKey> implements VirtualKeySe
 
     /**
      * Create a new key set that is built on top of a half disk hash map.
+     * Uses a classic bloom filter.
      *
      * @param keySerializer
      * 		a method that serializes keys
@@ -76,12 +88,58 @@ public class HalfDiskVirtualKeySet<K extends VirtualKey> implements VirtualKeySe
             final long bloomFilterSize,
             final long halfDiskHashMapSize,
             final int maxUnflushedElements) {
+        this(
+                keySerializer,
+                bloomFilterHashCount,
+                bloomFilterSize,
+                halfDiskHashMapSize,
+                maxUnflushedElements,
+                false,
+                false);
+    }
+
+    /**
+     * Create a new key set that is built on top of a half disk hash map.
+     *
+     * @param keySerializer
+     * 		a method that serializes keys
+     * @param bloomFilterHashCount
+     * 		the number of hashes to include in the bloom filter
+     * @param bloomFilterSize
+     * 		the size of the bloom filter, in bits
+     * @param halfDiskHashMapSize
+     * 		the size of the half disk hash map
+     * @param maxUnflushedElements
+     * 		the maximum number of elements to keep in memory before flushing to the half disk hash map
+     * @param blockedBloomFilter
+     * 		if true then use a {@link BlockedBloomFilter}, otherwise use a classic {@link BloomFilter}
+     * @param bloomFilterOffHeap
+     * 		if true then a blocked bloom filter is stored off-heap, ignored for classic bloom filters
+     */
+    public HalfDiskVirtualKeySet(
+            final KeySerializer<K> keySerializer,
+            final int bloomFilterHashCount,
+            final long bloomFilterSize,
+            final long halfDiskHashMapSize,
+            final int maxUnflushedElements,
+            final boolean blockedBloomFilter,
+            final boolean bloomFilterOffHeap) {
 
         this.maxUnflushedElements = maxUnflushedElements;
 
         unflushedData = new HashSet<>();
 
-        bloomFilter = new BloomFilter<>(bloomFilterHashCount, new SelfSerializableBloomHasher<>(), bloomFilterSize);
+        if (blockedBloomFilter) {
+            final BlockedBloomFilter<K> bloomFilter = new BlockedBloomFilter<>(
+                    bloomFilterHashCount, new SelfSerializableBloomHasher<>(), bloomFilterSize, bloomFilterOffHeap);
+            bloomFilterAdd = bloomFilter::add;
+            bloomFilterContains = bloomFilter::contains;
+        } else {
+            final BloomFilter<K> bloomFilter =
+                    new BloomFilter<>(bloomFilterHashCount, new SelfSerializableBloomHasher<>(), bloomFilterSize);
+            bloomFilterAdd = bloomFilter::add;
+            bloomFilterContains = bloomFilter::contains;
+        }
 
         try {
             tempDir = Files.createTempDirectory(STORE_PREFIX).resolve("data");
@@ -105,7 +163,7 @@ public class HalfDiskVirtualKeySet<K extends VirtualKey> implements VirtualKeySe
         unflushedData.add(key);
         unflushedCount++;
 
-        bloomFilter.add(key);
+        bloomFilterAdd.accept(key);
 
         if (unflushedCount > maxUnflushedElements) {
             flush();
@@ -135,7 +193,7 @@ public class HalfDiskVirtualKeySet<K extends VirtualKey> implements VirtualKeySe
         }
 
         // This test may produce false positives.
-        if (!bloomFilter.contains(key)) {
+        if (!bloomFilterContains.test(key)) {
             return false;
         }
 
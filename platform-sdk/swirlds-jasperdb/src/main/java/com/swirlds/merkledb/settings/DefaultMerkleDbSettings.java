@@ -65,6 +65,8 @@ public class DefaultMerkleDbSettings implements MerkleDbSettings {
     // https://hur.st/bloomfilter/?n=1000000000&p=1.0E-3&m=&k=
     public static final int DEFAULT_KEY_SET_BLOOM_FILTER_HASH_COUNT = 10;
     public static final long DEFAULT_KEY_SET_BLOOM_FILTER_SIZE_IN_BYTES = 2L * GIBIBYTES_TO_BYTES;
+    public static final boolean DEFAULT_KEY_SET_BLOCKED_BLOOM_FILTER_ENABLED = false;
+    public static final boolean DEFAULT_KEY_SET_BLOOM_FILTER_OFF_HEAP = false;
     public static final long DEFAULT_KEY_SET_HALF_DISK_HASH_MAP_SIZE = 1_000_000_000;
     public static final int DEFAULT_KEY_SET_HALF_DISK_HASH_MAP_BUFFER = 1_000_000;
 
@@ -176,6 +178,18 @@ public class DefaultMerkleDbSettings implements MerkleDbSettings {
         return DEFAULT_KEY_SET_BLOOM_FILTER_SIZE_IN_BYTES;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isKeySetBlockedBloomFilterEnabled() {
+        return DEFAULT_KEY_SET_BLOCKED_BLOOM_FILTER_ENABLED;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isKeySetBloomFilterOffHeap() {
+        return DEFAULT_KEY_SET_BLOOM_FILTER_OFF_HEAP;
+    }
+
     /** {@inheritDoc} */
     @Override
     public long getKeySetHalfDiskHashMapSize() {
@@ -173,6 +173,24 @@ public interface MerkleDbSettings {
      */
     long getKeySetBloomFilterSizeInBytes();
 
+    /**
+     * Configuration used during a reconnect. If true, the key set uses a blocked bloom filter that
+     * touches a single cache line per element instead of a classic bloom filter. This makes lookups
+     * of large key sets considerably faster, at the cost of a slightly higher false positive rate.
+     *
+     * @return true if the bloom filter instantiated for reconnect is a blocked bloom filter
+     */
+    boolean isKeySetBlockedBloomFilterEnabled();
+
+    /**
+     * Configuration used during a reconnect. If true, the blocked bloom filter is stored in direct
+     * memory rather than on the heap. Only used if {@link #isKeySetBlockedBloomFilterEnabled()} is
+     * true.
+     *
+     * @return true if the blocked bloom filter instantiated for reconnect is stored off-heap
+     */
+    boolean isKeySetBloomFilterOffHeap();
+
     /**
      * Configuration used during a reconnect. A half disk hash map is instanced during a reconnect.
      * This parameter configures the size of the half disk hash map. The number of elements that may
@@ -27,13 +27,15 @@ import java.util.HashSet;
 import java.util.Random;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 @DisplayName("HalfDiskVirtualKeySet Test")
 class HalfDiskVirtualKeySetTest {
 
-    @Test
-    void randomElementTest() {
+    @ParameterizedTest
+    @CsvSource({"false, false", "true, false", "true, true"})
+    void randomElementTest(final boolean blockedBloomFilter, final boolean bloomFilterOffHeap) {
 
         final int count = 1_000_000;
         final int maxKey = count * 10;
@@ -50,7 +52,9 @@ class HalfDiskVirtualKeySetTest {
                 10,
                 2L * MEBIBYTES_TO_BYTES * BYTES_TO_BITS,
                 1_000_000,
-                10_000);
+                10_000,
+                blockedBloomFilter,
+                bloomFilterOffHeap);
 
         for (int i = 0; i < count; i++) {
 
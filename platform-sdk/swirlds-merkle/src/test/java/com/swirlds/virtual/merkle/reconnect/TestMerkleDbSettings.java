@@ -142,6 +142,18 @@ public class TestMerkleDbSettings implements MerkleDbSettings {
         return defaultSettings.getKeySetBloomFilterSizeInBytes();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isKeySetBlockedBloomFilterEnabled() {
+        return defaultSettings.isKeySetBlockedBloomFilterEnabled();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isKeySetBloomFilterOffHeap() {
+        return defaultSettings.isKeySetBloomFilterOffHeap();
+    }
+
     /** {@inheritDoc} */
     @Override
     public long getKeySetHalfDiskHashMapSize() {
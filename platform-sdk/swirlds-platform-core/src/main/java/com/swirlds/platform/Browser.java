@@ -58,6 +58,7 @@ import com.swirlds.common.metrics.MetricsProvider;
 import com.swirlds.common.metrics.config.MetricsConfig;
 import com.swirlds.common.metrics.platform.DefaultMetricsProvider;
 import com.swirlds.common.metrics.platform.prometheus.PrometheusConfig;
+import com.swirlds.common.stream.config.StreamConfig;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.common.system.Platform;
 import com.swirlds.common.system.SoftwareVersion;
@@ -79,6 +80,7 @@ import com.swirlds.platform.chatter.config.ChatterConfig;
 import com.swirlds.platform.config.AddressBookConfig;
 import com.swirlds.platform.config.ConfigAliases;
 import com.swirlds.platform.config.ThreadConfig;
+import com.swirlds.platform.config.TransactionTracingConfig;
 import com.swirlds.platform.config.legacy.ConfigPropertiesSource;
 import com.swirlds.platform.config.legacy.LegacyConfigProperties;
 import com.swirlds.platform.config.legacy.LegacyConfigPropertiesLoader;
@@ -95,6 +97,7 @@ import com.swirlds.platform.health.entropy.OSEntropyChecker;
 import com.swirlds.platform.health.filesystem.OSFileSystemChecker;
 import com.swirlds.platform.reconnect.emergency.EmergencySignedStateValidator;
 import com.swirlds.platform.state.EmergencyRecoveryManager;
+import com.swirlds.platform.state.ParallelHandleConfig;
 import com.swirlds.platform.state.signed.SavedStateInfo;
 import com.swirlds.platform.state.signed.SignedState;
 import com.swirlds.platform.state.signed.SignedStateFileUtils;
@@ -201,6 +204,7 @@ public class Browser {
                 .withConfigDataType(StateConfig.class)
                 .withConfigDataType(CryptoConfig.class)
                 .withConfigDataType(TemporaryFileConfig.class)
+                .withConfigDataType(StreamConfig.class)
                 .withConfigDataType(ReconnectConfig.class)
                 .withConfigDataType(FCHashMapConfig.class)
                 .withConfigDataType(JasperDbConfig.class)
@@ -209,12 +213,14 @@ public class Browser {
                 .withConfigDataType(VirtualMapConfig.class)
                 .withConfigDataType(ConsensusConfig.class)
                 .withConfigDataType(ThreadConfig.class)
+                .withConfigDataType(TransactionTracingConfig.class)
                 .withConfigDataType(DispatchConfiguration.class)
                 .withConfigDataType(MetricsConfig.class)
                 .withConfigDataType(PrometheusConfig.class)
                 .withConfigDataType(OSHealthCheckConfig.class)
                 .withConfigDataType(WiringConfig.class)
-                .withConfigDataType(PreConsensusEventStreamConfig.class);
+                .withConfigDataType(PreConsensusEventStreamConfig.class)
+                .withConfigDataType(ParallelHandleConfig.class);
 
         // Assume all locally run instances provide the same configuration definitions to the configuration builder.
         if (appMains.size() > 0) {
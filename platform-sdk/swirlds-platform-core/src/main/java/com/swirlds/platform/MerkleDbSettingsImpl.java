@@ -21,7 +21,9 @@ import static com.swirlds.merkledb.settings.DefaultMerkleDbSettings.DEFAULT_FULL
 import static com.swirlds.merkledb.settings.DefaultMerkleDbSettings.DEFAULT_INDEX_REBUILDING_ENFORCED;
 import static com.swirlds.merkledb.settings.DefaultMerkleDbSettings.DEFAULT_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD;
 import static com.swirlds.merkledb.settings.DefaultMerkleDbSettings.DEFAULT_ITERATOR_INPUT_BUFFER_BYTES;
+import static com.swirlds.merkledb.settings.DefaultMerkleDbSettings.DEFAULT_KEY_SET_BLOCKED_BLOOM_FILTER_ENABLED;
 import static com.swirlds.merkledb.settings.DefaultMerkleDbSettings.DEFAULT_KEY_SET_BLOOM_FILTER_HASH_COUNT;
+import static com.swirlds.merkledb.settings.DefaultMerkleDbSettings.DEFAULT_KEY_SET_BLOOM_FILTER_OFF_HEAP;
 import static com.swirlds.merkledb.settings.DefaultMerkleDbSettings.DEFAULT_KEY_SET_BLOOM_FILTER_SIZE_IN_BYTES;
 import static com.swirlds.merkledb.settings.DefaultMerkleDbSettings.DEFAULT_KEY_SET_HALF_DISK_HASH_MAP_BUFFER;
 import static com.swirlds.merkledb.settings.DefaultMerkleDbSettings.DEFAULT_KEY_SET_HALF_DISK_HASH_MAP_SIZE;
@@ -73,6 +75,8 @@ public class MerkleDbSettingsImpl extends SubSetting implements MerkleDbSettings
     public String mergePeriodUnit = "MINUTES";
     public int keySetBloomFilterHashCount = DEFAULT_KEY_SET_BLOOM_FILTER_HASH_COUNT;
     public long keySetBloomFilterSizeInBytes = DEFAULT_KEY_SET_BLOOM_FILTER_SIZE_IN_BYTES;
+    public boolean keySetBlockedBloomFilterEnabled = DEFAULT_KEY_SET_BLOCKED_BLOOM_FILTER_ENABLED;
+    public boolean keySetBloomFilterOffHeap = DEFAULT_KEY_SET_BLOOM_FILTER_OFF_HEAP;
     public long keySetHalfDiskHashMapSize = DEFAULT_KEY_SET_HALF_DISK_HASH_MAP_SIZE;
     public int keySetHalfDiskHashMapBuffer = DEFAULT_KEY_SET_HALF_DISK_HASH_MAP_BUFFER;
     public boolean indexRebuildingEnforced = DEFAULT_INDEX_REBUILDING_ENFORCED;
@@ -294,6 +298,18 @@ public class MerkleDbSettingsImpl extends SubSetting implements MerkleDbSettings
         return keySetBloomFilterSizeInBytes;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isKeySetBlockedBloomFilterEnabled() {
+        return keySetBlockedBloomFilterEnabled;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isKeySetBloomFilterOffHeap() {
+        return keySetBloomFilterOffHeap;
+    }
+
     /** {@inheritDoc} */
     @Override
     public long getKeySetHalfDiskHashMapSize() {
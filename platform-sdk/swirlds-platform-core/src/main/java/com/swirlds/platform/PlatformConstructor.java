@@ -45,6 +45,7 @@ import com.swirlds.platform.metrics.SwirldStateMetrics;
 import com.swirlds.platform.network.connectivity.SocketFactory;
 import com.swirlds.platform.network.connectivity.TcpFactory;
 import com.swirlds.platform.network.connectivity.TlsFactory;
+import com.swirlds.platform.state.ParallelTransactionExecutor;
 import com.swirlds.platform.state.State;
 import com.swirlds.platform.state.SwirldStateManager;
 import com.swirlds.platform.state.SwirldStateManagerImpl;
@@ -158,6 +159,8 @@ final class PlatformConstructor {
      * 		static settings provider
      * @param initialState
      * 		the initial state
+     * @param parallelExecutor
+     * 		handles transactions of parallel-capable states concurrently, or null to always handle sequentially
      * @return the newly constructed instance of {@link SwirldStateManager}
      */
     static SwirldStateManager swirldStateManager(
@@ -167,7 +170,8 @@ final class PlatformConstructor {
             final Metrics metrics,
             final SettingsProvider settings,
             final BooleanSupplier inFreezeChecker,
-            final State initialState) {
+            final State initialState,
+            final ParallelTransactionExecutor parallelExecutor) {
 
         return new SwirldStateManagerImpl(
                 selfId,
@@ -176,7 +180,8 @@ final class PlatformConstructor {
                 new SwirldStateMetrics(metrics),
                 settings,
                 inFreezeChecker,
-                initialState);
+                initialState,
+                parallelExecutor);
     }
 
     /**
@@ -81,10 +81,17 @@ public class SwirldTransactionSubmitter {
             return false;
         }
 
+        // the trace must be attached before the transaction becomes visible to the event creator
+        transactionMetrics.transactionSubmitted(trans);
+
         final long start = System.nanoTime();
         final boolean success = addToTransactionPool.apply(trans);
         transactionMetrics.updateTransSubmitMicros((long) ((System.nanoTime() - start) * NANOSECONDS_TO_MICROSECONDS));
 
+        if (!success) {
+            trans.setTrace(null);
+        }
+
         return success;
     }
 }
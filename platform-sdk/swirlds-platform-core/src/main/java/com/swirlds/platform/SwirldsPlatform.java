@@ -104,9 +104,11 @@ import com.swirlds.platform.components.transaction.system.PreConsensusSystemTran
 import com.swirlds.platform.components.transaction.system.PreConsensusSystemTransactionManagerFactory;
 import com.swirlds.platform.components.wiring.ManualWiring;
 import com.swirlds.platform.config.ThreadConfig;
+import com.swirlds.platform.config.TransactionTracingConfig;
 import com.swirlds.platform.crypto.CryptoStatic;
 import com.swirlds.platform.dispatch.DispatchBuilder;
 import com.swirlds.platform.dispatch.DispatchConfiguration;
+import com.swirlds.platform.dispatch.triggers.control.ShutdownRequestedTrigger;
 import com.swirlds.platform.dispatch.triggers.flow.DiskStateLoadedTrigger;
 import com.swirlds.platform.dispatch.triggers.flow.ReconnectStateLoadedTrigger;
 import com.swirlds.platform.event.EventCreatorThread;
@@ -117,8 +119,10 @@ import com.swirlds.platform.event.creation.AncientParentsRule;
 import com.swirlds.platform.event.creation.BelowIntCreationRule;
 import com.swirlds.platform.event.creation.ChatterEventCreator;
 import com.swirlds.platform.event.creation.ChatteringRule;
+import com.swirlds.platform.event.creation.DurableSelfParentRule;
 import com.swirlds.platform.event.creation.LoggingEventCreationRules;
 import com.swirlds.platform.event.creation.OtherParentTracker;
+import com.swirlds.platform.event.creation.ParentBasedCreationRule;
 import com.swirlds.platform.event.creation.StaticCreationRules;
 import com.swirlds.platform.event.intake.ChatterEventMapper;
 import com.swirlds.platform.event.linking.EventLinker;
@@ -151,8 +155,10 @@ import com.swirlds.platform.metrics.ConsensusMetricsImpl;
 import com.swirlds.platform.metrics.EventIntakeMetrics;
 import com.swirlds.platform.metrics.ReconnectMetrics;
 import com.swirlds.platform.metrics.RuntimeMetrics;
+import com.swirlds.platform.metrics.SignatureVerificationMetrics;
 import com.swirlds.platform.metrics.SyncMetrics;
 import com.swirlds.platform.metrics.TransactionMetrics;
+import com.swirlds.platform.metrics.VirtualThreadMetrics;
 import com.swirlds.platform.network.ConnectionTracker;
 import com.swirlds.platform.network.NetworkMetrics;
 import com.swirlds.platform.network.communication.NegotiationProtocols;
@@ -186,6 +192,8 @@ import com.swirlds.platform.reconnect.ReconnectProtocolResponder;
 import com.swirlds.platform.reconnect.ReconnectThrottle;
 import com.swirlds.platform.reconnect.emergency.EmergencyReconnectProtocol;
 import com.swirlds.platform.state.EmergencyRecoveryManager;
+import com.swirlds.platform.state.ParallelHandleConfig;
+import com.swirlds.platform.state.ParallelTransactionExecutor;
 import com.swirlds.platform.state.State;
 import com.swirlds.platform.state.StateSettings;
 import com.swirlds.platform.state.SwirldStateManager;
@@ -351,6 +359,8 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
     private ConsensusRoundHandler consensusRoundHandler;
     /** Handles all interaction with {@link SwirldState} */
     private SwirldStateManager swirldStateManager;
+    /** Handles the transactions of a round in parallel, or null if parallel handling is disabled */
+    private ParallelTransactionExecutor parallelTransactionExecutor;
     /** Checks the validity of transactions and submits valid ones to the event transaction pool */
     private SwirldTransactionSubmitter transactionSubmitter;
     /** clears all pipelines to prepare for a reconnect */
@@ -497,6 +507,11 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
         metrics.addUpdater(networkMetrics::update);
         this.reconnectMetrics = new ReconnectMetrics(metrics);
         RuntimeMetrics.setup(metrics);
+        if (useVirtualNetworkThreads()) {
+            final ThreadConfig threadConfig = platformContext.getConfiguration().getConfigData(ThreadConfig.class);
+            VirtualThreadMetrics.setup(metrics, threadConfig.virtualThreadPinnedThreshold());
+        }
+        SignatureVerificationMetrics.setup(metrics, platformContext.getCryptography());
 
         if (settings.getChatter().isChatterUsed()) {
             chatterCore = new ChatterCore<>(
@@ -572,6 +587,14 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
                 },
                 settings.getReconnect());
 
+        // Observers are called in the order they are registered, so this runs before the JVM is shut down below
+        dispatchBuilder.registerObserver(
+                this, ShutdownRequestedTrigger.class, (ShutdownRequestedTrigger) (reason, exitCode) -> {
+                    if (parallelTransactionExecutor != null) {
+                        parallelTransactionExecutor.stop();
+                    }
+                });
+
         // FUTURE WORK remove this when there are no more ShutdownRequestedTriggers being dispatched
         components.add(new Shutdown());
 
@@ -931,7 +954,12 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
                 currentPlatformStatus::get,
                 PlatformConstructor.settingsProvider(),
                 swirldStateManager::submitTransaction,
-                new TransactionMetrics(metrics));
+                new TransactionMetrics(
+                        metrics,
+                        platformContext
+                                .getConfiguration()
+                                .getConfigData(TransactionTracingConfig.class)
+                                .sampleRate()));
 
         if (loadedState.signedStateFromDisk != null) {
             loadIntoConsensusAndEventMapper(loadedState.signedStateFromDisk);
@@ -1006,6 +1034,21 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
         return new AsyncPreConsensusEventWriter(platformContext, threadManager, syncWriter);
     }
 
+    /**
+     * Build the rules that hold back event creation until the self-parent has been written to the preconsensus event
+     * stream, if enabled.
+     *
+     * @return the rules, or an empty list if event creation does not wait for the preconsensus event stream
+     */
+    private List<ParentBasedCreationRule> buildSelfParentCreationRules() {
+        final PreConsensusEventStreamConfig preConsensusEventStreamConfig =
+                platformContext.getConfiguration().getConfigData(PreConsensusEventStreamConfig.class);
+        if (!preConsensusEventStreamConfig.createOnlyOnDurableSelfParent()) {
+            return List.of();
+        }
+        return List.of(new DurableSelfParentRule(preConsensusEventWriter));
+    }
+
     /**
      * Creates and wires up all the classes responsible for accepting events from gossip, creating new events, and
      * routing those events throughout the system.
@@ -1087,7 +1130,7 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
                     eventMapper,
                     swirldStateManager.getTransactionPool(),
                     freezeManager::isFreezeStarted,
-                    new EventCreationRules(List.of()));
+                    new EventCreationRules(List.of(), buildSelfParentCreationRules()));
         }
 
         final List<GossipEventValidator> validators = new ArrayList<>();
@@ -1167,6 +1210,15 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
     private void buildEventHandlersFromState(
             final State state, final QueueThread<SignedState> stateHashSignQueueThread) {
 
+        final ParallelHandleConfig parallelHandleConfig =
+                platformContext.getConfiguration().getConfigData(ParallelHandleConfig.class);
+        parallelTransactionExecutor = parallelHandleConfig.enabled()
+                ? new ParallelTransactionExecutor(
+                        threadManager,
+                        parallelHandleConfig.threadCount(),
+                        parallelHandleConfig.minimumTransactionsPerRound())
+                : null;
+
         swirldStateManager = PlatformConstructor.swirldStateManager(
                 selfId,
                 preConsensusSystemTransactionManager,
@@ -1174,7 +1226,8 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
                 metrics,
                 PlatformConstructor.settingsProvider(),
                 freezeManager::isFreezeStarted,
-                state);
+                state,
+                parallelTransactionExecutor);
 
         // SwirldStateManager will get a copy of the state loaded, that copy will become stateCons.
         // The original state will be saved in the SignedStateMgr and will be deleted when it becomes old
@@ -1410,6 +1463,7 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
                     .setComponent(PLATFORM_THREAD_POOL_NAME)
                     .setOtherNodeId(otherId.getId())
                     .setThreadName("ChatterReader")
+                    .setVirtual(useVirtualNetworkThreads())
                     .setHangingThreadPeriod(chatterConfig.hangingThreadDuration())
                     .setWork(new NegotiatorThread(
                             connectionManagers.getManager(otherId, topology.shouldConnectTo(otherId)),
@@ -1547,6 +1601,7 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
                     .setComponent(PLATFORM_THREAD_POOL_NAME)
                     .setOtherNodeId(otherId.getId())
                     .setThreadName("listener")
+                    .setVirtual(useVirtualNetworkThreads())
                     .setWork(new Listener(protocolHandlers, connectionManagers.getManager(otherId, false)))
                     .build()
                     .start();
@@ -1557,6 +1612,7 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
                     .setNodeId(selfId.getId())
                     .setComponent(PLATFORM_THREAD_POOL_NAME)
                     .setThreadName("heartbeat")
+                    .setVirtual(useVirtualNetworkThreads())
                     .setOtherNodeId(otherId.getId())
                     .setWork(new HeartbeatSender(
                             otherId, sharedConnectionLocks, networkMetrics, PlatformConstructor.settingsProvider()))
@@ -1572,6 +1628,13 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
         }
     }
 
+    /**
+     * Check if threads that spend most of their time blocked on the network should be virtual threads.
+     */
+    private boolean useVirtualNetworkThreads() {
+        return platformContext.getConfiguration().getConfigData(ThreadConfig.class).virtualNetworkThreads();
+    }
+
     /**
      * Spawn a thread to initiate syncs with other users
      */
@@ -1592,6 +1655,7 @@ public class SwirldsPlatform implements Platform, PlatformWithDeprecatedMethods,
                 .setNodeId(selfId.getId())
                 .setComponent(PLATFORM_THREAD_POOL_NAME)
                 .setThreadName("syncCaller-" + callerNumber)
+                .setVirtual(useVirtualNetworkThreads())
                 .setRunnable(syncCaller)
                 .build();
 
@@ -17,8 +17,8 @@
 package com.swirlds.platform.chatter.protocol.peer;
 
 import com.swirlds.common.sequence.Shiftable;
+import com.swirlds.common.sequence.map.RingBufferSequenceMap;
 import com.swirlds.common.sequence.map.SequenceMap;
-import com.swirlds.common.sequence.map.StandardSequenceMap;
 import com.swirlds.platform.chatter.protocol.messages.ChatterEvent;
 import com.swirlds.platform.chatter.protocol.messages.ChatterEventDescriptor;
 import com.swirlds.platform.consensus.GraphGenerations;
@@ -41,7 +41,7 @@ public class PeerGossipState implements Shiftable {
      * 		the peer
      */
     public PeerGossipState(final int futureGenerationLimit) {
-        events = new StandardSequenceMap<>(
+        events = new RingBufferSequenceMap<>(
                 GraphGenerations.FIRST_GENERATION, futureGenerationLimit, ChatterEventDescriptor::getGeneration);
         maxReceivedDescriptorGeneration = GraphGenerations.FIRST_GENERATION;
     }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.cli;
+
+import static com.swirlds.platform.util.BootstrapUtils.setupConstructableRegistry;
+
+import com.swirlds.cli.commands.EventStreamCommand;
+import com.swirlds.cli.utility.AbstractCommand;
+import com.swirlds.cli.utility.SubcommandOf;
+import com.swirlds.platform.event.preconsensus.PreConsensusEventFile;
+import com.swirlds.platform.event.preconsensus.PreConsensusEventFileIndex;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "index-pces",
+        mixinStandardHelpOptions = true,
+        description = "Build sidecar generation indices for preconsensus event files that do not have one. "
+                + "Indices allow readers to skip ancient events without deserializing them.")
+@SubcommandOf(EventStreamCommand.class)
+public final class PreConsensusEventIndexCommand extends AbstractCommand {
+
+    private Path directory;
+
+    private boolean overwrite = false;
+
+    @CommandLine.Parameters(description = "The path to a directory tree containing preconsensus event files.")
+    private void setDirectory(final Path directory) {
+        this.directory = pathMustExist(directory.toAbsolutePath());
+    }
+
+    @CommandLine.Option(
+            names = {"-o", "--overwrite"},
+            description = "Rebuild indices even for files that already have one.")
+    private void setOverwrite(final boolean overwrite) {
+        this.overwrite = overwrite;
+    }
+
+    private PreConsensusEventIndexCommand() {}
+
+    @Override
+    public Integer call() throws Exception {
+        setupConstructableRegistry();
+
+        final List<Path> eventFiles;
+        try (final Stream<Path> stream = Files.walk(directory)) {
+            eventFiles = stream.filter(path -> path.toString().endsWith(PreConsensusEventFile.EVENT_FILE_EXTENSION))
+                    .sorted()
+                    .toList();
+        }
+
+        int indexedCount = 0;
+        for (final Path eventFile : eventFiles) {
+            final Path indexPath = PreConsensusEventFileIndex.getIndexPath(eventFile);
+            if (!overwrite && Files.exists(indexPath)) {
+                continue;
+            }
+            PreConsensusEventFileIndex.build(PreConsensusEventFile.of(eventFile)).write(indexPath);
+            indexedCount++;
+        }
+
+        System.out.println("Indexed " + indexedCount + " of " + eventFiles.size() + " preconsensus event files.");
+        return 0;
+    }
+}
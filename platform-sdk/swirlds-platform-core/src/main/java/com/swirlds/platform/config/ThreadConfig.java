@@ -27,8 +27,19 @@ import java.time.Duration;
  * @param logStackTracePauseDuration
  * 		If a thread takes longer than this duration to {@link StoppableThread#pause()}, log a stack trace for debugging
  * 		purposes. A value of {@link Duration#ZERO} means never log.
+ * @param virtualNetworkThreads
+ * 		If true, the threads that spend most of their time blocked on the network (per peer listeners, heartbeats,
+ * 		sync callers and chatter readers) are virtual threads instead of platform threads. Ignored if the JVM does not
+ * 		support virtual threads.
+ * @param virtualThreadPinnedThreshold
+ * 		A virtual thread that blocks while pinned to its carrier thread for longer than this is reported by the pinning
+ * 		metrics. Virtual thread metrics, including pinning, are only collected if {@code virtualNetworkThreads} is
+ * 		true.
  */
 @ConfigData("thread")
 public record ThreadConfig(
         @ConfigProperty(value = "logStackTracePauseDuration", defaultValue = "5s")
-                Duration logStackTracePauseDuration) {}
+                Duration logStackTracePauseDuration,
+        @ConfigProperty(value = "virtualNetworkThreads", defaultValue = "false") boolean virtualNetworkThreads,
+        @ConfigProperty(value = "virtualThreadPinnedThreshold", defaultValue = "20ms")
+                Duration virtualThreadPinnedThreshold) {}
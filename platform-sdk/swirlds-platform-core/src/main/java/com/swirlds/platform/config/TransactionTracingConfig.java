@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.config;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+
+/**
+ * Configuration of transaction latency tracing.
+ *
+ * @param sampleRate
+ * 		One in this many transactions submitted by this node is traced through the platform pipeline, and the time
+ * 		taken by each stage is reported in the metrics. A value of 0 disables tracing.
+ */
+@ConfigData("transactionTracing")
+public record TransactionTracingConfig(@ConfigProperty(value = "sampleRate", defaultValue = "0") int sampleRate) {}
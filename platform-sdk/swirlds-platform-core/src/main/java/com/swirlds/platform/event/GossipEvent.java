@@ -16,6 +16,7 @@
 
 package com.swirlds.platform.event;
 
+import com.swirlds.common.io.SerializableWithKnownLength;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.system.events.BaseEvent;
@@ -31,7 +32,7 @@ import java.util.Objects;
 /**
  * A class used to hold information about an event transferred through gossip
  */
-public class GossipEvent implements EventIntakeTask, BaseEvent, ChatterEvent {
+public class GossipEvent implements EventIntakeTask, BaseEvent, ChatterEvent, SerializableWithKnownLength {
     private static final long CLASS_ID = 0xfe16b46795bfb8dcL;
     private static final long ROUND_CREATED_UNDEFINED = -1;
     private BaseEventHashedData hashedData;
@@ -65,6 +66,16 @@ public class GossipEvent implements EventIntakeTask, BaseEvent, ChatterEvent {
         out.writeLong(roundCreated);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSerializedLength() {
+        return SerializableDataOutputStream.getSerializedLength(hashedData, false)
+                + SerializableDataOutputStream.getSerializedLength(unhashedData, false)
+                + Long.BYTES;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.creation;
+
+import static com.swirlds.base.ArgumentUtils.throwArgNull;
+import static com.swirlds.common.system.EventCreationRuleResponse.DONT_CREATE;
+import static com.swirlds.common.system.EventCreationRuleResponse.PASS;
+
+import com.swirlds.common.system.EventCreationRuleResponse;
+import com.swirlds.common.system.events.BaseEvent;
+import com.swirlds.platform.event.preconsensus.PreConsensusEventWriter;
+import com.swirlds.platform.internal.EventImpl;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prevents the creation of a new event until its self-parent has been made durable by the preconsensus event stream.
+ * A node that crashes can then always find its latest self event in the stream when it restarts, and never creates a
+ * second event with the same self-parent. If the self-parent is not yet durable, a flush of it is requested so that
+ * event creation can resume as soon as possible.
+ */
+public class DurableSelfParentRule implements ParentBasedCreationRule {
+
+    private final PreConsensusEventWriter preConsensusEventWriter;
+
+    /**
+     * The stream sequence number of the most recent self-parent for which a flush was requested.
+     */
+    private final AtomicLong flushRequested = new AtomicLong(EventImpl.NO_STREAM_SEQUENCE_NUMBER);
+
+    /**
+     * @param preConsensusEventWriter
+     * 		the writer of the preconsensus event stream
+     */
+    public DurableSelfParentRule(@NonNull final PreConsensusEventWriter preConsensusEventWriter) {
+        this.preConsensusEventWriter = throwArgNull(preConsensusEventWriter, "preConsensusEventWriter");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventCreationRuleResponse shouldCreateEvent(final BaseEvent selfParent, final BaseEvent otherParent) {
+        if (!(selfParent instanceof final EventImpl event)) {
+            return PASS;
+        }
+        final long sequenceNumber = event.getStreamSequenceNumber();
+        if (sequenceNumber == EventImpl.NO_STREAM_SEQUENCE_NUMBER
+                || sequenceNumber == EventImpl.STALE_EVENT_STREAM_SEQUENCE_NUMBER
+                || sequenceNumber <= preConsensusEventWriter.getDurableSequenceNumber()) {
+            // events that are not in the stream will never become durable, waiting for them would halt creation
+            return PASS;
+        }
+        if (flushRequested.getAndAccumulate(sequenceNumber, Math::max) < sequenceNumber) {
+            preConsensusEventWriter.requestFlush(event);
+        }
+        return DONT_CREATE;
+    }
+}
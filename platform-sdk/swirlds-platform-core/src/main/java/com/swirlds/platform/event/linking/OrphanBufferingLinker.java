@@ -18,8 +18,8 @@ package com.swirlds.platform.event.linking;
 
 import com.swirlds.common.config.ConsensusConfig;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.sequence.map.RingBufferSequenceMap;
 import com.swirlds.common.sequence.map.SequenceMap;
-import com.swirlds.common.sequence.map.StandardSequenceMap;
 import com.swirlds.logging.LogMarker;
 import com.swirlds.platform.chatter.protocol.messages.ChatterEventDescriptor;
 import com.swirlds.platform.consensus.GraphGenerations;
@@ -62,8 +62,8 @@ public class OrphanBufferingLinker extends AbstractEventLinker {
         this.parentFinder = parentFinder;
         this.eventOutput = new ArrayDeque<>();
         this.newlyLinkedEvents = new ArrayDeque<>();
-        this.orphanMap = new StandardSequenceMap<>(0, futureGenerationLimit, ChatterEventDescriptor::getGeneration);
-        this.missingParents = new StandardSequenceMap<>(0, futureGenerationLimit, ParentDescriptor::generation);
+        this.orphanMap = new RingBufferSequenceMap<>(0, futureGenerationLimit, ChatterEventDescriptor::getGeneration);
+        this.missingParents = new RingBufferSequenceMap<>(0, futureGenerationLimit, ParentDescriptor::generation);
     }
 
     private static void parentNoLongerMissing(final ChildEvent child, final Hash parentHash, final EventImpl parent) {
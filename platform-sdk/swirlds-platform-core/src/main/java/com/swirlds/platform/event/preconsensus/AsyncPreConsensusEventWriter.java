@@ -142,6 +142,14 @@ public class AsyncPreConsensusEventWriter implements PreConsensusEventWriter {
         return writer.isEventDurable(event);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDurableSequenceNumber() {
+        return writer.getDurableSequenceNumber();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -77,6 +77,15 @@ public class NoOpPreConsensusEventWriter implements PreConsensusEventWriter {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDurableSequenceNumber() {
+        // If we are not writing events, then we should never block on events becoming durable.
+        return Long.MAX_VALUE;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -174,6 +174,7 @@ public record PreConsensusEventFile(
         }
 
         Files.delete(path);
+        Files.deleteIfExists(PreConsensusEventFileIndex.getIndexPath(path));
 
         // Delete parent directories if they are empty
         Path target = path.getParent();
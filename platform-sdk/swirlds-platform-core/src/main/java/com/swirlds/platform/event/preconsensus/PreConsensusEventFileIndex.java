@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.preconsensus;
+
+import com.swirlds.common.io.extendable.ExtendableInputStream;
+import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.platform.internal.EventImpl;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * A sparse index for a single preconsensus event file, stored in a sidecar file next to the event file. The index
+ * allows a reader that is only interested in events with a generation greater or equal to some minimum to skip
+ * directly to the first part of the file that may contain such an event, instead of deserializing and discarding every
+ * event from the start of the file.
+ * </p>
+ *
+ * <p>
+ * Events in a file are not strictly sorted by generation. For that reason each index entry records a byte offset
+ * together with the highest generation of all events that appear <i>before</i> that offset. Since this generation is a
+ * running maximum, entries are sorted by both offset and generation, and a reader can safely seek to the last entry
+ * whose generation is strictly less than the desired minimum generation.
+ * </p>
+ *
+ * <p>
+ * The index is a pure optimization. If an index file is missing, incomplete, or otherwise unreadable, readers fall back
+ * to scanning the event file from the beginning.
+ * </p>
+ */
+public final class PreConsensusEventFileIndex {
+
+    /**
+     * The file extension for index files. Stands for "Pre-Consensus EventS Index".
+     */
+    public static final String INDEX_FILE_EXTENSION = ".pcesi";
+
+    /**
+     * An index entry is added (at most) once per this many bytes of event data.
+     */
+    public static final long INDEX_INTERVAL_BYTES = 64 * 1024;
+
+    /**
+     * Written at the beginning of each index file, allows the format to change in the future.
+     */
+    private static final int INDEX_FILE_VERSION = 1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The number of entries in this index.
+     */
+    private int size;
+
+    /**
+     * Byte offsets of events in the event file, in increasing order.
+     */
+    private long[] offsets;
+
+    /**
+     * For each offset, the highest generation of all events in the file that appear before that offset.
+     */
+    private long[] generations;
+
+    /**
+     * The offset of the most recently added entry.
+     */
+    private long lastIndexedOffset;
+
+    /**
+     * Create a new empty index.
+     */
+    public PreConsensusEventFileIndex() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private PreConsensusEventFileIndex(final int capacity) {
+        offsets = new long[capacity];
+        generations = new long[capacity];
+    }
+
+    /**
+     * Get the path of the index file that describes a particular event file.
+     *
+     * @param eventFilePath the path to a preconsensus event file
+     * @return the path to the sidecar index file for that event file
+     */
+    public static @NonNull Path getIndexPath(@NonNull final Path eventFilePath) {
+        final String fileName = eventFilePath.getFileName().toString();
+        final String baseName = fileName.endsWith(PreConsensusEventFile.EVENT_FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - PreConsensusEventFile.EVENT_FILE_EXTENSION.length())
+                : fileName;
+        return eventFilePath.resolveSibling(baseName + INDEX_FILE_EXTENSION);
+    }
+
+    /**
+     * Check if a path points to an index file.
+     *
+     * @param path the path in question
+     * @return true if the path has the extension used by index files
+     */
+    public static boolean isIndexFile(@NonNull final Path path) {
+        return path.toString().endsWith(INDEX_FILE_EXTENSION);
+    }
+
+    /**
+     * Called before an event is written to the event file. Adds an entry to the index if enough data has been written
+     * since the last entry.
+     *
+     * @param offset                the offset in the event file where the event is about to be written
+     * @param highestGenerationSoFar the highest generation of all events previously written to the file
+     */
+    public void eventStartsAt(final long offset, final long highestGenerationSoFar) {
+        if (offset - lastIndexedOffset < INDEX_INTERVAL_BYTES) {
+            return;
+        }
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            generations = Arrays.copyOf(generations, size * 2);
+        }
+        offsets[size] = offset;
+        generations[size] = highestGenerationSoFar;
+        size++;
+        lastIndexedOffset = offset;
+    }
+
+    /**
+     * Get the number of entries in this index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Find the offset where a reader should start reading if it only needs events with a generation greater or equal
+     * to a minimum generation. It is guaranteed that no event before the returned offset has a generation greater or
+     * equal to the minimum generation.
+     *
+     * @param minimumGeneration the minimum generation the reader is interested in
+     * @return the offset to start reading at, 0 if no events can be skipped
+     */
+    public long getSeekOffset(final long minimumGeneration) {
+        // Find the last entry with a generation strictly less than the minimum generation
+        int low = 0;
+        int high = size - 1;
+        int result = -1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (generations[mid] < minimumGeneration) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result == -1 ? 0 : offsets[result];
+    }
+
+    /**
+     * Write this index to disk.
+     *
+     * @param indexPath the location where the index should be written
+     */
+    public void write(@NonNull final Path indexPath) throws IOException {
+        try (final DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexPath.toFile())))) {
+            out.writeInt(INDEX_FILE_VERSION);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeLong(offsets[i]);
+                out.writeLong(generations[i]);
+            }
+        }
+    }
+
+    /**
+     * Read an index from disk.
+     *
+     * @param indexPath the location of the index
+     * @return the index
+     * @throws IOException if the index is missing or can not be parsed
+     */
+    public static @NonNull PreConsensusEventFileIndex read(@NonNull final Path indexPath) throws IOException {
+        try (final DataInputStream in =
+                new DataInputStream(new BufferedInputStream(new FileInputStream(indexPath.toFile())))) {
+            final int version = in.readInt();
+            if (version != INDEX_FILE_VERSION) {
+                throw new IOException("unsupported index file version " + version + " in " + indexPath);
+            }
+            final int size = in.readInt();
+            if (size < 0 || (long) size * 2 * Long.BYTES != Files.size(indexPath) - 2L * Integer.BYTES) {
+                throw new IOException("index file " + indexPath + " has an invalid size");
+            }
+            final PreConsensusEventFileIndex index = new PreConsensusEventFileIndex(Math.max(size, 1));
+            for (int i = 0; i < size; i++) {
+                index.offsets[i] = in.readLong();
+                index.generations[i] = in.readLong();
+                if (i > 0
+                        && (index.offsets[i] <= index.offsets[i - 1]
+                                || index.generations[i] < index.generations[i - 1])) {
+                    throw new IOException("index file " + indexPath + " is not sorted");
+                }
+            }
+            index.size = size;
+            index.lastIndexedOffset = size == 0 ? 0 : index.offsets[size - 1];
+            return index;
+        }
+    }
+
+    /**
+     * Find the offset where a reader should start reading an event file. Uses the sidecar index if one is available,
+     * otherwise returns 0.
+     *
+     * @param fileDescriptor    describes the event file
+     * @param minimumGeneration the minimum generation the reader is interested in
+     * @return the offset to start reading at
+     */
+    public static long findSeekOffset(
+            @NonNull final PreConsensusEventFile fileDescriptor, final long minimumGeneration) {
+        if (minimumGeneration <= fileDescriptor.minimumGeneration()) {
+            // All events in the file are relevant, no need to consult the index.
+            return 0;
+        }
+
+        final Path indexPath = getIndexPath(fileDescriptor.path());
+        if (!Files.exists(indexPath)) {
+            return 0;
+        }
+
+        try {
+            final long offset = read(indexPath).getSeekOffset(minimumGeneration);
+            if (offset >= Files.size(fileDescriptor.path())) {
+                // The event file is shorter than the index claims, it has been truncated after it was indexed.
+                return 0;
+            }
+            return offset;
+        } catch (final IOException e) {
+            // The index is only an optimization, fall back to reading the entire file.
+            return 0;
+        }
+    }
+
+    /**
+     * Build an index for an existing event file by scanning all of its events. Useful for event files that were written
+     * before indices were introduced.
+     *
+     * @param fileDescriptor describes the event file
+     * @return an index for the file
+     */
+    public static @NonNull PreConsensusEventFileIndex build(@NonNull final PreConsensusEventFile fileDescriptor)
+            throws IOException {
+
+        final PreConsensusEventFileIndex index = new PreConsensusEventFileIndex();
+        final CountingStreamExtension counter = new CountingStreamExtension(false);
+        try (final SerializableDataInputStream in = new SerializableDataInputStream(new ExtendableInputStream(
+                new BufferedInputStream(new FileInputStream(fileDescriptor.path().toFile())), counter))) {
+
+            long highestGeneration = Long.MIN_VALUE;
+            while (true) {
+                final long offset = counter.getCount();
+                final EventImpl event;
+                try {
+                    event = in.readSerializable(false, EventImpl::new);
+                } catch (final EOFException e) {
+                    break;
+                }
+                index.eventStartsAt(offset, highestGeneration);
+                highestGeneration = Math.max(highestGeneration, event.getGeneration());
+            }
+        }
+        return index;
+    }
+}
@@ -25,6 +25,7 @@ import java.io.BufferedInputStream;
 import java.io.EOFException;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.NoSuchElementException;
 
 /**
@@ -52,10 +53,15 @@ public class PreConsensusEventFileIterator implements IOIterator<EventImpl> {
 
         this.minimumGeneration = minimumGeneration;
         counter = new CountingStreamExtension();
-        stream = new SerializableDataInputStream(new ExtendableInputStream(
-                new BufferedInputStream(
-                        new FileInputStream(fileDescriptor.path().toFile())),
-                counter));
+
+        final FileInputStream fileInputStream = new FileInputStream(fileDescriptor.path().toFile());
+        // Skip over events that are known to be ancient, if the file has an index
+        fileInputStream
+                .getChannel()
+                .position(PreConsensusEventFileIndex.findSeekOffset(fileDescriptor, minimumGeneration));
+
+        stream = new SerializableDataInputStream(
+                new ExtendableInputStream(new BufferedInputStream(fileInputStream), counter));
     }
 
     /**
@@ -113,4 +119,16 @@ public class PreConsensusEventFileIterator implements IOIterator<EventImpl> {
             next = null;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        try {
+            stream.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("unable to close preconsensus event file", e);
+        }
+    }
 }
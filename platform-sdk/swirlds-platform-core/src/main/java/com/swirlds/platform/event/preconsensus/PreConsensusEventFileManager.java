@@ -129,6 +129,7 @@ public class PreConsensusEventFileManager {
         try (final Stream<Path> fileStream = Files.walk(databaseDirectory)) {
             fileStream
                     .filter(f -> !Files.isDirectory(f))
+                    .filter(f -> !PreConsensusEventFileIndex.isIndexFile(f))
                     .map(PreConsensusEventFileManager::parseFile)
                     .filter(Objects::nonNull)
                     .sorted()
@@ -55,8 +55,12 @@ public class PreConsensusEventMultiFileIterator implements IOIterator<EventImpl>
     private void findNext() throws IOException {
         while (next == null) {
             if (currentIterator == null || !currentIterator.hasNext()) {
-                if (currentIterator != null && currentIterator.hasPartialEvent()) {
-                    truncatedFileCount++;
+                if (currentIterator != null) {
+                    if (currentIterator.hasPartialEvent()) {
+                        truncatedFileCount++;
+                    }
+                    currentIterator.close();
+                    currentIterator = null;
                 }
 
                 if (!fileIterator.hasNext()) {
@@ -23,7 +23,12 @@ import com.swirlds.platform.internal.EventImpl;
 import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents a pre-consensus event file that can be written to.
@@ -50,6 +55,23 @@ public class PreConsensusEventMutableFile {
      */
     private final SerializableDataOutputStream out;
 
+    /**
+     * The channel of the underlying file, used to force written data to the storage device.
+     */
+    private final FileChannel channel;
+
+    /**
+     * A sparse index of the events in this file, written to disk when the file is closed.
+     */
+    private final PreConsensusEventFileIndex index = new PreConsensusEventFileIndex();
+
+    /**
+     * The directories whose entries changed when this file was created, i.e. the directory that holds the file and
+     * the parents of any directories created for it. Forced to the storage device by the first {@link #sync()}, after
+     * which this list is empty.
+     */
+    private List<Path> unsyncedDirectories;
+
     /**
      * Create a new pre-consensus event file that can be written to.
      *
@@ -61,12 +83,22 @@ public class PreConsensusEventMutableFile {
             throw new IOException("File " + descriptor.path() + " already exists");
         }
 
-        Files.createDirectories(descriptor.path().getParent());
+        final Path directory = descriptor.path().getParent();
+        unsyncedDirectories = new ArrayList<>();
+        unsyncedDirectories.add(directory);
+        for (Path created = directory; created != null && !Files.exists(created); created = created.getParent()) {
+            if (created.getParent() != null) {
+                unsyncedDirectories.add(created.getParent());
+            }
+        }
+        Files.createDirectories(directory);
 
         this.descriptor = descriptor;
         counter = new CountingStreamExtension(false);
-        out = new SerializableDataOutputStream(new ExtendableOutputStream(
-                new BufferedOutputStream(new FileOutputStream(descriptor.path().toFile())), counter));
+        final FileOutputStream fileOutputStream = new FileOutputStream(descriptor.path().toFile());
+        channel = fileOutputStream.getChannel();
+        out = new SerializableDataOutputStream(
+                new ExtendableOutputStream(new BufferedOutputStream(fileOutputStream), counter));
     }
 
     /**
@@ -91,6 +123,7 @@ public class PreConsensusEventMutableFile {
             throw new IllegalStateException("Cannot write event " + event.getBaseHash() + " with generation "
                     + event.getGeneration() + " to file " + descriptor);
         }
+        index.eventStartsAt(counter.getCount(), highestGenerationInFile);
         out.writeSerializable(event, false);
         highestGenerationInFile = Math.max(highestGenerationInFile, event.getGeneration());
     }
@@ -103,10 +136,30 @@ public class PreConsensusEventMutableFile {
     }
 
     /**
-     * Close the file.
+     * Flush the file and force all written data to the storage device. Unlike {@link #flush()}, data written prior to
+     * this call is guaranteed to survive an operating system crash or power loss once this method returns. The first
+     * call also forces the directory entries of the file, without which a newly created file may not be found after a
+     * crash even though its contents were forced.
+     */
+    public void sync() throws IOException {
+        out.flush();
+        channel.force(false);
+        if (!unsyncedDirectories.isEmpty()) {
+            for (final Path directory : unsyncedDirectories) {
+                try (final FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+                    directoryChannel.force(true);
+                }
+            }
+            unsyncedDirectories = List.of();
+        }
+    }
+
+    /**
+     * Close the file and write its index to disk.
      */
     public void close() throws IOException {
         out.close();
+        index.write(PreConsensusEventFileIndex.getIndexPath(descriptor.path()));
     }
 
     /**
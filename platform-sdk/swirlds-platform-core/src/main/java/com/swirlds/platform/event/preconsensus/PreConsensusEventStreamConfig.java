@@ -72,6 +72,22 @@ import java.time.Duration;
  * 		if true, then replay pre-consensus events at boot time after loading a signed state.
  * 		If this is disabled then a network wide crash (perhaps due to a bug) can cause
  * 		transactions that previously reached consensus to be "forgotten" and effectively rolled back.
+ * @param forceOnFlush
+ * 		if true, then every flush of a preconsensus event file is followed by a {@link java.nio.channels.FileChannel#force
+ * 		force}, and an event is only reported as durable once it has reached the storage device. If false then a flush
+ * 		only hands data to the operating system, and durable events may still be lost if the machine (as opposed to
+ * 		the process) crashes.
+ * @param groupCommitEventCount
+ * 		if greater than zero, then the writer flushes on its own initiative once this many events have been written
+ * 		since the previous flush. All events written since the previous flush become durable together (a "group
+ * 		commit"), and any flush requests satisfied by that flush are not flushed again. This bounds the number of events
+ * 		that can be lost in a crash without paying for one flush per event. If zero then flushes only happen when
+ * 		explicitly requested.
+ * @param createOnlyOnDurableSelfParent
+ * 		if true, then a new self event is only created once its self-parent is durable, and a flush of the
+ * 		self-parent is requested if it is not. This guarantees that a node which crashes finds its latest self event
+ * 		in the stream when it restarts, so it never creates two events with the same self-parent. Has no effect
+ * 		unless storage is enabled.
  */
 @ConfigData("event.preconsensus")
 public record PreConsensusEventStreamConfig(
@@ -87,4 +103,7 @@ public record PreConsensusEventStreamConfig(
         // FUTURE WORK: once tested make this default true
         @ConfigProperty(defaultValue = "false") boolean enableStorage,
         // FUTURE WORK: once tested make this default true
-        @ConfigProperty(defaultValue = "false") boolean enableReplay) {}
+        @ConfigProperty(defaultValue = "false") boolean enableReplay,
+        @ConfigProperty(defaultValue = "false") boolean forceOnFlush,
+        @Min(0) @ConfigProperty(defaultValue = "0") int groupCommitEventCount,
+        @ConfigProperty(defaultValue = "false") boolean createOnlyOnDurableSelfParent) {}
@@ -60,6 +60,16 @@ public interface PreConsensusEventWriter extends Startable, Stoppable {
      */
     boolean isEventDurable(EventImpl event);
 
+    /**
+     * Get the highest stream sequence number that is guaranteed to be durable. All events with a stream sequence
+     * number less than or equal to this value are durable, with the exception of stale events, which are never
+     * written. Whether "durable" means handed to the operating system or forced to the storage device depends on
+     * {@link PreConsensusEventStreamConfig#forceOnFlush()}.
+     *
+     * @return the highest durable stream sequence number, or -1 if no events are durable yet
+     */
+    long getDurableSequenceNumber();
+
     /**
      * Wait until an event is guaranteed to be durable, i.e. flushed to disk.
      * @param event the event in question
@@ -85,6 +85,25 @@ public class PreconsensusEventMetrics {
             .withDescription("The age of the oldest preconsensus event file, in seconds.");
     private final LongGauge preconsensusEventFileOldestSeconds;
 
+    private static final SpeedometerMetric.Config PRECONSENSUS_EVENT_FLUSH_RATE_CONFIG = new SpeedometerMetric.Config(
+                    CATEGORY, "preconsensusEventFlushRate")
+            .withUnit("hertz")
+            .withDescription("The number of times per second that the preconsensus event stream is flushed.");
+    private final SpeedometerMetric preconsensusEventFlushRate;
+
+    private static final RunningAverageMetric.Config PRECONSENSUS_EVENT_AVERAGE_EVENTS_PER_FLUSH_CONFIG =
+            new RunningAverageMetric.Config(CATEGORY, "preconsensusEventAverageEventsPerFlush")
+                    .withUnit("events")
+                    .withDescription("The average number of events made durable by each flush of the preconsensus "
+                            + "event stream. Larger values mean that flushes are being amortized over more events.");
+    private final RunningAverageMetric preconsensusEventAverageEventsPerFlush;
+
+    private static final LongGauge.Config PRECONSENSUS_EVENT_DURABLE_SEQUENCE_NUMBER_CONFIG = new LongGauge.Config(
+                    CATEGORY, "preconsensusEventDurableSequenceNumber")
+            .withUnit("sequence number")
+            .withDescription("The highest stream sequence number of all events that are durable.");
+    private final LongGauge preconsensusEventDurableSequenceNumber;
+
     /**
      * Construct preconsensus event metrics.
      *
@@ -103,6 +122,11 @@ public class PreconsensusEventMetrics {
         preconsensusEventFileYoungestGeneration =
                 metrics.getOrCreate(PRECONSENSUS_EVENT_FILE_YOUNGEST_GENERATION_CONFIG);
         preconsensusEventFileOldestSeconds = metrics.getOrCreate(PRECONSENSUS_EVENT_FILE_OLDEST_SECONDS_CONFIG);
+        preconsensusEventFlushRate = metrics.getOrCreate(PRECONSENSUS_EVENT_FLUSH_RATE_CONFIG);
+        preconsensusEventAverageEventsPerFlush =
+                metrics.getOrCreate(PRECONSENSUS_EVENT_AVERAGE_EVENTS_PER_FLUSH_CONFIG);
+        preconsensusEventDurableSequenceNumber =
+                metrics.getOrCreate(PRECONSENSUS_EVENT_DURABLE_SEQUENCE_NUMBER_CONFIG);
     }
 
     /**
@@ -167,4 +191,25 @@ public class PreconsensusEventMetrics {
     public LongGauge getPreconsensusEventFileOldestSeconds() {
         return preconsensusEventFileOldestSeconds;
     }
+
+    /**
+     * Get the metric tracking the rate at which the preconsensus event stream is flushed.
+     */
+    public SpeedometerMetric getPreconsensusEventFlushRate() {
+        return preconsensusEventFlushRate;
+    }
+
+    /**
+     * Get the metric tracking the average number of events made durable by each flush.
+     */
+    public RunningAverageMetric getPreconsensusEventAverageEventsPerFlush() {
+        return preconsensusEventAverageEventsPerFlush;
+    }
+
+    /**
+     * Get the metric tracking the highest stream sequence number that is durable.
+     */
+    public LongGauge getPreconsensusEventDurableSequenceNumber() {
+        return preconsensusEventDurableSequenceNumber;
+    }
 }
@@ -19,6 +19,7 @@ package com.swirlds.platform.event.preconsensus;
 import static com.swirlds.base.ArgumentUtils.throwArgNull;
 
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.threading.CountUpLatch;
 import com.swirlds.common.utility.LongRunningAverage;
 import com.swirlds.common.utility.Startable;
@@ -53,9 +54,9 @@ public class SyncPreConsensusEventWriter implements PreConsensusEventWriter, Sta
     private long minimumGenerationNonAncient = 0;
 
     /**
-     * The desired file size, in megabytes. Is not a hard limit, it's possible that we may exceed this value by a small
-     * amount (we never stop in the middle of writing an event). It's also possible that we may create files that are
-     * smaller than this limit.
+     * The desired file size, in megabytes. Is not a hard limit, a file holding a single event larger than this value
+     * will exceed it (we never stop in the middle of writing an event). It's also possible that we may create files
+     * that are smaller than this limit.
      */
     private final int preferredFileSizeMegabytes;
 
@@ -110,6 +111,28 @@ public class SyncPreConsensusEventWriter implements PreConsensusEventWriter, Sta
      */
     private final PriorityQueue<Long> flushableEvents = new PriorityQueue<>();
 
+    /**
+     * If true then each flush forces data to the storage device, see
+     * {@link PreConsensusEventStreamConfig#forceOnFlush()}.
+     */
+    private final boolean forceOnFlush;
+
+    /**
+     * If greater than zero, flush after this many events have been written since the last flush, see
+     * {@link PreConsensusEventStreamConfig#groupCommitEventCount()}.
+     */
+    private final int groupCommitEventCount;
+
+    /**
+     * The number of events written since the last flush.
+     */
+    private long eventsSinceLastFlush;
+
+    /**
+     * Metrics for the preconsensus event stream.
+     */
+    private final PreconsensusEventMetrics metrics;
+
     /**
      * Create a new PreConsensusEventWriter.
      *
@@ -132,6 +155,10 @@ public class SyncPreConsensusEventWriter implements PreConsensusEventWriter, Sta
         bootstrapGenerationalSpan = config.bootstrapGenerationalSpan();
         generationalSpanOverlapFactor = config.generationalSpanOverlapFactor();
         minimumGenerationalCapacity = config.minimumGenerationalCapacity();
+        forceOnFlush = config.forceOnFlush();
+        groupCommitEventCount = config.groupCommitEventCount();
+
+        metrics = new PreconsensusEventMetrics(platformContext.getMetrics());
 
         this.fileManager = fileManager;
     }
@@ -161,9 +188,12 @@ public class SyncPreConsensusEventWriter implements PreConsensusEventWriter, Sta
     }
 
     /**
-     * Flush the stream if needed.
+     * Flush the stream if needed. All pending flush requests that can be satisfied, as well as a pending group commit,
+     * are handled by a single flush.
      */
     private synchronized void flushIfNeeded() {
+        boolean flushRequired = groupCommitEventCount > 0 && eventsSinceLastFlush >= groupCommitEventCount;
+
         while (!flushableEvents.isEmpty()) {
             final long nextFlushableEvent = flushableEvents.peek();
 
@@ -179,13 +209,36 @@ public class SyncPreConsensusEventWriter implements PreConsensusEventWriter, Sta
                 continue;
             }
 
-            try {
+            flushRequired = true;
+        }
+
+        if (flushRequired) {
+            flush();
+        }
+    }
+
+    /**
+     * Flush the current file, forcing it to the storage device if so configured, and mark all written events as
+     * durable.
+     */
+    private void flush() {
+        if (currentMutableFile == null || lastWrittenEvent <= lastFlushedEvent.getCount()) {
+            return;
+        }
+
+        try {
+            if (forceOnFlush) {
+                currentMutableFile.sync();
+            } else {
                 currentMutableFile.flush();
-            } catch (final IOException e) {
-                throw new UncheckedIOException("unable to flush", e);
             }
-            markEventsAsFlushed();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("unable to flush", e);
         }
+
+        metrics.getPreconsensusEventFlushRate().cycle();
+        metrics.getPreconsensusEventAverageEventsPerFlush().update(eventsSinceLastFlush);
+        markEventsAsFlushed();
     }
 
     /**
@@ -199,6 +252,7 @@ public class SyncPreConsensusEventWriter implements PreConsensusEventWriter, Sta
             prepareOutputStream(event);
             currentMutableFile.writeEvent(event);
             lastWrittenEvent = event.getStreamSequenceNumber();
+            eventsSinceLastFlush++;
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -239,6 +293,14 @@ public class SyncPreConsensusEventWriter implements PreConsensusEventWriter, Sta
         return event.getStreamSequenceNumber() <= lastFlushedEvent.getCount();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDurableSequenceNumber() {
+        return lastFlushedEvent.getCount();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -282,7 +344,9 @@ public class SyncPreConsensusEventWriter implements PreConsensusEventWriter, Sta
      * Mark all unflushed events as durable.
      */
     private void markEventsAsFlushed() {
+        eventsSinceLastFlush = 0;
         lastFlushedEvent.set(lastWrittenEvent);
+        metrics.getPreconsensusEventDurableSequenceNumber().set(lastWrittenEvent);
     }
 
     /**
@@ -311,6 +375,9 @@ public class SyncPreConsensusEventWriter implements PreConsensusEventWriter, Sta
     private void closeFile() {
         try {
             averageGenerationalSpanUtilization.add(currentMutableFile.getUtilizedGenerationalSpan());
+            if (forceOnFlush) {
+                currentMutableFile.sync();
+            }
             currentMutableFile.close();
 
             // Future work: "compactify" file name here
@@ -350,8 +417,7 @@ public class SyncPreConsensusEventWriter implements PreConsensusEventWriter, Sta
      */
     private void prepareOutputStream(@NonNull final EventImpl eventToWrite) throws IOException {
         if (currentMutableFile != null
-                && (!currentMutableFile.canContain(eventToWrite)
-                        || currentMutableFile.fileSize() * Units.BYTES_TO_MEBIBYTES >= preferredFileSizeMegabytes)) {
+                && (!currentMutableFile.canContain(eventToWrite) || exceedsPreferredFileSize(eventToWrite))) {
             closeFile();
         }
 
@@ -365,6 +431,22 @@ public class SyncPreConsensusEventWriter implements PreConsensusEventWriter, Sta
         }
     }
 
+    /**
+     * Check if writing an event to the current file would push the file past the preferred file size. An empty file
+     * always accepts the event, even if the event alone is larger than the preferred file size.
+     *
+     * @param eventToWrite the event that is about to be written
+     * @return true if the event should be written to a new file
+     */
+    private boolean exceedsPreferredFileSize(@NonNull final EventImpl eventToWrite) {
+        final long fileSize = currentMutableFile.fileSize();
+        if (fileSize == 0) {
+            return false;
+        }
+        final long sizeAfterWrite = fileSize + SerializableDataOutputStream.getSerializedLength(eventToWrite, false);
+        return sizeAfterWrite * Units.BYTES_TO_MEBIBYTES > preferredFileSizeMegabytes;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -380,6 +462,9 @@ public class SyncPreConsensusEventWriter implements PreConsensusEventWriter, Sta
     public synchronized void stop() {
         if (currentMutableFile != null) {
             try {
+                if (forceOnFlush) {
+                    currentMutableFile.sync();
+                }
                 currentMutableFile.close();
                 markEventsAsFlushed();
             } catch (final IOException e) {
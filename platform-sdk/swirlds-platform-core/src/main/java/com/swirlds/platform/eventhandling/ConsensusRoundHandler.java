@@ -31,6 +31,8 @@ import com.swirlds.common.crypto.ImmutableHash;
 import com.swirlds.common.crypto.RunningHash;
 import com.swirlds.common.stream.EventStreamManager;
 import com.swirlds.common.system.SoftwareVersion;
+import com.swirlds.common.system.transaction.internal.TransactionStage;
+import com.swirlds.common.system.transaction.internal.TransactionTrace;
 import com.swirlds.common.threading.framework.QueueThread;
 import com.swirlds.common.threading.framework.config.QueueThreadConfiguration;
 import com.swirlds.common.threading.manager.ThreadManager;
@@ -123,6 +125,11 @@ public class ConsensusRoundHandler implements ConsensusRoundObserver, Clearable,
      */
     private final int roundsNonAncient;
 
+    /**
+     * The ID of this node.
+     */
+    private final long selfId;
+
     /**
      * Instantiate, but don't start any threads yet. The Platform should first instantiate the
      * {@link ConsensusRoundHandler}. Then the Platform should call start to start the queue thread.
@@ -156,6 +163,7 @@ public class ConsensusRoundHandler implements ConsensusRoundObserver, Clearable,
 
         this.roundAppliedToStateConsumer = roundAppliedToStateConsumer;
 
+        this.selfId = selfId;
         this.settings = settings;
         this.swirldStateManager = swirldStateManager;
         this.consensusHandlingMetrics = consensusHandlingMetrics;
@@ -281,9 +289,22 @@ public class ConsensusRoundHandler implements ConsensusRoundObserver, Clearable,
             enterFreezePeriod.run();
         }
 
+        stampSelfEvents(consensusRound, TransactionStage.CONSENSUS);
+
         addConsensusRound(consensusRound);
     }
 
+    /**
+     * Stamp the traced transactions in the events this node created in a round.
+     */
+    private void stampSelfEvents(final ConsensusRound round, final TransactionStage stage) {
+        for (final EventImpl event : round.getConsensusEvents()) {
+            if (event.isCreatedBy(selfId)) {
+                TransactionTrace.stampAll(event.getTransactions(), stage);
+            }
+        }
+    }
+
     private boolean isRoundInFreezePeriod(final ConsensusRound round) {
         if (round.getLastEvent() == null) {
             // there are no events in this round
@@ -338,6 +359,7 @@ public class ConsensusRoundHandler implements ConsensusRoundObserver, Clearable,
             consensusHandlingMetrics.recordConsensusTime(round.getLastEvent().getLastTransTime());
         }
         swirldStateManager.handleConsensusRound(round);
+        stampSelfEvents(round, TransactionStage.HANDLED);
 
         consensusTimingStat.setTimePoint(2);
 
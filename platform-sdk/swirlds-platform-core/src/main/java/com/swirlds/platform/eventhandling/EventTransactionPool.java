@@ -20,6 +20,8 @@ import com.swirlds.common.system.EventCreationRuleResponse;
 import com.swirlds.common.system.transaction.ConsensusTransaction;
 import com.swirlds.common.system.transaction.internal.ConsensusTransactionImpl;
 import com.swirlds.common.system.transaction.internal.StateSignatureTransaction;
+import com.swirlds.common.system.transaction.internal.TransactionStage;
+import com.swirlds.common.system.transaction.internal.TransactionTrace;
 import com.swirlds.platform.SettingsProvider;
 import com.swirlds.platform.components.transaction.TransactionPool;
 import com.swirlds.platform.components.transaction.TransactionSupplier;
@@ -140,7 +142,9 @@ public class EventTransactionPool implements TransactionPool, TransactionSupplie
             }
         }
 
-        return selectedTrans.toArray(new ConsensusTransactionImpl[0]);
+        final ConsensusTransactionImpl[] transactions = selectedTrans.toArray(new ConsensusTransactionImpl[0]);
+        TransactionTrace.stampAll(transactions, TransactionStage.IN_EVENT);
+        return transactions;
     }
 
     private static boolean isSignatureTrans(final ConsensusTransaction transaction) {
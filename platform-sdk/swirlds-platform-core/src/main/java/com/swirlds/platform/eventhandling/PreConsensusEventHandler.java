@@ -22,6 +22,8 @@ import static com.swirlds.platform.SwirldsPlatform.PLATFORM_THREAD_POOL_NAME;
 
 import com.swirlds.common.config.singleton.ConfigurationHolder;
 import com.swirlds.common.system.NodeId;
+import com.swirlds.common.system.transaction.internal.TransactionStage;
+import com.swirlds.common.system.transaction.internal.TransactionTrace;
 import com.swirlds.common.threading.framework.QueueThread;
 import com.swirlds.common.threading.framework.config.QueueThreadConfiguration;
 import com.swirlds.common.threading.manager.ThreadManager;
@@ -136,6 +138,9 @@ public class PreConsensusEventHandler implements PreConsensusEventObserver, Clea
 
         // All events are supplied for preHandle
         swirldStateManager.preHandle(event);
+        if (event.isCreatedBy(selfId)) {
+            TransactionTrace.stampAll(event.getTransactions(), TransactionStage.PRE_HANDLED);
+        }
 
         // some events should not be applied as pre-consensus, so discard them
         if (swirldStateManager.discardPreConsensusEvent(event)) {
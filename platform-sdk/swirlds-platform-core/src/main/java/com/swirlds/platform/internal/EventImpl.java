@@ -22,6 +22,7 @@ import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.crypto.RunningHash;
 import com.swirlds.common.crypto.RunningHashable;
 import com.swirlds.common.io.OptionalSelfSerializable;
+import com.swirlds.common.io.SerializableWithKnownLength;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.stream.StreamAligned;
@@ -69,6 +70,7 @@ public class EventImpl extends AbstractSerializableHashable
                 Comparable<EventImpl>,
                 PlatformEvent,
                 OptionalSelfSerializable<EventSerializationOptions>,
+                SerializableWithKnownLength,
                 RunningHashable,
                 StreamAligned,
                 Timestamped {
@@ -370,6 +372,16 @@ public class EventImpl extends AbstractSerializableHashable
                 out, baseEvent.getHashedData(), baseEvent.getUnhashedData(), consensusData, option);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSerializedLength() {
+        return SerializableDataOutputStream.getSerializedLength(baseEvent.getHashedData(), false)
+                + SerializableDataOutputStream.getSerializedLength(baseEvent.getUnhashedData(), false)
+                + SerializableDataOutputStream.getSerializedLength(consensusData, false);
+    }
+
     /**
      * {@inheritDoc}
      */
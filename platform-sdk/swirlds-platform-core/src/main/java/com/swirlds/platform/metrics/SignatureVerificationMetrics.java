@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.metrics;
+
+import static com.swirlds.common.metrics.FloatFormats.FORMAT_10_2;
+import static com.swirlds.common.metrics.Metrics.INTERNAL_CATEGORY;
+
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.utility.CommonUtils;
+
+/**
+ * Metrics for the signatures verified through {@link Cryptography#verifyBatchAsync(java.util.List)}. The counts are
+ * kept by the {@link Cryptography} implementation, and the averages are updated from the change in the counts each
+ * time the metrics are updated.
+ */
+public final class SignatureVerificationMetrics {
+
+    private static final RunningAverageMetric.Config LIST_SIZE_CONFIG = new RunningAverageMetric.Config(
+                    INTERNAL_CATEGORY, "sigVerifyListSize")
+            .withDescription("the average number of signatures in a list submitted for batch verification")
+            .withFormat(FORMAT_10_2);
+
+    private static final RunningAverageMetric.Config BATCH_SIZE_CONFIG = new RunningAverageMetric.Config(
+                    INTERNAL_CATEGORY, "sigVerifyBatchSize")
+            .withDescription("the average number of signatures in a batch handed to a single verifier thread")
+            .withFormat(FORMAT_10_2);
+
+    private final Cryptography cryptography;
+    private final RunningAverageMetric listSize;
+    private final RunningAverageMetric batchSize;
+
+    private long previousLists;
+    private long previousBatches;
+    private long previousSignatures;
+
+    /**
+     * Setup the signature verification metrics.
+     *
+     * @param metrics
+     * 		a reference to the metrics-system
+     * @param cryptography
+     * 		the cryptography used by the platform
+     */
+    public static void setup(final Metrics metrics, final Cryptography cryptography) {
+        CommonUtils.throwArgNull(metrics, "metrics");
+        CommonUtils.throwArgNull(cryptography, "cryptography");
+        final SignatureVerificationMetrics verificationMetrics =
+                new SignatureVerificationMetrics(metrics, cryptography);
+        metrics.addUpdater(verificationMetrics::update);
+    }
+
+    private SignatureVerificationMetrics(final Metrics metrics, final Cryptography cryptography) {
+        this.cryptography = cryptography;
+        metrics.getOrCreate(new FunctionGauge.Config<>(
+                        INTERNAL_CATEGORY,
+                        "sigVerifyBatchLists",
+                        Long.class,
+                        cryptography::getVerifiedBatchListCount)
+                .withDescription("the number of lists of signatures submitted for batch verification")
+                .withFormat("%d"));
+        metrics.getOrCreate(new FunctionGauge.Config<>(
+                        INTERNAL_CATEGORY,
+                        "sigVerifyBatchSignatures",
+                        Long.class,
+                        cryptography::getVerifiedBatchSignatureCount)
+                .withDescription("the number of signatures submitted for batch verification")
+                .withFormat("%d"));
+        listSize = metrics.getOrCreate(LIST_SIZE_CONFIG);
+        batchSize = metrics.getOrCreate(BATCH_SIZE_CONFIG);
+    }
+
+    /**
+     * Update the averages with the lists submitted since the previous update.
+     */
+    private synchronized void update() {
+        final long lists = cryptography.getVerifiedBatchListCount();
+        final long batches = cryptography.getVerifiedBatchCount();
+        final long signatures = cryptography.getVerifiedBatchSignatureCount();
+
+        final long newLists = lists - previousLists;
+        final long newBatches = batches - previousBatches;
+        final long newSignatures = signatures - previousSignatures;
+        if (newLists > 0) {
+            listSize.update((double) newSignatures / newLists);
+        }
+        if (newBatches > 0) {
+            batchSize.update((double) newSignatures / newBatches);
+        }
+
+        previousLists = lists;
+        previousBatches = batches;
+        previousSignatures = signatures;
+    }
+}
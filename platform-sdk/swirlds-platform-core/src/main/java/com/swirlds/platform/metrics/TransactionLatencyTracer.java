@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.metrics;
+
+import static com.swirlds.common.metrics.Metrics.INTERNAL_CATEGORY;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.system.transaction.internal.ConsensusTransactionImpl;
+import com.swirlds.common.system.transaction.internal.TransactionStage;
+import com.swirlds.common.system.transaction.internal.TransactionTrace;
+import com.swirlds.common.utility.CommonUtils;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Samples transactions created by this node and measures the time they take to move between the stages of the
+ * platform pipeline, see {@link TransactionStage}. One in every {@code sampleRate} submitted transactions is given a
+ * {@link TransactionTrace}; the rest are never touched again, so the cost for a transaction that is not sampled is a
+ * null check at each stage.
+ * </p>
+ *
+ * <p>
+ * The latencies of each stage, and of the pipeline as a whole, are recorded in microseconds in a
+ * {@link HistogramMetric}, which reports their percentiles.
+ * </p>
+ */
+public final class TransactionLatencyTracer implements TransactionTrace.Listener {
+
+    private final int sampleRate;
+    private final AtomicLong submittedCount = new AtomicLong();
+
+    private final Map<TransactionStage, HistogramMetric> stageLatencies = new EnumMap<>(TransactionStage.class);
+    private final HistogramMetric endToEnd;
+
+    /**
+     * Create a tracer.
+     *
+     * @param metrics    the metrics system
+     * @param sampleRate one in this many submitted transactions is traced, 0 disables tracing
+     */
+    public TransactionLatencyTracer(@NonNull final Metrics metrics, final int sampleRate) {
+        CommonUtils.throwArgNull(metrics, "metrics");
+        if (sampleRate < 0) {
+            throw new IllegalArgumentException("sample rate must not be negative");
+        }
+        this.sampleRate = sampleRate;
+
+        if (sampleRate == 0) {
+            endToEnd = null;
+            return;
+        }
+
+        stageLatencies.put(
+                TransactionStage.IN_EVENT,
+                histogram(metrics, "txLatSubmitToEvent", "time from submission until put in a self event"));
+        stageLatencies.put(
+                TransactionStage.PRE_HANDLED,
+                histogram(metrics, "txLatEventToPreHandle", "time from self event until pre-handled"));
+        stageLatencies.put(
+                TransactionStage.CONSENSUS,
+                histogram(metrics, "txLatEventToCons", "time from self event until consensus"));
+        stageLatencies.put(
+                TransactionStage.HANDLED,
+                histogram(metrics, "txLatConsToHandled", "time from consensus until handled"));
+        endToEnd = histogram(metrics, "txLatEndToEnd", "time from submission until handled");
+    }
+
+    private static HistogramMetric histogram(final Metrics metrics, final String name, final String description) {
+        return metrics.getOrCreate(new HistogramMetric.Config(INTERNAL_CATEGORY, name)
+                .withDescription(description + " of sampled transactions (in microseconds)")
+                .withUnit("us"));
+    }
+
+    /**
+     * Called when a transaction created by this node is about to be offered to the transaction pool. Decides whether
+     * the transaction is sampled, and if so starts tracing it.
+     *
+     * @param transaction the transaction
+     */
+    public void transactionSubmitted(@NonNull final ConsensusTransactionImpl transaction) {
+        if (sampleRate == 0 || submittedCount.incrementAndGet() % sampleRate != 0) {
+            return;
+        }
+        final TransactionTrace trace = new TransactionTrace(this);
+        transaction.setTrace(trace);
+        trace.stamp(TransactionStage.SUBMITTED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stageReached(@NonNull final TransactionTrace trace, @NonNull final TransactionStage stage) {
+        final TransactionStage previous = stage.getPrevious();
+        if (previous == null) {
+            return;
+        }
+        record(stageLatencies.get(stage), trace.getNanosBetween(previous, stage));
+        if (stage == TransactionStage.HANDLED) {
+            record(endToEnd, trace.getNanosBetween(TransactionStage.SUBMITTED, stage));
+        }
+    }
+
+    /**
+     * Record a latency in microseconds.
+     *
+     * @param histogram the histogram to record the latency in
+     * @param nanos     the latency in nanoseconds, ignored if negative (i.e. unknown)
+     */
+    private static void record(final HistogramMetric histogram, final long nanos) {
+        if (nanos >= 0) {
+            histogram.update(nanos / 1_000);
+        }
+    }
+}
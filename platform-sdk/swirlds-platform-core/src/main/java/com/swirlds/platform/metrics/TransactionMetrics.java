@@ -31,9 +31,10 @@ import com.swirlds.platform.stats.AverageStat;
 public class TransactionMetrics {
 
     private final AverageStat avgTransSubmitMicros;
+    private final TransactionLatencyTracer latencyTracer;
 
     /**
-     * Constructor of {@code TransactionMetrics}
+     * Constructor of {@code TransactionMetrics} that does not trace transaction latency
      *
      * @param metrics
      * 		a reference to the metrics-system
@@ -41,6 +42,21 @@ public class TransactionMetrics {
      * 		if {@code metrics} is {@code null}
      */
     public TransactionMetrics(final Metrics metrics) {
+        this(metrics, 0);
+    }
+
+    /**
+     * Constructor of {@code TransactionMetrics}
+     *
+     * @param metrics
+     * 		a reference to the metrics-system
+     * @param latencySampleRate
+     * 		one in this many submitted transactions is traced through the platform, 0 disables tracing
+     * @throws IllegalArgumentException
+     * 		if {@code metrics} is {@code null}
+     */
+    public TransactionMetrics(final Metrics metrics, final int latencySampleRate) {
+        latencyTracer = new TransactionLatencyTracer(metrics, latencySampleRate);
         avgTransSubmitMicros = new AverageStat(
                 metrics,
                 INTERNAL_CATEGORY,
@@ -57,4 +73,12 @@ public class TransactionMetrics {
     public void updateTransSubmitMicros(final long microseconds) {
         avgTransSubmitMicros.update(microseconds);
     }
+
+    /**
+     * Called by {@link SwirldTransactionSubmitter#submitTransaction(SwirldTransaction)} when a transaction passes initial
+     * checks, before it is offered to the transaction pool. Starts tracing the transaction if it is sampled.
+     */
+    public void transactionSubmitted(final SwirldTransaction transaction) {
+        latencyTracer.transactionSubmitted(transaction);
+    }
 }
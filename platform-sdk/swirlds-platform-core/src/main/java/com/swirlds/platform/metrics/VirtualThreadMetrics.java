@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.metrics;
+
+import static com.swirlds.common.metrics.Metrics.INTERNAL_CATEGORY;
+import static com.swirlds.common.utility.Units.NANOSECONDS_TO_MILLISECONDS;
+import static com.swirlds.logging.LogMarker.EXCEPTION;
+import static com.swirlds.logging.LogMarker.STARTUP;
+
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.threading.utility.VirtualThreads;
+import com.swirlds.common.utility.CommonUtils;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * Metrics for virtual threads created through the threading framework.
+ * </p>
+ *
+ * <p>
+ * A virtual thread that blocks while holding a monitor, or while inside native code, pins the carrier thread that is
+ * running it, and no other virtual thread can use that carrier until it is released. Pinning is observed through the
+ * {@value #PINNED_EVENT} flight recorder event, which is only emitted by JVMs that support virtual threads.
+ * </p>
+ */
+public final class VirtualThreadMetrics {
+
+    private static final Logger logger = LogManager.getLogger(VirtualThreadMetrics.class);
+
+    /**
+     * The flight recorder event emitted when a virtual thread blocks while pinned to its carrier thread.
+     */
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final FunctionGauge.Config<Long> ALIVE_CONFIG = new FunctionGauge.Config<>(
+                    INTERNAL_CATEGORY, "virtualThreadsAlive", Long.class, VirtualThreads::getAliveCount)
+            .withDescription("the number of virtual threads created by the platform that are currently running")
+            .withFormat("%d");
+
+    private static final FunctionGauge.Config<Long> CREATED_CONFIG = new FunctionGauge.Config<>(
+                    INTERNAL_CATEGORY, "virtualThreadsCreated", Long.class, VirtualThreads::getCreatedCount)
+            .withDescription("the number of virtual threads created by the platform")
+            .withFormat("%d");
+
+    private static final Counter.Config PINNED_CONFIG = new Counter.Config(INTERNAL_CATEGORY, "virtualThreadsPinned")
+            .withDescription("the number of times a virtual thread blocked while pinned to its carrier thread for "
+                    + "longer than the pinning threshold");
+
+    private static final RunningAverageMetric.Config PINNED_TIME_CONFIG = new RunningAverageMetric.Config(
+                    INTERNAL_CATEGORY, "virtualThreadPinnedMillis")
+            .withDescription("the average time a virtual thread blocked while pinned to its carrier thread, "
+                    + "in milliseconds, counting only pins longer than the pinning threshold")
+            .withUnit("ms");
+
+    private static final AtomicBoolean SETUP_STARTED = new AtomicBoolean();
+
+    private final Counter pinned;
+    private final RunningAverageMetric pinnedTime;
+
+    /**
+     * Setup all metrics related to virtual threads. Pinning is only monitored if the JVM supports virtual threads.
+     * Monitoring pinning keeps a flight recorder stream running, so this should only be called if the platform is
+     * configured to create virtual threads.
+     *
+     * @param metrics
+     * 		a reference to the metrics-system
+     * @param pinnedThreshold
+     * 		pins shorter than this are not reported
+     */
+    public static void setup(final Metrics metrics, final Duration pinnedThreshold) {
+        if (SETUP_STARTED.compareAndSet(false, true)) {
+            final VirtualThreadMetrics virtualThreadMetrics = new VirtualThreadMetrics(metrics);
+            if (VirtualThreads.isSupported()) {
+                virtualThreadMetrics.monitorPinning(pinnedThreshold);
+            }
+        }
+    }
+
+    private VirtualThreadMetrics(final Metrics metrics) {
+        CommonUtils.throwArgNull(metrics, "metrics");
+        metrics.getOrCreate(ALIVE_CONFIG);
+        metrics.getOrCreate(CREATED_CONFIG);
+        pinned = metrics.getOrCreate(PINNED_CONFIG);
+        pinnedTime = metrics.getOrCreate(PINNED_TIME_CONFIG);
+    }
+
+    /**
+     * Start a flight recorder stream that reports pinned virtual threads. The stream runs on its own daemon thread for
+     * the remainder of the life of the JVM.
+     */
+    private void monitorPinning(final Duration pinnedThreshold) {
+        try {
+            final RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(pinnedThreshold);
+            stream.onEvent(PINNED_EVENT, this::pinnedEvent);
+            stream.startAsync();
+            logger.info(
+                    STARTUP.getMarker(), "monitoring virtual threads pinned for longer than {}", pinnedThreshold);
+        } catch (final RuntimeException e) {
+            logger.error(EXCEPTION.getMarker(), "unable to monitor pinned virtual threads", e);
+        }
+    }
+
+    private void pinnedEvent(final RecordedEvent event) {
+        pinned.increment();
+        pinnedTime.update(event.getDuration().toNanos() * NANOSECONDS_TO_MILLISECONDS);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.state;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
+
+/**
+ * Configuration for handling the transactions of a consensus round in parallel. Only has an effect if the application
+ * state implements {@link com.swirlds.common.system.ParallelSwirldState}.
+ *
+ * @param enabled
+ * 		if true, then non-conflicting transactions of a round are handled concurrently
+ * @param threadCount
+ * 		the number of threads used to handle transactions
+ * @param minimumTransactionsPerRound
+ * 		rounds with fewer application transactions than this are handled sequentially on the handle thread, since
+ * 		scheduling overhead would outweigh any gain from parallelism
+ */
+@ConfigData("parallelHandle")
+public record ParallelHandleConfig(
+        @ConfigProperty(defaultValue = "false") boolean enabled,
+        @Min(1) @ConfigProperty(defaultValue = "8") int threadCount,
+        @Min(0) @ConfigProperty(defaultValue = "16") int minimumTransactionsPerRound) {}
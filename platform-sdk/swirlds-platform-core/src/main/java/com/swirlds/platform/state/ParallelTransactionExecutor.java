@@ -0,0 +1,396 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.state;
+
+import static com.swirlds.base.ArgumentUtils.throwArgNull;
+import static com.swirlds.logging.LogMarker.EXCEPTION;
+
+import com.swirlds.common.system.ParallelSwirldState;
+import com.swirlds.common.system.Round;
+import com.swirlds.common.system.SwirldDualState;
+import com.swirlds.common.system.events.ConsensusEvent;
+import com.swirlds.common.system.transaction.ConsensusTransaction;
+import com.swirlds.common.system.transaction.TransactionAccessSet;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.common.threading.manager.ThreadManager;
+import com.swirlds.common.utility.Stoppable;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * Handles the transactions of a consensus round against a {@link ParallelSwirldState}, running transactions that do
+ * not conflict with each other concurrently.
+ * </p>
+ *
+ * <p>
+ * Before any transaction is handled, a dependency graph is built by walking the transactions in consensus order. A
+ * transaction depends on the most recent earlier transaction that writes any key it reads or writes, and on every
+ * earlier transaction that reads a key it writes (since that write). A transaction with an unknown access set depends
+ * on every earlier transaction, and every later transaction depends on it. A transaction is started as soon as all
+ * transactions it depends on have been handled. Conflicting transactions are therefore always handled in consensus
+ * order, which makes the resulting state deterministic.
+ * </p>
+ *
+ * <p>
+ * The {@link SwirldDualState} is not thread safe. Transactions with a known access set are given a read only view of
+ * it, and only transactions with an unknown access set, which never run concurrently with other transactions, may
+ * modify it.
+ * </p>
+ *
+ * <p>
+ * This class is not thread safe, rounds must be handled one at a time.
+ * </p>
+ */
+public class ParallelTransactionExecutor implements Stoppable {
+
+    private static final Logger logger = LogManager.getLogger(ParallelTransactionExecutor.class);
+
+    /**
+     * A transaction that is scheduled to be handled, along with its position in the dependency graph.
+     */
+    private static final class ScheduledTransaction {
+        private final int index;
+        private final ConsensusEvent event;
+        private final ConsensusTransaction transaction;
+        private final List<ScheduledTransaction> dependents = new ArrayList<>();
+        private final AtomicInteger remainingDependencies = new AtomicInteger();
+
+        /**
+         * True if the access set of this transaction is unknown, in which case it never runs concurrently with any
+         * other transaction.
+         */
+        private boolean barrier;
+
+        private ScheduledTransaction(
+                final int index, final ConsensusEvent event, final ConsensusTransaction transaction) {
+            this.index = index;
+            this.event = event;
+            this.transaction = transaction;
+        }
+    }
+
+    /**
+     * The state of a round that is being handled.
+     */
+    private static final class RoundExecution {
+        private final Round round;
+        private final ParallelSwirldState state;
+        private final SwirldDualState dualState;
+        private final SwirldDualState readOnlyDualState;
+        private final CountDownLatch remainingTransactions;
+        private final AtomicInteger skippedCount = new AtomicInteger();
+
+        private RoundExecution(
+                final Round round,
+                final ParallelSwirldState state,
+                final SwirldDualState dualState,
+                final int transactionCount) {
+            this.round = round;
+            this.state = state;
+            this.dualState = dualState;
+            this.readOnlyDualState = new ReadOnlyDualState(dualState);
+            this.remainingTransactions = new CountDownLatch(transactionCount);
+        }
+
+        /**
+         * Wait until every transaction of the round has been handled or skipped, even if interrupted.
+         */
+        private void awaitUninterruptibly() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    remainingTransactions.await();
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * The view of the dual state passed to transactions that may run concurrently with other transactions. The dual
+     * state is not thread safe, so only barrier transactions, which never run concurrently with anything else, may
+     * modify it.
+     */
+    private static final class ReadOnlyDualState implements SwirldDualState {
+        private final SwirldDualState dualState;
+
+        private ReadOnlyDualState(final SwirldDualState dualState) {
+            this.dualState = dualState;
+        }
+
+        @Override
+        public void setFreezeTime(final Instant freezeTime) {
+            throw new UnsupportedOperationException(
+                    "the dual state may only be modified by transactions with an unknown access set");
+        }
+
+        @Override
+        public Instant getFreezeTime() {
+            return dualState.getFreezeTime();
+        }
+
+        @Override
+        public Instant getLastFrozenTime() {
+            return dualState.getLastFrozenTime();
+        }
+    }
+
+    private final ExecutorService executor;
+
+    /**
+     * Rounds with fewer transactions than this are handled sequentially.
+     */
+    private final int minimumTransactionsPerRound;
+
+    /**
+     * Create a new executor.
+     *
+     * @param threadManager               responsible for creating new threads
+     * @param threadCount                 the number of threads that handle transactions
+     * @param minimumTransactionsPerRound rounds with fewer application transactions than this are handled
+     *                                    sequentially on the calling thread
+     */
+    public ParallelTransactionExecutor(
+            @NonNull final ThreadManager threadManager, final int threadCount, final int minimumTransactionsPerRound) {
+        throwArgNull(threadManager, "threadManager");
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("thread count must be at least 1");
+        }
+        this.minimumTransactionsPerRound = minimumTransactionsPerRound;
+        executor = Executors.newFixedThreadPool(
+                threadCount,
+                new ThreadConfiguration(threadManager)
+                        .setComponent("platform")
+                        .setThreadName("parallel-handle")
+                        .buildFactory());
+    }
+
+    /**
+     * Handle all application transactions in a round. Returns after every transaction has been handled.
+     *
+     * <p>
+     * If the calling thread is interrupted while waiting, the round is still handled to completion before this method
+     * returns, and the interrupt flag of the calling thread is restored. This method never returns while a transaction
+     * of the round is still being handled.
+     * </p>
+     *
+     * @param round           the round to handle
+     * @param state           the state to apply the round to
+     * @param swirldDualState the dual state for the round
+     * @throws IllegalStateException if this executor has been stopped and some transactions of the round were not
+     *                               handled. The state then contains only part of the round and must not be used.
+     */
+    public void handleRound(
+            @NonNull final Round round,
+            @NonNull final ParallelSwirldState state,
+            @NonNull final SwirldDualState swirldDualState) {
+
+        final List<ScheduledTransaction> transactions = new ArrayList<>();
+        round.forEachEventTransaction((event, transaction) -> {
+            if (!transaction.isSystem()) {
+                transactions.add(new ScheduledTransaction(transactions.size(), event, transaction));
+            }
+        });
+
+        if (transactions.isEmpty()) {
+            return;
+        }
+        if (transactions.size() < minimumTransactionsPerRound) {
+            state.handleConsensusRound(round, swirldDualState);
+            return;
+        }
+
+        buildDependencyGraph(transactions, state);
+
+        // Transactions without dependencies must be collected before any transaction is submitted. Once a transaction
+        // has been submitted it may finish and release its dependents, whose dependency counts then also read zero.
+        final List<ScheduledTransaction> roots = new ArrayList<>();
+        for (final ScheduledTransaction transaction : transactions) {
+            if (transaction.remainingDependencies.get() == 0) {
+                roots.add(transaction);
+            }
+        }
+
+        final RoundExecution execution = new RoundExecution(round, state, swirldDualState, transactions.size());
+        for (final ScheduledTransaction root : roots) {
+            submit(root, execution);
+        }
+        execution.awaitUninterruptibly();
+
+        if (execution.skippedCount.get() > 0) {
+            throw new IllegalStateException("executor has been stopped, " + execution.skippedCount.get()
+                    + " transaction(s) of round " + round.getRoundNum() + " were not handled");
+        }
+    }
+
+    /**
+     * Compute the dependencies of each transaction.
+     */
+    private static void buildDependencyGraph(
+            @NonNull final List<ScheduledTransaction> transactions, @NonNull final ParallelSwirldState state) {
+
+        final Map<Object, ScheduledTransaction> lastWriters = new HashMap<>();
+        final Map<Object, List<ScheduledTransaction>> readersSinceLastWrite = new HashMap<>();
+
+        // The most recent transaction with an unknown access set, and all transactions since then
+        ScheduledTransaction lastBarrier = null;
+        List<ScheduledTransaction> sinceLastBarrier = new ArrayList<>();
+
+        for (final ScheduledTransaction transaction : transactions) {
+            final TransactionAccessSet accessSet = state.getAccessSet(transaction.transaction);
+            final Set<ScheduledTransaction> dependencies = new LinkedHashSet<>();
+
+            if (accessSet == null) {
+                transaction.barrier = true;
+                if (lastBarrier != null) {
+                    dependencies.add(lastBarrier);
+                }
+                dependencies.addAll(sinceLastBarrier);
+                lastBarrier = transaction;
+                sinceLastBarrier = new ArrayList<>();
+            } else {
+                if (lastBarrier != null) {
+                    dependencies.add(lastBarrier);
+                }
+                for (final Object key : accessSet.readKeys()) {
+                    final ScheduledTransaction writer = lastWriters.get(key);
+                    if (writer != null) {
+                        dependencies.add(writer);
+                    }
+                    readersSinceLastWrite
+                            .computeIfAbsent(key, k -> new ArrayList<>())
+                            .add(transaction);
+                }
+                for (final Object key : accessSet.writeKeys()) {
+                    final ScheduledTransaction writer = lastWriters.get(key);
+                    if (writer != null) {
+                        dependencies.add(writer);
+                    }
+                    final List<ScheduledTransaction> readers = readersSinceLastWrite.remove(key);
+                    if (readers != null) {
+                        dependencies.addAll(readers);
+                    }
+                    lastWriters.put(key, transaction);
+                }
+                sinceLastBarrier.add(transaction);
+            }
+
+            // A transaction that both reads and writes a key would otherwise depend on itself
+            dependencies.remove(transaction);
+
+            transaction.remainingDependencies.set(dependencies.size());
+            for (final ScheduledTransaction dependency : dependencies) {
+                dependency.dependents.add(transaction);
+            }
+        }
+    }
+
+    /**
+     * Submit a transaction whose dependencies have all been handled.
+     */
+    private void submit(@NonNull final ScheduledTransaction transaction, @NonNull final RoundExecution execution) {
+        try {
+            executor.submit(() -> {
+                try {
+                    execution.state.handleConsensusTransaction(
+                            execution.round,
+                            transaction.event,
+                            transaction.transaction,
+                            transaction.barrier ? execution.dualState : execution.readOnlyDualState);
+                } catch (final Throwable t) {
+                    logger.error(
+                            EXCEPTION.getMarker(),
+                            "error invoking ParallelSwirldState.handleConsensusTransaction() "
+                                    + "for transaction {} of round {}",
+                            transaction.index,
+                            execution.round.getRoundNum(),
+                            t);
+                }
+                release(transaction, execution);
+            });
+        } catch (final RejectedExecutionException e) {
+            skip(transaction, execution);
+        }
+    }
+
+    /**
+     * Called once a transaction has been handled. Submits every dependent that is no longer waiting for anything.
+     */
+    private void release(@NonNull final ScheduledTransaction transaction, @NonNull final RoundExecution execution) {
+        for (final ScheduledTransaction dependent : transaction.dependents) {
+            if (dependent.remainingDependencies.decrementAndGet() == 0) {
+                submit(dependent, execution);
+            }
+        }
+        execution.remainingTransactions.countDown();
+    }
+
+    /**
+     * Called if a transaction can not be submitted because this executor has been stopped. The transaction and every
+     * transaction that depends on it are counted as finished without being handled, so that the handle thread does not
+     * wait for them forever.
+     */
+    private static void skip(@NonNull final ScheduledTransaction transaction, @NonNull final RoundExecution execution) {
+        final Deque<ScheduledTransaction> stack = new ArrayDeque<>();
+        stack.push(transaction);
+        while (!stack.isEmpty()) {
+            final ScheduledTransaction next = stack.pop();
+            execution.skippedCount.incrementAndGet();
+            for (final ScheduledTransaction dependent : next.dependents) {
+                if (dependent.remainingDependencies.decrementAndGet() == 0) {
+                    stack.push(dependent);
+                }
+            }
+            execution.remainingTransactions.countDown();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Transactions that have already been submitted are allowed to finish, but their dependents are not started. A
+     * round that is being handled when the executor is stopped is therefore not completed, see
+     * {@link #handleRound(Round, ParallelSwirldState, SwirldDualState)}.
+     * </p>
+     */
+    @Override
+    public void stop() {
+        executor.shutdown();
+    }
+}
@@ -110,12 +110,53 @@ public class SwirldStateManagerImpl implements SwirldStateManager {
             final SettingsProvider settings,
             final BooleanSupplier inFreeze,
             final State state) {
+        this(
+                selfId,
+                preConsensusSystemTransactionManager,
+                postConsensusSystemTransactionManager,
+                swirldStateMetrics,
+                settings,
+                inFreeze,
+                state,
+                null);
+    }
+
+    /**
+     * Creates a new instance with the provided state.
+     *
+     * @param selfId
+     * 		this node's id
+     * @param preConsensusSystemTransactionManager
+     * 		the manager for pre-consensus system transactions
+     * @param postConsensusSystemTransactionManager
+     * 		the manager for post-consensus system transactions
+     * @param swirldStateMetrics
+     * 		metrics related to SwirldState
+     * @param settings
+     * 		a static settings provider
+     * @param inFreeze
+     * 		indicates if the system is currently in a freeze
+     * @param state
+     * 		the genesis state
+     * @param parallelExecutor
+     * 		if not null, handles the transactions of a {@link com.swirlds.common.system.ParallelSwirldState}
+     * 		concurrently
+     */
+    public SwirldStateManagerImpl(
+            final NodeId selfId,
+            final PreConsensusSystemTransactionManager preConsensusSystemTransactionManager,
+            final PostConsensusSystemTransactionManager postConsensusSystemTransactionManager,
+            final SwirldStateMetrics swirldStateMetrics,
+            final SettingsProvider settings,
+            final BooleanSupplier inFreeze,
+            final State state,
+            final ParallelTransactionExecutor parallelExecutor) {
 
         this.preConsensusSystemTransactionManager = preConsensusSystemTransactionManager;
         this.postConsensusSystemTransactionManager = postConsensusSystemTransactionManager;
         this.stats = swirldStateMetrics;
         this.transactionPool = new EventTransactionPool(settings, inFreeze);
-        this.transactionHandler = new TransactionHandler(selfId, stats);
+        this.transactionHandler = new TransactionHandler(selfId, stats, parallelExecutor);
         initialState(state);
     }
 
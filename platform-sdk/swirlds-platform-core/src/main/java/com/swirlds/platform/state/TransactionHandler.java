@@ -20,6 +20,7 @@ import static com.swirlds.common.utility.Units.NANOSECONDS_TO_SECONDS;
 import static com.swirlds.logging.LogMarker.EXCEPTION;
 
 import com.swirlds.common.system.NodeId;
+import com.swirlds.common.system.ParallelSwirldState;
 import com.swirlds.common.system.SwirldState;
 import com.swirlds.common.system.events.Event;
 import com.swirlds.platform.internal.ConsensusRound;
@@ -41,9 +42,28 @@ public class TransactionHandler {
     /** Stats relevant to SwirldState operations. */
     private final SwirldStateMetrics stats;
 
+    /**
+     * Handles transactions of a {@link ParallelSwirldState} concurrently, or null if parallel handling is disabled.
+     */
+    private final ParallelTransactionExecutor parallelExecutor;
+
     public TransactionHandler(final NodeId selfId, final SwirldStateMetrics stats) {
+        this(selfId, stats, null);
+    }
+
+    /**
+     * @param selfId
+     * 		the id of this node
+     * @param stats
+     * 		stats relevant to SwirldState operations
+     * @param parallelExecutor
+     * 		if not null, used to handle rounds for states that implement {@link ParallelSwirldState}
+     */
+    public TransactionHandler(
+            final NodeId selfId, final SwirldStateMetrics stats, final ParallelTransactionExecutor parallelExecutor) {
         this.selfId = selfId;
         this.stats = stats;
+        this.parallelExecutor = parallelExecutor;
     }
 
     /**
@@ -70,6 +90,9 @@ public class TransactionHandler {
 
     /**
      * Applies a consensus round to SwirldState, handles any exceptions gracefully, and updates relevant statistics.
+     * When the round is handled in parallel, an interrupt does not cut the round short, the whole round is applied
+     * before the interrupt flag is restored. A round is only partially applied if the parallel executor has been
+     * stopped, which happens when the platform shuts down.
      *
      * @param round
      * 		the round to apply
@@ -81,7 +104,12 @@ public class TransactionHandler {
             final Instant timeOfHandle = Instant.now();
             final long startTime = System.nanoTime();
 
-            state.getSwirldState().handleConsensusRound(round, state.getSwirldDualState());
+            final SwirldState swirldState = state.getSwirldState();
+            if (parallelExecutor != null && swirldState instanceof final ParallelSwirldState parallelSwirldState) {
+                parallelExecutor.handleRound(round, parallelSwirldState, state.getSwirldDualState());
+            } else {
+                swirldState.handleConsensusRound(round, state.getSwirldDualState());
+            }
 
             final double secondsElapsed = (System.nanoTime() - startTime) * NANOSECONDS_TO_SECONDS;
 
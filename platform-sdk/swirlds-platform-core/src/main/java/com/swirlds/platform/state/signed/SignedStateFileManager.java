@@ -106,6 +106,13 @@ public class SignedStateFileManager implements Startable {
      */
     private final MinimumGenerationNonAncientConsumer minimumGenerationNonAncientConsumer;
 
+    /**
+     * The number of bytes written to the signed state file(s) of the most recent state that was successfully written,
+     * or 0 if no state has been written yet. Used to estimate the progress of the next write. Only accessed on the
+     * background thread.
+     */
+    private long previousStateSize;
+
     /**
      * Creates a new instance.
      *
@@ -212,9 +219,14 @@ public class SignedStateFileManager implements Startable {
         final boolean accepted = taskQueue.offer(() -> {
             final long start = time.nanoTime();
             boolean success = false;
+            final StateWriteProgress progress =
+                    new StateWriteProgress(time, stateConfig.stateWriteBytesPerSecond(), previousStateSize, metrics);
             try {
-                writeSignedStateToDisk(selfId.getId(), directory, signedState, taskDescription);
+                writeSignedStateToDisk(selfId.getId(), directory, signedState, taskDescription, stateConfig, progress);
                 metrics.getWriteStateToDiskTimeMetric().update(TimeUnit.NANOSECONDS.toMillis(time.nanoTime() - start));
+                metrics.getStateWriteProgressMetric().set(100);
+                metrics.getStateWriteTimeRemainingMetric().set(0);
+                previousStateSize = progress.getBytesWritten();
 
                 success = true;
             } catch (final Throwable e) {
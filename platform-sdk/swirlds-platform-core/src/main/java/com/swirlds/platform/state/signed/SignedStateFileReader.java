@@ -16,17 +16,26 @@
 
 package com.swirlds.platform.state.signed;
 
+import static com.swirlds.common.constructable.ClassIdFormatter.classIdString;
 import static com.swirlds.common.io.streams.StreamDebugUtils.deserializeAndDebugOnFailure;
+import static com.swirlds.common.merkle.copy.MerkleInitialize.initializeAndMigrateTreeAfterDeserialization;
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.MAX_MERKLE_NODES_IN_STATE;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.PARTITIONED_FILE_VERSION;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.SIGNED_STATE_FILE_NAME;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.VERSIONED_FILE_BYTE;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.getSignedStatesDirectoryForSwirld;
 import static java.nio.file.Files.exists;
 import static java.nio.file.Files.isDirectory;
 
+import com.swirlds.common.config.StateConfig;
+import com.swirlds.common.config.singleton.ConfigurationHolder;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.system.NodeId;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.logging.LogMarker;
 import com.swirlds.platform.state.State;
 import java.io.BufferedInputStream;
@@ -35,8 +44,15 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -104,7 +120,8 @@ public final class SignedStateFileReader {
     }
 
     /**
-     * Reads a SignedState from disk
+     * Reads a SignedState from disk. The partitions of a partitioned state file are read by
+     * {@link StateConfig#stateFileThreadCount()} threads, the same number that is used to write them.
      *
      * @param stateFile
      * 		the file to read from
@@ -113,6 +130,22 @@ public final class SignedStateFileReader {
      * 		if there is any problems with reading from a file
      */
     public static DeserializedSignedState readStateFile(final Path stateFile) throws IOException {
+        return readStateFile(stateFile, ConfigurationHolder.getConfigData(StateConfig.class).stateFileThreadCount());
+    }
+
+    /**
+     * Reads a SignedState from disk
+     *
+     * @param stateFile
+     * 		the file to read from
+     * @param threadCount
+     * 		the maximum number of threads used to read the partitions of a partitioned state file
+     * @return a signed state with it's associated hash (as computed when the state was serialized)
+     * @throws IOException
+     * 		if there is any problems with reading from a file
+     */
+    public static DeserializedSignedState readStateFile(final Path stateFile, final int threadCount)
+            throws IOException {
 
         if (!exists(stateFile)) {
             throw new IOException("File " + stateFile.toAbsolutePath() + " does not exist!");
@@ -132,11 +165,15 @@ public final class SignedStateFileReader {
                                 "File is not versioned -- data corrupted or is an unsupported legacy state");
                     }
 
-                    in.readInt(); // file version
+                    final int fileVersion = in.readInt();
                     in.readProtocolVersion();
 
                     final Path directory = stateFile.getParent();
 
+                    if (fileVersion == PARTITIONED_FILE_VERSION) {
+                        return readPartitionedStateFile(in, directory, threadCount);
+                    }
+
                     final State state = in.readMerkleTree(directory, MAX_MERKLE_NODES_IN_STATE);
                     final Hash hash = in.readSerializable();
                     final SigSet sigSet = in.readSerializable();
@@ -152,4 +189,134 @@ public final class SignedStateFileReader {
 
         return returnState;
     }
+
+    /**
+     * Read the remainder of a partitioned signed state file, then read all partitions in parallel and attach them to
+     * the state. The assembled tree is initialized and migrated as a whole once every partition has been attached.
+     *
+     * @param in          the stream for the signed state file, positioned after the file header
+     * @param directory   the directory that holds the signed state
+     * @param threadCount the maximum number of threads used to read the partitions
+     * @return the state, the hash of the state, and the signatures
+     */
+    private static Triple<State, Hash, SigSet> readPartitionedStateFile(
+            final MerkleDataInputStream in, final Path directory, final int threadCount) throws IOException {
+
+        final Map<Long /* class ID */, Integer /* version */> deserializedVersions = new HashMap<>();
+        final MerkleNode root =
+                in.readMerkleTreeWithoutInitialization(directory, MAX_MERKLE_NODES_IN_STATE, deserializedVersions);
+        if (root == null) {
+            throw new IOException("partitioned state file does not contain a state");
+        }
+        final StatePartitionManifest manifest = StatePartitionManifest.deserialize(in);
+        final Hash hash = in.readSerializable();
+        final SigSet sigSet = in.readSerializable();
+
+        final List<StatePartitionManifest.Partition> partitions = manifest.getPartitions();
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(partitions.size(), threadCount)),
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent("state-from-disk")
+                        .setThreadName("partition-reader")
+                        .buildFactory());
+
+        try {
+            final List<Future<PartitionContents>> futures = new ArrayList<>(partitions.size());
+            for (final StatePartitionManifest.Partition partition : partitions) {
+                futures.add(executor.submit(() -> readPartition(directory, partition)));
+            }
+
+            for (int index = 0; index < partitions.size(); index++) {
+                final PartitionContents contents = waitForPartition(futures.get(index));
+                mergeVersions(deserializedVersions, contents.deserializedVersions());
+                attachPartition(root, partitions.get(index), contents.root());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final State state = initializeAndMigrateTreeAfterDeserialization(root, deserializedVersions).cast();
+        return Triple.of(state, hash, sigSet);
+    }
+
+    /**
+     * The deserialized, but not yet initialized, contents of a partition.
+     *
+     * @param root                 the root of the partition
+     * @param deserializedVersions the versions of the classes deserialized from the partition
+     */
+    private record PartitionContents(MerkleNode root, Map<Long, Integer> deserializedVersions) {}
+
+    /**
+     * Read a single partition. Called on a background thread.
+     */
+    private static PartitionContents readPartition(
+            final Path directory, final StatePartitionManifest.Partition partition) throws IOException {
+
+        final Path partitionDirectory = partition.getDirectory(directory);
+        final Map<Long, Integer> deserializedVersions = new HashMap<>();
+        try (final MerkleDataInputStream in = new MerkleDataInputStream(
+                new BufferedInputStream(new FileInputStream(partition.getFile(directory).toFile())))) {
+            final MerkleNode root = in.readMerkleTreeWithoutInitialization(
+                    partitionDirectory, MAX_MERKLE_NODES_IN_STATE, deserializedVersions);
+            return new PartitionContents(root, deserializedVersions);
+        }
+    }
+
+    /**
+     * Wait for a partition to be read, rethrowing any exception encountered while reading it.
+     */
+    private static PartitionContents waitForPartition(final Future<PartitionContents> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for state partition to be read", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof final IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("unable to read state partition", e.getCause());
+        }
+    }
+
+    /**
+     * Add the class versions found in a partition to the versions found in the rest of the state.
+     */
+    private static void mergeVersions(final Map<Long, Integer> versions, final Map<Long, Integer> partitionVersions) {
+        for (final Map.Entry<Long, Integer> entry : partitionVersions.entrySet()) {
+            final Integer previous = versions.putIfAbsent(entry.getKey(), entry.getValue());
+            if (previous != null && !previous.equals(entry.getValue())) {
+                throw new IllegalStateException("Class with class ID " + classIdString(entry.getKey())
+                        + " has different versions within the same state");
+            }
+        }
+    }
+
+    /**
+     * Put the root of a partition at its position in the state.
+     */
+    private static void attachPartition(
+            final MerkleNode root, final StatePartitionManifest.Partition partition, final MerkleNode partitionRoot)
+            throws IOException {
+
+        final List<Integer> route = partition.route();
+        MerkleNode parent = root;
+        for (int step = 0; step < route.size() - 1; step++) {
+            if (parent == null || parent.isLeaf()) {
+                break;
+            }
+            parent = parent.asInternal().getChild(route.get(step));
+        }
+        if (parent == null || parent.isLeaf()) {
+            throw new IOException("state does not contain a parent for partition " + partition.name());
+        }
+
+        final int childIndex = route.get(route.size() - 1);
+        final MerkleInternal internal = parent.asInternal();
+        if (childIndex >= internal.getNumberOfChildren() || internal.getChild(childIndex) != null) {
+            throw new IOException("state does not have an empty position for partition " + partition.name());
+        }
+        internal.setChild(childIndex, partitionRoot);
+    }
 }
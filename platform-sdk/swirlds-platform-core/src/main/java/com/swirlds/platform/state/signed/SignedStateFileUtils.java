@@ -59,6 +59,23 @@ public final class SignedStateFileUtils {
      */
     public static final int FILE_VERSION = 1;
 
+    /**
+     * The version of a signed state file whose top level application subtrees are stored in separate partition files.
+     * The signed state file contains the rest of the tree, followed by a {@link StatePartitionManifest} describing
+     * where each partition belongs.
+     */
+    public static final int PARTITIONED_FILE_VERSION = 2;
+
+    /**
+     * The directory, within a saved state directory, that contains one subdirectory per state partition.
+     */
+    public static final String PARTITIONS_DIRECTORY_NAME = "partitions";
+
+    /**
+     * The name of the file that holds a single state partition, within that partition's directory.
+     */
+    public static final String PARTITION_FILE_NAME = "partition.swh";
+
     public static final int MAX_MERKLE_NODES_IN_STATE = Integer.MAX_VALUE;
 
     private SignedStateFileUtils() {}
@@ -18,28 +18,47 @@ package com.swirlds.platform.state.signed;
 
 import static com.swirlds.common.io.utility.FileUtils.executeAndRename;
 import static com.swirlds.common.io.utility.FileUtils.writeAndFlush;
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static com.swirlds.logging.LogMarker.EXCEPTION;
 import static com.swirlds.logging.LogMarker.STATE_TO_DISK;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.CURRENT_ADDRESS_BOOK_FILE_NAME;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.FILE_VERSION;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.HASH_INFO_FILE_NAME;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.PARTITIONED_FILE_VERSION;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.SIGNED_STATE_FILE_NAME;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.VERSIONED_FILE_BYTE;
 
+import com.swirlds.common.config.StateConfig;
+import com.swirlds.common.io.ExternalSelfSerializable;
+import com.swirlds.common.io.extendable.OutputStreamExtension;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.utility.MerkleTreeVisualizer;
 import com.swirlds.common.system.address.AddressBook;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.logging.payloads.StateSavedToDiskPayload;
 import com.swirlds.platform.Settings;
 import com.swirlds.platform.state.EmergencyRecoveryFile;
 import com.swirlds.platform.state.State;
 import com.swirlds.platform.state.StateSettings;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -114,8 +133,158 @@ public final class SignedStateFileWriter {
      * @param signedState the signed state to write
      */
     public static void writeStateFile(final Path directory, final SignedState signedState) throws IOException {
+        writeStateFile(directory, signedState, null);
+    }
+
+    /**
+     * Write the signed state file.
+     *
+     * @param directory   the directory to write to
+     * @param signedState the signed state to write
+     * @param progress    tracks and throttles the bytes written, ignored if null
+     */
+    public static void writeStateFile(
+            @NonNull final Path directory,
+            @NonNull final SignedState signedState,
+            @Nullable final StateWriteProgress progress)
+            throws IOException {
         writeAndFlush(
-                directory.resolve(SIGNED_STATE_FILE_NAME), out -> writeStateFileToStream(out, directory, signedState));
+                directory.resolve(SIGNED_STATE_FILE_NAME),
+                buildExtension(progress),
+                out -> writeStateFileToStream(out, directory, signedState));
+    }
+
+    /**
+     * Build the stream extension for a single file of the state.
+     *
+     * @param progress tracks and throttles the bytes written, may be null
+     * @return an extension that reports to the progress tracker, or null if there is no tracker
+     */
+    private static @Nullable OutputStreamExtension buildExtension(@Nullable final StateWriteProgress progress) {
+        return progress == null ? null : progress.newStreamExtension();
+    }
+
+    /**
+     * Find the subtrees of a state that are written to separate partition files. These are the children of the
+     * application's state, or the application's state itself if it does not have children that are serialized by the
+     * platform.
+     *
+     * @param state the state being written
+     * @return the roots of the partitions, in the order in which they should be written
+     */
+    static @NonNull List<MerkleNode> getPartitionRoots(@NonNull final State state) {
+        final MerkleNode swirldState = state.getSwirldState();
+        if (swirldState == null) {
+            return List.of();
+        }
+        if (swirldState.isLeaf() || swirldState instanceof ExternalSelfSerializable) {
+            return List.of(swirldState);
+        }
+
+        final List<MerkleNode> roots = new ArrayList<>();
+        final MerkleInternal internal = swirldState.asInternal();
+        for (int childIndex = 0; childIndex < internal.getNumberOfChildren(); childIndex++) {
+            final MerkleNode child = internal.getChild(childIndex);
+            if (child != null) {
+                roots.add(child);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * Write the signed state file in the partitioned format. Each partition is written to its own file by a pool of
+     * background threads while the remainder of the state is written to the signed state file by the calling thread.
+     * Data written to disk by a partition (e.g. by a virtual map) is placed in that partition's directory.
+     *
+     * @param directory   the directory to write to
+     * @param signedState the signed state to write
+     * @param threadCount the number of threads used to write partitions
+     */
+    public static void writePartitionedStateFile(
+            @NonNull final Path directory, @NonNull final SignedState signedState, final int threadCount)
+            throws IOException {
+        writePartitionedStateFile(directory, signedState, threadCount, null);
+    }
+
+    /**
+     * Write the signed state file in the partitioned format. Each partition is written to its own file by a pool of
+     * background threads while the remainder of the state is written to the signed state file by the calling thread.
+     * Data written to disk by a partition (e.g. by a virtual map) is placed in that partition's directory.
+     *
+     * @param directory   the directory to write to
+     * @param signedState the signed state to write
+     * @param threadCount the number of threads used to write partitions
+     * @param progress    tracks and throttles the bytes written by all threads, ignored if null
+     */
+    public static void writePartitionedStateFile(
+            @NonNull final Path directory,
+            @NonNull final SignedState signedState,
+            final int threadCount,
+            @Nullable final StateWriteProgress progress)
+            throws IOException {
+
+        final State state = signedState.getState();
+        final List<MerkleNode> partitionRoots = getPartitionRoots(state);
+        final Set<MerkleNode> detached = Collections.newSetFromMap(new IdentityHashMap<>());
+        detached.addAll(partitionRoots);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                threadCount,
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent("state-to-disk")
+                        .setThreadName("partition-writer")
+                        .buildFactory());
+
+        try {
+            final StatePartitionManifest manifest = new StatePartitionManifest();
+            final List<Future<Void>> futures = new ArrayList<>(partitionRoots.size());
+            for (final MerkleNode partitionRoot : partitionRoots) {
+                final StatePartitionManifest.Partition partition = manifest.addPartition(partitionRoot);
+                final Path partitionDirectory = partition.getDirectory(directory);
+                Files.createDirectories(partitionDirectory);
+                futures.add(executor.submit(() -> {
+                    writeAndFlush(
+                            partition.getFile(directory),
+                            buildExtension(progress),
+                            out -> out.writeMerkleTree(partitionDirectory, partitionRoot));
+                    return null;
+                }));
+            }
+
+            writeAndFlush(directory.resolve(SIGNED_STATE_FILE_NAME), buildExtension(progress), out -> {
+                out.write(VERSIONED_FILE_BYTE);
+                out.writeInt(PARTITIONED_FILE_VERSION);
+                out.writeProtocolVersion();
+                out.writeMerkleTree(directory, state, detached::contains);
+                manifest.serialize(out);
+                out.writeSerializable(state.getHash(), true);
+                out.writeSerializable(signedState.getSigSet(), true);
+            });
+
+            for (final Future<Void> future : futures) {
+                waitForPartition(future);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Wait for a partition to be written, rethrowing any exception encountered while writing it.
+     */
+    private static void waitForPartition(@NonNull final Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for state partition to be written", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof final IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("unable to write state partition", e.getCause());
+        }
     }
 
     /**
@@ -127,8 +296,32 @@ public final class SignedStateFileWriter {
      */
     public static void writeSignedStateFilesToDirectory(
             final long selfId, final Path directory, final SignedState signedState) throws IOException {
+        writeSignedStateFilesToDirectory(selfId, directory, signedState, null, null);
+    }
+
+    /**
+     * Write all files that belong in the signed state directory into a directory.
+     *
+     * @param selfId        the id of the platform
+     * @param directory     the directory where all files should be placed
+     * @param signedState   the signed state being written to disk
+     * @param stateConfig   determines the format of the signed state file, if null then the state is written to a
+     *                      single file
+     * @param progress      tracks and throttles the bytes written to the signed state file(s), ignored if null
+     */
+    public static void writeSignedStateFilesToDirectory(
+            final long selfId,
+            @NonNull final Path directory,
+            @NonNull final SignedState signedState,
+            @Nullable final StateConfig stateConfig,
+            @Nullable final StateWriteProgress progress)
+            throws IOException {
 
-        writeStateFile(directory, signedState);
+        if (stateConfig != null && stateConfig.partitionedStateFile()) {
+            writePartitionedStateFile(directory, signedState, stateConfig.stateFileThreadCount(), progress);
+        } else {
+            writeStateFile(directory, signedState, progress);
+        }
         writeHashInfoFile(directory, signedState.getState());
         writeMetadataFile(selfId, directory, signedState);
         writeEmergencyRecoveryFile(directory, signedState);
@@ -166,6 +359,29 @@ public final class SignedStateFileWriter {
             final SignedState signedState,
             final String taskDescription)
             throws IOException {
+        writeSignedStateToDisk(selfId, savedStateDirectory, signedState, taskDescription, null, null);
+    }
+
+    /**
+     * Writes a SignedState to a file. Also writes auxiliary files such as "settingsUsed.txt". This is the top level
+     * method called by the platform when it is ready to write a state.
+     *
+     * @param selfId              the id of the platform
+     * @param savedStateDirectory the directory where the state will be stored
+     * @param signedState         the object to be written
+     * @param taskDescription     a description of the task
+     * @param stateConfig         determines the format of the signed state file, if null then the state is written
+     *                            to a single file
+     * @param progress            tracks and throttles the bytes written to the signed state file(s), ignored if null
+     */
+    public static void writeSignedStateToDisk(
+            final long selfId,
+            final Path savedStateDirectory,
+            final SignedState signedState,
+            final String taskDescription,
+            @Nullable final StateConfig stateConfig,
+            @Nullable final StateWriteProgress progress)
+            throws IOException {
 
         try {
             logger.info(
@@ -175,7 +391,9 @@ public final class SignedStateFileWriter {
                     taskDescription);
 
             executeAndRename(
-                    savedStateDirectory, directory -> writeSignedStateFilesToDirectory(selfId, directory, signedState));
+                    savedStateDirectory,
+                    directory ->
+                            writeSignedStateFilesToDirectory(selfId, directory, signedState, stateConfig, progress));
 
             logger.info(
                     STATE_TO_DISK.getMarker(),
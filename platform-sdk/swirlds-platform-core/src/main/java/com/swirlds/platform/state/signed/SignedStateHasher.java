@@ -20,6 +20,7 @@ import static com.swirlds.logging.LogMarker.EXCEPTION;
 
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
+import com.swirlds.common.merkle.crypto.MerkleCryptography;
 import com.swirlds.common.utility.CommonUtils;
 import com.swirlds.platform.components.common.output.FatalErrorConsumer;
 import com.swirlds.platform.dispatch.triggers.flow.StateHashedTrigger;
@@ -38,7 +39,7 @@ public class SignedStateHasher {
      */
     private static final Logger logger = LogManager.getLogger(SignedStateHasher.class);
     /**
-     * The SignedStateMetrics object to record time spent hashing.  May be null.
+     * The SignedStateMetrics object to record time spent hashing and the number of nodes hashed.  May be null.
      */
     private final SignedStateMetrics signedStateMetrics;
 
@@ -76,16 +77,19 @@ public class SignedStateHasher {
      * @param signedState the SignedState to hash.
      */
     public void hashState(final SignedState signedState) {
+        final MerkleCryptography merkleCryptography = MerkleCryptoFactory.getInstance();
         final Instant start = Instant.now();
+        final long hashedNodesBefore = merkleCryptography.getHashedNodeCount();
         try {
-            final Hash hash = MerkleCryptoFactory.getInstance()
-                    .digestTreeAsync(signedState.getState())
-                    .get();
+            final Hash hash = merkleCryptography.digestTreeAsync(signedState.getState()).get();
 
             if (signedStateMetrics != null) {
                 signedStateMetrics
                         .getSignedStateHashingTimeMetric()
                         .update(Duration.between(start, Instant.now()).toMillis());
+                signedStateMetrics
+                        .getSignedStateHashedNodesMetric()
+                        .update(merkleCryptography.getHashedNodeCount() - hashedNodesBefore);
             }
 
             stateHashedTrigger.dispatch(signedState.getRound(), hash);
@@ -22,6 +22,7 @@ import static com.swirlds.common.metrics.FloatFormats.FORMAT_15_3;
 import static com.swirlds.common.metrics.FloatFormats.FORMAT_16_2;
 
 import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.DoubleGauge;
 import com.swirlds.common.metrics.Metrics;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
@@ -121,6 +122,12 @@ public class SignedStateMetrics {
             .withFormat(FORMAT_10_3);
     private final RunningAverageMetric stateHashingTime;
 
+    private static final RunningAverageMetric.Config STATE_HASHED_NODES_CONFIG = new RunningAverageMetric.Config(
+                    CATEGORY, "sigStateHashedNodes")
+            .withDescription("average number of merkle nodes hashed per SignedState")
+            .withFormat(FORMAT_15_3);
+    private final RunningAverageMetric stateHashedNodes;
+
     private static final RunningAverageMetric.Config WRITE_STATE_TO_DISK_TIME_CONFIG = new RunningAverageMetric.Config(
                     CATEGORY, "writeStateToDisk")
             .withDescription("average time it takes to write a SignedState to disk (in milliseconds)")
@@ -137,6 +144,28 @@ public class SignedStateMetrics {
             .withFormat(FORMAT_10_3);
     private final RunningAverageMetric stateToDiskTime;
 
+    private static final SpeedometerMetric.Config STATE_WRITE_BYTES_PER_SECOND_CONFIG = new SpeedometerMetric.Config(
+                    CATEGORY, "stateWriteBytes/sec")
+            .withDescription("the number of bytes per second written to the signed state file(s)")
+            .withFormat(FORMAT_16_2)
+            .withUnit("bytes/sec");
+    private final SpeedometerMetric stateWriteBytesPerSecond;
+
+    private static final DoubleGauge.Config STATE_WRITE_PROGRESS_CONFIG = new DoubleGauge.Config(
+                    CATEGORY, "stateWriteProgress")
+            .withDescription("the progress of the current (or most recent) state write, as a percentage of the "
+                    + "size of the previous state written to disk")
+            .withFormat(FORMAT_10_2)
+            .withUnit("%");
+    private final DoubleGauge stateWriteProgress;
+
+    private static final DoubleGauge.Config STATE_WRITE_TIME_REMAINING_CONFIG = new DoubleGauge.Config(
+                    CATEGORY, "stateWriteTimeRemaining")
+            .withDescription("the estimated time remaining for the current state write (in seconds)")
+            .withFormat(FORMAT_10_3)
+            .withUnit("seconds");
+    private final DoubleGauge stateWriteTimeRemaining;
+
     /**
      * Get a metric tracking unsigned states.
      */
@@ -214,6 +243,13 @@ public class SignedStateMetrics {
         return stateHashingTime;
     }
 
+    /**
+     * Get a metric tracking the average number of nodes hashed per state.
+     */
+    public RunningAverageMetric getSignedStateHashedNodesMetric() {
+        return stateHashedNodes;
+    }
+
     /**
      * Get a metric tracking the average time required to write a state to disk.
      */
@@ -229,6 +265,27 @@ public class SignedStateMetrics {
         return stateToDiskTime;
     }
 
+    /**
+     * Get a metric tracking the number of bytes written to signed state files per second.
+     */
+    public SpeedometerMetric getStateWriteBytesPerSecondMetric() {
+        return stateWriteBytesPerSecond;
+    }
+
+    /**
+     * Get a metric tracking the progress of the current state write, as a percentage of the size of the previous state.
+     */
+    public DoubleGauge getStateWriteProgressMetric() {
+        return stateWriteProgress;
+    }
+
+    /**
+     * Get a metric tracking the estimated time remaining, in seconds, for the current state write.
+     */
+    public DoubleGauge getStateWriteTimeRemainingMetric() {
+        return stateWriteTimeRemaining;
+    }
+
     /**
      * Get a metric tracking the average difference in round number between signature transactions and
      * the most recent immutable state.
@@ -254,9 +311,13 @@ public class SignedStateMetrics {
         stateDeletionQueueAvg = metrics.getOrCreate(STATE_DELETION_QUEUE_AVG_CONFIG);
         stateDeletionTimeAvg = metrics.getOrCreate(STATE_DELETION_TIME_AVG_CONFIG);
         stateHashingTime = metrics.getOrCreate(STATE_HASHING_TIME_CONFIG);
+        stateHashedNodes = metrics.getOrCreate(STATE_HASHED_NODES_CONFIG);
         stateToDiskTime = metrics.getOrCreate(STATE_TO_DISK_TIME_CONFIG);
         writeStateToDiskTime = metrics.getOrCreate(WRITE_STATE_TO_DISK_TIME_CONFIG);
         stateSignatureAge = metrics.getOrCreate(STATE_SIGNATURE_AGE_CONFIG);
         signedStates = metrics.getOrCreate(SIGNED_STATES_CONFIG);
+        stateWriteBytesPerSecond = metrics.getOrCreate(STATE_WRITE_BYTES_PER_SECOND_CONFIG);
+        stateWriteProgress = metrics.getOrCreate(STATE_WRITE_PROGRESS_CONFIG);
+        stateWriteTimeRemaining = metrics.getOrCreate(STATE_WRITE_TIME_REMAINING_CONFIG);
     }
 }
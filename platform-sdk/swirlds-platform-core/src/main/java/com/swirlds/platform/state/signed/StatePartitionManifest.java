@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.state.signed;
+
+import static com.swirlds.base.ArgumentUtils.throwArgNull;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.PARTITIONS_DIRECTORY_NAME;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.PARTITION_FILE_NAME;
+
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.route.MerkleRoute;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes the partitions of a partitioned signed state file. Each partition is a subtree of the state that is
+ * serialized to its own file, and is identified by the route from the root of the state to the root of the subtree.
+ */
+public final class StatePartitionManifest {
+
+    /**
+     * The maximum number of partitions in a manifest, protects against reading garbage.
+     */
+    private static final int MAX_PARTITION_COUNT = 1024;
+
+    /**
+     * The maximum length of a route to a partition, protects against reading garbage.
+     */
+    private static final int MAX_ROUTE_LENGTH = 1024;
+
+    private static final int MAX_NAME_LENGTH = 256;
+
+    /**
+     * A single partition.
+     *
+     * @param route the steps of the route from the root of the state to the root of the partition
+     * @param name  the name of the directory that contains the partition
+     */
+    public record Partition(@NonNull List<Integer> route, @NonNull String name) {
+        public Partition {
+            throwArgNull(route, "route");
+            throwArgNull(name, "name");
+            if (route.isEmpty()) {
+                throw new IllegalArgumentException("the root of the state can not be a partition");
+            }
+        }
+
+        /**
+         * Get the directory that holds this partition.
+         *
+         * @param stateDirectory the directory that holds the signed state
+         * @return the directory that holds this partition
+         */
+        public @NonNull Path getDirectory(@NonNull final Path stateDirectory) {
+            return stateDirectory.resolve(PARTITIONS_DIRECTORY_NAME).resolve(name);
+        }
+
+        /**
+         * Get the file that holds this partition.
+         *
+         * @param stateDirectory the directory that holds the signed state
+         * @return the file that holds this partition
+         */
+        public @NonNull Path getFile(@NonNull final Path stateDirectory) {
+            return getDirectory(stateDirectory).resolve(PARTITION_FILE_NAME);
+        }
+    }
+
+    private final List<Partition> partitions = new ArrayList<>();
+
+    /**
+     * Add a partition to the manifest.
+     *
+     * @param root the root of the subtree that will be stored in the partition
+     * @return the new partition
+     */
+    public @NonNull Partition addPartition(@NonNull final MerkleNode root) {
+        final MerkleRoute merkleRoute = root.getRoute();
+        final List<Integer> route = new ArrayList<>(merkleRoute.size());
+        merkleRoute.forEach(route::add);
+        final Partition partition = new Partition(route, Integer.toString(partitions.size()));
+        partitions.add(partition);
+        return partition;
+    }
+
+    /**
+     * Get the partitions in this manifest.
+     *
+     * @return an unmodifiable list of partitions
+     */
+    public @NonNull List<Partition> getPartitions() {
+        return Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * Write this manifest to a stream.
+     *
+     * @param out the stream to write to
+     */
+    public void serialize(@NonNull final SerializableDataOutputStream out) throws IOException {
+        out.writeInt(partitions.size());
+        for (final Partition partition : partitions) {
+            out.writeIntList(partition.route());
+            out.writeNormalisedString(partition.name());
+        }
+    }
+
+    /**
+     * Read a manifest from a stream.
+     *
+     * @param in the stream to read from
+     * @return the manifest
+     */
+    public static @NonNull StatePartitionManifest deserialize(@NonNull final SerializableDataInputStream in)
+            throws IOException {
+        final int count = in.readInt();
+        if (count < 0 || count > MAX_PARTITION_COUNT) {
+            throw new IOException("invalid partition count " + count);
+        }
+        final StatePartitionManifest manifest = new StatePartitionManifest();
+        for (int i = 0; i < count; i++) {
+            final List<Integer> route = in.readIntList(MAX_ROUTE_LENGTH);
+            final String name = in.readNormalisedString(MAX_NAME_LENGTH);
+            if (route == null || route.isEmpty() || name.contains("/") || name.contains("..")) {
+                throw new IOException("invalid partition " + i + " in manifest");
+            }
+            manifest.partitions.add(new Partition(route, name));
+        }
+        return manifest;
+    }
+}
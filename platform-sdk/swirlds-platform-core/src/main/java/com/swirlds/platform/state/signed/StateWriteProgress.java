@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.state.signed;
+
+import static com.swirlds.base.ArgumentUtils.throwArgNull;
+import static com.swirlds.common.utility.Units.NANOSECONDS_TO_SECONDS;
+import static com.swirlds.common.utility.Units.SECONDS_TO_NANOSECONDS;
+
+import com.swirlds.common.io.extendable.OutputStreamExtension;
+import com.swirlds.common.io.extendable.extensions.AbstractStreamExtension;
+import com.swirlds.common.time.Time;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Tracks the bytes written while a signed state is saved to disk, and optionally limits the rate at which they are
+ * written. A single instance is shared by every file written for a state, so the rate limit applies to the state as a
+ * whole even when partitions are written by several threads at once.
+ * </p>
+ *
+ * <p>
+ * Bytes are reported through stream extensions created by {@link #newStreamExtension()}. A write that exceeds the
+ * rate limit is not rejected; instead the writing thread is put to sleep until the write fits within the limit.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public class StateWriteProgress {
+
+    /**
+     * The maximum amount of time for which unused bandwidth may be saved up and spent in a burst.
+     */
+    private static final long MAXIMUM_BURST_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Time time;
+    private final long bytesPerSecond;
+    private final long expectedBytes;
+    private final SignedStateMetrics metrics;
+
+    private final long startTime;
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    /**
+     * The time at which the bytes reserved so far will have been written at the permitted rate. Guarded by this.
+     */
+    private long throttleTime;
+
+    /**
+     * Create an object that tracks the writing of a state.
+     *
+     * @param time           provides wall clock time
+     * @param bytesPerSecond the maximum number of bytes that may be written per second, or 0 if unlimited
+     * @param expectedBytes  the number of bytes the state is expected to occupy on disk, used to estimate the time
+     *                       remaining, or 0 if unknown
+     * @param metrics        updated as bytes are written, ignored if null
+     */
+    public StateWriteProgress(
+            @NonNull final Time time,
+            final long bytesPerSecond,
+            final long expectedBytes,
+            @Nullable final SignedStateMetrics metrics) {
+        if (bytesPerSecond < 0) {
+            throw new IllegalArgumentException("bytes per second must not be negative");
+        }
+        this.time = throwArgNull(time, "time");
+        this.bytesPerSecond = bytesPerSecond;
+        this.expectedBytes = Math.max(0, expectedBytes);
+        this.metrics = metrics;
+        this.startTime = time.nanoTime();
+        this.throttleTime = startTime;
+    }
+
+    /**
+     * Create a stream extension that reports the bytes passing through it to this object. Each file written for the
+     * state needs its own extension.
+     *
+     * @return a new stream extension
+     */
+    public @NonNull OutputStreamExtension newStreamExtension() {
+        return new AbstractStreamExtension() {
+            @Override
+            protected void newByte(final int aByte) throws IOException {
+                bytesWritten(1);
+            }
+
+            @Override
+            protected void newBytes(final byte[] bytes, final int offset, final int length) throws IOException {
+                bytesWritten(length);
+            }
+        };
+    }
+
+    /**
+     * Record bytes that have been written, and block if they were written faster than permitted.
+     *
+     * @param count the number of bytes written
+     * @throws InterruptedIOException if interrupted while waiting for the rate limit
+     */
+    void bytesWritten(final long count) throws InterruptedIOException {
+        final long total = bytesWritten.addAndGet(count);
+
+        if (metrics != null) {
+            metrics.getStateWriteBytesPerSecondMetric().update(count);
+            if (expectedBytes > 0) {
+                metrics.getStateWriteProgressMetric().set(Math.min(100.0, 100.0 * total / expectedBytes));
+            }
+            final Duration remaining = getEstimatedTimeRemaining();
+            if (remaining != null) {
+                metrics.getStateWriteTimeRemainingMetric().set(remaining.toMillis() / 1000.0);
+            }
+        }
+
+        if (bytesPerSecond > 0) {
+            throttle(count);
+        }
+    }
+
+    /**
+     * Reserve bandwidth for the given number of bytes and sleep until the bytes fit within the rate limit.
+     */
+    private void throttle(final long count) throws InterruptedIOException {
+        final long now = time.nanoTime();
+        final long sleepNanos;
+        synchronized (this) {
+            throttleTime = Math.max(throttleTime, now - MAXIMUM_BURST_NANOS)
+                    + count * SECONDS_TO_NANOSECONDS / bytesPerSecond;
+            sleepNanos = throttleTime - now;
+        }
+
+        if (sleepNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while throttling state write");
+            }
+        }
+    }
+
+    /**
+     * Get the number of bytes written so far.
+     *
+     * @return the number of bytes written
+     */
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * Get the average rate at which bytes have been written since this object was created.
+     *
+     * @return the average number of bytes written per second
+     */
+    public double getBytesPerSecond() {
+        final long elapsed = time.nanoTime() - startTime;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return bytesWritten.get() / (elapsed * NANOSECONDS_TO_SECONDS);
+    }
+
+    /**
+     * Estimate the time required to write the remainder of the state, assuming that the remaining bytes are written
+     * at the average rate observed so far.
+     *
+     * @return the estimated time remaining, or null if no estimate can be made
+     */
+    public @Nullable Duration getEstimatedTimeRemaining() {
+        final double rate = getBytesPerSecond();
+        if (expectedBytes == 0 || rate <= 0) {
+            return null;
+        }
+        final long remainingBytes = Math.max(0, expectedBytes - bytesWritten.get());
+        return Duration.ofNanos((long) (remainingBytes / rate * SECONDS_TO_NANOSECONDS));
+    }
+}
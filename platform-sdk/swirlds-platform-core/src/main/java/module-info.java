@@ -135,6 +135,7 @@ module com.swirlds.platform {
     requires java.sql;
     requires jdk.management;
     requires jdk.net;
+    requires jdk.jfr;
 
     /* JavaFX Libraries */
     requires javafx.base;
@@ -42,7 +42,9 @@ import com.swirlds.common.constructable.ConstructableRegistryException;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.utility.TemporaryFileBuilder;
 import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
+import com.swirlds.common.metrics.DoubleGauge;
 import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.common.test.RandomUtils;
 import com.swirlds.common.test.fixtures.FakeTime;
@@ -112,6 +114,9 @@ class SignedStateFileManagerTests {
     private SignedStateMetrics buildMockMetrics() {
         final SignedStateMetrics metrics = mock(SignedStateMetrics.class);
         when(metrics.getWriteStateToDiskTimeMetric()).thenReturn(mock(RunningAverageMetric.class));
+        when(metrics.getStateWriteBytesPerSecondMetric()).thenReturn(mock(SpeedometerMetric.class));
+        when(metrics.getStateWriteProgressMetric()).thenReturn(mock(DoubleGauge.class));
+        when(metrics.getStateWriteTimeRemainingMetric()).thenReturn(mock(DoubleGauge.class));
         when(metrics.getStateToDiskTimeMetric()).thenReturn(mock(RunningAverageMetric.class));
         return metrics;
     }
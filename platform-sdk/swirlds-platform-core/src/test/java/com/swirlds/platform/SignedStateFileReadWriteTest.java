@@ -22,6 +22,7 @@ import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticT
 import static com.swirlds.platform.state.signed.SignedStateFileReader.readStateFile;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.CURRENT_ADDRESS_BOOK_FILE_NAME;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.HASH_INFO_FILE_NAME;
+import static com.swirlds.platform.state.signed.SignedStateFileUtils.PARTITIONS_DIRECTORY_NAME;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.SIGNED_STATE_FILE_NAME;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.getSignedStateDirectory;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.getSignedStatesBaseDirectory;
@@ -29,6 +30,7 @@ import static com.swirlds.platform.state.signed.SignedStateFileUtils.getSignedSt
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.getSignedStatesDirectoryForNode;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.getSignedStatesDirectoryForSwirld;
 import static com.swirlds.platform.state.signed.SignedStateFileWriter.writeHashInfoFile;
+import static com.swirlds.platform.state.signed.SignedStateFileWriter.writePartitionedStateFile;
 import static com.swirlds.platform.state.signed.SignedStateFileWriter.writeSignedStateToDisk;
 import static com.swirlds.platform.state.signed.SignedStateFileWriter.writeStateFile;
 import static java.nio.file.Files.exists;
@@ -36,6 +38,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -47,10 +50,13 @@ import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.io.utility.TemporaryFileBuilder;
 import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
 import com.swirlds.common.merkle.utility.MerkleTreeVisualizer;
+import com.swirlds.common.metrics.DoubleGauge;
 import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.common.test.AssertionUtils;
 import com.swirlds.common.test.fixtures.FakeTime;
+import com.swirlds.common.time.OSTime;
 import com.swirlds.platform.state.RandomSignedStateGenerator;
 import com.swirlds.platform.state.State;
 import com.swirlds.platform.state.StateSettings;
@@ -59,6 +65,7 @@ import com.swirlds.platform.state.signed.SignedState;
 import com.swirlds.platform.state.signed.SignedStateFileManager;
 import com.swirlds.platform.state.signed.SignedStateFileUtils;
 import com.swirlds.platform.state.signed.SignedStateMetrics;
+import com.swirlds.platform.state.signed.StateWriteProgress;
 import com.swirlds.test.framework.config.TestConfigBuilder;
 import com.swirlds.test.framework.context.TestPlatformContextBuilder;
 import java.io.BufferedReader;
@@ -68,6 +75,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -142,6 +150,59 @@ class SignedStateFileReadWriteTest {
         assertNotSame(signedState, deserializedSignedState.signedState(), "state should be a different object");
     }
 
+    @Test
+    @DisplayName("Write Then Read Partitioned State File Test")
+    void writeThenReadPartitionedStateFileTest() throws IOException {
+        final SignedState signedState = new RandomSignedStateGenerator().build();
+        final Path stateFile = testDirectory.resolve(SIGNED_STATE_FILE_NAME);
+        final Path partitionsDirectory = testDirectory.resolve(PARTITIONS_DIRECTORY_NAME);
+
+        assertFalse(exists(stateFile), "signed state file should not yet exist");
+        writePartitionedStateFile(testDirectory, signedState, 2);
+        assertTrue(exists(stateFile), "signed state file should be present");
+        assertTrue(exists(partitionsDirectory), "partitions should be present");
+
+        final DeserializedSignedState deserializedSignedState = readStateFile(stateFile);
+        MerkleCryptoFactory.getInstance()
+                .digestTreeSync(deserializedSignedState.signedState().getState());
+
+        assertEquals(signedState.getState().getHash(), deserializedSignedState.originalHash(), "hash should match");
+        assertEquals(
+                signedState.getState().getHash(),
+                deserializedSignedState.signedState().getState().getHash(),
+                "hash should match");
+        assertNotNull(
+                deserializedSignedState.signedState().getState().getSwirldState(), "partition should be attached");
+    }
+
+    @Test
+    @DisplayName("Throttled State File Write Test")
+    void throttledStateFileWriteTest() throws IOException {
+        final SignedState signedState = new RandomSignedStateGenerator().build();
+        final Path unthrottledDirectory = testDirectory.resolve("unthrottled");
+        final Path throttledDirectory = testDirectory.resolve("throttled");
+        Files.createDirectories(unthrottledDirectory);
+        Files.createDirectories(throttledDirectory);
+
+        final StateWriteProgress unthrottled = new StateWriteProgress(OSTime.getInstance(), 0, 0, null);
+        writeStateFile(unthrottledDirectory, signedState, unthrottled);
+        final long stateSize = Files.size(unthrottledDirectory.resolve(SIGNED_STATE_FILE_NAME));
+        assertEquals(stateSize, unthrottled.getBytesWritten(), "every byte of the file should be counted");
+        assertNull(unthrottled.getEstimatedTimeRemaining(), "no estimate is possible without an expected size");
+
+        // Limit the rate so that writing the state should take about half a second
+        final StateWriteProgress throttled =
+                new StateWriteProgress(OSTime.getInstance(), Math.max(1, stateSize * 2), stateSize, null);
+        final Instant start = Instant.now();
+        writeStateFile(throttledDirectory, signedState, throttled);
+        final Duration elapsed = Duration.between(start, Instant.now());
+
+        assertEquals(stateSize, throttled.getBytesWritten(), "every byte of the file should be counted");
+        assertTrue(
+                elapsed.compareTo(Duration.ofMillis(300)) >= 0, "write should have been throttled, took " + elapsed);
+        assertEquals(Duration.ZERO, throttled.getEstimatedTimeRemaining(), "nothing should remain to be written");
+    }
+
     @Test
     @DisplayName("writeSavedStateToDisk() Test")
     void writeSavedStateToDiskTest() throws IOException {
@@ -275,6 +336,9 @@ class SignedStateFileReadWriteTest {
         final SignedStateMetrics signedStateMetrics = mock(SignedStateMetrics.class);
         when(signedStateMetrics.getStateToDiskTimeMetric()).thenReturn(mock(RunningAverageMetric.class));
         when(signedStateMetrics.getWriteStateToDiskTimeMetric()).thenReturn(mock(RunningAverageMetric.class));
+        when(signedStateMetrics.getStateWriteBytesPerSecondMetric()).thenReturn(mock(SpeedometerMetric.class));
+        when(signedStateMetrics.getStateWriteProgressMetric()).thenReturn(mock(DoubleGauge.class));
+        when(signedStateMetrics.getStateWriteTimeRemainingMetric()).thenReturn(mock(DoubleGauge.class));
 
         final SignedStateFileManager manager = new SignedStateFileManager(
                 context,
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.metrics;
+
+import static com.swirlds.common.metrics.Metrics.INTERNAL_CATEGORY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.config.MetricsConfig;
+import com.swirlds.common.metrics.platform.DefaultMetrics;
+import com.swirlds.common.metrics.platform.DefaultMetricsFactory;
+import com.swirlds.common.metrics.platform.MetricKeyRegistry;
+import com.swirlds.common.system.transaction.internal.ConsensusTransactionImpl;
+import com.swirlds.common.system.transaction.internal.SwirldTransaction;
+import com.swirlds.common.system.transaction.internal.TransactionStage;
+import com.swirlds.common.system.transaction.internal.TransactionTrace;
+import com.swirlds.common.test.metrics.NoOpMetrics;
+import com.swirlds.test.framework.config.TestConfigBuilder;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TransactionLatencyTracer Tests")
+class TransactionLatencyTracerTest {
+
+    @Test
+    @DisplayName("Latency Histograms Test")
+    void latencyHistogramsTest() {
+        final MetricKeyRegistry registry = mock(MetricKeyRegistry.class);
+        when(registry.register(any(), any(), any())).thenReturn(true);
+        final MetricsConfig metricsConfig =
+                new TestConfigBuilder().getOrCreateConfig().getConfigData(MetricsConfig.class);
+        final Metrics metrics = new DefaultMetrics(
+                null, registry, mock(ScheduledExecutorService.class), new DefaultMetricsFactory(), metricsConfig);
+        final TransactionLatencyTracer tracer = new TransactionLatencyTracer(metrics, 1);
+
+        final SwirldTransaction handled = new SwirldTransaction(new byte[] {1});
+        tracer.transactionSubmitted(handled);
+        handled.getTrace().stamp(TransactionStage.IN_EVENT);
+        handled.getTrace().stamp(TransactionStage.PRE_HANDLED);
+        handled.getTrace().stamp(TransactionStage.CONSENSUS);
+        handled.getTrace().stamp(TransactionStage.HANDLED);
+
+        // never reaches consensus, so the time from consensus until handled is unknown
+        final SwirldTransaction skipped = new SwirldTransaction(new byte[] {2});
+        tracer.transactionSubmitted(skipped);
+        skipped.getTrace().stamp(TransactionStage.IN_EVENT);
+        skipped.getTrace().stamp(TransactionStage.HANDLED);
+
+        assertEquals(2, count(metrics, "txLatSubmitToEvent"), "both transactions were put in an event");
+        assertEquals(1, count(metrics, "txLatEventToPreHandle"), "one transaction was pre-handled");
+        assertEquals(1, count(metrics, "txLatEventToCons"), "one transaction reached consensus");
+        assertEquals(1, count(metrics, "txLatConsToHandled"), "unknown latencies should be ignored");
+        assertEquals(2, count(metrics, "txLatEndToEnd"), "both transactions were handled");
+    }
+
+    private static long count(final Metrics metrics, final String name) {
+        return ((HistogramMetric) metrics.getMetric(INTERNAL_CATEGORY, name)).getSnapshot().getCount();
+    }
+
+    @Test
+    @DisplayName("Sampling Test")
+    void samplingTest() {
+        final TransactionLatencyTracer tracer = new TransactionLatencyTracer(new NoOpMetrics(), 3);
+
+        int sampled = 0;
+        for (int i = 0; i < 30; i++) {
+            final SwirldTransaction transaction = new SwirldTransaction(new byte[] {1});
+            tracer.transactionSubmitted(transaction);
+            if (transaction.getTrace() != null) {
+                sampled++;
+                assertTrue(transaction.getTrace().hasReached(TransactionStage.SUBMITTED), "submission is stamped");
+            }
+        }
+        assertEquals(10, sampled, "one in three transactions should be sampled");
+
+        final TransactionLatencyTracer disabled = new TransactionLatencyTracer(new NoOpMetrics(), 0);
+        final SwirldTransaction transaction = new SwirldTransaction(new byte[] {1});
+        disabled.transactionSubmitted(transaction);
+        assertNull(transaction.getTrace(), "nothing is traced when disabled");
+    }
+
+    @Test
+    @DisplayName("Stamp Test")
+    void stampTest() {
+        final TransactionLatencyTracer tracer = new TransactionLatencyTracer(new NoOpMetrics(), 1);
+        final SwirldTransaction traced = new SwirldTransaction(new byte[] {1});
+        final SwirldTransaction untraced = new SwirldTransaction(new byte[] {2});
+        tracer.transactionSubmitted(traced);
+
+        final ConsensusTransactionImpl[] transactions = {traced, untraced};
+        TransactionTrace.stampAll(transactions, TransactionStage.IN_EVENT);
+        TransactionTrace.stampAll(transactions, TransactionStage.CONSENSUS);
+        TransactionTrace.stampAll(null, TransactionStage.CONSENSUS);
+
+        final TransactionTrace trace = traced.getTrace();
+        assertTrue(trace.hasReached(TransactionStage.IN_EVENT), "stage should be stamped");
+        assertTrue(trace.hasReached(TransactionStage.CONSENSUS), "stage should be stamped");
+        assertFalse(trace.hasReached(TransactionStage.HANDLED), "stage should not be stamped");
+        assertTrue(
+                trace.getNanosBetween(TransactionStage.SUBMITTED, TransactionStage.CONSENSUS) >= 0,
+                "latency should be known");
+        assertEquals(
+                -1,
+                trace.getNanosBetween(TransactionStage.CONSENSUS, TransactionStage.HANDLED),
+                "latency to an unreached stage is unknown");
+        assertNull(untraced.getTrace(), "untraced transaction should not gain a trace");
+    }
+}
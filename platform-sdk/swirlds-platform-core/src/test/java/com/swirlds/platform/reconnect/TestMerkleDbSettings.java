@@ -180,6 +180,22 @@ public class TestMerkleDbSettings implements MerkleDbSettings {
         return defaultSettings.getKeySetBloomFilterSizeInBytes();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isKeySetBlockedBloomFilterEnabled() {
+        return defaultSettings.isKeySetBlockedBloomFilterEnabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isKeySetBloomFilterOffHeap() {
+        return defaultSettings.isKeySetBloomFilterOffHeap();
+    }
+
     /**
      * {@inheritDoc}
      */
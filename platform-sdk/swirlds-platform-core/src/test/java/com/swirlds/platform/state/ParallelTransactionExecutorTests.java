@@ -0,0 +1,362 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.state;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.swirlds.common.system.ParallelSwirldState;
+import com.swirlds.common.system.Round;
+import com.swirlds.common.system.SwirldDualState;
+import com.swirlds.common.system.events.ConsensusEvent;
+import com.swirlds.common.system.transaction.ConsensusTransaction;
+import com.swirlds.common.system.transaction.TransactionAccessSet;
+import com.swirlds.common.system.transaction.internal.SwirldTransaction;
+import com.swirlds.common.test.RandomUtils;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ParallelTransactionExecutor Tests")
+class ParallelTransactionExecutorTests {
+
+    private static final int BARRIER = -1;
+
+    /**
+     * Create a transaction that reads one key and writes another. Each transaction is tagged with its position in
+     * consensus order.
+     */
+    private static SwirldTransaction buildTransaction(final int index, final int readKey, final int writeKey) {
+        final ByteBuffer buffer = ByteBuffer.allocate(3 * Integer.BYTES);
+        buffer.putInt(index);
+        buffer.putInt(readKey);
+        buffer.putInt(writeKey);
+        final SwirldTransaction transaction = new SwirldTransaction(buffer.array());
+        if (writeKey != BARRIER) {
+            transaction.setMetadata(new TransactionAccessSet(Set.of(readKey), Set.of(writeKey)));
+        }
+        return transaction;
+    }
+
+    /**
+     * Build a round containing the given transactions, spread over several events.
+     */
+    private static Round buildRound(final Random random, final List<SwirldTransaction> transactions) {
+        final List<ConsensusEvent> events = new ArrayList<>();
+        int next = 0;
+        while (next < transactions.size()) {
+            final int count = Math.min(transactions.size() - next, 1 + random.nextInt(10));
+            final List<ConsensusTransaction> eventTransactions =
+                    new ArrayList<>(transactions.subList(next, next + count));
+            next += count;
+
+            final ConsensusEvent event = mock(ConsensusEvent.class);
+            when(event.consensusTransactionIterator()).thenAnswer(invocation -> eventTransactions.iterator());
+            events.add(event);
+        }
+
+        return new Round() {
+            @Override
+            public Iterator<ConsensusEvent> iterator() {
+                return events.iterator();
+            }
+
+            @Override
+            public long getRoundNum() {
+                return 1;
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return events.isEmpty();
+            }
+
+            @Override
+            public int getEventCount() {
+                return events.size();
+            }
+        };
+    }
+
+    /**
+     * A simple key value state. Each transaction mixes the value of its read key and its own index into its write key,
+     * which is not commutative, so the final values depend on the order in which conflicting transactions are
+     * handled.
+     */
+    private static final class TestState {
+        private final Map<Integer, Long> values = new ConcurrentHashMap<>();
+        private final List<Integer> completionOrder = Collections.synchronizedList(new ArrayList<>());
+        private final Map<Integer, AtomicInteger> activeWriters = new ConcurrentHashMap<>();
+        private volatile boolean conflictDetected;
+
+        void handle(final ConsensusTransaction transaction) {
+            final ByteBuffer buffer = ByteBuffer.wrap(((SwirldTransaction) transaction).getContents());
+            final int index = buffer.getInt();
+            final int readKey = buffer.getInt();
+            final int writeKey = buffer.getInt();
+
+            final int key = writeKey == BARRIER ? readKey : writeKey;
+            if (activeWriters.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet() > 1) {
+                conflictDetected = true;
+            }
+
+            if (writeKey == BARRIER) {
+                // A barrier transaction touches every key
+                values.replaceAll((k, v) -> v * 7 + index);
+            } else {
+                final long read = values.getOrDefault(readKey, 0L);
+                Thread.yield();
+                values.merge(writeKey, read + index, (a, b) -> a * 31 + b);
+            }
+
+            activeWriters.get(key).decrementAndGet();
+            completionOrder.add(index);
+        }
+    }
+
+    private static ParallelSwirldState buildState(final TestState testState) {
+        final ParallelSwirldState state = mock(ParallelSwirldState.class);
+        when(state.getAccessSet(any())).thenAnswer(invocation -> {
+            final ConsensusTransaction transaction = invocation.getArgument(0);
+            return transaction.getMetadata();
+        });
+        doAnswer(invocation -> {
+                    testState.handle(invocation.getArgument(2));
+                    return null;
+                })
+                .when(state)
+                .handleConsensusTransaction(any(), any(), any(), any());
+        return state;
+    }
+
+    private static Map<Integer, Long> handleSequentially(final List<SwirldTransaction> transactions) {
+        final TestState testState = new TestState();
+        for (final SwirldTransaction transaction : transactions) {
+            testState.handle(transaction);
+        }
+        return new HashMap<>(testState.values);
+    }
+
+    @Test
+    @DisplayName("Parallel Handling Matches Sequential Handling")
+    void parallelMatchesSequentialTest() throws InterruptedException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final int keyCount = 20;
+        final int transactionCount = 2_000;
+
+        final List<SwirldTransaction> transactions = new ArrayList<>();
+        final List<Integer> barriers = new ArrayList<>();
+        for (int index = 0; index < transactionCount; index++) {
+            if (random.nextDouble() < 0.01) {
+                transactions.add(buildTransaction(index, random.nextInt(keyCount), BARRIER));
+                barriers.add(index);
+            } else {
+                transactions.add(buildTransaction(index, random.nextInt(keyCount), random.nextInt(keyCount)));
+            }
+        }
+
+        final Map<Integer, Long> expected = handleSequentially(transactions);
+
+        final ParallelTransactionExecutor executor = new ParallelTransactionExecutor(getStaticThreadManager(), 8, 0);
+        final TestState testState = new TestState();
+        executor.handleRound(buildRound(random, transactions), buildState(testState), mock(SwirldDualState.class));
+        executor.stop();
+
+        assertEquals(transactionCount, testState.completionOrder.size(), "every transaction should be handled");
+        assertEquals(expected, testState.values, "parallel handling should produce the same state");
+
+        // Barrier transactions must be handled after all earlier transactions and before all later ones
+        for (final int barrier : barriers) {
+            final int position = testState.completionOrder.indexOf(barrier);
+            for (int i = 0; i < testState.completionOrder.size(); i++) {
+                final int index = testState.completionOrder.get(i);
+                if (index < barrier) {
+                    assertTrue(i < position, "transaction " + index + " handled after barrier " + barrier);
+                } else if (index > barrier) {
+                    assertTrue(i > position, "transaction " + index + " handled before barrier " + barrier);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Non-Conflicting Transactions Run Concurrently")
+    void nonConflictingTransactionsRunConcurrentlyTest() throws InterruptedException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final int transactionCount = 1_000;
+
+        // Every transaction writes a distinct key, so nothing conflicts
+        final List<SwirldTransaction> transactions = new ArrayList<>();
+        for (int index = 0; index < transactionCount; index++) {
+            transactions.add(buildTransaction(index, transactionCount + index, index));
+        }
+
+        final ParallelTransactionExecutor executor = new ParallelTransactionExecutor(getStaticThreadManager(), 4, 0);
+        final TestState testState = new TestState();
+        executor.handleRound(buildRound(random, transactions), buildState(testState), mock(SwirldDualState.class));
+        executor.stop();
+
+        assertEquals(transactionCount, testState.completionOrder.size(), "every transaction should be handled");
+        assertEquals(handleSequentially(transactions), testState.values, "state should match sequential handling");
+        assertFalse(testState.conflictDetected, "no key should be written concurrently");
+    }
+
+    @Test
+    @DisplayName("Small Rounds Are Handled Sequentially")
+    void smallRoundsHandledSequentiallyTest() throws InterruptedException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final List<SwirldTransaction> transactions = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            transactions.add(buildTransaction(index, 0, 1));
+        }
+
+        final TestState testState = new TestState();
+        final ParallelSwirldState state = buildState(testState);
+        final Round round = buildRound(random, transactions);
+        final SwirldDualState dualState = mock(SwirldDualState.class);
+
+        final AtomicInteger sequentialRounds = new AtomicInteger();
+        doAnswer(invocation -> {
+                    sequentialRounds.incrementAndGet();
+                    return null;
+                })
+                .when(state)
+                .handleConsensusRound(round, dualState);
+
+        final ParallelTransactionExecutor executor = new ParallelTransactionExecutor(getStaticThreadManager(), 4, 16);
+        executor.handleRound(round, state, dualState);
+        executor.stop();
+
+        assertEquals(1, sequentialRounds.get(), "round should be delegated to sequential handling");
+        assertTrue(testState.completionOrder.isEmpty(), "no transaction should be handled in parallel");
+    }
+
+    @Test
+    @DisplayName("Each Transaction Is Handled Exactly Once")
+    void eachTransactionHandledOnceTest() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final int chainCount = 5_000;
+
+        // The first half of the round are transactions without dependencies. Each transaction in the second half
+        // depends on one of them, and is released as soon as it finishes, usually while the handle thread is still
+        // looking for transactions without dependencies.
+        final List<SwirldTransaction> transactions = new ArrayList<>();
+        for (int index = 0; index < chainCount; index++) {
+            transactions.add(buildTransaction(index, 2 * chainCount + index, index));
+        }
+        for (int index = chainCount; index < 2 * chainCount; index++) {
+            transactions.add(buildTransaction(index, index - chainCount, index));
+        }
+
+        final ParallelTransactionExecutor executor = new ParallelTransactionExecutor(getStaticThreadManager(), 8, 0);
+        final TestState testState = new TestState();
+        executor.handleRound(buildRound(random, transactions), buildState(testState), mock(SwirldDualState.class));
+        final List<Integer> handled = new ArrayList<>(testState.completionOrder);
+        executor.stop();
+
+        assertEquals(2 * chainCount, handled.size(), "every transaction should be handled exactly once");
+        assertEquals(2 * chainCount, new HashSet<>(handled).size(), "no transaction should be handled twice");
+        assertEquals(handleSequentially(transactions), testState.values, "state should match sequential handling");
+    }
+
+    @Test
+    @DisplayName("Stopped Executor Does Not Block")
+    void stoppedExecutorDoesNotBlockTest() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final List<SwirldTransaction> transactions = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            transactions.add(buildTransaction(index, index, index + 1));
+        }
+
+        final ParallelTransactionExecutor executor = new ParallelTransactionExecutor(getStaticThreadManager(), 4, 0);
+        executor.stop();
+
+        final TestState testState = new TestState();
+        final Round round = buildRound(random, transactions);
+        final ParallelSwirldState state = buildState(testState);
+        assertThrows(
+                IllegalStateException.class,
+                () -> executor.handleRound(round, state, mock(SwirldDualState.class)),
+                "an incomplete round should be reported");
+        assertTrue(testState.completionOrder.isEmpty(), "no transaction should be handled after stopping");
+    }
+
+    @Test
+    @DisplayName("Only Barrier Transactions May Modify The Dual State")
+    void dualStateReadOnlyTest() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final List<SwirldTransaction> transactions = new ArrayList<>();
+        for (int index = 0; index < 20; index++) {
+            transactions.add(buildTransaction(index, index, index % 5 == 0 ? BARRIER : index));
+        }
+
+        final ParallelSwirldState state = mock(ParallelSwirldState.class);
+        when(state.getAccessSet(any())).thenAnswer(invocation -> {
+            final ConsensusTransaction transaction = invocation.getArgument(0);
+            return transaction.getMetadata();
+        });
+        final Map<Boolean, AtomicInteger> rejectedWrites = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+                    final ConsensusTransaction transaction = invocation.getArgument(2);
+                    final SwirldDualState dualState = invocation.getArgument(3);
+                    final boolean barrier = transaction.getMetadata() == null;
+                    try {
+                        dualState.setFreezeTime(Instant.EPOCH);
+                    } catch (final UnsupportedOperationException e) {
+                        rejectedWrites
+                                .computeIfAbsent(barrier, k -> new AtomicInteger())
+                                .incrementAndGet();
+                    }
+                    return null;
+                })
+                .when(state)
+                .handleConsensusTransaction(any(), any(), any(), any());
+
+        final SwirldDualState dualState = mock(SwirldDualState.class);
+        final ParallelTransactionExecutor executor = new ParallelTransactionExecutor(getStaticThreadManager(), 4, 0);
+        executor.handleRound(buildRound(random, transactions), state, dualState);
+        executor.stop();
+
+        assertFalse(rejectedWrites.containsKey(true), "barrier transactions should be able to modify the dual state");
+        assertEquals(16, rejectedWrites.get(false).get(), "other transactions should get a read only view");
+        verify(dualState, times(4)).setFreezeTime(Instant.EPOCH);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.test.metrics.internal;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.HistogramSnapshot;
+import com.swirlds.common.metrics.MetricConfig;
+
+/**
+ * A no-op implementation of a histogram metric.
+ */
+public class NoOpHistogramMetric extends AbstractNoOpMetric implements HistogramMetric {
+
+    public NoOpHistogramMetric(final MetricConfig<?, ?> config) {
+        super(config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramSnapshot get(final ValueType valueType) {
+        return HistogramSnapshot.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] getBucketBoundaries() {
+        return new long[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramSnapshot getSnapshot() {
+        return HistogramSnapshot.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long value) {}
+}
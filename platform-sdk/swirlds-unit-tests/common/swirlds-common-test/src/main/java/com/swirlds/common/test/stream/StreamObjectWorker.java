@@ -70,10 +70,39 @@ public class StreamObjectWorker {
             Instant firstTimestamp,
             Signer signer)
             throws NoSuchAlgorithmException {
+        this(
+                totalNum,
+                intervalMs,
+                dirPath,
+                logPeriodMs,
+                initialHash,
+                startWriteAtCompleteWindow,
+                firstTimestamp,
+                signer,
+                0);
+    }
+
+    public StreamObjectWorker(
+            int totalNum,
+            int intervalMs,
+            String dirPath,
+            int logPeriodMs,
+            Hash initialHash,
+            boolean startWriteAtCompleteWindow,
+            Instant firstTimestamp,
+            Signer signer,
+            int writeBufferSize)
+            throws NoSuchAlgorithmException {
 
-        // writes objects to files
-        TimestampStreamFileWriter<ObjectForTestStream> fileWriter =
-                new TimestampStreamFileWriter<>(dirPath, logPeriodMs, signer, startWriteAtCompleteWindow, TEST_STREAM);
+        // writes objects to files, asynchronously if writeBufferSize is positive
+        TimestampStreamFileWriter<ObjectForTestStream> fileWriter = new TimestampStreamFileWriter<>(
+                dirPath,
+                logPeriodMs,
+                signer,
+                startWriteAtCompleteWindow,
+                TEST_STREAM,
+                getStaticThreadManager(),
+                writeBufferSize);
 
         writeQueueThread = new QueueThreadObjectStreamConfiguration<ObjectForTestStream>(getStaticThreadManager())
                 .setForwardTo(fileWriter)
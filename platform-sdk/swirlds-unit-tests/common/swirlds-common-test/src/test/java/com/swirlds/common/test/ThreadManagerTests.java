@@ -18,11 +18,15 @@ package com.swirlds.common.test;
 
 import static com.swirlds.common.test.AssertionUtils.assertEventuallyTrue;
 import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.manager.StandardThreadManager;
 import com.swirlds.common.threading.manager.ThreadManager;
+import com.swirlds.common.threading.utility.VirtualThreads;
 import com.swirlds.common.utility.LifecycleException;
 import java.time.Duration;
 import java.util.concurrent.ThreadFactory;
@@ -111,4 +115,34 @@ class ThreadManagerTests {
         manager.stop();
         assertThrows(LifecycleException.class, () -> factory.newThread(() -> {}), "manager is not started yet");
     }
+
+    @Test
+    @DisplayName("Virtual Thread Configuration Test")
+    void virtualThreadConfigurationTest() throws InterruptedException {
+        final ThreadManager manager = new StandardThreadManager();
+        assertThrows(
+                LifecycleException.class, () -> manager.createVirtualThread(() -> {}), "manager is not started yet");
+
+        manager.start();
+
+        // Falls back to a platform thread on JVMs without virtual threads, so the test passes on either
+        final AtomicBoolean executed = new AtomicBoolean(false);
+        final Thread thread = new ThreadConfiguration(manager)
+                .setComponent("test")
+                .setThreadName("virtual")
+                .setVirtual(true)
+                .setPriority(Thread.MAX_PRIORITY)
+                .setRunnable(() -> executed.set(true))
+                .build();
+        assertEquals(VirtualThreads.isSupported(), VirtualThreads.isVirtual(thread), "unexpected thread type");
+        assertTrue(thread.isDaemon(), "virtual threads are always daemon threads");
+        assertEquals("<test: virtual>", thread.getName(), "thread should be named");
+
+        thread.start();
+        assertEventuallyTrue(executed::get, Duration.ofSeconds(1), "thread should have run by now");
+        thread.join(1_000);
+        assertFalse(thread.isAlive(), "thread should have terminated");
+
+        manager.stop();
+    }
 }
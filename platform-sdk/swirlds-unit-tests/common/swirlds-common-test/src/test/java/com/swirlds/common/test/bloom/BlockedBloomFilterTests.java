@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.test.bloom;
+
+import static com.swirlds.common.test.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.bloom.BlockedBloomFilter;
+import com.swirlds.common.bloom.BloomHasher;
+import com.swirlds.common.bloom.hasher.IntBloomHasher;
+import com.swirlds.common.bloom.hasher.LongBloomHasher;
+import com.swirlds.common.bloom.hasher.SelfSerializableBloomHasher;
+import com.swirlds.common.merkle.utility.SerializableLong;
+import com.swirlds.common.test.ResettableRandom;
+import com.swirlds.test.framework.TestQualifierTags;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("BlockedBloomFilter Tests")
+class BlockedBloomFilterTests {
+
+    /**
+     * Test the blocked bloom filter using random data
+     *
+     * @param hashCount
+     * 		the number of hashes
+     * @param hasher
+     * 		the bloom hasher for this data type
+     * @param filterSize
+     * 		the size of the bloom filter, in bits
+     * @param count
+     * 		the number of things to add to the bloom filter, and the number of times to check false for false positives
+     * @param valueSupplier
+     * 		a method that builds random values
+     * @param maxFalsePositiveFraction
+     * 		the maximum fraction of randomly chosen values that are expected to be identified as part of the set
+     * @param offHeap
+     * 		if true then the filter is stored off-heap
+     */
+    private <T> void testRandomData(
+            final int hashCount,
+            final BloomHasher<T> hasher,
+            final long filterSize,
+            final long count,
+            final Function<Random, T> valueSupplier,
+            final double maxFalsePositiveFraction,
+            final boolean offHeap) {
+
+        final BlockedBloomFilter<T> filter = new BlockedBloomFilter<>(hashCount, hasher, filterSize, offHeap);
+        assertEquals(offHeap, filter.isOffHeap(), "filter should be stored where requested");
+
+        final ResettableRandom random = getRandomPrintSeed();
+
+        // Insert a bunch of stuff into the bloom filter
+        for (long i = 0; i < count; i++) {
+            filter.add(valueSupplier.apply(random));
+        }
+
+        // Make sure all of the added values are contained by the set
+        random.reset();
+        for (long i = 0; i < count; i++) {
+            assertTrue(filter.contains(valueSupplier.apply(random)), "bloom filter should contain value");
+        }
+
+        // Check a bunch of things that are (probably) not in the set to verify false positive rate
+        long in = 0;
+        for (long i = 0; i < count; i++) {
+            if (filter.contains(valueSupplier.apply(random))) {
+                in++;
+            }
+        }
+
+        final double ratio = ((double) in) / count;
+
+        assertTrue(
+                maxFalsePositiveFraction >= ratio,
+                "false positive fraction of " + ratio + " exceeds expected max fraction of "
+                        + maxFalsePositiveFraction);
+    }
+
+    /**
+     * <p>
+     * Test a blocked bloom filter containing integers.
+     * </p>
+     *
+     * <p>
+     * The false positive rates allow for the blocked layout, which is slightly less accurate than a classic
+     * bloom filter of the same size.
+     * </p>
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "2,  10,       5,       1.0,   false",
+        "3,  100,      50,      1.0,   true",
+        "10, 150000,   10000,   0.004, false",
+        "10, 1500000,  100000,  0.004, true",
+        "10, 15000000, 1000000, 0.004, false"
+    })
+    @DisplayName("Blocked Bloom Filter Int Test")
+    @Tag(TestQualifierTags.TIME_CONSUMING)
+    void blockedBloomFilterIntTest(
+            final int hashCount,
+            final long filterSize,
+            final long count,
+            final double maxFalsePositiveFraction,
+            final boolean offHeap) {
+        testRandomData(
+                hashCount, new IntBloomHasher(), filterSize, count, Random::nextInt, maxFalsePositiveFraction, offHeap);
+    }
+
+    /**
+     * Test a blocked bloom filter containing longs.
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "2,  10,       5,       1.0,   true",
+        "3,  100,      50,      1.0,   false",
+        "10, 150000,   10000,   0.004, true",
+        "10, 1500000,  100000,  0.004, false",
+        "10, 15000000, 1000000, 0.004, true"
+    })
+    @DisplayName("Blocked Bloom Filter Long Test")
+    @Tag(TestQualifierTags.TIME_CONSUMING)
+    void blockedBloomFilterLongTest(
+            final int hashCount,
+            final long filterSize,
+            final long count,
+            final double maxFalsePositiveFraction,
+            final boolean offHeap) {
+        testRandomData(
+                hashCount,
+                new LongBloomHasher(),
+                filterSize,
+                count,
+                Random::nextLong,
+                maxFalsePositiveFraction,
+                offHeap);
+    }
+
+    /**
+     * Test a blocked bloom filter containing self serializable objects, using more hashes than fit into a
+     * single 64-bit hash.
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Blocked Bloom Filter Self Serializable Test")
+    void blockedBloomFilterSelfSerializableTest(final boolean offHeap) {
+        testRandomData(
+                15,
+                new SelfSerializableBloomHasher<>(),
+                300000,
+                10000,
+                random -> new SerializableLong(random.nextLong()),
+                0.004,
+                offHeap);
+    }
+
+    @Test
+    @DisplayName("Check And Add Test")
+    void checkAndAddTest() {
+        final BlockedBloomFilter<Long> filter = new BlockedBloomFilter<>(10, new LongBloomHasher(), 100_000, false);
+
+        assertFalse(filter.checkAndAdd(42L), "value should not be in the empty filter");
+        assertTrue(filter.checkAndAdd(42L), "value should be in the filter after it was added");
+        assertTrue(filter.containsHash(filter.hash(42L)), "precomputed hash should be in the filter");
+    }
+
+    @Test
+    @DisplayName("Filter Size Test")
+    void filterSizeTest() {
+        final BlockedBloomFilter<Long> filter = new BlockedBloomFilter<>(10, new LongBloomHasher(), 1000, true);
+        assertEquals(1024, filter.getFilterSizeInBits(), "filter size should be rounded up to full blocks");
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new BlockedBloomFilter<>(0, new LongBloomHasher(), 1000, false),
+                "hash count must be positive");
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new BlockedBloomFilter<>(10, new LongBloomHasher(), 0, false),
+                "filter size must be positive");
+    }
+}
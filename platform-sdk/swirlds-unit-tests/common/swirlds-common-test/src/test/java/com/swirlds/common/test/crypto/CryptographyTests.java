@@ -35,13 +35,16 @@ import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
 import com.swirlds.common.crypto.config.CryptoConfig;
+import com.swirlds.common.crypto.engine.CryptoEngine;
 import com.swirlds.common.threading.futures.FuturePool;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.test.framework.TestQualifierTags;
 import com.swirlds.test.framework.config.TestConfigBuilder;
 import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -249,6 +252,38 @@ class CryptographyTests {
         }
     }
 
+    @ParameterizedTest
+    @Tag(TestQualifierTags.TIME_CONSUMING)
+    @ValueSource(ints = {1, 10, 101, 25_000})
+    void verifyBatchAsyncMix(final int count) throws ExecutionException, InterruptedException {
+        ecdsaSignaturePool = new EcdsaSignedTxnPool(cryptoConfig.computeCpuDigestThreadCount() * PARALLELISM, 64);
+        ed25519SignaturePool = new SignaturePool(cryptoConfig.computeCpuDigestThreadCount() * PARALLELISM, 100, true);
+        final List<TransactionSignature> signatures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            signatures.add(i % 2 == 0 ? ecdsaSignaturePool.next() : ed25519SignaturePool.next());
+        }
+
+        final CryptoEngine engine = (CryptoEngine) cryptography;
+        final long listsBefore = engine.getVerifiedBatchListCount();
+        final long batchesBefore = engine.getVerifiedBatchCount();
+        final long signaturesBefore = engine.getVerifiedBatchSignatureCount();
+
+        cryptography.verifyBatchAsync(signatures);
+        checkSignatures(signatures.toArray(new TransactionSignature[0]));
+
+        assertEquals(1, engine.getVerifiedBatchListCount() - listsBefore, "one list should have been submitted");
+        assertEquals(
+                count, engine.getVerifiedBatchSignatureCount() - signaturesBefore, "every signature should be counted");
+        final long batches = engine.getVerifiedBatchCount() - batchesBefore;
+        assertTrue(batches >= 1, "at least one batch should have been verified");
+        assertTrue(
+                batches <= cryptoConfig.computeCpuVerifierThreadCount(),
+                "there should be no more batches than verifier threads");
+        if (count <= cryptoConfig.cpuVerifierMinBatchSize()) {
+            assertEquals(1, batches, "small lists should not be split");
+        }
+    }
+
     @Test
     @Tag(TIME_CONSUMING)
     void verifySyncEd25519Signature() {
@@ -17,18 +17,23 @@
 package com.swirlds.common.test.crypto;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.swirlds.common.crypto.engine.EcdsaSecp256k1Verifier;
+import com.swirlds.common.crypto.engine.Secp256k1VerificationEngine;
 import com.swirlds.common.utility.CommonUtils;
 import com.swirlds.test.framework.TestQualifierTags;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
 import java.security.Security;
 import java.security.interfaces.ECPublicKey;
+import java.util.Arrays;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -105,4 +110,69 @@ class EcdsaSecp256k1VerifierTest {
             assertTrue(isValid, "signature should be valid");
         }
     }
+
+    @Test
+    void rejectsInvalidSignatures() throws Exception {
+        final KeyPair pair = EcdsaUtils.genEcdsaSecp256k1KeyPair();
+        final byte[] message = EcdsaUtils.WELL_KNOWN_DIGEST.getBytes(StandardCharsets.UTF_8);
+        final byte[] signature = EcdsaUtils.signWellKnownDigestWithEcdsaSecp256k1(pair.getPrivate());
+        final byte[] rawPubKey = EcdsaUtils.asRawEcdsaSecp256k1Key((ECPublicKey) pair.getPublic());
+        assertTrue(subject.verify(signature, message, rawPubKey), "signature should be valid");
+
+        final byte[] tamperedMessage = message.clone();
+        tamperedMessage[0] ^= 1;
+        assertFalse(subject.verify(signature, tamperedMessage, rawPubKey), "message was changed");
+
+        final byte[] tamperedSignature = signature.clone();
+        tamperedSignature[40] ^= 1;
+        assertFalse(subject.verify(tamperedSignature, message, rawPubKey), "signature was changed");
+
+        final byte[] offCurveKey = rawPubKey.clone();
+        offCurveKey[63] ^= 1;
+        assertFalse(subject.verify(signature, message, offCurveKey), "key is not a point on the curve");
+
+        final byte[] zeroR = signature.clone();
+        Arrays.fill(zeroR, 0, 32, (byte) 0);
+        assertFalse(subject.verify(zeroR, message, rawPubKey), "r must not be zero");
+
+        final byte[] maxS = signature.clone();
+        Arrays.fill(maxS, 32, 64, (byte) 0xff);
+        assertFalse(subject.verify(maxS, message, rawPubKey), "s must be less than the curve order");
+
+        assertFalse(
+                subject.verify(Arrays.copyOf(signature, 63), message, rawPubKey), "signature has the wrong length");
+        assertFalse(subject.verify(signature, message, Arrays.copyOf(rawPubKey, 65)), "key has the wrong length");
+    }
+
+    @Test
+    void verifiesRegionsOfLargerArraysWithSharedKeyCache() throws Exception {
+        final Secp256k1VerificationEngine engine = new Secp256k1VerificationEngine(16);
+        final EcdsaSecp256k1Verifier first = new EcdsaSecp256k1Verifier(engine);
+        final EcdsaSecp256k1Verifier second = new EcdsaSecp256k1Verifier(engine);
+
+        final KeyPair pair = EcdsaUtils.genEcdsaSecp256k1KeyPair();
+        final byte[] message = EcdsaUtils.WELL_KNOWN_DIGEST.getBytes(StandardCharsets.UTF_8);
+        final byte[] signature = EcdsaUtils.signWellKnownDigestWithEcdsaSecp256k1(pair.getPrivate());
+        final byte[] rawPubKey = EcdsaUtils.asRawEcdsaSecp256k1Key((ECPublicKey) pair.getPublic());
+
+        // message, then signature, then key, the way they are laid out in a transaction
+        final int signatureOffset = 3 + message.length;
+        final int keyOffset = signatureOffset + signature.length;
+        final byte[] payload = new byte[keyOffset + rawPubKey.length];
+        System.arraycopy(message, 0, payload, 3, message.length);
+        System.arraycopy(signature, 0, payload, signatureOffset, signature.length);
+        System.arraycopy(rawPubKey, 0, payload, keyOffset, rawPubKey.length);
+
+        assertTrue(
+                first.verify(payload, signatureOffset, 64, payload, 3, message.length, payload, keyOffset, 64),
+                "signature should be valid");
+        assertTrue(second.verify(signature, message, rawPubKey), "signature should be valid");
+        assertEquals(1, engine.getKeyCacheMisses(), "key should only be decoded once");
+        assertEquals(1, engine.getKeyCacheHits(), "second verification should use the cached key");
+
+        payload[3] ^= 1;
+        assertFalse(
+                first.verify(payload, signatureOffset, 64, payload, 3, message.length, payload, keyOffset, 64),
+                "message was changed");
+    }
 }
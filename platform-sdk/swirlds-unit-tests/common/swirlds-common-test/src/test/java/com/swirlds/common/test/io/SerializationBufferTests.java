@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.test.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.swirlds.common.io.buffer.SerializationBuffer;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.test.RandomUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SerializationBuffer Tests")
+class SerializationBufferTests {
+
+    /**
+     * Write a mix of small and large values, crossing several chunk boundaries.
+     */
+    private static void writeData(final SerializableDataOutputStream out, final Random random) throws IOException {
+        for (int i = 0; i < 1000; i++) {
+            out.writeInt(random.nextInt());
+            out.writeLong(random.nextLong());
+            out.writeBoolean(random.nextBoolean());
+            out.writeByteArray(RandomUtils.randomByteArray(random, random.nextInt(2 * SerializationBuffer.CHUNK_SIZE)));
+        }
+        out.writeSerializable(new SelfSerializableExample(random.nextInt(), "example"), true);
+    }
+
+    private static byte[] expectedBytes(final long seed) throws IOException {
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        final SerializableDataOutputStream out = new SerializableDataOutputStream(byteOut);
+        writeData(out, new Random(seed));
+        out.flush();
+        return byteOut.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Digest Test")
+    void digestTest() throws IOException, NoSuchAlgorithmException {
+        final long seed = new Random().nextLong();
+        final byte[] expected = MessageDigest.getInstance("SHA-384").digest(expectedBytes(seed));
+
+        // Repeat to make sure that a reused buffer behaves like a new one
+        for (int i = 0; i < 3; i++) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-384");
+            try (final SerializationBuffer buffer = SerializationBuffer.acquire(digest)) {
+                writeData(buffer.getDataStream(), new Random(seed));
+                assertArrayEquals(expected, buffer.digest(), "digest should match, seed = " + seed);
+
+                // The digest is reset, so the buffer can compute another one
+                writeData(buffer.getDataStream(), new Random(seed));
+                assertArrayEquals(expected, buffer.digest(), "digest should match, seed = " + seed);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Reuse Test")
+    void reuseTest() throws IOException, NoSuchAlgorithmException {
+        final byte[] expectedOuter = MessageDigest.getInstance("SHA-384").digest(new byte[] {0, 0, 0, 0, 0, 0, 0, 1});
+        final byte[] expectedNested = MessageDigest.getInstance("SHA-384").digest(new byte[] {0, 0, 0, 2});
+
+        final SerializationBuffer first;
+        try (final SerializationBuffer buffer = SerializationBuffer.acquire(MessageDigest.getInstance("SHA-384"))) {
+            first = buffer;
+            buffer.getDataStream().writeLong(1);
+
+            // A buffer acquired while the thread's buffer is in use must be a different buffer
+            try (final SerializationBuffer nested =
+                    SerializationBuffer.acquire(MessageDigest.getInstance("SHA-384"))) {
+                assertNotSame(buffer, nested, "nested buffer should not be shared");
+                nested.getDataStream().writeInt(2);
+                assertArrayEquals(expectedNested, nested.digest(), "nested digest should only cover its own bytes");
+            }
+            assertArrayEquals(expectedOuter, buffer.digest(), "outer buffer should not be modified");
+        }
+
+        try (final SerializationBuffer buffer = SerializationBuffer.acquire(MessageDigest.getInstance("SHA-384"))) {
+            assertSame(first, buffer, "buffer should be reused once released");
+            assertArrayEquals(
+                    MessageDigest.getInstance("SHA-384").digest(), buffer.digest(), "reused buffer should be empty");
+        }
+    }
+}
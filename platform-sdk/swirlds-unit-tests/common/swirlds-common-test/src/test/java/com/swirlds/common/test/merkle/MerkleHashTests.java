@@ -27,11 +27,13 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.swirlds.common.crypto.CryptographyHolder;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
 import com.swirlds.common.merkle.crypto.MerkleCryptography;
+import com.swirlds.common.merkle.hash.ForkJoinMerkleHashBuilder;
 import com.swirlds.common.merkle.utility.DebugIterationEndpoint;
 import com.swirlds.common.merkle.utility.MerkleTreeVisualizer;
 import com.swirlds.common.test.RandomUtils;
@@ -152,6 +154,58 @@ class MerkleHashTests {
                 cryptography.digestTreeAsync(tree2).get());
     }
 
+    /**
+     * Verify that the fork join hasher produces the same hashes as the default hasher, and that it does not revisit
+     * subtrees that have already been hashed.
+     */
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.MERKLE)
+    @DisplayName("Fork Join Hashing Test")
+    void forkJoinHashingTest() throws InterruptedException, ExecutionException {
+        final ForkJoinMerkleHashBuilder hashBuilder =
+                new ForkJoinMerkleHashBuilder(cryptography, CryptographyHolder.get(), 4);
+
+        final List<DummyMerkleNode> listI = MerkleTestUtils.buildTreeList();
+        final List<DummyMerkleNode> listJ = MerkleTestUtils.buildTreeList();
+        final List<DummyMerkleNode> listK = MerkleTestUtils.buildTreeList();
+
+        for (int i = 0; i < listI.size(); i++) {
+            final DummyMerkleNode nodeI = listI.get(i);
+            if (nodeI == null) {
+                continue;
+            }
+            final Hash expected = cryptography.digestTreeSync(nodeI);
+            assertEquals(expected, hashBuilder.digestTreeSync(listJ.get(i)), "hashes should match");
+            assertEquals(expected, hashBuilder.digestTreeAsync(listK.get(i)).get(), "hashes should match");
+        }
+
+        final DummyMerkleNode tree = MerkleTestUtils.buildLessSimpleTreeExtended();
+        final long initialCount = hashBuilder.getHashedNodeCount();
+        hashBuilder.digestTreeAsync(tree).get();
+        final long nodeCount = hashBuilder.getHashedNodeCount() - initialCount;
+        assertTrue(nodeCount > 0, "nodes should have been hashed");
+
+        // Invalidate a single leaf along with the path to the root
+        final MerkleInternal root = tree.cast();
+        final MerkleInternal parent = root.getChild(2).asInternal();
+        final DummyMerkleLeaf leaf = parent.getChild(0);
+        final Hash oldHash = root.getHash();
+        leaf.setValue("modified");
+        leaf.invalidateHash();
+        parent.invalidateHash();
+        root.invalidateHash();
+
+        hashBuilder.digestTreeAsync(tree).get();
+        assertEquals(
+                initialCount + nodeCount + 3, hashBuilder.getHashedNodeCount(), "only the dirty path should be hashed");
+        assertNotEquals(oldHash, root.getHash(), "hash should have changed");
+        assertEquals(
+                cryptography.digestTreeSync(MerkleTestUtils.buildLessSimpleTreeExtended()),
+                oldHash,
+                "original hash should match the default hasher");
+    }
+
     /**
      * Verify that each node is only hashed once.
      */
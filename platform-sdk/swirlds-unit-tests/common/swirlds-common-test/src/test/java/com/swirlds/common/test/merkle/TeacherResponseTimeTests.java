@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.test.merkle;
+
+import static com.swirlds.common.utility.Units.MILLISECONDS_TO_NANOSECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.merkle.synchronization.internal.NodeToSend;
+import com.swirlds.common.merkle.synchronization.internal.ResponseTimeEstimator;
+import com.swirlds.common.test.merkle.dummy.DummyMerkleInternal;
+import com.swirlds.common.test.merkle.dummy.DummyMerkleLeaf;
+import com.swirlds.test.framework.TestComponentTags;
+import com.swirlds.test.framework.TestTypeTags;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Teacher Response Time Tests")
+class TeacherResponseTimeTests {
+
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.RECONNECT)
+    @DisplayName("Ack Delay Follows Response Time")
+    void ackDelayFollowsResponseTime() {
+        final ResponseTimeEstimator estimator = new ResponseTimeEstimator(100);
+        assertEquals(
+                100L * MILLISECONDS_TO_NANOSECONDS,
+                estimator.getAckDelayNanos(),
+                "maximum delay should be used before any responses are measured");
+
+        for (int i = 0; i < 100; i++) {
+            estimator.recordResponseTime(2L * MILLISECONDS_TO_NANOSECONDS);
+        }
+        assertEquals(
+                2L * MILLISECONDS_TO_NANOSECONDS,
+                estimator.getSmoothedResponseTimeNanos(),
+                1000,
+                "smoothed response time should converge to the measured response time");
+        assertTrue(
+                estimator.getAckDelayNanos() >= 2L * MILLISECONDS_TO_NANOSECONDS
+                        && estimator.getAckDelayNanos() < 3L * MILLISECONDS_TO_NANOSECONDS,
+                "delay should be close to the response time when response times are stable");
+
+        for (int i = 0; i < 100; i++) {
+            estimator.recordResponseTime(500L * MILLISECONDS_TO_NANOSECONDS);
+        }
+        assertEquals(
+                0, estimator.getAckDelayNanos(), "there is no point in waiting for responses slower than the maximum");
+    }
+
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.RECONNECT)
+    @DisplayName("Waiting Ends When Response Arrives")
+    void waitingEndsWhenResponseArrives() throws InterruptedException {
+        final DummyMerkleInternal parent = new DummyMerkleInternal();
+        parent.setChild(0, new DummyMerkleLeaf("A"));
+        final NodeToSend parentNode = new NodeToSend(parent);
+        final NodeToSend childNode = new NodeToSend(parent.getChild(0));
+        parentNode.registerChild(childNode);
+
+        // A positive response for the parent should wake a thread waiting on the child
+        final Thread responder = new Thread(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(50);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            parentNode.registerResponse(true);
+        });
+        responder.start();
+
+        final long start = System.nanoTime();
+        childNode.waitForResponse(TimeUnit.SECONDS.toNanos(60));
+        final long elapsed = System.nanoTime() - start;
+        responder.join();
+
+        assertTrue(childNode.getResponseStatus(), "learner should have the child");
+        assertTrue(elapsed < TimeUnit.SECONDS.toNanos(30), "waiting should end when the response arrives");
+
+        // Without a response, waiting ends once the delay has passed
+        final NodeToSend unanswered = new NodeToSend(new DummyMerkleLeaf("B"));
+        final long waitStart = System.nanoTime();
+        unanswered.waitForResponse(TimeUnit.MILLISECONDS.toNanos(10));
+        assertTrue(System.nanoTime() - waitStart >= TimeUnit.MILLISECONDS.toNanos(10), "should wait for the delay");
+    }
+
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.RECONNECT)
+    @DisplayName("Query Time Starts When Query Is Written")
+    void queryTimeStartsWhenQueryIsWritten() throws InterruptedException {
+        final DummyMerkleInternal parent = new DummyMerkleInternal();
+        parent.setChild(0, new DummyMerkleLeaf("A"));
+        final NodeToSend parentNode = new NodeToSend(parent);
+        final NodeToSend childNode = new NodeToSend(parent.getChild(0));
+        parentNode.registerChild(childNode);
+
+        assertEquals(0, childNode.getTimeSinceQuery(), "query has not been written yet");
+
+        // Time spent waiting in the output queue should not count towards the response time
+        TimeUnit.MILLISECONDS.sleep(50);
+        final long sent = System.nanoTime();
+        parentNode.registerChildQueriesSent();
+        final long elapsed = childNode.getTimeSinceQuery();
+
+        assertTrue(elapsed <= System.nanoTime() - sent, "time should be measured from when the query was written");
+    }
+}
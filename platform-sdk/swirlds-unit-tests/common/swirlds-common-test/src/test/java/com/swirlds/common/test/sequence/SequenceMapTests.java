@@ -28,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import com.swirlds.common.sequence.map.ConcurrentSequenceMap;
+import com.swirlds.common.sequence.map.RingBufferSequenceMap;
 import com.swirlds.common.sequence.map.SequenceMap;
 import com.swirlds.common.sequence.map.StandardSequenceMap;
 import com.swirlds.common.threading.framework.Stoppable;
@@ -92,7 +93,10 @@ public class SequenceMapTests {
                         (min, capacity) -> new StandardSequenceMap<>(min, capacity, SequenceMapKey::sequence))),
                 Arguments.of(new MapBuilder(
                         "concurrent",
-                        (min, capacity) -> new ConcurrentSequenceMap<>(min, capacity, SequenceMapKey::sequence))));
+                        (min, capacity) -> new ConcurrentSequenceMap<>(min, capacity, SequenceMapKey::sequence))),
+                Arguments.of(new MapBuilder(
+                        "ring buffer",
+                        (min, capacity) -> new RingBufferSequenceMap<>(min, capacity, SequenceMapKey::sequence))));
     }
 
     private static boolean isKeyPresent(final SequenceMap<SequenceMapKey, Integer> map, final Long sequenceNumber) {
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.test.stream;
+
+import static com.swirlds.common.test.stream.HashCalculatorTest.PAY_LOAD_SIZE_4;
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.CryptographyHolder;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.crypto.ImmutableHash;
+import com.swirlds.common.stream.ParallelHashCalculatorForStream;
+import com.swirlds.common.stream.RunningHashCalculatorForStream;
+import com.swirlds.common.stream.internal.AbstractLinkedObjectStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ParallelHashCalculatorTest {
+    private static final Cryptography cryptography = CryptographyHolder.get();
+
+    /**
+     * Records the objects it receives, and whether it was ever called by two threads at once.
+     */
+    private static class RecordingStream extends AbstractLinkedObjectStream<ObjectForTestStream> {
+        private final List<ObjectForTestStream> received = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicBoolean concurrentCall = new AtomicBoolean();
+
+        RecordingStream(final RunningHashCalculatorForStream<ObjectForTestStream> nextStream) {
+            super(nextStream);
+        }
+
+        @Override
+        public void addObject(final ObjectForTestStream t) {
+            if (active.incrementAndGet() > 1) {
+                concurrentCall.set(true);
+            }
+            received.add(t);
+            super.addObject(t);
+            active.decrementAndGet();
+        }
+    }
+
+    @Test
+    void runningHashMatchesSequentialTest() {
+        final DigestType digestType = DigestType.SHA_384;
+        final Hash initialHash = new ImmutableHash(new byte[digestType.digestLength()]);
+
+        final RunningHashCalculatorForStream<ObjectForTestStream> runningHashCalculator =
+                new RunningHashCalculatorForStream<>(cryptography);
+        final RecordingStream recordingStream = new RecordingStream(runningHashCalculator);
+        // a small window exercises wrapping around the reorder buffer and waiting for it to drain
+        final ParallelHashCalculatorForStream<ObjectForTestStream> hashCalculator =
+                new ParallelHashCalculatorForStream<>(
+                        getStaticThreadManager(), "test", recordingStream, cryptography, 4, 8);
+        hashCalculator.setRunningHash(initialHash);
+
+        final List<ObjectForTestStream> objects = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final ObjectForTestStream object = ObjectForTestStream.getRandomObjectForTestStream(PAY_LOAD_SIZE_4);
+            if (i % 10 == 0) {
+                // objects that are already hashed must not overtake the ones before them
+                cryptography.digestSync(object);
+            }
+            objects.add(object);
+            hashCalculator.addObject(object);
+        }
+        hashCalculator.close();
+
+        assertEquals(objects.size(), recordingStream.received.size(), "every object should be passed on");
+        for (int i = 0; i < objects.size(); i++) {
+            assertSame(objects.get(i), recordingStream.received.get(i), "objects should be passed on in order");
+        }
+        assertFalse(recordingStream.concurrentCall.get(), "the next stream should never be called concurrently");
+
+        Hash expected = initialHash;
+        for (final ObjectForTestStream object : objects) {
+            expected = cryptography.calcRunningHash(expected, object.getHash(), digestType);
+        }
+        assertEquals(expected, runningHashCalculator.getRunningHash(), "running hash should match");
+    }
+}
@@ -186,6 +186,27 @@ class StreamObjectTest {
         clearDir();
     }
 
+    @Test
+    void generateFileAsyncTest() throws NoSuchAlgorithmException, IOException {
+        // make dir if it doesn't exist
+        Files.createDirectories(Paths.get(dirPath)).toUri();
+        Instant firstTimestamp = Instant.now();
+        // small buffers, so that each file is written with several buffers
+        StreamObjectWorker worker = new StreamObjectWorker(
+                objectsTotalNum, intervalMs, dirPath, logPeriodMs, initialHash, false, firstTimestamp, signer, 64);
+        worker.work();
+        // expected name of the file which contains the first object
+        String expectedFirstFileName = generateStreamFileNameFromInstant(firstTimestamp, streamType);
+        // there should be a file matches this name
+        assertTrue(dirContainsFile(expectedFirstFileName));
+
+        // validate files
+        assertEquals(OK, verifyDirectory(true));
+
+        // clear directory
+        clearDir();
+    }
+
     /**
      * check if any file in the dirPath matches the fileName
      */
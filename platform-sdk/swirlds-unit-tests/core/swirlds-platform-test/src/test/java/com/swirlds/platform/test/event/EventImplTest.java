@@ -16,9 +16,16 @@
 
 package com.swirlds.platform.test.event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.platform.internal.EventImpl;
 import com.swirlds.platform.test.utils.EqualsVerifier;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 public class EventImplTest {
@@ -27,4 +34,25 @@ public class EventImplTest {
     void validateEqualsHashCodeCompareTo() {
         assertTrue(EqualsVerifier.verifyComparable(EqualsVerifier::randomEventImpl));
     }
+
+    @Test
+    void serializedLengthTest() throws IOException {
+        final Random random = new Random();
+        final EventImpl parent = RandomEventUtils.randomEvent(random, 0, null, null);
+        final EventImpl child = RandomEventUtils.randomEvent(random, 1, parent, parent);
+
+        for (final EventImpl event : new EventImpl[] {parent, child}) {
+            assertEquals(serializedLength(event), event.getSerializedLength(), "length before consensus should match");
+            event.setConsensusTimestamp(Instant.ofEpochSecond(random.nextInt(), random.nextInt(1_000_000_000)));
+            assertEquals(serializedLength(event), event.getSerializedLength(), "length after consensus should match");
+        }
+    }
+
+    private static int serializedLength(final EventImpl event) throws IOException {
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        final SerializableDataOutputStream out = new SerializableDataOutputStream(byteOut);
+        event.serialize(out);
+        out.flush();
+        return byteOut.size();
+    }
 }
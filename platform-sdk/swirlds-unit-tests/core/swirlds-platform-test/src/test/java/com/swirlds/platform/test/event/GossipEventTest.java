@@ -22,10 +22,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.swirlds.common.constructable.ConstructableRegistry;
 import com.swirlds.common.constructable.ConstructableRegistryException;
 import com.swirlds.common.internal.SettingsCommon;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.io.utility.IOConsumer;
+import com.swirlds.common.system.events.BaseEventHashedData;
+import com.swirlds.common.system.events.EventSerializationOptions;
 import com.swirlds.common.test.io.SerializationUtils;
 import com.swirlds.platform.event.GossipEvent;
 import com.swirlds.platform.test.utils.EqualsVerifier;
 import com.swirlds.test.framework.config.TestConfigBuilder;
+import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Random;
@@ -51,6 +56,34 @@ class GossipEventTest {
         assertEquals(gossipEvent, copy, "deserialized version should be the same");
     }
 
+    @Test
+    void serializedLengthTest() throws IOException {
+        final Random random = new Random();
+        final IndexedEvent parent = RandomEventUtils.randomEvent(random, 0, null, null);
+        final IndexedEvent child = RandomEventUtils.randomEvent(random, 1, parent, parent);
+
+        for (final IndexedEvent indexedEvent : new IndexedEvent[] {parent, child}) {
+            final BaseEventHashedData hashedData = indexedEvent.getBaseEventHashedData();
+            final GossipEvent gossipEvent = new GossipEvent(hashedData, indexedEvent.getBaseEventUnhashedData());
+            assertEquals(
+                    serializedLength(gossipEvent::serialize),
+                    gossipEvent.getSerializedLength(),
+                    "serialized length of gossip event should match");
+            assertEquals(
+                    serializedLength(out -> hashedData.serialize(out, EventSerializationOptions.OMIT_TRANSACTIONS)),
+                    hashedData.getSerializedLength(EventSerializationOptions.OMIT_TRANSACTIONS),
+                    "serialized length without transactions should match");
+        }
+    }
+
+    private static int serializedLength(final IOConsumer<SerializableDataOutputStream> serializer) throws IOException {
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        final SerializableDataOutputStream out = new SerializableDataOutputStream(byteOut);
+        serializer.accept(out);
+        out.flush();
+        return byteOut.size();
+    }
+
     @Test
     void validateEqualsHashCode() {
         assertTrue(EqualsVerifier.verify(EqualsVerifier::randomGossipEvent));
@@ -18,6 +18,9 @@ package com.swirlds.platform.test.event.creation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.swirlds.common.system.EventCreationRule;
 import com.swirlds.common.system.EventCreationRuleResponse;
@@ -29,7 +32,10 @@ import com.swirlds.platform.event.GossipEvent;
 import com.swirlds.platform.event.creation.AncientParentsRule;
 import com.swirlds.platform.event.creation.BelowIntCreationRule;
 import com.swirlds.platform.event.creation.ChatteringRule;
+import com.swirlds.platform.event.creation.DurableSelfParentRule;
 import com.swirlds.platform.event.creation.OtherParentTracker;
+import com.swirlds.platform.event.preconsensus.PreConsensusEventWriter;
+import com.swirlds.platform.internal.EventImpl;
 import com.swirlds.platform.test.event.GossipEventBuilder;
 import com.swirlds.test.framework.TestComponentTags;
 import com.swirlds.test.framework.TestTypeTags;
@@ -39,6 +45,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -114,6 +121,44 @@ class RulesTests {
                 "since other1 is a parent of self2, we should not use it again");
     }
 
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.PLATFORM)
+    @DisplayName("DurableSelfParentRule Test")
+    void durableSelfParentTest() {
+        final AtomicLong durableSequenceNumber = new AtomicLong(-1);
+        final PreConsensusEventWriter writer = mock(PreConsensusEventWriter.class);
+        when(writer.getDurableSequenceNumber()).thenAnswer(invocation -> durableSequenceNumber.get());
+        final DurableSelfParentRule rule = new DurableSelfParentRule(writer);
+
+        final EventImpl selfParent = mock(EventImpl.class);
+        when(selfParent.getStreamSequenceNumber()).thenReturn(5L);
+
+        assertEquals(EventCreationRuleResponse.PASS, rule.shouldCreateEvent(null, null), "no self-parent should pass");
+        assertEquals(
+                EventCreationRuleResponse.DONT_CREATE,
+                rule.shouldCreateEvent(selfParent, null),
+                "the self-parent is not yet durable");
+        assertEquals(
+                EventCreationRuleResponse.DONT_CREATE,
+                rule.shouldCreateEvent(selfParent, null),
+                "the self-parent is still not durable");
+        verify(writer, times(1)).requestFlush(selfParent);
+
+        durableSequenceNumber.set(5);
+        assertEquals(
+                EventCreationRuleResponse.PASS,
+                rule.shouldCreateEvent(selfParent, null),
+                "the self-parent has become durable");
+
+        final EventImpl staleSelfParent = mock(EventImpl.class);
+        when(staleSelfParent.getStreamSequenceNumber()).thenReturn(EventImpl.STALE_EVENT_STREAM_SEQUENCE_NUMBER);
+        assertEquals(
+                EventCreationRuleResponse.PASS,
+                rule.shouldCreateEvent(staleSelfParent, null),
+                "a stale self-parent will never become durable, so it should not block creation");
+    }
+
     @Test
     @Tag(TestTypeTags.FUNCTIONAL)
     @Tag(TestComponentTags.PLATFORM)
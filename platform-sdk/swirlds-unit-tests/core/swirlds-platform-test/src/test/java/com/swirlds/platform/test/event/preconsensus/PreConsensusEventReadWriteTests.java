@@ -30,6 +30,7 @@ import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.io.utility.FileUtils;
 import com.swirlds.common.test.RandomUtils;
 import com.swirlds.platform.event.preconsensus.PreConsensusEventFile;
+import com.swirlds.platform.event.preconsensus.PreConsensusEventFileIndex;
 import com.swirlds.platform.event.preconsensus.PreConsensusEventFileIterator;
 import com.swirlds.platform.event.preconsensus.PreConsensusEventMutableFile;
 import com.swirlds.platform.internal.EventImpl;
@@ -194,6 +195,84 @@ class PreConsensusEventReadWriteTests {
         }
     }
 
+    @Test
+    @DisplayName("Indexed Seek Test")
+    void indexedSeekTest() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final int numEvents = 5_000;
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<EventImpl> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            events.add(generator.generateEvent());
+        }
+
+        long minimumGeneration = Long.MAX_VALUE;
+        long maximumGeneration = Long.MIN_VALUE;
+        for (final EventImpl event : events) {
+            minimumGeneration = Math.min(minimumGeneration, event.getGeneration());
+            maximumGeneration = Math.max(maximumGeneration, event.getGeneration());
+        }
+
+        final PreConsensusEventFile file = PreConsensusEventFile.of(
+                random.nextInt(0, 100),
+                minimumGeneration,
+                maximumGeneration,
+                RandomUtils.randomInstant(random),
+                testDirectory);
+
+        final PreConsensusEventMutableFile mutableFile = file.getMutableFile();
+        for (final EventImpl event : events) {
+            mutableFile.writeEvent(event);
+        }
+        mutableFile.close();
+
+        // Closing the file should have written an index that is identical to one built by scanning the file
+        final Path indexPath = PreConsensusEventFileIndex.getIndexPath(file.path());
+        assertTrue(Files.exists(indexPath));
+        final PreConsensusEventFileIndex writtenIndex = PreConsensusEventFileIndex.read(indexPath);
+        final PreConsensusEventFileIndex builtIndex = PreConsensusEventFileIndex.build(file);
+        assertEquals(builtIndex.size(), writtenIndex.size());
+        if (Files.size(file.path()) > 2 * PreConsensusEventFileIndex.INDEX_INTERVAL_BYTES) {
+            assertTrue(writtenIndex.size() > 0);
+        }
+
+        final long step = Math.max(1, (maximumGeneration - minimumGeneration) / 20);
+        for (long generation = minimumGeneration; generation <= maximumGeneration + 1; generation += step) {
+            assertEquals(builtIndex.getSeekOffset(generation), writtenIndex.getSeekOffset(generation));
+            assertTrue(writtenIndex.getSeekOffset(generation) <= writtenIndex.getSeekOffset(generation + step));
+
+            // Seeking must never skip an event that should be returned
+            final IOIterator<EventImpl> iterator = file.iterator(generation);
+            final List<EventImpl> deserializedEvents = new ArrayList<>();
+            iterator.forEachRemaining(deserializedEvents::add);
+            iterator.close();
+
+            final List<EventImpl> expectedEvents = new ArrayList<>();
+            for (final EventImpl event : events) {
+                if (event.getGeneration() >= generation) {
+                    expectedEvents.add(event);
+                }
+            }
+
+            assertEquals(expectedEvents.size(), deserializedEvents.size());
+            for (int i = 0; i < expectedEvents.size(); i++) {
+                assertEventsAreEqual(expectedEvents.get(i), deserializedEvents.get(i));
+            }
+        }
+
+        // Deleting the event file should also delete its index
+        file.deleteFile(testDirectory);
+        assertFalse(Files.exists(indexPath));
+    }
+
     @Test
     @DisplayName("Read Empty File Test")
     void readEmptyFileTest() throws IOException {
@@ -91,7 +91,11 @@ class SyncPreConsensusEventWriterTests {
     }
 
     private PlatformContext buildContext() {
-        final Configuration configuration = new TestConfigBuilder()
+        return buildContext(new TestConfigBuilder());
+    }
+
+    private PlatformContext buildContext(final TestConfigBuilder configBuilder) {
+        final Configuration configuration = configBuilder
                 .withValue("event.preconsensus.databaseDirectory", testDirectory)
                 .withValue("event.preconsensus.preferredFileSizeMegabytes", 5)
                 .getOrCreateConfig();
@@ -456,4 +460,51 @@ class SyncPreConsensusEventWriterTests {
             assertEquals(0, file.minimumGeneration());
         }
     }
+
+    @Test
+    @DisplayName("Group Commit Test")
+    void groupCommitTest() throws IOException, InterruptedException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final int numEvents = 1_000;
+        final int groupCommitEventCount = random.nextInt(10, 50);
+
+        final StandardGraphGenerator generator = buildGraphGenerator(random);
+
+        final List<EventImpl> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            events.add(generator.generateEvent().convertToEventImpl());
+        }
+
+        final PlatformContext platformContext = buildContext(new TestConfigBuilder()
+                .withValue("event.preconsensus.forceOnFlush", true)
+                .withValue("event.preconsensus.groupCommitEventCount", groupCommitEventCount));
+
+        final PreConsensusEventFileManager fileManager =
+                new PreConsensusEventFileManager(platformContext, OSTime.getInstance(), 0);
+
+        final PreconsensusEventStreamSequencer sequencer = new PreconsensusEventStreamSequencer();
+        final PreConsensusEventWriter writer = new SyncPreConsensusEventWriter(platformContext, fileManager);
+
+        writer.start();
+
+        for (final EventImpl event : events) {
+            sequencer.assignStreamSequenceNumber(event);
+            writer.writeEvent(event);
+
+            // Without any explicit flush requests, durability should never lag by a full group of events
+            final long undurableEvents = event.getStreamSequenceNumber() - writer.getDurableSequenceNumber();
+            assertTrue(undurableEvents >= 0);
+            assertTrue(undurableEvents < groupCommitEventCount);
+        }
+
+        final EventImpl lastEvent = events.get(events.size() - 1);
+        writer.requestFlush(lastEvent);
+        assertTrue(writer.waitUntilDurable(lastEvent, Duration.ofSeconds(1)));
+        assertEquals(lastEvent.getStreamSequenceNumber(), writer.getDurableSequenceNumber());
+
+        writer.stop();
+
+        verifyStream(events, platformContext, 0);
+    }
 }